@@ -0,0 +1,61 @@
+package com.chae.promo.common.kafka;
+
+import jakarta.annotation.PreDestroy;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.ProducerFactory;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.kafka.support.mapping.AbstractJavaTypeMapper;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 이미 직렬화된 JSON payload를 그대로 전송 (outbox pass-through)
+ * - 기본 producer 설정에 value serializer만 ByteArraySerializer로 바꾼 전용 KafkaTemplate 사용
+ *   (KafkaTemplate 빈을 추가하면 Spring Boot 기본 KafkaTemplate 자동 설정이 꺼지므로 빈으로 등록하지 않음)
+ * - consumer의 JsonDeserializer가 대상 타입을 알 수 있도록 JsonSerializer와 같은 __TypeId__ 헤더를 지정
+ */
+@Component
+public class RawJsonKafkaSender {
+
+    private final KafkaTemplate<String, byte[]> kafkaTemplate;
+
+    @Autowired
+    @SuppressWarnings("unchecked")
+    public RawJsonKafkaSender(ProducerFactory<?, ?> producerFactory) {
+        this(new KafkaTemplate<>((ProducerFactory<String, byte[]>) producerFactory,
+                Map.of(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, ByteArraySerializer.class)));
+    }
+
+    // 전송 template 주입 (테스트용)
+    RawJsonKafkaSender(KafkaTemplate<String, byte[]> kafkaTemplate) {
+        this.kafkaTemplate = kafkaTemplate;
+    }
+
+    /**
+     * JSON 문자열 전송
+     * @param topic       토픽
+     * @param key         메시지 key
+     * @param json        직렬화된 JSON payload
+     * @param payloadType consumer가 역직렬화할 타입
+     * @return 전송 결과
+     */
+    public CompletableFuture<SendResult<String, byte[]>> send(String topic, String key, String json, Class<?> payloadType) {
+        ProducerRecord<String, byte[]> record = new ProducerRecord<>(topic, key, json.getBytes(StandardCharsets.UTF_8));
+        record.headers().add(AbstractJavaTypeMapper.DEFAULT_CLASSID_FIELD_NAME,
+                payloadType.getName().getBytes(StandardCharsets.UTF_8));
+        return kafkaTemplate.send(record);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // 전용 producer factory는 빈이 아니므로 직접 종료
+        kafkaTemplate.getProducerFactory().reset();
+    }
+}
@@ -7,8 +7,12 @@ package com.chae.promo.common.kafka;
 public final class TopicNames {
     public static final String COUPON_ISSUED = "coupon.issued"; //쿠폰 발급
 
+    public static final String COUPON_ISSUED_DLT = COUPON_ISSUED + ".dlt"; //쿠폰 발급 최종 실패 (보상 트랜잭션)
+
     public static final String ORDER_PLACED = "order.placed"; //주문 완료 (결제 완료 이후)
 
+    public static final String ORDER_PLACED_DLT = ORDER_PLACED + "-dlt"; //주문 완료 최종 실패 (@RetryableTopic 기본 DLT 이름)
+
     public static final String PAYMENT_FAILED = "payment.failed"; //결제 승인 실패
 
 
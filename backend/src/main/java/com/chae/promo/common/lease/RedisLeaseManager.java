@@ -0,0 +1,102 @@
+package com.chae.promo.common.lease;
+
+import com.chae.promo.common.util.UuidUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Redis 기반 lease (여러 서버 중 한 곳만 작업을 맡도록 하는 만료형 소유권)
+ * - 비어 있으면 획득, 이미 내 것이면 만료 시간 연장, 다른 서버 소유면 실패
+ * - 소유 서버가 죽으면 TTL 만료 후 다른 서버가 가져감
+ */
+@Slf4j
+@Component
+public class RedisLeaseManager {
+
+    // KEYS[1]: leaseKey
+    // ARGV[1]: ownerId, ARGV[2]: ttlMillis
+    // 반환 값: 1 (획득 또는 연장), 0 (다른 서버 소유)
+    private static final String ACQUIRE_OR_RENEW_SCRIPT = """
+            local owner = redis.call('GET', KEYS[1])
+            if owner == false then
+              redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[2])
+              return 1
+            end
+            if owner == ARGV[1] then
+              redis.call('PEXPIRE', KEYS[1], ARGV[2])
+              return 1
+            end
+            return 0
+            """;
+
+    // KEYS[1]: leaseKey
+    // ARGV[1]: ownerId
+    // 반환 값: 1 (해제), 0 (내 소유가 아님)
+    private static final String RELEASE_SCRIPT = """
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+              return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """;
+
+    private static final String LEASE_KEY_FORMAT = "lease:%s"; // %s = lease 이름
+
+    private final DefaultRedisScript<Long> acquireOrRenewScript = new DefaultRedisScript<>(ACQUIRE_OR_RENEW_SCRIPT, Long.class);
+    private final DefaultRedisScript<Long> releaseScript = new DefaultRedisScript<>(RELEASE_SCRIPT, Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final String keyPrefix;
+
+    // 현재 서버 식별자 (기동 시 1회 생성)
+    private final String ownerId = UuidUtil.generate();
+
+    public RedisLeaseManager(StringRedisTemplate stringRedisTemplate,
+                             @Value("${app.redis.prefix:}") String prefix) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.keyPrefix = (prefix == null || prefix.isBlank()) ? "" : prefix + ":";
+    }
+
+    /**
+     * lease 획득 또는 연장
+     * @param name lease 이름 (예: stock:hold-reaper:3)
+     * @param ttl lease 유지 시간 (작업 주기보다 길게)
+     * @return 현재 서버가 lease를 보유하면 true
+     */
+    public boolean tryAcquire(String name, Duration ttl) {
+        try {
+            Long result = stringRedisTemplate.execute(acquireOrRenewScript, List.of(leaseKey(name)),
+                    ownerId, String.valueOf(ttl.toMillis()));
+            return Long.valueOf(1L).equals(result);
+        } catch (Exception e) {
+            // Redis 장애 시 소유하지 않은 것으로 간주 (중복 실행 방지)
+            log.warn("lease 획득 실패. name: {}, cause: {}", name, e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * lease 해제 (내 소유일 때만)
+     * @param name lease 이름
+     */
+    public void release(String name) {
+        try {
+            stringRedisTemplate.execute(releaseScript, List.of(leaseKey(name)), ownerId);
+        } catch (Exception e) {
+            log.warn("lease 해제 실패. name: {}, cause: {}", name, e.getMessage());
+        }
+    }
+
+    public String getOwnerId() {
+        return ownerId;
+    }
+
+    private String leaseKey(String name) {
+        return keyPrefix + String.format(LEASE_KEY_FORMAT, name);
+    }
+}
@@ -0,0 +1,125 @@
+package com.chae.promo.common.lease;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * shard lease 분배 (여러 서버가 shard를 나눠 맡도록 하는 {@link RedisLeaseManager} 기반 분배기)
+ * - 서버마다 heartbeat ZSET에 생존 시각을 기록하고, 살아 있는 서버 수로 나눈 몫(올림)만큼 shard lease를 보유
+ * - 서버가 늘면 초과분 lease를 해제해 새 서버가 가져가고, 서버가 죽으면 lease/heartbeat 만료 후 남은 서버가 인계
+ * - 스케줄러마다 lease 이름/heartbeat 키가 다르므로 빈이 아닌 일반 객체로 생성해 사용
+ */
+@Slf4j
+public class ShardLeaseAssigner {
+
+    private final RedisLeaseManager redisLeaseManager;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final Clock clock;
+
+    private final String leaseNamePrefix;
+    private final String workersKey;
+    private final int shardCount;
+    private final Duration leaseTtl;
+
+    // 현재 보유한 shard (rebalance 호출 스레드에서만 교체)
+    private volatile Set<Integer> ownedShards = Set.of();
+
+    /**
+     * @param leaseNamePrefix lease 이름 접두사 (shard별 lease 이름 = 접두사:shard, 예: outbox:shard:3)
+     * @param workersKey heartbeat ZSET 키 (app.redis.prefix 적용 전)
+     * @param shardCount 전체 shard 수
+     * @param leaseTtl lease/heartbeat 유지 시간 (rebalance 주기보다 길게)
+     * @param prefix Redis 키 prefix (app.redis.prefix)
+     */
+    public ShardLeaseAssigner(RedisLeaseManager redisLeaseManager,
+                              StringRedisTemplate stringRedisTemplate,
+                              Clock clock,
+                              String leaseNamePrefix,
+                              String workersKey,
+                              int shardCount,
+                              Duration leaseTtl,
+                              String prefix) {
+        this.redisLeaseManager = redisLeaseManager;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.clock = clock;
+        this.leaseNamePrefix = leaseNamePrefix;
+        this.workersKey = ((prefix == null || prefix.isBlank()) ? "" : prefix + ":") + workersKey;
+        this.shardCount = shardCount;
+        this.leaseTtl = leaseTtl;
+    }
+
+    public Set<Integer> getOwnedShards() {
+        return ownedShards;
+    }
+
+    /**
+     * 서버당 목표 수만큼 shard lease 획득/연장 (보유 중인 shard 우선 연장, 목표 초과분은 해제)
+     * @return 보유 중인 shard
+     */
+    public Set<Integer> rebalance() {
+        int liveWorkers = heartbeat();
+        int target = (shardCount + liveWorkers - 1) / liveWorkers; // 서버당 보유할 shard 수 (올림)
+
+        Set<Integer> owned = new TreeSet<>();
+
+        // 1) 보유 중인 shard 연장 (목표 초과분은 해제)
+        for (int shard : ownedShards) {
+            if (owned.size() < target && redisLeaseManager.tryAcquire(leaseName(shard), leaseTtl)) {
+                owned.add(shard);
+            } else {
+                redisLeaseManager.release(leaseName(shard));
+            }
+        }
+
+        // 2) 부족하면 비어 있는 shard 획득 (서버마다 시작 위치를 달리해 충돌 감소)
+        int start = Math.floorMod(redisLeaseManager.getOwnerId().hashCode(), shardCount);
+        for (int i = 0; i < shardCount && owned.size() < target; i++) {
+            int shard = (start + i) % shardCount;
+            if (!owned.contains(shard) && redisLeaseManager.tryAcquire(leaseName(shard), leaseTtl)) {
+                owned.add(shard);
+            }
+        }
+
+        if (!owned.equals(ownedShards)) {
+            log.info("shard 보유 변경. lease: {}, workers: {}, target: {}, owned: {}", leaseNamePrefix, liveWorkers, target, owned);
+        }
+        ownedShards = Set.copyOf(owned);
+        return ownedShards;
+    }
+
+    /**
+     * 보유 shard lease와 heartbeat 반납 (종료 시 다른 서버가 TTL 만료를 기다리지 않고 인계)
+     */
+    public void releaseAll() {
+        ownedShards.forEach(shard -> redisLeaseManager.release(leaseName(shard)));
+        ownedShards = Set.of();
+        try {
+            stringRedisTemplate.opsForZSet().remove(workersKey, redisLeaseManager.getOwnerId());
+        } catch (Exception e) {
+            log.warn("heartbeat 제거 실패. key: {}, cause: {}", workersKey, e.getMessage());
+        }
+    }
+
+    // 내 생존 시각 기록 + 만료된 서버 제거 후 살아 있는 서버 수 반환 (Redis 장애 시 1로 간주)
+    private int heartbeat() {
+        long now = clock.millis();
+        try {
+            stringRedisTemplate.opsForZSet().add(workersKey, redisLeaseManager.getOwnerId(), now);
+            stringRedisTemplate.opsForZSet().removeRangeByScore(workersKey, Double.NEGATIVE_INFINITY, now - leaseTtl.toMillis());
+            Long count = stringRedisTemplate.opsForZSet().zCard(workersKey);
+            return (count == null || count < 1) ? 1 : count.intValue();
+        } catch (Exception e) {
+            log.warn("heartbeat 기록 실패. key: {}, cause: {}", workersKey, e.getMessage());
+            return 1;
+        }
+    }
+
+    private String leaseName(int shard) {
+        return leaseNamePrefix + ":" + shard;
+    }
+}
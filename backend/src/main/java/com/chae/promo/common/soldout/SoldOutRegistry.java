@@ -0,0 +1,127 @@
+package com.chae.promo.common.soldout;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 서버(노드) 로컬 품절 플래그 저장소
+ * - Lua 스크립트가 품절을 반환하면 플래그를 세우고, 이후 요청은 DB/Redis 호출 없이 즉시 거절
+ * - 재고가 복구되면(보상 롤백, 예약 취소) Redis pub/sub으로 모든 서버의 플래그를 해제
+ * - 복구 메시지 유실에 대비해 플래그는 max-age가 지나면 자동 만료 (만료 후 첫 요청이 Redis로 재확인)
+ */
+@Slf4j
+@Component
+public class SoldOutRegistry {
+
+    // 재고 복구 알림 채널 (메시지 형식: {SoldOutType}:{id})
+    public static final String STOCK_REPLENISHED_CHANNEL = "stock:replenished";
+    private static final String MESSAGE_DELIMITER = ":";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final Clock clock;
+    private final long maxAgeMillis;
+
+    // key: 대상 id, value: 품절 플래그를 세운 시각(epoch millis)
+    private final Map<SoldOutType, Map<String, Long>> soldOutFlags = new EnumMap<>(SoldOutType.class);
+    private final Map<SoldOutType, Counter> shortCircuitCounters = new EnumMap<>(SoldOutType.class);
+
+    public SoldOutRegistry(StringRedisTemplate stringRedisTemplate,
+                           Clock clock,
+                           MeterRegistry meterRegistry,
+                           @Value("${app.sold-out.max-age:PT10S}") Duration maxAge) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.clock = clock;
+        this.maxAgeMillis = maxAge.toMillis();
+
+        for (SoldOutType type : SoldOutType.values()) {
+            soldOutFlags.put(type, new ConcurrentHashMap<>());
+            shortCircuitCounters.put(type, Counter.builder("sold_out.short_circuit")
+                    .description("로컬 품절 플래그로 즉시 거절된 요청 수")
+                    .tag("type", type.name())
+                    .register(meterRegistry));
+        }
+    }
+
+    /**
+     * 품절 여부 확인 (true인 경우 거절 카운트 증가)
+     * @param type 대상 구분
+     * @param id 쿠폰 publicId 또는 상품 코드
+     * @return 품절 플래그가 유효하면 true
+     */
+    public boolean isSoldOut(SoldOutType type, String id) {
+        Map<String, Long> flags = soldOutFlags.get(type);
+        Long markedAt = flags.get(id);
+        if (markedAt == null) {
+            return false;
+        }
+
+        if (clock.millis() - markedAt > maxAgeMillis) {
+            // 만료된 플래그는 제거하고 Redis로 재확인하도록 통과
+            flags.remove(id, markedAt);
+            return false;
+        }
+
+        shortCircuitCounters.get(type).increment();
+        return true;
+    }
+
+    /**
+     * 품절 플래그 설정 (Lua 스크립트가 품절을 반환한 경우)
+     */
+    public void markSoldOut(SoldOutType type, String id) {
+        if (soldOutFlags.get(type).put(id, clock.millis()) == null) {
+            log.info("로컬 품절 플래그 설정. type: {}, id: {}", type, id);
+        }
+    }
+
+    /**
+     * 현재 서버의 품절 플래그 해제
+     */
+    public void clear(SoldOutType type, String id) {
+        if (soldOutFlags.get(type).remove(id) != null) {
+            log.info("로컬 품절 플래그 해제. type: {}, id: {}", type, id);
+        }
+    }
+
+    /**
+     * 재고 복구 알림 발행 (모든 서버의 품절 플래그 해제)
+     * 실패해도 플래그는 max-age 이후 만료되므로 예외를 전파하지 않음
+     */
+    public void publishReplenished(SoldOutType type, String id) {
+        clear(type, id);
+        try {
+            stringRedisTemplate.convertAndSend(STOCK_REPLENISHED_CHANNEL, type.name() + MESSAGE_DELIMITER + id);
+        } catch (Exception e) {
+            log.warn("재고 복구 알림 발행 실패. type: {}, id: {}, cause: {}", type, id, e.getMessage());
+        }
+    }
+
+    /**
+     * 재고 복구 알림 메시지 처리
+     * @param message {SoldOutType}:{id}
+     */
+    void onReplenishedMessage(String message) {
+        int idx = message.indexOf(MESSAGE_DELIMITER);
+        if (idx <= 0) {
+            log.warn("알 수 없는 재고 복구 메시지: {}", message);
+            return;
+        }
+
+        try {
+            SoldOutType type = SoldOutType.valueOf(message.substring(0, idx));
+            clear(type, message.substring(idx + 1));
+        } catch (IllegalArgumentException e) {
+            log.warn("알 수 없는 재고 복구 메시지 타입: {}", message);
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.chae.promo.common.soldout;
+
+/**
+ * 품절 플래그 대상 구분
+ * - COUPON : 쿠폰 publicId
+ * - PRODUCT : 상품 코드(SKU)
+ */
+public enum SoldOutType {
+    COUPON,
+    PRODUCT
+}
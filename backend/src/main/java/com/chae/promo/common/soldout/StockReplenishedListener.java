@@ -0,0 +1,24 @@
+package com.chae.promo.common.soldout;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+
+// 역할: 재고 복구 알림을 수신하여 현재 서버의 품절 플래그를 해제
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StockReplenishedListener implements MessageListener {
+
+    private final SoldOutRegistry soldOutRegistry;
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = message.toString();
+        log.debug("재고 복구 알림 수신: {}", body);
+
+        soldOutRegistry.onReplenishedMessage(body);
+    }
+}
@@ -0,0 +1,43 @@
+package com.chae.promo.common.util;
+
+import com.chae.promo.exception.CommonCustomException;
+import com.chae.promo.exception.CommonErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * keyset 페이지네이션 커서 인코딩/디코딩 유틸리티 클래스
+ * - 클라이언트에는 마지막 id를 base64url로 감싼 불투명한 문자열로 전달
+ */
+public class CursorUtil {
+
+    public static final long FIRST_PAGE_ID = 0L;
+
+    /**
+     * 마지막으로 조회한 id -> 커서
+     */
+    public static String encode(long lastId) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(Long.toString(lastId).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 -> 마지막으로 조회한 id (커서가 없으면 첫 페이지)
+     * @throws CommonCustomException 커서 형식이 올바르지 않은 경우 (INVALID_CURSOR)
+     */
+    public static long decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return FIRST_PAGE_ID;
+        }
+        try {
+            long lastId = Long.parseLong(new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8));
+            if (lastId < FIRST_PAGE_ID) {
+                throw new CommonCustomException(CommonErrorCode.INVALID_CURSOR);
+            }
+            return lastId;
+        } catch (IllegalArgumentException e) { // NumberFormatException 포함
+            throw new CommonCustomException(CommonErrorCode.INVALID_CURSOR);
+        }
+    }
+}
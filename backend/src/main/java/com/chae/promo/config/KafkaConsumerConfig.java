@@ -0,0 +1,26 @@
+package com.chae.promo.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.core.ConsumerFactory;
+
+@Configuration
+public class KafkaConsumerConfig {
+
+    /**
+     * 배치 리스너용 컨테이너 팩토리
+     * - poll 단위로 레코드 목록을 한 번에 전달
+     * - 기본 kafkaListenerContainerFactory(단건)는 Spring Boot 자동 설정을 그대로 사용
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<Object, Object> batchKafkaListenerContainerFactory(
+            ConsumerFactory<Object, Object> consumerFactory) {
+
+        ConcurrentKafkaListenerContainerFactory<Object, Object> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(consumerFactory);
+        factory.setBatchListener(true);
+
+        return factory;
+    }
+}
@@ -1,11 +1,16 @@
 package com.chae.promo.config;
 
+import com.chae.promo.common.soldout.SoldOutRegistry;
+import com.chae.promo.common.soldout.StockReplenishedListener;
+import com.chae.promo.coupon.service.cache.CouponCacheInvalidationListener;
+import com.chae.promo.coupon.service.redis.CouponRedisKeyManager;
 import com.chae.promo.event.redis.RedisKeyExpirationListener;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
 import org.springframework.data.redis.listener.PatternTopic;
 import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
@@ -34,7 +39,10 @@ public class RedisConfig {
     @Bean
     public RedisMessageListenerContainer redisMessageListenerContainer(
             RedisConnectionFactory connectionFactory,
-            RedisKeyExpirationListener listener) {
+            RedisKeyExpirationListener listener,
+            CouponCacheInvalidationListener couponCacheInvalidationListener,
+            CouponRedisKeyManager couponRedisKeyManager,
+            StockReplenishedListener stockReplenishedListener) {
 
         RedisMessageListenerContainer container = new RedisMessageListenerContainer();
         container.setConnectionFactory(connectionFactory);
@@ -42,6 +50,14 @@ public class RedisConfig {
         // TTL 만료 이벤트(__keyevent@0__:expired) 구독
         container.addMessageListener(listener, new PatternTopic("__keyevent@*__:expired"));
 
+        // 쿠폰 메타데이터 캐시 무효화 메시지 구독
+        container.addMessageListener(couponCacheInvalidationListener,
+                new ChannelTopic(couponRedisKeyManager.getCouponCacheInvalidationChannel()));
+
+        // 재고 복구 알림 구독 (로컬 품절 플래그 해제)
+        container.addMessageListener(stockReplenishedListener,
+                new ChannelTopic(SoldOutRegistry.STOCK_REPLENISHED_CHANNEL));
+
         return container;
     }
 }
@@ -4,6 +4,8 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.core.script.DefaultRedisScript;
 
+import java.util.List;
+
 @Configuration
 public class RedisScriptConfig {
 
@@ -37,7 +39,9 @@ public class RedisScriptConfig {
     // KEYS[2]=stock:{SKU}:reserved
     // KEYS[3]=hold:{SKU}:{orderId}
     // KEYS[4]=hold_index:{SKU}
+    // KEYS[5]=hold_qty:{SKU} (hold 키 -> qty, hold TTL 만료 후 reaper가 reserved를 복구할 때 사용)
     //ARGV[1]=qty, ARGV[2]=ttlSec, ARGV[3]=nowMillis
+    // 반환: 1=성공(멱등 포함), -1=요청 수량 대비 재고 부족, -2=재고 키 없음, -5=hold 저장 실패, -6=완전 품절(남은 재고 0)
     public static final String STOCK_RESERVE_SCRIPT = """
             
             local available = tonumber(redis.call('GET', KEYS[1]))
@@ -55,6 +59,11 @@ public class RedisScriptConfig {
             local ttl = tonumber(ARGV[2])
             local now = tonumber(ARGV[3])
                         
+            -- 남은 재고가 없으면 품절(-6), 요청 수량보다 적으면 부족(-1)
+            if (available - reserved) <= 0 then
+              return -6
+            end
+                        
             if (available - reserved) < qty then
               return -1
             end
@@ -73,15 +82,64 @@ public class RedisScriptConfig {
             -- 인덱스 등록(만료 시각 = now + ttl*1000; 버퍼 주려면 -120000 등 가감)
             local expireAt = now + (ttl * 1000)
             redis.call('ZADD', KEYS[4], expireAt, KEYS[3])
+            redis.call('HSET', KEYS[5], KEYS[3], qty)
                         
             return 1
             
             """;
 
+    // [장바구니 재고 예약] 여러 SKU를 한 번에 예약 (all-or-nothing)
+    // 모든 SKU를 먼저 검사하고, 하나라도 실패하면 아무것도 변경하지 않음
+    // KEYS[5*(i-1)+1..5*(i-1)+5] = i번째 SKU의 available, reserved, hold, hold_index, hold_qty (STOCK_RESERVE_SCRIPT와 동일)
+    // ARGV[1]=ttlSec, ARGV[2]=nowMillis, ARGV[2+i]=i번째 SKU의 qty
+    // 반환: {1} 성공(멱등 포함), {code, i} i번째 SKU 실패 (code: -1=재고 부족, -2=재고 키 없음, -6=완전 품절)
+    public static final String STOCK_RESERVE_ALL_SCRIPT = """
+            local ttl = tonumber(ARGV[1])
+            local now = tonumber(ARGV[2])
+            local count = #KEYS / 5
+
+            -- 1. 검사: 모든 SKU의 재고 확인 (변경 없음)
+            for i = 1, count do
+              local base = (i - 1) * 5
+              local available = tonumber(redis.call('GET', KEYS[base + 1]))
+              if available == nil then
+                return {-2, i}
+              end
+
+              -- 멱등: 이미 hold가 있는 SKU는 검사 생략
+              if redis.call('EXISTS', KEYS[base + 3]) == 0 then
+                local reserved = tonumber(redis.call('GET', KEYS[base + 2]) or '0')
+                local qty = tonumber(ARGV[2 + i])
+                if (available - reserved) <= 0 then
+                  return {-6, i}
+                end
+                if (available - reserved) < qty then
+                  return {-1, i}
+                end
+              end
+            end
+
+            -- 2. 반영: reserved 증가 + hold 저장 + 인덱스 등록
+            local expireAt = now + (ttl * 1000)
+            for i = 1, count do
+              local base = (i - 1) * 5
+              if redis.call('EXISTS', KEYS[base + 3]) == 0 then
+                local qty = tonumber(ARGV[2 + i])
+                redis.call('INCRBY', KEYS[base + 2], qty)
+                redis.call('SET', KEYS[base + 3], qty, 'EX', ttl)
+                redis.call('ZADD', KEYS[base + 4], expireAt, KEYS[base + 3])
+                redis.call('HSET', KEYS[base + 5], KEYS[base + 3], qty)
+              end
+            end
+
+            return {1}
+            """;
+
     // KEYS[1]=stock:{SKU}:available
     // KEYS[2]=stock:{SKU}:reserved
     // KEYS[3]=hold:{SKU}:{orderId}
     // KEYS[4]=hold_index:{SKU}
+    // KEYS[5]=hold_qty:{SKU}
     public static final String STOCK_CONFIRM_SCRIPT = """
             local holdQty = tonumber(redis.call('GET', KEYS[3]))
             if not holdQty then
@@ -100,6 +158,7 @@ public class RedisScriptConfig {
             -- hold 삭제 + 인덱스 제거
             redis.call('DEL', KEYS[3])
             redis.call('ZREM', KEYS[4], KEYS[3])
+            redis.call('HDEL', KEYS[5], KEYS[3])
                         
             return 1
             """;
@@ -107,6 +166,7 @@ public class RedisScriptConfig {
     // KEYS[1]=stock:{SKU}:reserved
     // KEYS[2]=hold:{SKU}:{orderId}
     // KEYS[3]=hold_index:{SKU}
+    // KEYS[4]=hold_qty:{SKU}
     public static final String STOCK_CANCEL_SCRIPT  = """
             -- hold 확인
             local holdQty = tonumber(redis.call('GET', KEYS[2]))
@@ -124,9 +184,49 @@ public class RedisScriptConfig {
             -- hold 삭제 + 인덱스 제거
             redis.call('DEL', KEYS[2])
             redis.call('ZREM', KEYS[3], KEYS[2])
+            redis.call('HDEL', KEYS[4], KEYS[2])
             return 1
             """;
 
+    // [만료 hold 정리] 호출 측이 hold_index에서 조회한 만료 후보 hold를 batch 단위로 정리
+    // hold 키가 TTL로 사라졌으면 hold_qty에 기록된 수량만큼 reserved 복구 (hold가 남아 있으면 다음 주기에 재확인)
+    // 후보 조회와 실행 사이에 확정/취소된 hold는 인덱스 점수를 다시 확인해 건너뜀
+    // KEYS[1]=stock:{SKU}:reserved
+    // KEYS[2]=hold_index:{SKU}
+    // KEYS[3]=hold_qty:{SKU}
+    // KEYS[4..n]=hold:{SKU}:orderId (만료 후보, 같은 {SKU} slot)
+    // ARGV[1]=dueMillis (이 시각 이전에 만료된 hold 대상)
+    // 반환: {정리한 hold 수, 복구한 수량, 남은 가장 오래된 만료 시각(없으면 -1)}
+    public static final String STOCK_REAP_EXPIRED_HOLDS_SCRIPT = """
+            local due = tonumber(ARGV[1])
+            local reaped = 0
+            local released = 0
+
+            for i = 4, #KEYS do
+              local holdKey = KEYS[i]
+              local score = redis.call('ZSCORE', KEYS[2], holdKey)
+              if score and tonumber(score) <= due and redis.call('EXISTS', holdKey) == 0 then
+                local qty = tonumber(redis.call('HGET', KEYS[3], holdKey) or '0')
+                local reserved = tonumber(redis.call('GET', KEYS[1]) or '0')
+                local release = math.min(qty, reserved)
+                if release > 0 then
+                  redis.call('DECRBY', KEYS[1], release)
+                  released = released + release
+                end
+                redis.call('HDEL', KEYS[3], holdKey)
+                redis.call('ZREM', KEYS[2], holdKey)
+                reaped = reaped + 1
+              end
+            end
+
+            local oldest = redis.call('ZRANGE', KEYS[2], 0, 0, 'WITHSCORES')
+            local oldestScore = -1
+            if #oldest == 2 then
+              oldestScore = tonumber(oldest[2])
+            end
+            return {reaped, released, oldestScore}
+            """;
+
     @Bean
     public DefaultRedisScript<Long> redisDecreaseStockScript() {
         return new DefaultRedisScript<>(REDIS_DECREASE_STOCK_SCRIPT, Long.class);
@@ -137,6 +237,18 @@ public class RedisScriptConfig {
         return new DefaultRedisScript<>(STOCK_RESERVE_SCRIPT, Long.class);
     }
 
+    @Bean
+    @SuppressWarnings("rawtypes")
+    public DefaultRedisScript<List> reserveAllStockScript() {
+        return new DefaultRedisScript<>(STOCK_RESERVE_ALL_SCRIPT, List.class);
+    }
+
+    @Bean
+    @SuppressWarnings("rawtypes")
+    public DefaultRedisScript<List> reapExpiredHoldsScript() {
+        return new DefaultRedisScript<>(STOCK_REAP_EXPIRED_HOLDS_SCRIPT, List.class);
+    }
+
     @Bean
     public DefaultRedisScript<Long> confirmStockScript() {
         return new DefaultRedisScript<>(STOCK_CONFIRM_SCRIPT, Long.class);
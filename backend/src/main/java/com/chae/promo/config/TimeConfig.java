@@ -2,9 +2,12 @@ package com.chae.promo.config;
 
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.auditing.DateTimeProvider;
 
 import java.time.Clock;
+import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.util.Optional;
 
 @Configuration
 public class TimeConfig {
@@ -12,4 +15,10 @@ public class TimeConfig {
     public Clock clock() {
         return Clock.system(ZoneId.of("Asia/Seoul")); // 서울 시간대의 Clock 빈을 생성
     }
+
+    // JPA auditing(created_at/updated_at)도 Clock 빈 기준으로 기록 (JVM 기본 시간대와 무관, outbox 파티션 경계와 같은 시간대)
+    @Bean
+    public DateTimeProvider auditingDateTimeProvider(Clock clock) {
+        return () -> Optional.of(LocalDateTime.now(clock));
+    }
 }
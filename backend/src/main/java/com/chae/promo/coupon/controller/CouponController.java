@@ -3,9 +3,15 @@ package com.chae.promo.coupon.controller;
 import com.chae.promo.coupon.dto.CouponResponse;
 import com.chae.promo.coupon.service.CouponService;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -30,11 +36,14 @@ public class CouponController {
         return ResponseEntity.ok(couponService.issueCoupon(userDetails.getUsername(), couponId));
     }
 
-    @GetMapping
-    @Operation(summary = "전체 쿠폰 조회")
-    public ResponseEntity<List<CouponResponse.Info>> getAll(
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "전체 쿠폰 조회", description = "id 기준 커서 페이지 조회. 응답의 nextCursor를 다음 요청의 cursor로 전달")
+    @ApiResponse(content = @Content(schema = @Schema(implementation = CouponResponse.Page.class)))
+    public ResponseEntity<byte[]> getAll(
+            @RequestParam(required = false) String cursor,
+            @Min(1) @Max(100) @RequestParam(defaultValue = "20") int size
     ) {
-        return ResponseEntity.ok(couponService.getAll());
+        return ResponseEntity.ok(couponService.getAllAsJson(cursor, size));
     }
 
     @GetMapping("/my")
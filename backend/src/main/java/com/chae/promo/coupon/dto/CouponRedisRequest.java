@@ -12,10 +12,13 @@ import lombok.*;
 public class CouponRedisRequest {
     private Coupon coupon;
     private String couponStockKey;
-    private String userCouponSetKey;
     private String couponTtlKey;
     private String userId;
     private CouponIssueStatus couponIssueStatus;
     private long ttlSeconds;
     private String couponIssuedUserSetKey;
+    private String couponIssueIdKey; // 사용자별 발급 ID Hash 키
+    private String couponIssueId; // 발급 성공 시 Hash에 기록할 발급 ID (토큰 풀 방식은 꺼낸 토큰을 기록)
+    private long issuedAtMillis; // 발급 시각 (epoch millis, 발급 ID와 함께 Hash에 기록)
+    private Long initialStock; // 재고 키가 없을 때 스크립트에서 초기화할 재고 수량 (null이면 초기화하지 않음)
 }
@@ -3,6 +3,7 @@ package com.chae.promo.coupon.dto;
 import lombok.*;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 public class CouponResponse {
 
@@ -34,5 +35,17 @@ public class CouponResponse {
         private LocalDateTime endDate;
         private LocalDateTime expireDate;
         private Integer validDays;
+
+        private LocalDateTime expireAt; //발급 쿠폰 만료일시 (내 쿠폰 조회 시)
+        private String status; //발급 쿠폰 상태 (내 쿠폰 조회 시)
+    }
+
+    @Getter
+    @AllArgsConstructor
+    @Builder
+    public static class Page{
+        private List<Info> coupons;
+        private String nextCursor; //다음 페이지 커서 (마지막 페이지면 null)
+        private boolean hasNext;
     }
 }
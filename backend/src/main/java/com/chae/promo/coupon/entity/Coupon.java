@@ -1,6 +1,7 @@
 package com.chae.promo.coupon.entity;
 
 import com.chae.promo.common.entity.BaseTime;
+import com.chae.promo.coupon.service.cache.CouponChangeListener;
 import jakarta.persistence.*;
 import lombok.Builder;
 import lombok.Getter;
@@ -12,7 +13,7 @@ import java.time.LocalDateTime;
 @Entity
 @Table(name = "coupons")
 @NoArgsConstructor
-@EntityListeners(AuditingEntityListener.class)
+@EntityListeners({AuditingEntityListener.class, CouponChangeListener.class})
 @Getter
 public class Coupon extends BaseTime {
 
@@ -1,8 +1,12 @@
 package com.chae.promo.coupon.event;
 
 import com.chae.promo.common.kafka.TopicNames;
+import com.chae.promo.common.soldout.SoldOutRegistry;
+import com.chae.promo.common.soldout.SoldOutType;
 import com.chae.promo.coupon.service.redis.CouponRedisKeyManager;
 import com.chae.promo.coupon.service.redis.CouponRedisService;
+import com.chae.promo.coupon.service.redis.CouponTokenPoolService;
+import com.chae.promo.coupon.service.redis.UserCouponSummaryRedisService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.kafka.annotation.KafkaListener;
@@ -16,7 +20,10 @@ public class CouponDLQConsumer {
 
 
     private final CouponRedisService couponRedisService;
+    private final CouponTokenPoolService couponTokenPoolService;
+    private final UserCouponSummaryRedisService userCouponSummaryRedisService;
     private final CouponRedisKeyManager couponRedisKeyManager;
+    private final SoldOutRegistry soldOutRegistry;
 
     /**
      * 쿠폰 발급 실패 이벤트를 수신하여 보상 트랜잭션을 수행
@@ -25,21 +32,34 @@ public class CouponDLQConsumer {
      *
      * @param failedEvent 발급 실패 이벤트
      */
-    @KafkaListener(topics = TopicNames.COUPON_ISSUED + ".dlt", groupId = "coupon.dlt.group")
+    @KafkaListener(topics = TopicNames.COUPON_ISSUED_DLT, groupId = "coupon.dlt.group")
     public void handleIssuanceFailure(CouponIssuedEvent failedEvent) {
         log.error("쿠폰 발급 최종 실패! 보상 트랜잭션을 시작합니다. event: {}", failedEvent);
 
         String couponStockKey = couponRedisKeyManager.getCouponStockKey(failedEvent.getCouponPublicId(), failedEvent.getCouponCode());
-        String userCouponSetKey = couponRedisKeyManager.getUserCouponSetKey(failedEvent.getUserId());
         String couponIssuedUserSetKey = couponRedisKeyManager.getCouponIssuedUserSetKey(failedEvent.getCouponPublicId(), failedEvent.getCouponCode());
+        String couponIssueIdKey = couponRedisKeyManager.getCouponIssueIdKey(failedEvent.getCouponPublicId(), failedEvent.getCouponCode());
 
-        // 보상 트랜잭션: Redis 재고 롤백
-        couponRedisService.rollbackRedisCouponStock(couponStockKey,
-                userCouponSetKey,
-                couponIssuedUserSetKey,
-                failedEvent.getUserId(),
-                failedEvent.getCouponPublicId()
-        );
+        // 보상 트랜잭션: Redis 재고 롤백 (토큰 풀 방식은 토큰 반환)
+        if (couponTokenPoolService.isTokenPoolReady(failedEvent.getCouponPublicId(), failedEvent.getCouponCode())) {
+            couponTokenPoolService.rollbackToken(failedEvent.getCouponPublicId(),
+                    failedEvent.getCouponCode(),
+                    failedEvent.getUserId(),
+                    failedEvent.getCouponIssueId()
+            );
+        } else {
+            couponRedisService.rollbackRedisCouponStock(couponStockKey,
+                    couponIssuedUserSetKey,
+                    couponIssueIdKey,
+                    failedEvent.getUserId()
+            );
+        }
+
+        // 내 쿠폰 조회 read model에서 제거
+        userCouponSummaryRedisService.remove(failedEvent.getUserId(), failedEvent.getCouponPublicId());
+
+        // 재고가 복구되었으므로 모든 서버의 품절 플래그 해제
+        soldOutRegistry.publishReplenished(SoldOutType.COUPON, failedEvent.getCouponPublicId());
 
         // todo. 사용자에게 실패 알림
 
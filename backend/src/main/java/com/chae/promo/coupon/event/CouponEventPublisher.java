@@ -1,20 +1,89 @@
 package com.chae.promo.coupon.event;
 
 import com.chae.promo.common.kafka.TopicNames;
-import lombok.RequiredArgsConstructor;
+import com.chae.promo.coupon.event.spill.CouponEventSpillWriter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Component;
 
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
 @Component
-@RequiredArgsConstructor
 @Slf4j
 public class CouponEventPublisher {
 
     private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final CouponEventSpillWriter spillWriter;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Timer sendSuccessTimer;
+    private final Timer sendFailureTimer;
+
+    public CouponEventPublisher(KafkaTemplate<String, Object> kafkaTemplate,
+                                CouponEventSpillWriter spillWriter,
+                                MeterRegistry meterRegistry) {
+        this.kafkaTemplate = kafkaTemplate;
+        this.spillWriter = spillWriter;
 
+        Gauge.builder("coupon.event.publish.in_flight", inFlight, AtomicInteger::get)
+                .description("브로커 응답을 기다리는 쿠폰 발급 이벤트 수")
+                .register(meterRegistry);
+        this.sendSuccessTimer = Timer.builder("coupon.event.publish.latency")
+                .tag("result", "success")
+                .register(meterRegistry);
+        this.sendFailureTimer = Timer.builder("coupon.event.publish.latency")
+                .tag("result", "failure")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 비동기 쿠폰 발급 이벤트 발행 (요청 스레드는 전송 완료를 기다리지 않음)
+     * - 전송 결과는 콜백으로 추적하고, 실패한 이벤트는 spill 파일에 기록해 재전송
+     *   (콜백은 producer IO 스레드에서 실행되므로 기록은 spill 전용 스레드에 넘김)
+     * @param event 쿠폰 발급 이벤트
+     */
     public void publishCouponIssued(CouponIssuedEvent event) {
-        kafkaTemplate.send(TopicNames.COUPON_ISSUED, event.getUserId(), event);
+        long startNanos = System.nanoTime();
+        inFlight.incrementAndGet();
+
+        try {
+            kafkaTemplate.send(TopicNames.COUPON_ISSUED, event.getUserId(), event)
+                    .whenComplete((result, ex) -> {
+                        inFlight.decrementAndGet();
+                        long elapsed = System.nanoTime() - startNanos;
+                        if (ex == null) {
+                            sendSuccessTimer.record(elapsed, TimeUnit.NANOSECONDS);
+                            return;
+                        }
+                        sendFailureTimer.record(elapsed, TimeUnit.NANOSECONDS);
+                        spill(event, ex);
+                    });
+        } catch (Exception e) {
+            // send 호출 자체의 실패 (직렬화, 메타데이터 조회 타임아웃 등)
+            inFlight.decrementAndGet();
+            sendFailureTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+            spill(event, e);
+            return;
+        }
+
         log.info("쿠폰 발급 이벤트 발행: {}", event);
     }
-}
\ No newline at end of file
+
+    /**
+     * spill 파일에 기록된 이벤트 재전송 (동기)
+     * @param event 쿠폰 발급 이벤트
+     */
+    public void republishCouponIssuedSync(CouponIssuedEvent event, long timeoutMillis) throws Exception {
+        kafkaTemplate.send(TopicNames.COUPON_ISSUED, event.getUserId(), event).get(timeoutMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private void spill(CouponIssuedEvent event, Throwable cause) {
+        log.warn("쿠폰 발급 이벤트 전송 실패 - spill 파일에 기록. eventId: {}, couponIssueId: {}, cause: {}",
+                event.getEventId(), event.getCouponIssueId(), cause.toString());
+        spillWriter.submit(event);
+    }
+}
@@ -0,0 +1,54 @@
+package com.chae.promo.coupon.event;
+
+import com.chae.promo.common.kafka.TopicNames;
+import com.chae.promo.coupon.service.CouponIssueBatchHandlerService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+// 역할: 쿠폰 발급 이벤트를 poll 단위로 수신하여 배치 저장 (app.coupon.consumer.batch-enabled=true 일 때만 동작)
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CouponIssueBatchConsumer {
+
+    private final CouponIssueBatchHandlerService batchHandlerService;
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+
+    /**
+     * 쿠폰 발급 이벤트 배치 처리
+     * - 단건 리스너(CouponEventConsumer)와 같은 그룹을 사용하므로 둘 중 하나만 기동
+     * - 저장에 실패한 레코드만 DLT로 보내 보상 트랜잭션(CouponDLQConsumer)을 수행
+     *
+     * @param events 한 번의 poll로 수신한 쿠폰 발급 이벤트 목록
+     */
+    @KafkaListener(
+            id = "couponIssueBatchListener",
+            topics = TopicNames.COUPON_ISSUED,
+            groupId = "coupon.group",
+            containerFactory = "batchKafkaListenerContainerFactory",
+            autoStartup = "${app.coupon.consumer.batch-enabled:false}",
+            properties = "max.poll.records=${app.coupon.consumer.batch-max-poll-records:500}"
+    )
+    public void handleCouponIssuedBatch(List<CouponIssuedEvent> events) {
+        log.info("쿠폰 발급 이벤트 배치 수신: size={}", events.size());
+
+        List<CouponIssuedEvent> failed = batchHandlerService.saveCouponIssuesFromEvents(events);
+        if (failed.isEmpty()) {
+            return;
+        }
+
+        // DLT 전송이 끝나야 offset 커밋 (전송 실패 시 예외 -> 배치 재처리, 저장은 멱등)
+        CompletableFuture.allOf(failed.stream()
+                .map(event -> kafkaTemplate.send(TopicNames.COUPON_ISSUED_DLT, event.getUserId(), event))
+                .toArray(CompletableFuture[]::new)
+        ).join();
+
+        log.warn("쿠폰 발급 저장 실패 레코드 DLT 전송: size={}", failed.size());
+    }
+}
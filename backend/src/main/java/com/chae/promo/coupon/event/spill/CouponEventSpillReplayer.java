@@ -0,0 +1,68 @@
+package com.chae.promo.coupon.event.spill;
+
+import com.chae.promo.coupon.event.CouponEventPublisher;
+import com.chae.promo.coupon.event.CouponIssuedEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * spill 파일에 기록된 쿠폰 발급 이벤트 재전송
+ * - 주기적으로 대기 레코드를 순서대로 재전송하고, 한 건이라도 실패하면 브로커 장애로 보고 다음 주기로 미룸
+ * - 매 주기 끝에 재전송 완료 레코드가 차지한 공간을 회수 (재전송이 계속 실패하는 레코드가 있어도 회수)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CouponEventSpillReplayer {
+
+    private final CouponEventSpillStore spillStore;
+    private final CouponEventPublisher couponEventPublisher;
+    private final ObjectMapper objectMapper;
+
+    @Value("${app.coupon.publisher.spill.replay-timeout-ms:5000}")
+    private long replayTimeoutMillis;
+
+    @Scheduled(fixedDelayString = "${app.coupon.publisher.spill.replay-interval:PT10S}")
+    public void replay() {
+        if (spillStore.getPendingCount() == 0) {
+            spillStore.compact();
+            return;
+        }
+
+        List<CouponEventSpillStore.SpillRecord> records = spillStore.pendingRecords();
+        log.info("spill 이벤트 재전송 시작. pending: {}", records.size());
+
+        int replayed = 0;
+        for (CouponEventSpillStore.SpillRecord record : records) {
+            CouponIssuedEvent event;
+            try {
+                event = objectMapper.readValue(record.payload(), CouponIssuedEvent.class);
+            } catch (IOException e) {
+                // 복구 불가능한 레코드는 건너뜀 (재시도해도 동일)
+                log.error("spill 레코드 역직렬화 실패 - 건너뜀. offset: {}", record.offset(), e);
+                spillStore.markDone(record);
+                continue;
+            }
+
+            try {
+                couponEventPublisher.republishCouponIssuedSync(event, replayTimeoutMillis);
+            } catch (Exception e) {
+                log.warn("spill 이벤트 재전송 실패 - 다음 주기에 재시도. eventId: {}, cause: {}",
+                        event.getEventId(), e.toString());
+                break;
+            }
+            spillStore.markDone(record);
+            replayed++;
+        }
+
+        spillStore.compact();
+        log.info("spill 이벤트 재전송 종료. replayed: {}, remaining: {}", replayed, spillStore.getPendingCount());
+    }
+}
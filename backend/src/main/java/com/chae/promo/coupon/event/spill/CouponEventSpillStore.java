@@ -0,0 +1,259 @@
+package com.chae.promo.coupon.event.spill;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 발행 실패 이벤트 로컬 보관 파일 (append-only, memory-mapped)
+ * - Kafka 전송에 실패한 이벤트를 디스크에 기록해 두었다가 브로커 복구 후 재전송
+ * - 레코드 형식 : [length(int)][status(byte)][payload(length bytes)]
+ * - payload/status를 먼저 쓰고 length를 마지막에 기록하므로, 기록 도중 종료되면 해당 레코드는 보이지 않음
+ * - 여러 레코드를 한 번에 기록하면 force()는 묶음당 1회
+ * - 모든 레코드가 재전송되면 사용한 영역을 비우고, 재전송 대기 레코드가 남아 있으면 대기 레코드만 새 파일로 옮겨 공간 회수
+ */
+@Slf4j
+@Component
+public class CouponEventSpillStore {
+
+    private static final byte STATUS_PENDING = 0;
+    private static final byte STATUS_DONE = 1;
+    private static final int HEADER_SIZE = Integer.BYTES + Byte.BYTES;
+    private static final int ZERO_CHUNK_SIZE = 8192;
+
+    private final Path path;
+    private final int capacity;
+
+    private FileChannel channel;
+    private MappedByteBuffer buffer;
+
+    private int writePosition;
+    private int pendingCount;
+    // 재전송 완료(DONE) 레코드가 차지하는 바이트 수 (compact로 회수 가능한 공간)
+    private int doneBytes;
+    // compact로 레코드 위치가 바뀔 때마다 증가 (이전에 조회한 SpillRecord의 offset 무효화)
+    private long generation;
+
+    public CouponEventSpillStore(@Value("${app.coupon.publisher.spill.path:./data/coupon-event-spill.log}") Path path,
+                                 @Value("${app.coupon.publisher.spill.capacity-bytes:67108864}") int capacity) {
+        this.path = path;
+        this.capacity = capacity;
+        try {
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            map();
+        } catch (IOException e) {
+            throw new UncheckedIOException("spill 파일 열기 실패: " + path, e);
+        }
+
+        recover();
+        log.info("spill 파일 로드 완료. path: {}, usedBytes: {}, pending: {}", path, writePosition, pendingCount);
+    }
+
+    /**
+     * 레코드 추가
+     *
+     * @param payload 저장할 데이터
+     * @return 저장 여부 (용량 부족 시 false)
+     */
+    public boolean append(byte[] payload) {
+        return appendAll(List.of(payload)) == 1;
+    }
+
+    /**
+     * 레코드 여러 건을 순서대로 추가하고 force()는 1회만 수행
+     * - 공간이 부족하면 재전송 완료 레코드를 회수(compact)한 뒤 다시 시도
+     *
+     * @param payloads 저장할 데이터 목록
+     * @return 저장한 레코드 수 (앞에서부터, 용량 부족 시 payloads.size()보다 작음)
+     */
+    public synchronized int appendAll(List<byte[]> payloads) {
+        int written = 0;
+        for (byte[] payload : payloads) {
+            if (!fits(payload) && (doneBytes == 0 || !compactLive() || !fits(payload))) {
+                break;
+            }
+
+            buffer.put(writePosition + Integer.BYTES, STATUS_PENDING);
+            buffer.put(writePosition + HEADER_SIZE, payload);
+            buffer.putInt(writePosition, payload.length);
+
+            writePosition += HEADER_SIZE + payload.length;
+            pendingCount++;
+            written++;
+        }
+
+        if (written > 0) {
+            buffer.force();
+        }
+        return written;
+    }
+
+    /**
+     * 재전송 대기 중인 레코드 목록
+     */
+    public synchronized List<SpillRecord> pendingRecords() {
+        List<SpillRecord> records = new ArrayList<>(pendingCount);
+        int position = 0;
+        while (position < writePosition) {
+            int length = buffer.getInt(position);
+            if (buffer.get(position + Integer.BYTES) == STATUS_PENDING) {
+                byte[] payload = new byte[length];
+                buffer.get(position + HEADER_SIZE, payload);
+                records.add(new SpillRecord(position, payload, generation));
+            }
+            position += HEADER_SIZE + length;
+        }
+        return records;
+    }
+
+    /**
+     * 재전송 완료 표시
+     * - 조회 이후 compact가 실행되어 위치가 바뀐 레코드는 표시하지 않음 (다음 주기에 다시 재전송)
+     * @param record pendingRecords로 조회한 레코드
+     */
+    public synchronized void markDone(SpillRecord record) {
+        if (record.generation() != generation) {
+            return;
+        }
+        int offset = record.offset();
+        if (buffer.get(offset + Integer.BYTES) == STATUS_PENDING) {
+            buffer.put(offset + Integer.BYTES, STATUS_DONE);
+            buffer.force();
+            pendingCount--;
+            doneBytes += HEADER_SIZE + buffer.getInt(offset);
+        }
+    }
+
+    /**
+     * 사용한 영역 회수
+     * - 대기 레코드가 없으면 영역을 비우고 처음부터 기록
+     * - 대기 레코드가 남아 있어도 회수 가능한 공간이 용량의 1/4 이상이면 대기 레코드만 새 파일로 옮김
+     *   (재전송이 계속 실패하는 레코드 때문에 파일이 가득 차지 않도록 함)
+     */
+    public synchronized void compact() {
+        if (writePosition == 0) {
+            return;
+        }
+        if (pendingCount == 0) {
+            clear();
+            return;
+        }
+        if (doneBytes >= capacity / 4) {
+            compactLive();
+        }
+    }
+
+    public synchronized int getPendingCount() {
+        return pendingCount;
+    }
+
+    public synchronized int getUsedBytes() {
+        return writePosition;
+    }
+
+    @PreDestroy
+    public synchronized void close() throws IOException {
+        buffer.force();
+        channel.close();
+    }
+
+    private boolean fits(byte[] payload) {
+        // 다음 레코드의 length(0) 자리까지 확보
+        return writePosition + HEADER_SIZE + payload.length + Integer.BYTES <= capacity;
+    }
+
+    private void clear() {
+        byte[] zeros = new byte[ZERO_CHUNK_SIZE];
+        for (int position = 0; position < writePosition; position += ZERO_CHUNK_SIZE) {
+            buffer.put(position, zeros, 0, Math.min(ZERO_CHUNK_SIZE, writePosition - position));
+        }
+        buffer.force();
+        writePosition = 0;
+        doneBytes = 0;
+    }
+
+    /**
+     * 대기 레코드만 임시 파일에 기록한 뒤 원자적으로 교체하고 다시 매핑
+     * - 교체 전에 종료되면 기존 파일이 그대로 남으므로 대기 레코드가 유실되지 않음
+     * @return 회수 성공 여부
+     */
+    private boolean compactLive() {
+        Path compacting = path.resolveSibling(path.getFileName() + ".compact");
+        int position = 0;
+        int livePosition = 0;
+        try (FileChannel out = FileChannel.open(compacting,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            while (position < writePosition) {
+                int length = buffer.getInt(position);
+                int recordSize = HEADER_SIZE + length;
+                if (buffer.get(position + Integer.BYTES) == STATUS_PENDING) {
+                    out.write(buffer.slice(position, recordSize), livePosition);
+                    livePosition += recordSize;
+                }
+                position += recordSize;
+            }
+            // 다음 레코드의 length(0) 자리
+            out.write(ByteBuffer.allocate(Integer.BYTES), livePosition);
+            out.force(true);
+        } catch (IOException e) {
+            log.error("spill 파일 compact 실패. path: {}", path, e);
+            return false;
+        }
+
+        try {
+            channel.close();
+            Files.move(compacting, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            map();
+        } catch (IOException e) {
+            throw new UncheckedIOException("spill 파일 교체 실패: " + path, e);
+        }
+
+        log.info("spill 파일 compact 완료. usedBytes: {} -> {}, pending: {}", writePosition, livePosition, pendingCount);
+        writePosition = livePosition;
+        doneBytes = 0;
+        generation++;
+        return true;
+    }
+
+    private void map() throws IOException {
+        this.channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+    }
+
+    // 기동 시 기록된 레코드를 순회하여 쓰기 위치와 대기 건수 복원
+    private void recover() {
+        int position = 0;
+        while (position + HEADER_SIZE <= capacity) {
+            int length = buffer.getInt(position);
+            if (length <= 0 || position + HEADER_SIZE + length > capacity) {
+                break;
+            }
+            if (buffer.get(position + Integer.BYTES) == STATUS_PENDING) {
+                pendingCount++;
+            } else {
+                doneBytes += HEADER_SIZE + length;
+            }
+            position += HEADER_SIZE + length;
+        }
+        writePosition = position;
+    }
+
+    public record SpillRecord(int offset, byte[] payload, long generation) {
+    }
+}
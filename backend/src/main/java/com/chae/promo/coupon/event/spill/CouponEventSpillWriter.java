@@ -0,0 +1,154 @@
+package com.chae.promo.coupon.event.spill;
+
+import com.chae.promo.coupon.event.CouponIssuedEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * spill 파일 기록 전용 스레드
+ * - 전송 실패 콜백은 Kafka producer IO 스레드에서 실행되므로, 직렬화/파일 기록은 bounded queue로 넘겨 이 스레드에서 처리
+ * - 큐에 쌓인 이벤트를 batch-size개씩 묶어 기록하고 force()는 묶음당 1회
+ * - 큐가 가득 차거나 spill 파일 용량이 부족하면 coupon.event.spill.dropped 지표를 올리고 error 로그 (알림 대상)
+ */
+@Slf4j
+@Component
+public class CouponEventSpillWriter {
+
+    private final CouponEventSpillStore spillStore;
+    private final ObjectMapper objectMapper;
+
+    private final BlockingQueue<CouponIssuedEvent> queue;
+    private final int batchSize;
+
+    private final Counter spilledCounter;
+    private final Counter droppedCounter;
+
+    private volatile boolean running;
+    private Thread writerThread;
+
+    public CouponEventSpillWriter(CouponEventSpillStore spillStore,
+                                  ObjectMapper objectMapper,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${app.coupon.publisher.spill.queue-capacity:10000}") int queueCapacity,
+                                  @Value("${app.coupon.publisher.spill.batch-size:256}") int batchSize) {
+        this.spillStore = spillStore;
+        this.objectMapper = objectMapper;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+
+        Gauge.builder("coupon.event.spill.queue", queue, BlockingQueue::size)
+                .description("spill 파일 기록을 기다리는 이벤트 수")
+                .register(meterRegistry);
+        Gauge.builder("coupon.event.spill.pending", spillStore, CouponEventSpillStore::getPendingCount)
+                .description("spill 파일에서 재전송을 기다리는 이벤트 수")
+                .register(meterRegistry);
+        Gauge.builder("coupon.event.spill.used_bytes", spillStore, CouponEventSpillStore::getUsedBytes)
+                .description("spill 파일 사용량")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        this.spilledCounter = Counter.builder("coupon.event.spilled")
+                .description("전송 실패로 spill 파일에 기록된 이벤트 수")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("coupon.event.spill.dropped")
+                .description("spill 큐/파일 용량 부족 또는 직렬화 실패로 기록하지 못한 이벤트 수 (유실)")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public synchronized void start() {
+        if (running) return;
+
+        running = true;
+        writerThread = new Thread(this::writeLoop, "coupon-event-spill-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    /**
+     * 종료 시 큐에 남은 이벤트를 모두 기록한 뒤 반환
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        Thread thread;
+        synchronized (this) {
+            running = false;
+            thread = writerThread;
+        }
+        if (thread != null) {
+            thread.interrupt();
+            thread.join(TimeUnit.SECONDS.toMillis(5));
+        }
+    }
+
+    /**
+     * spill 기록 요청 (호출 스레드는 대기하지 않음)
+     * @return 큐에 넣었으면 true, 큐가 가득 차 유실되면 false
+     */
+    public boolean submit(CouponIssuedEvent event) {
+        if (queue.offer(event)) {
+            return true;
+        }
+        droppedCounter.increment();
+        log.error("spill 대기 큐 초과. 이벤트 유실 위험! event: {}", event);
+        return false;
+    }
+
+    private void writeLoop() {
+        List<CouponIssuedEvent> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                CouponIssuedEvent first = queue.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                write(batch);
+            } catch (InterruptedException e) {
+                // stop() 호출 - 남은 이벤트를 기록하도록 루프 조건으로 다시 확인
+            } catch (Exception e) {
+                droppedCounter.increment(batch.size());
+                log.error("spill 기록 실패. 이벤트 유실 위험! count: {}", batch.size(), e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    // 묶음 단위 기록 (force 1회)
+    void write(List<CouponIssuedEvent> events) {
+        List<CouponIssuedEvent> serialized = new ArrayList<>(events.size());
+        List<byte[]> payloads = new ArrayList<>(events.size());
+        for (CouponIssuedEvent event : events) {
+            try {
+                payloads.add(objectMapper.writeValueAsBytes(event));
+                serialized.add(event);
+            } catch (JsonProcessingException e) {
+                droppedCounter.increment();
+                log.error("spill 직렬화 실패. 이벤트 유실 위험! event: {}", event, e);
+            }
+        }
+
+        int written = spillStore.appendAll(payloads);
+        spilledCounter.increment(written);
+
+        for (int i = written; i < serialized.size(); i++) {
+            droppedCounter.increment();
+            log.error("spill 파일 용량 초과. 이벤트 유실 위험! event: {}", serialized.get(i));
+        }
+    }
+}
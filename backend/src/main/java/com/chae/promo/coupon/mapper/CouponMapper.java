@@ -3,8 +3,10 @@ package com.chae.promo.coupon.mapper;
 import com.chae.promo.coupon.dto.CouponResponse;
 import com.chae.promo.coupon.entity.Coupon;
 import com.chae.promo.coupon.entity.CouponIssue;
+import com.chae.promo.coupon.entity.CouponIssueStatus;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -34,7 +36,22 @@ public class CouponMapper {
      * CouponIssue 엔티티를 CouponResponse.Info DTO로 변환하는 내부 로직
      */
     private CouponResponse.Info convertCouponIssueToInfo(CouponIssue couponIssue) {
-        return convertCouponToInfo(couponIssue.getCoupon());
+        return toIssuedInfo(couponIssue.getCoupon(), couponIssue.getExpireAt(), couponIssue.getStatus());
+    }
+
+    /**
+     * 발급된 쿠폰 정보를 CouponResponse.Info DTO로 변환 (발급 만료일시, 상태 포함)
+     *
+     * @param coupon 발급된 Coupon 엔티티
+     * @param expireAt 발급 쿠폰 만료일시
+     * @param status 발급 쿠폰 상태
+     * @return 변환된 CouponResponse.Info DTO
+     */
+    public CouponResponse.Info toIssuedInfo(Coupon coupon, LocalDateTime expireAt, CouponIssueStatus status) {
+        CouponResponse.Info info = convertCouponToInfo(coupon);
+        info.setExpireAt(expireAt);
+        info.setStatus(status != null ? status.getValue() : null);
+        return info;
     }
 
 
@@ -0,0 +1,80 @@
+package com.chae.promo.coupon.repository;
+
+import com.chae.promo.coupon.entity.CouponIssueStatus;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class CouponIssueBulkRepository {
+    private static final String INSERT_PREFIX = """
+            INSERT INTO coupon_issue (public_id, coupon_id, user_id, issued_at, expire_at, status)
+            VALUES
+            """;
+    private static final String ROW_PLACEHOLDER = "(?, ?, ?, ?, ?, ?)";
+    // uq_coupon_user(coupon_id, user_id) 중복은 이미 저장된 발급으로 보고 무시 (멱등)
+    private static final String ON_DUPLICATE_KEY = " ON DUPLICATE KEY UPDATE id = id";
+
+    private static final int MAX_ROWS_PER_STATEMENT = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 쿠폰 발급 row를 multi-row INSERT로 저장 (이미 존재하는 row는 무시)
+     *
+     * @param rows 저장할 발급 목록
+     * @return 영향받은 row 수 (MySQL 기준 신규 insert 1, 중복 0)
+     */
+    public int bulkInsertIgnoreDuplicates(List<CouponIssueRow> rows) {
+        int affected = 0;
+        for (int from = 0; from < rows.size(); from += MAX_ROWS_PER_STATEMENT) {
+            List<CouponIssueRow> chunk = rows.subList(from, Math.min(from + MAX_ROWS_PER_STATEMENT, rows.size()));
+            affected += insertChunk(chunk);
+        }
+        return affected;
+    }
+
+    private int insertChunk(List<CouponIssueRow> chunk) {
+        StringBuilder sql = new StringBuilder(INSERT_PREFIX);
+        List<Object> args = new ArrayList<>(chunk.size() * 6);
+
+        for (int i = 0; i < chunk.size(); i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append(ROW_PLACEHOLDER);
+
+            CouponIssueRow row = chunk.get(i);
+            args.add(row.getPublicId());
+            args.add(row.getCouponId());
+            args.add(row.getUserId());
+            args.add(Timestamp.valueOf(row.getIssuedAt()));
+            args.add(row.getExpireAt() != null ? Timestamp.valueOf(row.getExpireAt()) : null);
+            args.add(row.getStatus().name());
+        }
+        sql.append(ON_DUPLICATE_KEY);
+
+        return jdbcTemplate.update(sql.toString(), args.toArray());
+    }
+
+    @Getter
+    @Builder
+    public static class CouponIssueRow {
+        private final String publicId;
+        private final Long couponId;
+        private final String userId;
+        private final LocalDateTime issuedAt;
+        private final LocalDateTime expireAt;
+        private final CouponIssueStatus status;
+    }
+}
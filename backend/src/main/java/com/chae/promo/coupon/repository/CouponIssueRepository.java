@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -16,4 +17,10 @@ public interface CouponIssueRepository extends JpaRepository<CouponIssue, Long>
             "JOIN FETCH ci.coupon c " +
             "WHERE ci.userId = :userId")
     List<CouponIssue> findByUserId(String userId);
+
+    // uq_coupon_user(coupon_id, user_id) 인덱스로 조회
+    @Query("SELECT ci.userId " +
+            "FROM CouponIssue ci " +
+            "WHERE ci.coupon.id = :couponId AND ci.userId IN :userIds")
+    List<String> findUserIdsByCouponIdAndUserIdIn(Long couponId, Collection<String> userIds);
 }
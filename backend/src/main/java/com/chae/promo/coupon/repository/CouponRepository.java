@@ -3,9 +3,11 @@ package com.chae.promo.coupon.repository;
 import com.chae.promo.coupon.entity.Coupon;
 import com.chae.promo.exception.CommonCustomException;
 import com.chae.promo.exception.CommonErrorCode;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -15,6 +17,10 @@ public interface CouponRepository extends JpaRepository<Coupon, Long> {
     Optional<Coupon> findByCode(String code);
     Optional<Coupon> findByPublicId(String publicId);
     List<Coupon> findByPublicIdIn(Set<String> publicIds);
+    // 발급 기간이 끝나지 않았거나 최근에 끝난 쿠폰 (정합성 점검 대상)
+    List<Coupon> findByEndDateIsNullOrEndDateAfter(LocalDateTime since);
+    // 쿠폰 목록 keyset 페이지 조회 (id > lastId, id 오름차순)
+    List<Coupon> findByIdGreaterThanOrderByIdAsc(Long lastId, Limit limit);
 
     default Coupon getCouponByPublicIdOrThrow(String publicId) {
         return findByPublicId(publicId)
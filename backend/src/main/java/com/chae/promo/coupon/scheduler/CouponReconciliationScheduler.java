@@ -0,0 +1,63 @@
+package com.chae.promo.coupon.scheduler;
+
+import com.chae.promo.common.lease.RedisLeaseManager;
+import com.chae.promo.coupon.entity.Coupon;
+import com.chae.promo.coupon.repository.CouponRepository;
+import com.chae.promo.coupon.service.reconcile.CouponReconciliationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CouponReconciliationScheduler {
+
+    private static final String LEASE_NAME = "coupon:reconcile";
+
+    private final CouponReconciliationService couponReconciliationService;
+    private final CouponRepository couponRepository;
+    private final RedisLeaseManager redisLeaseManager;
+    private final Clock clock;
+
+    @Value("${app.coupon.reconcile.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.coupon.reconcile.lock-timeout:PT5M}")
+    private Duration lockTimeout;
+
+    @Value("${app.coupon.reconcile.lookback:P1D}")
+    private Duration lookback;
+
+    @Scheduled(fixedDelayString = "${app.coupon.reconcile.interval:PT1M}") // 1분마다 Redis-DB 정합성 점검
+    public void reconcileCoupons() {
+        if (!enabled) return;
+
+        // 여러 서버 중 한 곳에서만 실행 (lease 만료 후 다른 서버가 잡은 경우 해제하지 않음)
+        if (!redisLeaseManager.tryAcquire(LEASE_NAME, lockTimeout)) {
+            return;
+        }
+
+        try {
+            List<Coupon> coupons = couponRepository.findByEndDateIsNullOrEndDateAfter(
+                    LocalDateTime.now(clock).minus(lookback));
+
+            for (Coupon coupon : coupons) {
+                try {
+                    couponReconciliationService.reconcile(coupon);
+                } catch (Exception e) {
+                    log.error("쿠폰 정합성 점검 중 오류 발생: couponPublicId={}", coupon.getPublicId(), e);
+                }
+            }
+        } finally {
+            redisLeaseManager.release(LEASE_NAME);
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.chae.promo.coupon.service;
+
+import com.chae.promo.coupon.dto.CouponResponse;
+import com.chae.promo.coupon.entity.Coupon;
+import com.chae.promo.coupon.entity.CouponIssueStatus;
+import com.chae.promo.coupon.event.CouponIssuedEvent;
+import com.chae.promo.coupon.mapper.CouponMapper;
+import com.chae.promo.coupon.repository.CouponIssueBulkRepository;
+import com.chae.promo.coupon.repository.CouponIssueBulkRepository.CouponIssueRow;
+import com.chae.promo.coupon.repository.CouponRepository;
+import com.chae.promo.coupon.service.redis.UserCouponSummaryRedisService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// 역할: 쿠폰 발급 이벤트 배치 저장 (배치 리스너 전용)
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class CouponIssueBatchHandlerService {
+
+    private final CouponRepository couponRepository;
+    private final CouponIssueBulkRepository couponIssueBulkRepository;
+    private final UserCouponSummaryRedisService userCouponSummaryRedisService;
+    private final CouponMapper couponMapper;
+
+    /**
+     * 쿠폰 발급 이벤트 목록을 한 번에 저장
+     * - 배치 안의 쿠폰은 한 번만 조회
+     * - multi-row INSERT 1회로 저장하고, 실패하면 레코드 단위로 다시 저장해 실패 레코드만 골라냄
+     * - uq_coupon_user 중복은 이미 저장된 것으로 보고 성공 처리 (재전달 멱등)
+     *
+     * @param events 쿠폰 발급 이벤트 목록
+     * @return 저장에 실패한 이벤트 목록 (DLT 대상)
+     */
+    public List<CouponIssuedEvent> saveCouponIssuesFromEvents(List<CouponIssuedEvent> events) {
+        if (events.isEmpty()) {
+            return List.of();
+        }
+
+        Map<String, Coupon> couponMap = findCouponMap(events);
+
+        List<CouponIssuedEvent> failed = new ArrayList<>();
+        List<CouponIssuedEvent> valid = new ArrayList<>(events.size());
+        List<CouponIssueRow> rows = new ArrayList<>(events.size());
+
+        for (CouponIssuedEvent event : events) {
+            Coupon coupon = couponMap.get(event.getCouponPublicId());
+            if (coupon == null) {
+                log.warn("쿠폰 조회 실패 couponPublicId: {}, couponIssueId: {}", event.getCouponPublicId(), event.getCouponIssueId());
+                failed.add(event);
+                continue;
+            }
+            valid.add(event);
+            rows.add(toRow(event, coupon));
+        }
+
+        if (rows.isEmpty()) {
+            return failed;
+        }
+
+        try {
+            int affected = couponIssueBulkRepository.bulkInsertIgnoreDuplicates(rows);
+            log.info("쿠폰 발급 배치 저장 완료. requested: {}, affected: {}", rows.size(), affected);
+        } catch (Exception e) {
+            log.warn("쿠폰 발급 배치 저장 실패 - 레코드 단위로 재시도. size: {}, cause: {}", rows.size(), e.getMessage());
+            failed.addAll(saveOneByOne(valid, rows));
+        }
+
+        updateUserCouponSummaries(valid, failed, couponMap);
+        return failed;
+    }
+
+    // 저장된 발급 건을 내 쿠폰 조회 read model에 반영 (pipeline 1회)
+    private void updateUserCouponSummaries(List<CouponIssuedEvent> saved,
+                                           List<CouponIssuedEvent> failed,
+                                           Map<String, Coupon> couponMap) {
+        Set<CouponIssuedEvent> failedSet = Collections.newSetFromMap(new IdentityHashMap<>());
+        failedSet.addAll(failed);
+
+        Map<String, List<CouponResponse.Info>> infosByUserId = new HashMap<>();
+        for (CouponIssuedEvent event : saved) {
+            if (failedSet.contains(event)) {
+                continue;
+            }
+            infosByUserId.computeIfAbsent(event.getUserId(), userId -> new ArrayList<>())
+                    .add(couponMapper.toIssuedInfo(couponMap.get(event.getCouponPublicId()),
+                            event.getExpiredAt(), CouponIssueStatus.ISSUED));
+        }
+
+        try {
+            userCouponSummaryRedisService.putAllIfPresent(infosByUserId);
+        } catch (Exception e) {
+            // DB 저장은 완료되었으므로 재처리하지 않음 (Hash TTL 만료 후 DB에서 다시 채움)
+            log.warn("사용자 쿠폰 캐시 반영 실패. users: {}, cause: {}", infosByUserId.size(), e.getMessage());
+        }
+    }
+
+    private List<CouponIssuedEvent> saveOneByOne(List<CouponIssuedEvent> events, List<CouponIssueRow> rows) {
+        List<CouponIssuedEvent> failed = new ArrayList<>();
+        for (int i = 0; i < rows.size(); i++) {
+            CouponIssuedEvent event = events.get(i);
+            try {
+                couponIssueBulkRepository.bulkInsertIgnoreDuplicates(List.of(rows.get(i)));
+            } catch (Exception e) {
+                log.error("쿠폰 발급 DB 저장 실패. userId: {}, couponPublicId: {}, couponIssueId: {}",
+                        event.getUserId(), event.getCouponPublicId(), event.getCouponIssueId(), e);
+                failed.add(event);
+            }
+        }
+        return failed;
+    }
+
+    private Map<String, Coupon> findCouponMap(List<CouponIssuedEvent> events) {
+        Set<String> publicIds = events.stream()
+                .map(CouponIssuedEvent::getCouponPublicId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+
+        return couponRepository.findByPublicIdIn(publicIds).stream()
+                .collect(Collectors.toMap(Coupon::getPublicId, Function.identity()));
+    }
+
+    private CouponIssueRow toRow(CouponIssuedEvent event, Coupon coupon) {
+        return CouponIssueRow.builder()
+                .publicId(event.getCouponIssueId())
+                .couponId(coupon.getId())
+                .userId(event.getUserId())
+                .issuedAt(event.getIssuedAt() != null ? event.getIssuedAt() : LocalDateTime.now())
+                .expireAt(event.getExpiredAt())
+                .status(CouponIssueStatus.ISSUED)
+                .build();
+    }
+}
@@ -1,8 +1,11 @@
 package com.chae.promo.coupon.service;
 
 import com.chae.promo.coupon.entity.Coupon;
+import com.chae.promo.coupon.entity.CouponIssueStatus;
 import com.chae.promo.coupon.event.CouponIssuedEvent;
+import com.chae.promo.coupon.mapper.CouponMapper;
 import com.chae.promo.coupon.repository.CouponRepository;
+import com.chae.promo.coupon.service.redis.UserCouponSummaryRedisService;
 import com.chae.promo.exception.CommonCustomException;
 import com.chae.promo.exception.CommonErrorCode;
 import jakarta.transaction.Transactional;
@@ -20,6 +23,8 @@ public class CouponIssueHandlerService {
     private final CouponRepository couponRepository;
 
     private final CouponIssuePersistenceService couponIssuePersistenceService;
+    private final UserCouponSummaryRedisService userCouponSummaryRedisService;
+    private final CouponMapper couponMapper;
 
     @Transactional
     public void saveCouponIssueFromEvent(CouponIssuedEvent event){
@@ -39,6 +44,9 @@ public class CouponIssueHandlerService {
             log.info("DB 저장 성공. couponPublicId: {}, couponCode: {}, userId: {}, couponIssueId: {}",
                     coupon.getPublicId(), coupon.getCode(), userId, event.getCouponIssueId());
 
+            // 내 쿠폰 조회 read model 반영 (발급 경로에서 반영되지 않은 경우 대비)
+            updateUserCouponSummary(coupon, event);
+
         } catch (Exception e) {
             String couponCode = (coupon != null) ? coupon.getCode() : "N/A";
 
@@ -56,6 +64,17 @@ public class CouponIssueHandlerService {
         }
     }
 
+    private void updateUserCouponSummary(Coupon coupon, CouponIssuedEvent event) {
+        try {
+            userCouponSummaryRedisService.putIfPresent(event.getUserId(),
+                    couponMapper.toIssuedInfo(coupon, event.getExpiredAt(), CouponIssueStatus.ISSUED));
+        } catch (Exception e) {
+            // DB 저장은 완료되었으므로 재처리하지 않음 (Hash TTL 만료 후 DB에서 다시 채움)
+            log.warn("사용자 쿠폰 캐시 반영 실패. userId: {}, couponPublicId: {}, cause: {}",
+                    event.getUserId(), coupon.getPublicId(), e.getMessage());
+        }
+    }
+
     private Coupon findCouponByPublicId(String publicId) {
         return couponRepository.findByPublicId(publicId)
                 .orElseThrow(() -> {
@@ -8,6 +8,6 @@ public interface CouponService {
 
     CouponResponse.Issue issueCoupon(String userId, String couponId);
 
-    List<CouponResponse.Info> getAll();
+    byte[] getAllAsJson(String cursor, int size);
     List<CouponResponse.Info> getMyCoupons(String userId);
 }
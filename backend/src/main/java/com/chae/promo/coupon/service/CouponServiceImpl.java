@@ -1,5 +1,8 @@
 package com.chae.promo.coupon.service;
 
+import com.chae.promo.common.soldout.SoldOutRegistry;
+import com.chae.promo.common.soldout.SoldOutType;
+import com.chae.promo.common.util.CursorUtil;
 import com.chae.promo.common.util.UuidUtil;
 import com.chae.promo.coupon.dto.CouponRedisRequest;
 import com.chae.promo.coupon.dto.CouponResponse;
@@ -11,19 +14,31 @@ import com.chae.promo.coupon.event.CouponIssuedEvent;
 import com.chae.promo.coupon.mapper.CouponMapper;
 import com.chae.promo.coupon.repository.CouponIssueRepository;
 import com.chae.promo.coupon.repository.CouponRepository;
+import com.chae.promo.coupon.service.batch.CouponIssueBatchEngine;
+import com.chae.promo.coupon.service.batch.CouponIssueMode;
+import com.chae.promo.coupon.service.batch.CouponIssueModeResolver;
+import com.chae.promo.coupon.service.cache.CouponListCache;
+import com.chae.promo.coupon.service.cache.CouponMetadataCache;
 import com.chae.promo.coupon.service.redis.CouponRedisKeyManager;
 import com.chae.promo.coupon.service.redis.CouponRedisService;
+import com.chae.promo.coupon.service.redis.CouponTokenPoolService;
+import com.chae.promo.coupon.service.redis.UserCouponSummaryRedisService;
 import com.chae.promo.coupon.util.CouponExpirationCalculator;
 import com.chae.promo.exception.CommonCustomException;
+import com.chae.promo.exception.CommonErrorCode;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataAccessException;
-import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 
+import java.time.Clock;
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Set;
+import java.util.Optional;
 
 @Slf4j
 @Service
@@ -32,63 +47,76 @@ public class CouponServiceImpl implements CouponService {
     private final CouponRepository couponRepository;
     private final CouponIssueRepository couponIssueRepository;
 
+    private final CouponMetadataCache couponMetadataCache;
+    private final CouponListCache couponListCache;
     private final CouponRedisService couponRedisService;
+    private final CouponIssueBatchEngine couponIssueBatchEngine;
+    private final CouponIssueModeResolver couponIssueModeResolver;
+    private final CouponTokenPoolService couponTokenPoolService;
+    private final UserCouponSummaryRedisService userCouponSummaryRedisService;
     private final CouponExpirationCalculator couponExpirationCalculator;
     private final CouponRedisKeyManager couponRedisKeyManager;
     private final CouponEventPublisher couponEventPublisher;
     private final CouponMapper couponMapper;
-
-    private final StringRedisTemplate redisTemplate;
+    private final SoldOutRegistry soldOutRegistry;
+    private final ObjectMapper objectMapper;
+    private final Clock clock;
 
     @Override
     public CouponResponse.Issue issueCoupon(String userId, String couponId) {
 
+        // 품절된 쿠폰은 DB/Redis 조회 없이 즉시 거절
+        if (soldOutRegistry.isSoldOut(SoldOutType.COUPON, couponId)) {
+            throw new CommonCustomException(CommonErrorCode.COUPON_SOLD_OUT);
+        }
+
         // 쿠폰 id로 쿠폰 조회
         Coupon coupon = getCouponWithLogging(couponId);
         String couponCode = coupon.getCode();
 
         // Redis Key 생성
         String couponStockKey = couponRedisKeyManager.getCouponStockKey(couponId, couponCode);
-        String userCouponSetKey = couponRedisKeyManager.getUserCouponSetKey(userId);
         String couponTtlKey = couponRedisKeyManager.getCouponTtlKey(couponId, couponCode);
         String couponIssuedUserSetKey = couponRedisKeyManager.getCouponIssuedUserSetKey(couponId, couponCode);
+        String couponIssueIdKey = couponRedisKeyManager.getCouponIssueIdKey(couponId, couponCode);
 
         LocalDateTime calculatedExpireAt;
         long ttlSeconds;
-        LocalDateTime now = LocalDateTime.now(); //기준시점
+        Instant issuedAt = clock.instant();
+        LocalDateTime now = LocalDateTime.ofInstant(issuedAt, clock.getZone()); //기준시점
         try {
-            calculatedExpireAt = getCouponExpirationDateTime(coupon);
+            calculatedExpireAt = couponExpirationCalculator.calculateExpiration(coupon, now);
             ttlSeconds = couponExpirationCalculator.calculateTtlSeconds(calculatedExpireAt, now);
         } catch (CommonCustomException e) {
             log.warn("쿠폰 만료일이 지났습니다. 발급 중단. couponPublicId: {}, couponCode: {}", couponId, couponCode);
             throw e;
         }
 
-        // Redis에 재고가 없으면 DB에서 불러와 캐시
-        initializeCouponCacheIfNeeded(coupon, couponStockKey, couponTtlKey, ttlSeconds);
-
         CouponRedisRequest couponRedisRequest = CouponRedisRequest.builder()
                 .coupon(coupon)
                 .couponStockKey(couponStockKey)
-                .userCouponSetKey(userCouponSetKey)
                 .couponTtlKey(couponTtlKey)
                 .userId(userId)
                 .couponIssueStatus(CouponIssueStatus.ISSUED)
                 .ttlSeconds(ttlSeconds)
                 .couponIssuedUserSetKey(couponIssuedUserSetKey)
+                .couponIssueIdKey(couponIssueIdKey)
+                .couponIssueId(UuidUtil.generate()) // 토큰 풀 방식은 꺼낸 토큰으로 대체
+                .issuedAtMillis(issuedAt.toEpochMilli()) // 정합성 점검 재발행 시 원래 발급 시각으로 사용
                 .build();
 
+        String preAssignedCouponIssueId;
         try {
-            // Redis Lua 스크립트를 사용하여 원자적으로 쿠폰 확인, 재고 차감 및 발급 상태 저장
-            couponRedisService.issueCouponAtomically(couponRedisRequest);
+            // Redis Lua 스크립트를 사용하여 원자적으로 캐시 초기화, 쿠폰 확인, 재고 차감 및 발급 상태 저장
+            preAssignedCouponIssueId = issueCouponInRedis(couponRedisRequest);
         } catch (DataAccessException e) {
             //Redis 시스템 장애 처리 (연결 실패, 타입 불일치 등)
             log.error("Redis 작업 중 시스템 예외 발생. userId: {}, couponCode: {}, couponPublicId: {}", userId, couponCode, couponId);
             throw new RuntimeException("Redis 장애로 쿠폰 발급 불가");
         }
 
-        //쿠폰 publicId 생성 (uuid)
-        String couponIssueId = UuidUtil.generate();
+        //쿠폰 publicId (토큰 풀 방식은 미리 생성된 토큰 사용, 그 외 Redis에 함께 기록한 발급 ID 사용)
+        String couponIssueId = preAssignedCouponIssueId != null ? preAssignedCouponIssueId : couponRedisRequest.getCouponIssueId();
 
         couponEventPublisher.publishCouponIssued(
                 CouponIssuedEvent.builder()
@@ -102,6 +130,14 @@ public class CouponServiceImpl implements CouponService {
                         .build()
         );
 
+        // 내 쿠폰 조회 read model 반영 (Consumer 저장 시에도 반영되므로 실패해도 발급은 유지)
+        try {
+            userCouponSummaryRedisService.putIfPresent(userId,
+                    couponMapper.toIssuedInfo(coupon, calculatedExpireAt, CouponIssueStatus.ISSUED));
+        } catch (DataAccessException e) {
+            log.warn("사용자 쿠폰 캐시 반영 실패. userId: {}, couponPublicId: {}, cause: {}", userId, couponId, e.getMessage());
+        }
+
         log.info("쿠폰 발급 완료. userId: {}, couponCode: {}, publicId: {}, couponIssueId: {}", userId, couponCode, couponId, couponIssueId);
 
         return CouponResponse.Issue.builder()
@@ -116,15 +152,10 @@ public class CouponServiceImpl implements CouponService {
 
     }
 
-    private LocalDateTime getCouponExpirationDateTime(Coupon coupon) {
-        LocalDateTime now = LocalDateTime.now();
-        return couponExpirationCalculator.calculateExpiration(coupon, now);
-    }
-
-    // 쿠폰 publicId로 쿠폰 조회
+    // 쿠폰 publicId로 쿠폰 조회 (로컬 캐시 우선)
     private Coupon getCouponWithLogging(String publicId) {
         try {
-            return couponRepository.getCouponByPublicIdOrThrow(publicId);
+            return couponMetadataCache.getCouponByPublicIdOrThrow(publicId);
         } catch (CommonCustomException e) {
             log.warn("쿠폰 조회 실패 publicId: {}", publicId);
             throw e;
@@ -132,78 +163,155 @@ public class CouponServiceImpl implements CouponService {
     }
 
     /**
-     * 쿠폰 발급에 필요한 재고와 TTL 정보를 Redis에 설정
+     * Redis 쿠폰 발급
+     * - 일반적인 경우 재고/TTL 초기화를 포함한 스크립트 1회 실행으로 처리
+     * - 재고 키가 없는 경우에만 DB에서 남은 재고를 계산해 초기 재고와 함께 한 번 더 실행
+     *
+     * @return 토큰 풀 방식으로 발급된 경우 미리 생성된 couponIssueId, 그 외 null
      */
-    private void initializeCouponCacheIfNeeded(Coupon coupon, String couponStockKey, String couponTtlKey, long ttlSeconds) {
-        //재고 키 확인 및 생성
-        if (Boolean.FALSE.equals(couponRedisService.hasKey(couponStockKey))) {
-            log.info("Redis에 쿠폰 재고 {}가 없습니다. DB에서 로드하여 캐시합니다.", couponStockKey);
+    private String issueCouponInRedis(CouponRedisRequest couponRedisRequest) {
+        try {
+            if (couponIssueModeResolver.resolve(couponRedisRequest.getCoupon().getPublicId()) == CouponIssueMode.TOKEN_POOL) {
+                return issueCouponFromTokenPool(couponRedisRequest);
+            }
+            issueCouponInRedisWithWarmUp(couponRedisRequest);
+            return null;
+        } catch (CommonCustomException e) {
+            if (e.getErrorCode() == CommonErrorCode.COUPON_SOLD_OUT) {
+                soldOutRegistry.markSoldOut(SoldOutType.COUPON, couponRedisRequest.getCoupon().getPublicId());
+            }
+            throw e;
+        }
+    }
 
-            initializeCouponStockFromDB(coupon, couponStockKey);
+    private void issueCouponInRedisWithWarmUp(CouponRedisRequest couponRedisRequest) {
+        if (tryIssueCouponInRedis(couponRedisRequest)) {
+            return;
         }
 
-        //ttl 키 확인 및 생성
-        if (Boolean.FALSE.equals(couponRedisService.hasKey(couponTtlKey))) {
-            log.info("Redis에 쿠폰 TTL 키 [{}]가 없습니다. 만료 시간을 설정합니다.", couponTtlKey);
+        Coupon coupon = couponRedisRequest.getCoupon();
+        log.info("Redis에 쿠폰 재고 {}가 없습니다. DB에서 로드하여 캐시합니다.", couponRedisRequest.getCouponStockKey());
+        couponRedisRequest.setInitialStock(calculateRemainingStockFromDB(coupon));
 
-            // 남은 시간이 있는 경우에만 TTL 키 생성
-            if (ttlSeconds > 0) {
-                couponRedisService.setCouponTtlKey(couponTtlKey, ttlSeconds);
-            } else {
-                log.warn("쿠폰 [{}]의 유효 기간이 이미 만료되었습니다. TTL 키를 생성하지 않습니다.", coupon.getCode());
-            }
+        if (!couponRedisService.issueCouponWithWarmUp(couponRedisRequest)) {
+            log.error("Redis 재고 초기화 실패. couponCode: {}, stockKey: {}", coupon.getCode(), couponRedisRequest.getCouponStockKey());
+            throw new CommonCustomException(CommonErrorCode.COUPON_ISSUE_SAVE_FAIL);
         }
     }
 
+    /**
+     * 토큰 풀 방식 발급
+     * - 토큰 풀이 없으면 DB 남은 재고만큼 토큰을 생성한 뒤 한 번 더 시도
+     * - 다른 서버가 생성 중이면 COUPON_ISSUE_NOT_READY(재시도 가능)로 즉시 응답
+     */
+    private String issueCouponFromTokenPool(CouponRedisRequest couponRedisRequest) {
+        String token = couponTokenPoolService.issue(couponRedisRequest);
+        if (token != null) {
+            return token;
+        }
 
-    private void initializeCouponStockFromDB(Coupon coupon, String couponStockKey) {
+        Coupon coupon = couponRedisRequest.getCoupon();
+        log.info("Redis에 쿠폰 토큰 풀이 없습니다. DB에서 로드하여 생성합니다. couponCode: {}", coupon.getCode());
+        couponTokenPoolService.initializeIfAbsent(couponRedisRequest, () -> calculateRemainingStockFromDB(coupon));
+
+        token = couponTokenPoolService.issue(couponRedisRequest);
+        if (token == null) {
+            log.error("Redis 토큰 풀 초기화 실패. couponCode: {}", coupon.getCode());
+            throw new CommonCustomException(CommonErrorCode.COUPON_ISSUE_SAVE_FAIL);
+        }
+        return token;
+    }
+
+    /**
+     * 쿠폰별 발급 방식에 따라 Redis 발급 1회 시도
+     * - BATCH : 같은 쿠폰의 동시 요청과 묶어 배치 스크립트로 처리
+     * - SINGLE : 요청 단건으로 스크립트 실행
+     * 재고 초기화 재시도는 드물게 발생하므로 항상 단건으로 처리
+     */
+    private boolean tryIssueCouponInRedis(CouponRedisRequest couponRedisRequest) {
+        String couponPublicId = couponRedisRequest.getCoupon().getPublicId();
+        if (couponIssueModeResolver.resolve(couponPublicId) == CouponIssueMode.BATCH) {
+            return couponIssueBatchEngine.issue(couponRedisRequest);
+        }
+        return couponRedisService.issueCouponWithWarmUp(couponRedisRequest);
+    }
+
+    private long calculateRemainingStockFromDB(Coupon coupon) {
         // 실제 남은 재고 = 전체 수량 - 이미 발급된 수량
         long issuedCount = couponIssueRepository.countByCouponIdAndStatus(
                 coupon.getId(), CouponIssueStatus.ISSUED);
 
         long remainingStock = Math.max(0, coupon.getTotalQuantity() - issuedCount);
 
-        couponRedisService.setCouponStock(couponStockKey, remainingStock);
-        log.info("Redis 재고 초기화 완료. couponCode: {}, 전체={}, 발급됨={}, 남은재고={}",
+        log.info("Redis 재고 초기화 값 계산 완료. couponCode: {}, 전체={}, 발급됨={}, 남은재고={}",
                 coupon.getCode(), coupon.getTotalQuantity(), issuedCount, remainingStock);
+        return remainingStock;
     }
 
     @Override
-    public List<CouponResponse.Info> getAll() {
-        List<Coupon> coupons = couponRepository.findAll();
+    public byte[] getAllAsJson(String cursor, int size) {
+        long lastId = CursorUtil.decode(cursor);
+
+        // 캐시 히트 시 DB 조회/직렬화 없이 렌더링된 페이지를 그대로 응답
+        return couponListCache.getOrRender(lastId, size, () -> {
+            try {
+                return objectMapper.writeValueAsBytes(findCouponPage(lastId, size));
+            } catch (JsonProcessingException e) {
+                log.error("쿠폰 목록 직렬화 실패. lastId: {}, size: {}", lastId, size, e);
+                throw new CommonCustomException(CommonErrorCode.INTERNAL_SERVER_ERROR);
+            }
+        });
+    }
+
+    // id 기준 keyset 페이지 조회 (다음 페이지 존재 여부 확인을 위해 size + 1건 조회)
+    private CouponResponse.Page findCouponPage(long lastId, int size) {
+        List<Coupon> coupons = couponRepository.findByIdGreaterThanOrderByIdAsc(lastId, Limit.of(size + 1));
+
+        boolean hasNext = coupons.size() > size;
+        List<Coupon> page = hasNext ? coupons.subList(0, size) : coupons;
 
-        return couponMapper.toInfoListFromCoupons(coupons);
+        return CouponResponse.Page.builder()
+                .coupons(couponMapper.toInfoListFromCoupons(page))
+                .nextCursor(hasNext ? CursorUtil.encode(page.get(page.size() - 1).getId()) : null)
+                .hasNext(hasNext)
+                .build();
     }
 
     @Override
     public List<CouponResponse.Info> getMyCoupons(String userId) {
-        String userCouponSetKey = couponRedisKeyManager.getUserCouponSetKey(userId);
-
-        Set<String> couponIds = redisTemplate.opsForSet().members(userCouponSetKey);
-
-        // Redis에 쿠폰 ID 목록이 있는 경우
-        if (couponIds != null && !couponIds.isEmpty()) {
+        // Redis read model(Hash) HGETALL 1회로 조회
+        Optional<List<CouponResponse.Info>> cached = userCouponSummaryRedisService.find(userId);
+        if (cached.isPresent()) {
             log.info("Cache Hit - 유저 쿠폰 정보 redis 조회 userId: {}", userId);
-
-            List<Coupon> coupons = couponRepository.findByPublicIdIn(couponIds);
-            return couponMapper.toInfoListFromCoupons(coupons);
+            return cached.get();
         }
 
-        //Redis에 정보가 없는 경우 DB에서 조회
+        //Redis에 정보가 없는 경우 DB에서 조회 (조회 전에 재구성을 시작해 조회 이후 발급분도 캐시에 반영되게 함)
         log.info("Cache Miss - 유저 쿠폰 정보 userId: {}. db 조회 시작 ", userId);
+        Optional<String> rebuildToken = beginSummaryRebuild(userId);
+
         List<CouponIssue> couponIssuesFromDb = couponIssueRepository.findByUserId(userId);
+        List<CouponResponse.Info> infos = couponMapper.toInfoListFromCouponIssues(couponIssuesFromDb);
+
+        if (rebuildToken.isPresent()) {
+            try {
+                if (userCouponSummaryRedisService.replaceAll(userId, rebuildToken.get(), infos)) {
+                    log.info("Cache - redis에 사용자 쿠폰 캐시 저장 userId: {}", userId);
+                }
+            } catch (DataAccessException e) {
+                log.warn("사용자 쿠폰 캐시 저장 실패. userId: {}, cause: {}", userId, e.getMessage());
+            }
+        }
 
-        if (!couponIssuesFromDb.isEmpty()) {
-            // CouponIssue 리스트에서 couponId만 추출
-            List<String> idsToCache = couponIssuesFromDb.stream()
-                    .map(issue -> issue.getCoupon().getPublicId())
-                    .toList();
+        return infos;
+    }
 
-            // Redis Set에 추가
-            redisTemplate.opsForSet().add(userCouponSetKey, idsToCache.toArray(new String[0]));
-            log.info("Cache - redis에 사용자 쿠폰 캐시 저장 userId: {}", userId);
+    private Optional<String> beginSummaryRebuild(String userId) {
+        try {
+            return userCouponSummaryRedisService.beginRebuild(userId);
+        } catch (DataAccessException e) {
+            log.warn("사용자 쿠폰 캐시 재구성 시작 실패. userId: {}, cause: {}", userId, e.getMessage());
+            return Optional.empty();
         }
-
-        return couponMapper.toInfoListFromCouponIssues(couponIssuesFromDb);
     }
 }
@@ -0,0 +1,199 @@
+package com.chae.promo.coupon.service.batch;
+
+import com.chae.promo.coupon.dto.CouponRedisRequest;
+import com.chae.promo.coupon.service.redis.CouponRedisService;
+import com.chae.promo.exception.CommonCustomException;
+import com.chae.promo.exception.CommonErrorCode;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 쿠폰 배치 발급 엔진
+ * - 같은 쿠폰에 대한 동시 발급 요청을 짧은 시간(window) 동안 모아 배치 Lua 스크립트 1회로 처리
+ * - window가 지나거나 max-size만큼 모이면 즉시 실행하고, 요청별 결과 코드로 각 호출자의 future를 완료
+ * - 호출 스레드는 결과가 나올 때까지 대기 (HTTP 응답 계약은 단건 발급과 동일)
+ */
+@Slf4j
+@Component
+public class CouponIssueBatchEngine {
+
+    private final CouponRedisService couponRedisService;
+
+    private final long windowNanos;
+    private final int maxBatchSize;
+    private final Duration awaitTimeout;
+
+    // key: couponPublicId, value: 아직 실행되지 않은 배치
+    private final ConcurrentHashMap<String, PendingBatch> pendingBatches = new ConcurrentHashMap<>();
+
+    private final ScheduledExecutorService windowScheduler;
+    private final ExecutorService batchExecutor;
+
+    private final DistributionSummary batchSizeSummary;
+
+    public CouponIssueBatchEngine(CouponRedisService couponRedisService,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${app.coupon.issue.batch.window:PT0.002S}") Duration window,
+                                  @Value("${app.coupon.issue.batch.max-size:100}") int maxBatchSize,
+                                  @Value("${app.coupon.issue.batch.worker-threads:4}") int workerThreads,
+                                  @Value("${app.coupon.issue.batch.await-timeout:PT3S}") Duration awaitTimeout) {
+        this.couponRedisService = couponRedisService;
+        this.windowNanos = window.toNanos();
+        this.maxBatchSize = maxBatchSize;
+        this.awaitTimeout = awaitTimeout;
+
+        this.windowScheduler = Executors.newSingleThreadScheduledExecutor(namedThreadFactory("coupon-batch-window"));
+        this.batchExecutor = Executors.newFixedThreadPool(workerThreads, namedThreadFactory("coupon-batch-worker"));
+
+        this.batchSizeSummary = DistributionSummary.builder("coupon.issue.batch.size")
+                .description("배치 스크립트 1회 실행당 처리한 발급 요청 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 배치에 발급 요청을 추가하고 결과를 기다림
+     *
+     * @param couponRedisRequest 발급 요청
+     * @return 발급 처리 여부 (false: 재고 미초기화)
+     * @throws CommonCustomException 재고 소진, 중복 발급, 만료 등 발급 실패 시
+     * @throws org.springframework.dao.DataAccessException Redis 장애 시
+     */
+    public boolean issue(CouponRedisRequest couponRedisRequest) {
+        CompletableFuture<Boolean> future = submit(couponRedisRequest);
+        try {
+            return future.get(awaitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("쿠폰 배치 발급 실패", e.getCause());
+        } catch (TimeoutException e) {
+            log.error("쿠폰 배치 발급 응답 대기 시간 초과. userId: {}, couponPublicId: {}",
+                    couponRedisRequest.getUserId(), couponRedisRequest.getCoupon().getPublicId());
+            throw new CommonCustomException(CommonErrorCode.COUPON_ISSUE_SAVE_FAIL);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CommonCustomException(CommonErrorCode.COUPON_ISSUE_SAVE_FAIL);
+        }
+    }
+
+    /**
+     * 배치에 발급 요청 추가
+     * - 쿠폰의 첫 요청이면 window 이후 실행을 예약하고, max-size에 도달하면 즉시 실행
+     */
+    CompletableFuture<Boolean> submit(CouponRedisRequest couponRedisRequest) {
+        String couponPublicId = couponRedisRequest.getCoupon().getPublicId();
+        PendingRequest pendingRequest = new PendingRequest(couponRedisRequest, new CompletableFuture<>());
+
+        while (true) {
+            PendingBatch batch = pendingBatches.computeIfAbsent(couponPublicId, id -> {
+                PendingBatch created = new PendingBatch();
+                windowScheduler.schedule(() -> flush(id, created), windowNanos, TimeUnit.NANOSECONDS);
+                return created;
+            });
+
+            int size = batch.add(pendingRequest, maxBatchSize);
+            if (size < 0) {
+                // 가득 찼거나 닫힌 배치 - 실행을 보장한 뒤 새 배치로 다시 시도
+                flush(couponPublicId, batch);
+                continue;
+            }
+            if (size >= maxBatchSize) {
+                flush(couponPublicId, batch);
+            }
+            return pendingRequest.future();
+        }
+    }
+
+    private void flush(String couponPublicId, PendingBatch batch) {
+        if (!pendingBatches.remove(couponPublicId, batch)) {
+            return; // 이미 실행됨
+        }
+
+        List<PendingRequest> requests = batch.close();
+        if (requests.isEmpty()) {
+            return;
+        }
+
+        try {
+            batchExecutor.execute(() -> execute(requests));
+        } catch (RejectedExecutionException e) {
+            requests.forEach(request -> request.future().completeExceptionally(
+                    new CommonCustomException(CommonErrorCode.COUPON_ISSUE_SAVE_FAIL)));
+        }
+    }
+
+    private void execute(List<PendingRequest> requests) {
+        batchSizeSummary.record(requests.size());
+
+        List<Long> results;
+        try {
+            results = couponRedisService.issueCouponBatch(
+                    requests.stream().map(PendingRequest::request).toList());
+        } catch (RuntimeException e) {
+            log.error("쿠폰 배치 스크립트 실행 실패. requestCount: {}", requests.size(), e);
+            requests.forEach(request -> request.future().completeExceptionally(e));
+            return;
+        }
+
+        for (int i = 0; i < requests.size(); i++) {
+            PendingRequest pendingRequest = requests.get(i);
+            try {
+                boolean issued = couponRedisService.applyIssueResult(pendingRequest.request(), results.get(i));
+                pendingRequest.future().complete(issued);
+            } catch (RuntimeException e) {
+                pendingRequest.future().completeExceptionally(e);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        windowScheduler.shutdown();
+        batchExecutor.shutdown();
+    }
+
+    private static ThreadFactory namedThreadFactory(String prefix) {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + "-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private record PendingRequest(CouponRedisRequest request, CompletableFuture<Boolean> future) {
+    }
+
+    /**
+     * 한 쿠폰에 대해 모이고 있는 요청 묶음
+     * close 이후에는 요청을 받지 않음 (add는 -1 반환)
+     */
+    private static final class PendingBatch {
+        private final List<PendingRequest> requests = new ArrayList<>();
+        private boolean closed;
+
+        synchronized int add(PendingRequest request, int maxBatchSize) {
+            if (closed || requests.size() >= maxBatchSize) {
+                return -1;
+            }
+            requests.add(request);
+            return requests.size();
+        }
+
+        synchronized List<PendingRequest> close() {
+            closed = true;
+            return requests;
+        }
+    }
+}
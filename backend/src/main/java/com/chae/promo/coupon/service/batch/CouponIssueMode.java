@@ -0,0 +1,13 @@
+package com.chae.promo.coupon.service.batch;
+
+/**
+ * 쿠폰 Redis 발급 방식
+ * - SINGLE : 요청마다 Lua 스크립트 1회 실행 (기본)
+ * - BATCH : 같은 쿠폰에 대한 동시 요청을 모아 배치 스크립트 1회 실행
+ * - TOKEN_POOL : 미리 생성한 발급 토큰(couponIssueId)을 하나씩 꺼내 발급 (재고 카운터 미사용)
+ */
+public enum CouponIssueMode {
+    SINGLE,
+    BATCH,
+    TOKEN_POOL
+}
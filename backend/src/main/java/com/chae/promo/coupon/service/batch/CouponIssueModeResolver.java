@@ -0,0 +1,42 @@
+package com.chae.promo.coupon.service.batch;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+
+/**
+ * 쿠폰별 Redis 발급 방식 결정
+ * - app.coupon.issue.batch-coupon-ids 에 포함된 쿠폰은 BATCH
+ * - app.coupon.issue.token-pool-coupon-ids 에 포함된 쿠폰은 TOKEN_POOL
+ * - 나머지는 default-mode 적용
+ */
+@Component
+public class CouponIssueModeResolver {
+
+    private final CouponIssueMode defaultMode;
+    private final Set<String> batchCouponIds;
+    private final Set<String> tokenPoolCouponIds;
+
+    public CouponIssueModeResolver(@Value("${app.coupon.issue.default-mode:SINGLE}") CouponIssueMode defaultMode,
+                                   @Value("${app.coupon.issue.batch-coupon-ids:}") Set<String> batchCouponIds,
+                                   @Value("${app.coupon.issue.token-pool-coupon-ids:}") Set<String> tokenPoolCouponIds) {
+        this.defaultMode = defaultMode;
+        this.batchCouponIds = Set.copyOf(batchCouponIds);
+        this.tokenPoolCouponIds = Set.copyOf(tokenPoolCouponIds);
+    }
+
+    /**
+     * @param couponPublicId 쿠폰 publicId
+     * @return 해당 쿠폰의 발급 방식
+     */
+    public CouponIssueMode resolve(String couponPublicId) {
+        if (batchCouponIds.contains(couponPublicId)) {
+            return CouponIssueMode.BATCH;
+        }
+        if (tokenPoolCouponIds.contains(couponPublicId)) {
+            return CouponIssueMode.TOKEN_POOL;
+        }
+        return defaultMode;
+    }
+}
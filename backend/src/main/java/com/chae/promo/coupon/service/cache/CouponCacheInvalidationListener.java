@@ -0,0 +1,26 @@
+package com.chae.promo.coupon.service.cache;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+
+// 역할: 쿠폰 캐시 무효화 메시지를 수신하여 현재 서버의 로컬 캐시를 정리
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CouponCacheInvalidationListener implements MessageListener {
+
+    private final CouponMetadataCache couponMetadataCache;
+    private final CouponListCache couponListCache;
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String couponPublicId = message.toString();
+        log.debug("쿠폰 캐시 무효화 메시지 수신: {}", couponPublicId);
+
+        couponMetadataCache.evict(couponPublicId);
+        couponListCache.evictAll();
+    }
+}
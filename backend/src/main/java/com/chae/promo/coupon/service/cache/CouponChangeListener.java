@@ -0,0 +1,49 @@
+package com.chae.promo.coupon.service.cache;
+
+import com.chae.promo.coupon.entity.Coupon;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Coupon 엔티티 변경 감지 리스너
+ * - 쿠폰 row가 수정/삭제되면 커밋 이후 캐시 무효화 메시지를 발행
+ * - 쿠폰이 추가되어도 목록 페이지가 달라지므로 동일하게 무효화
+ * - EntityManagerFactory 초기화 순환을 피하기 위해 캐시는 ObjectProvider로 지연 조회
+ */
+@Component
+@RequiredArgsConstructor
+public class CouponChangeListener {
+
+    private final ObjectProvider<CouponMetadataCache> couponMetadataCache;
+    private final ObjectProvider<CouponListCache> couponListCache;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onCouponChanged(Coupon coupon) {
+        String publicId = coupon.getPublicId();
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            invalidate(publicId);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                invalidate(publicId);
+            }
+        });
+    }
+
+    private void invalidate(String publicId) {
+        couponListCache.getObject().evictAll();
+        couponMetadataCache.getObject().publishInvalidation(publicId);
+    }
+}
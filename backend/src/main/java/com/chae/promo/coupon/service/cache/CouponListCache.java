@@ -0,0 +1,58 @@
+package com.chae.promo.coupon.service.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * 쿠폰 목록 응답 캐시
+ * - (lastId, size) 페이지 단위로 직렬화된 JSON bytes를 보관하여 캐시 히트 시 엔티티 조회/직렬화 없이 응답
+ * - 쿠폰 변경 시 페이지 경계가 달라질 수 있으므로 특정 페이지가 아닌 전체를 무효화
+ *   (CouponMetadataCache 무효화 메시지와 함께 처리되어 모든 서버에 반영)
+ */
+@Slf4j
+@Component
+public class CouponListCache {
+
+    private static final String CACHE_NAME = "coupon.list";
+
+    private final Cache<String, byte[]> cache;
+
+    public CouponListCache(MeterRegistry meterRegistry,
+                           @Value("${app.coupon.list-cache.max-size:1000}") long maxSize,
+                           @Value("${app.coupon.list-cache.ttl:PT30S}") Duration ttl) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * 페이지 응답 조회 (캐시 미스 시 렌더링 후 캐시, 같은 페이지의 동시 미스는 한 번만 렌더링)
+     * @param lastId 이전 페이지의 마지막 쿠폰 id
+     * @param size 페이지 크기
+     * @param renderer 페이지 JSON 렌더링
+     * @return 직렬화된 페이지 응답
+     */
+    public byte[] getOrRender(long lastId, int size, Supplier<byte[]> renderer) {
+        return cache.get(lastId + ":" + size, key -> renderer.get());
+    }
+
+    /**
+     * 현재 서버의 쿠폰 목록 캐시 전체 제거
+     */
+    public void evictAll() {
+        cache.invalidateAll();
+        log.debug("쿠폰 목록 캐시 무효화");
+    }
+}
@@ -0,0 +1,121 @@
+package com.chae.promo.coupon.service.cache;
+
+import com.chae.promo.coupon.entity.Coupon;
+import com.chae.promo.coupon.repository.CouponRepository;
+import com.chae.promo.coupon.service.redis.CouponRedisKeyManager;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 쿠폰 메타데이터(코드, 수량, 기간, 유효일수) 로컬 캐시
+ * - publicId 기준으로 쿠폰 메타데이터를 캐시하여 발급 요청마다 DB를 조회하지 않도록 함
+ * - 엔티티 대신 불변 record(CouponMetadata)를 캐시하고, 조회 시마다 새 Coupon 인스턴스를 만들어 반환
+ *   (여러 요청 스레드가 같은 detached 엔티티를 공유하지 않도록 함)
+ * - 크기/TTL 제한이 있는 Caffeine 캐시 사용, hit/miss/eviction 지표는 actuator(metrics)로 노출
+ * - 쿠폰 변경 시 Redis pub/sub으로 모든 서버의 캐시를 무효화
+ */
+@Slf4j
+@Component
+public class CouponMetadataCache {
+
+    private static final String CACHE_NAME = "coupon.metadata";
+
+    private final CouponRepository couponRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final CouponRedisKeyManager couponRedisKeyManager;
+
+    private final Cache<String, CouponMetadata> cache;
+
+    /**
+     * 캐시에 보관하는 쿠폰 메타데이터 (불변)
+     */
+    public record CouponMetadata(Long id, String publicId, String code, String name, String description,
+                                 Integer totalQuantity, LocalDateTime startDate, LocalDateTime endDate,
+                                 LocalDateTime expireDate, Integer validDays) {
+
+        static CouponMetadata from(Coupon coupon) {
+            return new CouponMetadata(coupon.getId(), coupon.getPublicId(), coupon.getCode(), coupon.getName(),
+                    coupon.getDescription(), coupon.getTotalQuantity(), coupon.getStartDate(), coupon.getEndDate(),
+                    coupon.getExpireDate(), coupon.getValidDays());
+        }
+
+        Coupon toCoupon() {
+            return Coupon.builder()
+                    .id(id)
+                    .publicId(publicId)
+                    .code(code)
+                    .name(name)
+                    .description(description)
+                    .totalQuantity(totalQuantity)
+                    .startDate(startDate)
+                    .endDate(endDate)
+                    .expireDate(expireDate)
+                    .validDays(validDays)
+                    .build();
+        }
+    }
+
+    public CouponMetadataCache(CouponRepository couponRepository,
+                               StringRedisTemplate stringRedisTemplate,
+                               CouponRedisKeyManager couponRedisKeyManager,
+                               MeterRegistry meterRegistry,
+                               @Value("${app.coupon.metadata-cache.max-size:10000}") long maxSize,
+                               @Value("${app.coupon.metadata-cache.ttl:PT1M}") Duration ttl) {
+        this.couponRepository = couponRepository;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.couponRedisKeyManager = couponRedisKeyManager;
+
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * publicId로 쿠폰 조회 (캐시 미스 시 DB 조회 후 캐시)
+     * 존재하지 않는 쿠폰은 캐시하지 않음
+     *
+     * @param publicId 쿠폰 publicId
+     * @return 캐시된 메타데이터로 만든 새 Coupon 인스턴스 (영속성 컨텍스트에 속하지 않음)
+     * @throws com.chae.promo.exception.CommonCustomException 쿠폰이 없는 경우 (COUPON_NOT_FOUND)
+     */
+    public Coupon getCouponByPublicIdOrThrow(String publicId) {
+        return cache.get(publicId, id -> CouponMetadata.from(couponRepository.getCouponByPublicIdOrThrow(id)))
+                .toCoupon();
+    }
+
+    /**
+     * 현재 서버의 캐시에서 쿠폰 제거
+     * @param publicId 쿠폰 publicId
+     */
+    public void evict(String publicId) {
+        cache.invalidate(publicId);
+        log.info("쿠폰 메타데이터 캐시 무효화. couponPublicId: {}", publicId);
+    }
+
+    /**
+     * 모든 서버에 쿠폰 캐시 무효화 메시지 발행
+     * @param publicId 쿠폰 publicId
+     */
+    public void publishInvalidation(String publicId) {
+        evict(publicId);
+        try {
+            stringRedisTemplate.convertAndSend(couponRedisKeyManager.getCouponCacheInvalidationChannel(), publicId);
+        } catch (Exception e) {
+            // 다른 서버의 캐시는 TTL 만료로 정리됨
+            log.warn("쿠폰 캐시 무효화 메시지 발행 실패. couponPublicId: {}, cause: {}", publicId, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,279 @@
+package com.chae.promo.coupon.service.reconcile;
+
+import com.chae.promo.common.util.UuidUtil;
+import com.chae.promo.coupon.entity.Coupon;
+import com.chae.promo.coupon.entity.CouponIssueStatus;
+import com.chae.promo.coupon.event.CouponEventPublisher;
+import com.chae.promo.coupon.event.CouponIssuedEvent;
+import com.chae.promo.coupon.repository.CouponIssueRepository;
+import com.chae.promo.coupon.service.redis.CouponIssueIdValue;
+import com.chae.promo.coupon.service.redis.CouponRedisKeyManager;
+import com.chae.promo.coupon.util.CouponExpirationCalculator;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 쿠폰 Redis ↔ DB 정합성 점검
+ * - 발급 사용자 Set을 SSCAN으로 페이지 단위로 읽고, coupon_issue와 IN 쿼리로 비교 (cursor는 Redis에 저장해 다음 실행에서 이어서 점검)
+ * - DB에 없는 사용자는 의심 목록에 올리고, grace 이후에도 없으면 발급 시 Redis에 기록한 발급 ID/발급 시각으로 이벤트를 다시 발행
+ *   (Kafka에서 처리 중인 이벤트를 누락으로 오판하지 않도록 두 번 연속 확인)
+ * - Set 전체 점검이 끝나면 재고 카운터를 (전체 수량 - 발급 수)와 비교해 보정
+ */
+@Slf4j
+@Service
+public class CouponReconciliationService {
+
+    // [재고 보정] 재고 = 전체 수량 - max(Redis 발급 수, DB 발급 수)
+    // 발급/롤백 스크립트와 같은 원자 단위로 실행되므로 SCARD와 재고는 같은 시점의 값
+    // KEYS[1]: couponStockKey, KEYS[2]: couponIssuedUserSetKey
+    // ARGV[1]: totalQuantity, ARGV[2]: dbIssuedCount
+    // 반환 값: 보정 전 재고 - 기대 재고 (0이면 정상), 재고 키가 없으면 nil
+    private static final String FIX_STOCK_SCRIPT = """
+            local current = tonumber(redis.call('GET', KEYS[1]))
+            if not current then
+                return nil
+            end
+
+            local issued = math.max(redis.call('SCARD', KEYS[2]), tonumber(ARGV[2]))
+            local expected = math.max(0, tonumber(ARGV[1]) - issued)
+
+            if current ~= expected then
+                redis.call('SET', KEYS[1], expected)
+            end
+            return current - expected
+            """;
+
+    // [SSCAN 1페이지] 다음 실행에서 이어서 읽을 수 있도록 cursor를 직접 지정
+    // 키 1개만 다루므로 cluster에서도 해당 slot 노드에서 실행되고, 연결 종류(pipeline/transaction)와 무관하게 동작
+    // KEYS[1]: couponIssuedUserSetKey
+    // ARGV[1]: cursor, ARGV[2]: count
+    // 반환 값: {다음 cursor, 사용자 ID 목록}
+    private static final String SSCAN_SCRIPT = """
+            return redis.call('SSCAN', KEYS[1], ARGV[1], 'COUNT', ARGV[2])
+            """;
+
+    private final DefaultRedisScript<Long> fixStockScript = new DefaultRedisScript<>(FIX_STOCK_SCRIPT, Long.class);
+    @SuppressWarnings("rawtypes")
+    private final DefaultRedisScript<List> sscanScript = new DefaultRedisScript<>(SSCAN_SCRIPT, List.class);
+
+    private static final String SCAN_START = "0";
+    private static final Duration SUSPECT_KEY_TTL = Duration.ofDays(1);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final CouponRedisKeyManager couponRedisKeyManager;
+    private final CouponIssueRepository couponIssueRepository;
+    private final CouponEventPublisher couponEventPublisher;
+    private final CouponExpirationCalculator couponExpirationCalculator;
+    private final MeterRegistry meterRegistry;
+    private final Clock clock;
+
+    private final int pageSize;
+    private final int maxPagesPerRun;
+    private final long missingGraceMillis;
+
+    // key: couponPublicId
+    private final Map<String, AtomicLong> missingGauges = new ConcurrentHashMap<>();
+    private final Map<String, AtomicLong> stockDriftGauges = new ConcurrentHashMap<>();
+
+    public CouponReconciliationService(StringRedisTemplate stringRedisTemplate,
+                                       CouponRedisKeyManager couponRedisKeyManager,
+                                       CouponIssueRepository couponIssueRepository,
+                                       CouponEventPublisher couponEventPublisher,
+                                       CouponExpirationCalculator couponExpirationCalculator,
+                                       MeterRegistry meterRegistry,
+                                       Clock clock,
+                                       @Value("${app.coupon.reconcile.page-size:500}") int pageSize,
+                                       @Value("${app.coupon.reconcile.max-pages-per-run:20}") int maxPagesPerRun,
+                                       @Value("${app.coupon.reconcile.missing-grace:PT2M}") Duration missingGrace) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.couponRedisKeyManager = couponRedisKeyManager;
+        this.couponIssueRepository = couponIssueRepository;
+        this.couponEventPublisher = couponEventPublisher;
+        this.couponExpirationCalculator = couponExpirationCalculator;
+        this.meterRegistry = meterRegistry;
+        this.clock = clock;
+        this.pageSize = pageSize;
+        this.maxPagesPerRun = maxPagesPerRun;
+        this.missingGraceMillis = missingGrace.toMillis();
+    }
+
+    /**
+     * 쿠폰 1개에 대해 최대 maxPagesPerRun 페이지까지 점검
+     * @param coupon 점검할 쿠폰
+     */
+    public void reconcile(Coupon coupon) {
+        String publicId = coupon.getPublicId();
+        String code = coupon.getCode();
+        String issuedUserSetKey = couponRedisKeyManager.getCouponIssuedUserSetKey(publicId, code);
+        String cursorKey = couponRedisKeyManager.getCouponReconcileCursorKey(publicId, code);
+        String suspectKey = couponRedisKeyManager.getCouponReconcileSuspectKey(publicId, code);
+
+        String cursor = Optional.ofNullable(stringRedisTemplate.opsForValue().get(cursorKey)).orElse(SCAN_START);
+        boolean hasSuspects = Boolean.TRUE.equals(stringRedisTemplate.hasKey(suspectKey));
+
+        for (int page = 0; page < maxPagesPerRun; page++) {
+            ScanPage scanPage = scan(issuedUserSetKey, cursor);
+            if (!scanPage.userIds().isEmpty()) {
+                hasSuspects = reconcilePage(coupon, scanPage.userIds(), suspectKey, hasSuspects);
+            }
+
+            cursor = scanPage.nextCursor();
+            if (SCAN_START.equals(cursor)) {
+                // Set 전체 점검 완료 - 다음 실행은 처음부터
+                stringRedisTemplate.delete(cursorKey);
+                fixStock(coupon);
+                break;
+            }
+        }
+
+        if (!SCAN_START.equals(cursor)) {
+            stringRedisTemplate.opsForValue().set(cursorKey, cursor);
+        }
+
+        Long suspectCount = stringRedisTemplate.opsForHash().size(suspectKey);
+        gauge(missingGauges, "coupon.reconcile.missing", publicId).set(suspectCount == null ? 0 : suspectCount);
+    }
+
+    /**
+     * @return 점검 후 의심 목록 존재 여부
+     */
+    private boolean reconcilePage(Coupon coupon, List<String> userIds, String suspectKey, boolean hasSuspects) {
+        Set<String> persisted = new HashSet<>(
+                couponIssueRepository.findUserIdsByCouponIdAndUserIdIn(coupon.getId(), userIds));
+
+        List<String> missing = userIds.stream().filter(userId -> !persisted.contains(userId)).toList();
+
+        if (hasSuspects && !persisted.isEmpty()) {
+            // 이전에 의심했지만 이제 저장된 사용자 제거
+            stringRedisTemplate.opsForHash().delete(suspectKey, persisted.toArray());
+        }
+        if (missing.isEmpty()) {
+            return hasSuspects;
+        }
+
+        long now = clock.millis();
+        List<Object> firstSeenList = stringRedisTemplate.opsForHash().multiGet(suspectKey, new ArrayList<>(missing));
+        Map<String, String> newSuspects = new HashMap<>();
+        List<String> confirmedMissing = new ArrayList<>();
+
+        for (int i = 0; i < missing.size(); i++) {
+            Object firstSeen = firstSeenList.get(i);
+            if (firstSeen == null) {
+                newSuspects.put(missing.get(i), String.valueOf(now));
+            } else if (now - Long.parseLong(firstSeen.toString()) >= missingGraceMillis) {
+                confirmedMissing.add(missing.get(i));
+            }
+        }
+
+        if (!newSuspects.isEmpty()) {
+            stringRedisTemplate.opsForHash().putAll(suspectKey, newSuspects);
+            stringRedisTemplate.expire(suspectKey, SUSPECT_KEY_TTL);
+        }
+        if (!confirmedMissing.isEmpty()) {
+            republish(coupon, confirmedMissing);
+            stringRedisTemplate.opsForHash().delete(suspectKey, confirmedMissing.toArray());
+        }
+        return hasSuspects || !newSuspects.isEmpty();
+    }
+
+    // DB 누락이 확인된 사용자의 발급 이벤트 재발행 (저장은 uq_coupon_user로 멱등)
+    // 발급 시 Hash에 기록한 발급 ID/발급 시각으로 이벤트를 다시 만들어 만료일이 감지 시점 기준으로 밀리지 않도록 함
+    private void republish(Coupon coupon, List<String> userIds) {
+        String issueIdKey = couponRedisKeyManager.getCouponIssueIdKey(coupon.getPublicId(), coupon.getCode());
+        List<Object> issueIdValues = stringRedisTemplate.opsForHash().multiGet(issueIdKey, new ArrayList<>(userIds));
+
+        for (int i = 0; i < userIds.size(); i++) {
+            String userId = userIds.get(i);
+            Object issueIdValue = issueIdValues.get(i);
+            CouponIssueIdValue value = issueIdValue == null ? null : CouponIssueIdValue.parse(issueIdValue.toString());
+
+            String couponIssueId;
+            if (value != null) {
+                couponIssueId = value.couponIssueId();
+            } else {
+                // 발급 ID 기록 이전에 발급된 사용자 - 새 ID로 발행 (저장은 uq_coupon_user로 멱등)
+                couponIssueId = UuidUtil.generate();
+                log.warn("쿠폰 발급 ID 기록 없음 - 새 ID로 재발행. couponPublicId: {}, userId: {}", coupon.getPublicId(), userId);
+            }
+
+            LocalDateTime issuedAt;
+            if (value != null && value.issuedAtMillis() != null) {
+                issuedAt = LocalDateTime.ofInstant(Instant.ofEpochMilli(value.issuedAtMillis()), clock.getZone());
+            } else {
+                // 발급 시각 기록 이전에 발급된 사용자 - 원래 발급 시각을 알 수 없어 현재 시각 사용
+                issuedAt = LocalDateTime.now(clock);
+                log.warn("쿠폰 발급 시각 기록 없음 - 현재 시각으로 재발행. couponPublicId: {}, userId: {}", coupon.getPublicId(), userId);
+            }
+
+            log.warn("쿠폰 발급 DB 누락 감지 - 이벤트 재발행. couponPublicId: {}, userId: {}, couponIssueId: {}, issuedAt: {}",
+                    coupon.getPublicId(), userId, couponIssueId, issuedAt);
+            couponEventPublisher.publishCouponIssued(
+                    CouponIssuedEvent.builder()
+                            .eventId(UuidUtil.generate())
+                            .userId(userId)
+                            .couponIssueId(couponIssueId)
+                            .couponPublicId(coupon.getPublicId())
+                            .couponCode(coupon.getCode())
+                            .issuedAt(issuedAt)
+                            .expiredAt(couponExpirationCalculator.calculateExpiration(coupon, issuedAt))
+                            .build()
+            );
+        }
+        meterRegistry.counter("coupon.reconcile.republished", "coupon", coupon.getPublicId()).increment(userIds.size());
+    }
+
+    private void fixStock(Coupon coupon) {
+        String stockKey = couponRedisKeyManager.getCouponStockKey(coupon.getPublicId(), coupon.getCode());
+        String issuedUserSetKey = couponRedisKeyManager.getCouponIssuedUserSetKey(coupon.getPublicId(), coupon.getCode());
+        long dbIssuedCount = couponIssueRepository.countByCouponIdAndStatus(coupon.getId(), CouponIssueStatus.ISSUED);
+
+        Long drift = stringRedisTemplate.execute(fixStockScript, List.of(stockKey, issuedUserSetKey),
+                String.valueOf(coupon.getTotalQuantity()), String.valueOf(dbIssuedCount));
+        if (drift == null) {
+            return; // 재고 카운터를 사용하지 않는 쿠폰 (미초기화, 토큰 풀)
+        }
+
+        gauge(stockDriftGauges, "coupon.reconcile.stock.drift", coupon.getPublicId()).set(drift);
+        if (drift != 0) {
+            log.warn("쿠폰 재고 불일치 보정. couponPublicId: {}, drift: {}", coupon.getPublicId(), drift);
+            meterRegistry.counter("coupon.reconcile.stock.fixed", "coupon", coupon.getPublicId()).increment();
+        }
+    }
+
+    // SSCAN 1페이지 (Lua 스크립트로 실행)
+    private ScanPage scan(String issuedUserSetKey, String cursor) {
+        List<?> result = stringRedisTemplate.execute(sscanScript, List.of(issuedUserSetKey), cursor, String.valueOf(pageSize));
+        if (result == null || result.size() < 2) {
+            return new ScanPage(SCAN_START, List.of());
+        }
+
+        List<String> userIds = ((List<?>) result.get(1)).stream()
+                .map(Object::toString)
+                .toList();
+        return new ScanPage(result.get(0).toString(), userIds);
+    }
+
+    private AtomicLong gauge(Map<String, AtomicLong> gauges, String name, String couponPublicId) {
+        return gauges.computeIfAbsent(couponPublicId, id -> {
+            AtomicLong value = new AtomicLong();
+            Gauge.builder(name, value, AtomicLong::get).tag("coupon", id).register(meterRegistry);
+            return value;
+        });
+    }
+
+    private record ScanPage(String nextCursor, List<String> userIds) {
+    }
+}
@@ -0,0 +1,31 @@
+package com.chae.promo.coupon.service.redis;
+
+/**
+ * 사용자별 발급 ID Hash 값 (couponIssueId|발급 시각 epoch millis)
+ * - 정합성 점검에서 DB 누락 이벤트를 재발행할 때 원래 발급 ID와 발급 시각을 그대로 사용하기 위해 함께 기록
+ * - 발급 시각 기록 이전에 저장된 값(couponIssueId만 있음)은 issuedAtMillis가 null
+ *
+ * @param couponIssueId 발급 ID
+ * @param issuedAtMillis 발급 시각 (epoch millis)
+ */
+public record CouponIssueIdValue(String couponIssueId, Long issuedAtMillis) {
+
+    // 토큰 풀 발급 Lua 스크립트도 같은 구분자로 기록 (발급 ID는 UUID라 구분자를 포함하지 않음)
+    public static final String SEPARATOR = "|";
+
+    public static String encode(String couponIssueId, long issuedAtMillis) {
+        return couponIssueId + SEPARATOR + issuedAtMillis;
+    }
+
+    public static CouponIssueIdValue parse(String value) {
+        int index = value.lastIndexOf(SEPARATOR);
+        if (index < 0) {
+            return new CouponIssueIdValue(value, null);
+        }
+        try {
+            return new CouponIssueIdValue(value.substring(0, index), Long.parseLong(value.substring(index + 1)));
+        } catch (NumberFormatException e) {
+            return new CouponIssueIdValue(value, null);
+        }
+    }
+}
@@ -7,14 +7,29 @@ public class CouponRedisKeyManager {
 
     // 특정 쿠폰의 남은 재고 (자료구조: String)
     private static final String COUPON_STOCK_KEY_FORMAT = "coupon:stock:%s:%s"; //  %s = couponPublicId, %s = couponCode
-    // 특정 사용자가 보유한 모든 쿠폰의 집합 (자료구조: Set)
-    private static final String USER_COUPON_SET_KEY_FORMAT = "user:%s:coupon";  // %s = userId
+    // 특정 사용자가 보유한 쿠폰 요약 - couponPublicId -> 요약 JSON (자료구조: Hash, 내 쿠폰 조회 read model)
+    private static final String USER_COUPON_SUMMARY_KEY_FORMAT = "user:%s:coupon:summary";  // %s = userId
     // 특정 쿠폰을 발급받은 모든 사용자의 집합 (자료구조: Set)
     private static final String COUPON_ISSUED_USER_SET_KEY_FORMAT = "coupon:issued_users:%s:%s"; // %s = couponPublicId,  %s = couponCode
+    // 특정 쿠폰의 사용자별 발급 ID - userId -> couponIssueId|발급 시각 (자료구조: Hash, 정합성 점검 재발행 시 원래 ID/발급 시각 사용)
+    private static final String COUPON_ISSUE_ID_KEY_FORMAT = "coupon:issue_ids:%s:%s"; // %s = couponPublicId,  %s = couponCode
 
     // 특정 쿠폰의 이벤트 유효 기간 (자료구조: String with TTL)
     private static final String COUPON_TTL_KEY_FORMAT = "coupon:ttl:%s:%s"; // %s = couponPublicId,  %s = couponCode
 
+    // 특정 쿠폰의 발급 토큰 풀 - 미리 생성한 couponIssueId 목록 (자료구조: List)
+    private static final String COUPON_TOKEN_POOL_KEY_FORMAT = "coupon:token_pool:%s:%s"; // %s = couponPublicId,  %s = couponCode
+    // 생성 중인 토큰 풀 - 적재가 끝나면 토큰 풀 키로 RENAME (자료구조: List with TTL)
+    private static final String COUPON_TOKEN_POOL_BUILDING_KEY_FORMAT = "coupon:token_pool_building:%s:%s:%s"; // %s = couponPublicId,  %s = couponCode, %s = 생성 식별자
+
+    // 쿠폰별 발급 사용자 Set 점검 위치 - SSCAN cursor (자료구조: String)
+    private static final String COUPON_RECONCILE_CURSOR_KEY_FORMAT = "coupon:reconcile:cursor:%s:%s"; // %s = couponPublicId,  %s = couponCode
+    // 쿠폰별 DB 누락 의심 사용자 - userId -> 최초 발견 시각 (자료구조: Hash)
+    private static final String COUPON_RECONCILE_SUSPECT_KEY_FORMAT = "coupon:reconcile:suspect:%s:%s"; // %s = couponPublicId,  %s = couponCode
+
+    // 쿠폰 메타데이터 로컬 캐시 무효화 채널 (pub/sub)
+    private static final String COUPON_CACHE_INVALIDATION_CHANNEL = "coupon:cache:invalidate";
+
 
     /**
      * 쿠폰 재고 Key 생성
@@ -29,19 +44,17 @@ public class CouponRedisKeyManager {
     }
 
     /**
-     * 사용자 쿠폰 Set Key 생성
+     * 사용자 쿠폰 요약 Hash Key 생성
      *
      * @param userId 사용자 ID
-     * @return Redis 사용자 쿠폰 Set Key
+     * @return Redis 사용자 쿠폰 요약 Hash Key
      */
-    public String getUserCouponSetKey(String userId) {
+    public String getUserCouponSummaryKey(String userId) {
 
-        return String.format(USER_COUPON_SET_KEY_FORMAT, userId);
+        return String.format(USER_COUPON_SUMMARY_KEY_FORMAT, userId);
 
     }
 
-
-
     /**
      * 쿠폰 TTL Key 생성
      *
@@ -68,5 +81,75 @@ public class CouponRedisKeyManager {
         return String.format(COUPON_ISSUED_USER_SET_KEY_FORMAT, couponPublicId, couponCode);
     }
 
-}
+    /**
+     * 쿠폰 사용자별 발급 ID Hash Key 생성
+     *
+     * @param couponPublicId 쿠폰 공개 ID
+     * @param couponCode 쿠폰 코드
+     * @return Redis 발급 ID Hash Key
+     */
+    public String getCouponIssueIdKey(String couponPublicId, String couponCode) {
+
+        return String.format(COUPON_ISSUE_ID_KEY_FORMAT, couponPublicId, couponCode);
+    }
+
+    /**
+     * 쿠폰 캐시 무효화 채널 이름
+     *
+     * @return Redis pub/sub 채널 이름
+     */
+    public String getCouponCacheInvalidationChannel() {
+
+        return COUPON_CACHE_INVALIDATION_CHANNEL;
+    }
+
+    /**
+     * 쿠폰 발급 토큰 풀 Key 생성
+     *
+     * @param couponPublicId 쿠폰 공개 ID
+     * @param couponCode 쿠폰 코드
+     * @return Redis 토큰 풀 List Key
+     */
+    public String getCouponTokenPoolKey(String couponPublicId, String couponCode) {
+
+        return String.format(COUPON_TOKEN_POOL_KEY_FORMAT, couponPublicId, couponCode);
+    }
+
+    /**
+     * 생성 중인 쿠폰 발급 토큰 풀 Key 생성
+     *
+     * @param couponPublicId 쿠폰 공개 ID
+     * @param couponCode 쿠폰 코드
+     * @param buildId 생성 식별자 (생성 시도마다 새로 발급)
+     * @return Redis 생성 중 토큰 풀 List Key
+     */
+    public String getCouponTokenPoolBuildingKey(String couponPublicId, String couponCode, String buildId) {
+
+        return String.format(COUPON_TOKEN_POOL_BUILDING_KEY_FORMAT, couponPublicId, couponCode, buildId);
+    }
+
+    /**
+     * 정합성 점검 SSCAN cursor Key 생성
+     *
+     * @param couponPublicId 쿠폰 공개 ID
+     * @param couponCode 쿠폰 코드
+     * @return Redis cursor Key
+     */
+    public String getCouponReconcileCursorKey(String couponPublicId, String couponCode) {
+
+        return String.format(COUPON_RECONCILE_CURSOR_KEY_FORMAT, couponPublicId, couponCode);
+    }
 
+    /**
+     * 정합성 점검 DB 누락 의심 사용자 Hash Key 생성
+     *
+     * @param couponPublicId 쿠폰 공개 ID
+     * @param couponCode 쿠폰 코드
+     * @return Redis 누락 의심 사용자 Hash Key
+     */
+    public String getCouponReconcileSuspectKey(String couponPublicId, String couponCode) {
+
+        return String.format(COUPON_RECONCILE_SUSPECT_KEY_FORMAT, couponPublicId, couponCode);
+    }
+
+}
@@ -9,9 +9,9 @@ import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.core.script.DefaultRedisScript;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
-import java.util.concurrent.TimeUnit;
 
 @Slf4j
 @Service
@@ -19,107 +19,238 @@ import java.util.concurrent.TimeUnit;
 public class CouponRedisService {
     private final StringRedisTemplate stringRedisTemplate;
 
-    // [발급] Redis 재고 차감 및 중복 발급 체크를 원자적으로 수행하는 Lua 스크립트
+    // [발급 + 캐시 초기화] 재고/TTL 키가 없으면 ARGV 값으로 초기화한 뒤 발급을 원자적으로 수행하는 Lua 스크립트
+    // 정상 발급은 Redis 1회 왕복으로 처리되고, 여러 서버가 동시에 초기화해도 스크립트 안에서만 키를 생성하므로 경합이 없음
     // KEYS[1]: stockKey (재고 키)
-    // KEYS[2]: userCouponSetKey (사용자별 보유 쿠폰 Set 키)
-    // KEYS[3]: couponTtlKey (쿠폰 ttl 키)
-    // KEYS[4]: couponIssuedUsersKey (발급된 사용자 Set 키)
-    // ARGV[1]: userId (사용자 ID, 발급 상태 저장용)
-    // ARGV[2]: couponPublicId (사용자 보유 쿠폰 Set에 저장할 값)
-    // ARGV[3]: ttlSeconds (현재 사용되지 않지만, 필요에 따라 사용될 수 있음)
-    // 반환 값: 1 (성공), 2 (재고 소진), 3 (중복 발급), 4 (쿠폰 만료), 0 (알 수 없는 오류)
-    private static final String REDIS_ISSUE_COUPON_SCRIPT = """
+    // KEYS[2]: couponTtlKey (쿠폰 ttl 키)
+    // KEYS[3]: couponIssuedUsersKey (발급된 사용자 Set 키)
+    // KEYS[4]: couponIssueIdKey (사용자별 발급 ID Hash 키)
+    // ARGV[1]: userId
+    // ARGV[2]: ttlSeconds (TTL 키가 없을 때 생성할 만료 시간)
+    // ARGV[3]: initialStock (재고 키가 없을 때 설정할 재고. 빈 문자열이면 초기화하지 않고 5 반환)
+    // ARGV[4]: 발급 ID Hash 값 (couponIssueId|발급 시각, CouponIssueIdValue)
+    // 반환 값: 1 (성공), 2 (재고 소진), 3 (중복 발급), 4 (쿠폰 만료), 5 (재고 미초기화 - DB 재고 필요)
+    private static final String REDIS_ISSUE_COUPON_WITH_WARM_UP_SCRIPT = """
             local couponStockKey = KEYS[1]
-            local userCouponSetKey = KEYS[2]
-            local couponTtlKey = KEYS[3]
-            local couponIssuedUserSetKey = KEYS[4]
+            local couponTtlKey = KEYS[2]
+            local couponIssuedUserSetKey = KEYS[3]
+            local couponIssueIdKey = KEYS[4]
             local userId = ARGV[1]
-            local couponPublicId = ARGV[2]
-            local ttlSeconds = ARGV[3]
-                        
-            -- 1. 쿠폰 TTL 체크 : coupontTtlKey가 없으면(TTL 만료) 쿠폰 발급 불가
+            local ttlSeconds = tonumber(ARGV[2])
+            local initialStock = ARGV[3]
+            local couponIssueIdValue = ARGV[4]
+
+            -- 1. 재고 키 초기화 : 재고 키가 없으면 전달받은 초기 재고로 생성
+            if redis.call('EXISTS', couponStockKey) == 0 then
+                if initialStock == nil or initialStock == '' then
+                    return 5 -- 재고 미초기화, 호출 측에서 DB 재고를 조회해 다시 요청
+                end
+                redis.call('SET', couponStockKey, initialStock, 'NX')
+            end
+
+            -- 2. TTL 키 초기화 : TTL 키가 없고 남은 기간이 있으면 생성, 없으면 만료 처리
             if redis.call('EXISTS', couponTtlKey) == 0 then
-                return 4 -- 쿠폰 기간 만료
+                if ttlSeconds == nil or ttlSeconds <= 0 then
+                    return 4 -- 쿠폰 기간 만료
+                end
+                redis.call('SET', couponTtlKey, '1', 'EX', ttlSeconds, 'NX')
             end
-                        
-            -- 2. 중복 발급 체크: 이미 발급된 쿠폰인지 확인
+
+            -- 3. 중복 발급 체크
             if redis.call('SISMEMBER', couponIssuedUserSetKey, userId) == 1 then
                 return 3 -- 중복 발급
             end
-                        
-            -- 3. 재고 차감: 현재 재고를 확인하고 0보다 클 경우에만 차감
+
+            -- 4. 재고 차감
             local updateStock = redis.call('DECR', couponStockKey)
-                        
+
             if updateStock < 0 then
-                -- 재고가 0이었는데 차감을 시도하여 음수가 된 경우, 재고 늘리기
                 redis.call('INCR', couponStockKey)
                 return 2
             end
-                        
-            -- 4. 발급 명단에 추가
+
+            -- 5. 발급 명단 및 발급 ID 기록
             redis.call('SADD', couponIssuedUserSetKey, userId)
-                       
-            -- 5. 사용자별 보유 쿠폰 목록에 추가
-            redis.call('SADD', userCouponSetKey, couponPublicId)
-                      
+            redis.call('HSET', couponIssueIdKey, userId, couponIssueIdValue)
+
             return 1 -- 성공
             """;
 
-    // [롤백] 쿠폰 재고 복구 및 사용자 쿠폰 키 삭제를 원자적으로 수행하는 Lua 스크립트 정의
+    // [배치 발급] 같은 쿠폰에 대한 여러 사용자의 발급 요청을 스크립트 1회 실행으로 처리
+    // 재고는 한 번만 읽고 DECRBY 한 번으로 차감하므로, 요청 수만큼의 DECR/INCR 쓰기가 발생하지 않음
+    // KEYS[1]: stockKey (재고 키)
+    // KEYS[2]: couponTtlKey (쿠폰 ttl 키)
+    // KEYS[3]: couponIssuedUsersKey (발급된 사용자 Set 키)
+    // KEYS[4]: couponIssueIdKey (사용자별 발급 ID Hash 키)
+    // ARGV[1]: ttlSeconds (TTL 키가 없을 때 생성할 만료 시간)
+    // ARGV[2]: initialStock (재고 키가 없을 때 설정할 재고. 빈 문자열이면 초기화하지 않음)
+    // ARGV[3..2+count]: userId (요청 순서)
+    // ARGV[3+count..2+2*count]: 발급 ID Hash 값 (couponIssueId|발급 시각, userId와 같은 순서)
+    // 반환 값: 요청 순서대로의 결과 코드 배열 (코드 의미는 REDIS_ISSUE_COUPON_WITH_WARM_UP_SCRIPT와 동일)
+    private static final String REDIS_ISSUE_COUPON_BATCH_SCRIPT = """
+            local couponStockKey = KEYS[1]
+            local couponTtlKey = KEYS[2]
+            local couponIssuedUserSetKey = KEYS[3]
+            local couponIssueIdKey = KEYS[4]
+            local ttlSeconds = tonumber(ARGV[1])
+            local initialStock = ARGV[2]
+            local count = (#ARGV - 2) / 2
+            local results = {}
+
+            -- 1. 재고 키 초기화 : 초기 재고가 없으면 전체 요청에 5 반환
+            if redis.call('EXISTS', couponStockKey) == 0 then
+                if initialStock == nil or initialStock == '' then
+                    for i = 1, count do results[i] = 5 end
+                    return results
+                end
+                redis.call('SET', couponStockKey, initialStock, 'NX')
+            end
+
+            -- 2. TTL 키 초기화 : 남은 기간이 없으면 전체 요청에 4 반환
+            if redis.call('EXISTS', couponTtlKey) == 0 then
+                if ttlSeconds == nil or ttlSeconds <= 0 then
+                    for i = 1, count do results[i] = 4 end
+                    return results
+                end
+                redis.call('SET', couponTtlKey, '1', 'EX', ttlSeconds, 'NX')
+            end
+
+            -- 3. 요청 순서대로 중복 체크 + 재고 배정
+            local stock = tonumber(redis.call('GET', couponStockKey))
+            local issued = 0
+            for i = 1, count do
+                local userId = ARGV[i + 2]
+                if redis.call('SISMEMBER', couponIssuedUserSetKey, userId) == 1 then
+                    results[i] = 3 -- 중복 발급 (같은 배치 안의 중복 요청 포함)
+                elseif stock - issued <= 0 then
+                    results[i] = 2 -- 재고 소진
+                else
+                    issued = issued + 1
+                    redis.call('SADD', couponIssuedUserSetKey, userId)
+                    redis.call('HSET', couponIssueIdKey, userId, ARGV[i + 2 + count])
+                    results[i] = 1 -- 성공
+                end
+            end
+
+            -- 4. 배정된 수량만큼 한 번에 차감
+            if issued > 0 then
+                redis.call('DECRBY', couponStockKey, issued)
+            end
+
+            return results
+            """;
+
+    // 재고 미초기화 결과 코드 (REDIS_ISSUE_COUPON_WITH_WARM_UP_SCRIPT)
+    private static final long RESULT_STOCK_NOT_INITIALIZED = 5L;
+
+    // [롤백] 쿠폰 재고 복구 및 발급 상태 삭제를 원자적으로 수행하는 Lua 스크립트 정의
     // DB 저장 실패 시 Redis 상태를 롤백하는 데 사용
     // KEYS[1]: stockKey (재고 키 - 쿠폰 재고를 나타내는 Redis 키)
-    // KEYS[2]: userCouponSetKey (사용자별 보유 쿠폰 Set 키)
-    // KEYS[3]: couponIssuedUserSetKey (발급된 사용자 Set 키 - 쿠폰이 발급된 사용자의 ID를 저장하는 Redis 키)
+    // KEYS[2]: couponIssuedUserSetKey (발급된 사용자 Set 키 - 쿠폰이 발급된 사용자의 ID를 저장하는 Redis 키)
+    // KEYS[3]: couponIssueIdKey (사용자별 발급 ID Hash 키)
     // ARGV[1]: userId
-    // ARGV[2]: couponPublicId
     // 반환 값: 1 (성공), 0 (오류 - 이 스크립트는 항상 1을 반환하도록 설계됨)
     private static final String ROLLBACK_SCRIPT = """
     redis.call('INCR', KEYS[1]) -- KEYS[1]에 해당하는 쿠폰 재고를 1 증가 (차감된 재고 복구)
-    redis.call('SREM', KEYS[3], ARGV[1]) -- KEYS[3]에서 사용자 ID를 제거 (발급된 사용자 목록에서 삭제)
-    redis.call('SREM', KEYS[2], ARGV[2]) -- KEYS[2]에서 쿠폰 publicId를 제거 (사용자 보유 쿠폰 목록에서 삭제)
-    return 1 // 스크립트 실행 성공을 나타내는 1을 반환
+    redis.call('SREM', KEYS[2], ARGV[1]) -- KEYS[2]에서 사용자 ID를 제거 (발급된 사용자 목록에서 삭제)
+    redis.call('HDEL', KEYS[3], ARGV[1]) -- KEYS[3]에서 사용자의 발급 ID 제거
+    return 1 -- 스크립트 실행 성공을 나타내는 1을 반환
     """;
-    private final DefaultRedisScript<Long> redisIssueCouponScript = new DefaultRedisScript<>(REDIS_ISSUE_COUPON_SCRIPT, Long.class);
     private final DefaultRedisScript<Long> rollbackScript = new DefaultRedisScript<>(ROLLBACK_SCRIPT, Long.class);
+    private final DefaultRedisScript<Long> redisIssueCouponWithWarmUpScript = new DefaultRedisScript<>(REDIS_ISSUE_COUPON_WITH_WARM_UP_SCRIPT, Long.class);
+    @SuppressWarnings("rawtypes")
+    private final DefaultRedisScript<List> redisIssueCouponBatchScript = new DefaultRedisScript<>(REDIS_ISSUE_COUPON_BATCH_SCRIPT, List.class);
 
     /**
-     * Redis Lua 스크립트를 사용하여 쿠폰 재고를 차감하고 사용자에게 발급
-     * 원자적으로 실행
+     * 재고/TTL 키 초기화를 포함하여 쿠폰을 원자적으로 발급 (Redis 1회 왕복)
+     * - 재고 키가 없고 initialStock이 없으면 false를 반환하며, 호출 측은 DB 재고로 initialStock을 채워 다시 호출
+     * - TTL 키가 없으면 ttlSeconds로 스크립트 안에서 생성
      *
-     * @param couponRedisRequest 쿠폰 발급에 필요한 모든 정보를 담은 요청 객체
-     * 포함 정보:
-     * - couponStockKey: 쿠폰 재고를 관리하는 Redis 키
-     * - userCouponSetKey: 사용자별 보유 쿠폰을 관리하는 Redis Set 키
-     * - couponTtlKey: 쿠폰의 유효 기간을 나타내는 Redis 키 (이 키가 없으면 발급 불가)
-     * - userId: 사용자 ID (로깅 및 스크립트 ARGV 전달용)
-     * - ttlSeconds : userCouponKey의 만료 시간 (초)
-     * - couponIssuedUserSetKey: 쿠폰 발급 사용자 집합 키
+     * @param couponRedisRequest 쿠폰 발급 요청 (initialStock은 선택)
+     * @return 발급 처리 여부 (false: 재고 미초기화)
+     * @throws CommonCustomException 재고 소진, 중복 발급, 만료 등 발급 실패 시
      */
-    public void issueCouponAtomically(CouponRedisRequest couponRedisRequest) {
-
-
+    public boolean issueCouponWithWarmUp(CouponRedisRequest couponRedisRequest) {
         List<String> keys = Arrays.asList(
                 couponRedisRequest.getCouponStockKey(),
-                couponRedisRequest.getUserCouponSetKey(),
                 couponRedisRequest.getCouponTtlKey(),
-                couponRedisRequest.getCouponIssuedUserSetKey()
+                couponRedisRequest.getCouponIssuedUserSetKey(),
+                couponRedisRequest.getCouponIssueIdKey()
         );
+        Long initialStock = couponRedisRequest.getInitialStock();
         String[] args = {couponRedisRequest.getUserId(),
-                couponRedisRequest.getCoupon().getPublicId(),
-                String.valueOf(couponRedisRequest.getTtlSeconds())
+                String.valueOf(couponRedisRequest.getTtlSeconds()),
+                initialStock == null ? "" : String.valueOf(initialStock),
+                CouponIssueIdValue.encode(couponRedisRequest.getCouponIssueId(), couponRedisRequest.getIssuedAtMillis())
         };
 
-        Long result = stringRedisTemplate.execute(redisIssueCouponScript, keys, args);
+        Long result = stringRedisTemplate.execute(redisIssueCouponWithWarmUpScript, keys, args);
+
+        return applyIssueResult(couponRedisRequest, result);
+    }
+
+    /**
+     * 같은 쿠폰에 대한 여러 발급 요청을 스크립트 1회 실행으로 처리 (Redis 1회 왕복)
+     * - 재고/TTL 초기화 및 ttlSeconds는 첫 요청 기준으로 적용
+     * - 결과 해석은 요청별로 {@link #applyIssueResult(CouponRedisRequest, Long)}로 수행
+     *
+     * @param couponRedisRequests 같은 쿠폰에 대한 발급 요청 목록
+     * @return 요청 순서대로의 결과 코드
+     */
+    @SuppressWarnings("unchecked")
+    public List<Long> issueCouponBatch(List<CouponRedisRequest> couponRedisRequests) {
+        CouponRedisRequest first = couponRedisRequests.get(0);
+
+        List<String> keys = new ArrayList<>(4);
+        keys.add(first.getCouponStockKey());
+        keys.add(first.getCouponTtlKey());
+        keys.add(first.getCouponIssuedUserSetKey());
+        keys.add(first.getCouponIssueIdKey());
+
+        Long initialStock = first.getInitialStock();
+        List<String> args = new ArrayList<>(couponRedisRequests.size() * 2 + 2);
+        args.add(String.valueOf(first.getTtlSeconds()));
+        args.add(initialStock == null ? "" : String.valueOf(initialStock));
+
+        for (CouponRedisRequest request : couponRedisRequests) {
+            args.add(request.getUserId());
+        }
+        for (CouponRedisRequest request : couponRedisRequests) {
+            args.add(CouponIssueIdValue.encode(request.getCouponIssueId(), request.getIssuedAtMillis()));
+        }
+
+        List<Long> results = stringRedisTemplate.execute(redisIssueCouponBatchScript, keys, args.toArray());
+        if (results == null || results.size() != couponRedisRequests.size()) {
+            log.error("Redis 배치 스크립트 결과 오류. stockKey: {}, requestCount: {}, results: {}",
+                    first.getCouponStockKey(), couponRedisRequests.size(), results);
+            throw new CommonCustomException(CommonErrorCode.COUPON_ISSUE_SAVE_FAIL);
+        }
+        return results;
+    }
+
+    /**
+     * 발급 스크립트 결과 코드 해석
+     *
+     * @param couponRedisRequest 발급 요청
+     * @param result 스크립트 결과 코드
+     * @return 발급 처리 여부 (false: 재고 미초기화)
+     * @throws CommonCustomException 재고 소진, 중복 발급, 만료 등 발급 실패 시
+     */
+    public boolean applyIssueResult(CouponRedisRequest couponRedisRequest, Long result) {
+        if (result != null && result == RESULT_STOCK_NOT_INITIALIZED) {
+            log.info("Redis: 쿠폰 재고 미초기화. stockKey: {}", couponRedisRequest.getCouponStockKey());
+            return false;
+        }
 
         handleRedisScriptResult(
                 result,
                 couponRedisRequest.getUserId(),
                 couponRedisRequest.getCouponStockKey(),
-                couponRedisRequest.getUserCouponSetKey(),
                 couponRedisRequest.getCouponTtlKey(),
                 couponRedisRequest.getCouponIssuedUserSetKey(),
                 couponRedisRequest.getCoupon().getPublicId()
         );
+        return true;
     }
 
     /**
@@ -128,18 +259,16 @@ public class CouponRedisService {
      * @param result        Lua 스크립트 반환 값
      * @param userId        사용자 ID
      * @param couponStockKey      재고 키 (로깅용)
-     * @param userCouponKey 사용자 쿠폰 발급 키 (로깅용)
      * @throws CommonCustomException 스크립트 결과에 따른 예외
      */
     private void handleRedisScriptResult(Long result,
                                          String userId,
                                          String couponStockKey,
-                                         String userCouponKey,
                                          String couponTtlKey,
                                          String couponIssuedUserSetKey,
                                          String couponPublicId) {
         if (result == null) {
-            log.error("Redis 스크립트 실행 결과가 NULL입니다. user: {}, stockKey: {}, userCouponKey: {}", userId, couponStockKey, userCouponKey);
+            log.error("Redis 스크립트 실행 결과가 NULL입니다. user: {}, stockKey: {}", userId, couponStockKey);
             throw new CommonCustomException(CommonErrorCode.COUPON_ISSUE_SAVE_FAIL);
         }
 
@@ -165,43 +294,15 @@ public class CouponRedisService {
         }
     }
 
-    /**
-     * Redis에 쿠폰 재고를 설정합니다.
-     *
-     * @param couponStockKey 쿠폰 재고 키
-     * @param stock 재고 수량
-     */
-    public void setCouponStock(String couponStockKey, long stock) {
-        stringRedisTemplate.opsForValue().set(couponStockKey, String.valueOf(stock));
-        log.info("Redis: 쿠폰 재고 설정 완료. couponStockKey: {}, stock: {}", couponStockKey, stock);
-    }
-
-    public void rollbackRedisCouponStock(String couponStockKey, String userCouponSetKey, String couponIssuedUserSetKey, String userId, String couponPublicId) {
+    public void rollbackRedisCouponStock(String couponStockKey, String couponIssuedUserSetKey, String couponIssueIdKey, String userId) {
         try {
-            List<String> keys = Arrays.asList(couponStockKey, userCouponSetKey, couponIssuedUserSetKey);
-            String[] args = {userId, couponPublicId};
+            List<String> keys = Arrays.asList(couponStockKey, couponIssuedUserSetKey, couponIssueIdKey);
+            String[] args = {userId};
             stringRedisTemplate.execute(rollbackScript, keys, args);
-            log.info("Redis 롤백 완료. stockKey: {}, userCouponSetKey: {}, couponIssuedUserSetKey: {}, userId: {}, couponPublicId: {}", couponStockKey, userCouponSetKey, couponIssuedUserSetKey, userId, couponPublicId);
+            log.info("Redis 롤백 완료. stockKey: {}, couponIssuedUserSetKey: {}, userId: {}", couponStockKey, couponIssuedUserSetKey, userId);
         } catch (Exception e) {
-            log.error("Redis 롤백 실패. stockKey: {}, userCouponSetKey: {}, couponIssuedUserSetKey: {}, userId: {}, couponPublicId: {}", couponStockKey, userCouponSetKey, couponIssuedUserSetKey, userId, couponPublicId, e);
+            log.error("Redis 롤백 실패. stockKey: {}, couponIssuedUserSetKey: {}, userId: {}", couponStockKey, couponIssuedUserSetKey, userId, e);
             throw e;
         }
     }
-
-    /**
-     * 쿠폰 이벤트의 유효 기간을 나타내는 TTL 키를 생성합니다.
-     * @param couponTtlKey 키
-     * @param ttlSeconds 만료 시간(초)
-     */
-    public void setCouponTtlKey(String couponTtlKey, long ttlSeconds) {
-        // 값은 의미 없으므로 "1"과 같은 더미 데이터를 사용
-        stringRedisTemplate.opsForValue().set(couponTtlKey, "1", ttlSeconds, TimeUnit.SECONDS);
-    }
-
-    /**
-     * Redis에 해당 키가 존재하는지 확인합니다.
-     */
-    public Boolean hasKey(String key) {
-        return stringRedisTemplate.hasKey(key);
-    }
 }
@@ -0,0 +1,247 @@
+package com.chae.promo.coupon.service.redis;
+
+import com.chae.promo.common.lease.RedisLeaseManager;
+import com.chae.promo.common.util.UuidUtil;
+import com.chae.promo.coupon.dto.CouponRedisRequest;
+import com.chae.promo.coupon.entity.Coupon;
+import com.chae.promo.exception.CommonCustomException;
+import com.chae.promo.exception.CommonErrorCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.LongSupplier;
+
+/**
+ * 토큰 풀 방식 쿠폰 발급
+ * - 재고 수만큼 couponIssueId(토큰)를 미리 생성해 Redis List에 넣어두고, 발급 시 하나씩 꺼냄
+ * - 재고 소진 이후의 요청은 종료 표시만 남은 List를 읽기만 하므로 쓰기(DECR/INCR)가 발생하지 않음
+ * - 꺼낸 토큰을 couponIssueId로 그대로 사용하므로 발급 경로에서 UUID를 생성하지 않음
+ * - 풀은 별도 키에 모두 적재한 뒤 RENAMENX로 한 번에 공개하고, 끝에 종료 표시를 둠
+ *   (풀 키가 없으면 미초기화 또는 삭제된 풀로 보고 다시 생성, 종료 표시만 남으면 재고 소진)
+ */
+@Slf4j
+@Service
+public class CouponTokenPoolService {
+
+    // 토큰 풀 마지막 원소 (발급 토큰으로 꺼내지 않음, 토큰 문자셋에 없는 '#' 포함)
+    static final String END_OF_POOL = "#END#";
+
+    // [토큰 풀 발급]
+    // KEYS[1]: tokenPoolKey (발급 토큰 List 키)
+    // KEYS[2]: couponTtlKey (쿠폰 ttl 키)
+    // KEYS[3]: couponIssuedUsersKey (발급된 사용자 Set 키)
+    // KEYS[4]: couponIssueIdKey (사용자별 발급 ID Hash 키)
+    // ARGV[1]: userId
+    // ARGV[2]: ttlSeconds (TTL 키가 없을 때 생성할 만료 시간)
+    // ARGV[3]: 토큰 풀 종료 표시
+    // ARGV[4]: 발급 시각 (epoch millis, 발급 ID Hash에 token|발급 시각으로 기록 - CouponIssueIdValue)
+    // 반환 값: {1, token} (성공), {2} (재고 소진), {3} (중복 발급), {4} (쿠폰 만료), {5} (토큰 풀 미초기화)
+    private static final String REDIS_ISSUE_COUPON_FROM_TOKEN_POOL_SCRIPT = """
+            local tokenPoolKey = KEYS[1]
+            local couponTtlKey = KEYS[2]
+            local couponIssuedUserSetKey = KEYS[3]
+            local couponIssueIdKey = KEYS[4]
+            local userId = ARGV[1]
+            local ttlSeconds = tonumber(ARGV[2])
+            local endOfPool = ARGV[3]
+            local issuedAtMillis = ARGV[4]
+
+            -- 1. 토큰 풀 초기화 여부 확인 (종료 표시가 항상 남아 있으므로 키가 없으면 미초기화 또는 삭제된 풀)
+            if redis.call('EXISTS', tokenPoolKey) == 0 then
+                return {5}
+            end
+
+            -- 2. 재고 소진 확인 (읽기 전용, 종료 표시만 남은 경우)
+            if redis.call('LINDEX', tokenPoolKey, 0) == endOfPool then
+                return {2}
+            end
+
+            -- 3. TTL 키 초기화 : TTL 키가 없고 남은 기간이 있으면 생성, 없으면 만료 처리
+            if redis.call('EXISTS', couponTtlKey) == 0 then
+                if ttlSeconds == nil or ttlSeconds <= 0 then
+                    return {4}
+                end
+                redis.call('SET', couponTtlKey, '1', 'EX', ttlSeconds, 'NX')
+            end
+
+            -- 4. 중복 발급 체크
+            if redis.call('SISMEMBER', couponIssuedUserSetKey, userId) == 1 then
+                return {3}
+            end
+
+            -- 5. 토큰 꺼내기 (2에서 종료 표시가 아님을 확인)
+            local token = redis.call('LPOP', tokenPoolKey)
+
+            -- 6. 발급 명단 및 발급 ID 기록
+            redis.call('SADD', couponIssuedUserSetKey, userId)
+            redis.call('HSET', couponIssueIdKey, userId, token .. '|' .. issuedAtMillis)
+
+            return {1, token}
+            """;
+
+    // [토큰 반환] DB 저장 최종 실패 시 토큰을 풀 앞쪽에 되돌리고 발급 상태 삭제
+    // (풀이 삭제된 경우 되돌리지 않음 - 다시 생성할 때 DB 기준 남은 재고에 포함됨)
+    // KEYS[1]: tokenPoolKey, KEYS[2]: couponIssuedUserSetKey, KEYS[3]: couponIssueIdKey
+    // ARGV[1]: userId, ARGV[2]: token(couponIssueId)
+    private static final String ROLLBACK_TOKEN_SCRIPT = """
+            redis.call('LPUSHX', KEYS[1], ARGV[2])
+            redis.call('SREM', KEYS[2], ARGV[1])
+            redis.call('HDEL', KEYS[3], ARGV[1])
+            return 1
+            """;
+
+    private static final int PUSH_CHUNK_SIZE = 1000;
+    private static final long RESULT_SUCCESS = 1L;
+
+    @SuppressWarnings("rawtypes")
+    private final DefaultRedisScript<List> issueFromTokenPoolScript = new DefaultRedisScript<>(REDIS_ISSUE_COUPON_FROM_TOKEN_POOL_SCRIPT, List.class);
+    private final DefaultRedisScript<Long> rollbackTokenScript = new DefaultRedisScript<>(ROLLBACK_TOKEN_SCRIPT, Long.class);
+
+    private static final String INIT_LEASE_PREFIX = "coupon:token-pool:init:";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final CouponRedisKeyManager couponRedisKeyManager;
+    private final CouponRedisService couponRedisService;
+    private final RedisLeaseManager redisLeaseManager;
+    private final Duration initLockTimeout;
+
+    public CouponTokenPoolService(StringRedisTemplate stringRedisTemplate,
+                                  CouponRedisKeyManager couponRedisKeyManager,
+                                  CouponRedisService couponRedisService,
+                                  RedisLeaseManager redisLeaseManager,
+                                  @Value("${app.coupon.issue.token-pool.init-lock-timeout:PT30S}") Duration initLockTimeout) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.couponRedisKeyManager = couponRedisKeyManager;
+        this.couponRedisService = couponRedisService;
+        this.redisLeaseManager = redisLeaseManager;
+        this.initLockTimeout = initLockTimeout;
+    }
+
+    /**
+     * 토큰 풀에서 발급 토큰을 꺼내 쿠폰 발급
+     *
+     * @param couponRedisRequest 쿠폰 발급 요청
+     * @return 발급된 토큰(couponIssueId), 토큰 풀 미초기화 시 null
+     * @throws CommonCustomException 재고 소진, 중복 발급, 만료 등 발급 실패 시
+     */
+    @SuppressWarnings("unchecked")
+    public String issue(CouponRedisRequest couponRedisRequest) {
+        Coupon coupon = couponRedisRequest.getCoupon();
+
+        List<String> keys = Arrays.asList(
+                couponRedisKeyManager.getCouponTokenPoolKey(coupon.getPublicId(), coupon.getCode()),
+                couponRedisRequest.getCouponTtlKey(),
+                couponRedisRequest.getCouponIssuedUserSetKey(),
+                couponRedisRequest.getCouponIssueIdKey()
+        );
+
+        List<Object> result = stringRedisTemplate.execute(issueFromTokenPoolScript, keys,
+                couponRedisRequest.getUserId(),
+                String.valueOf(couponRedisRequest.getTtlSeconds()),
+                END_OF_POOL,
+                String.valueOf(couponRedisRequest.getIssuedAtMillis()));
+
+        Long code = (result == null || result.isEmpty()) ? null : (Long) result.get(0);
+        if (!couponRedisService.applyIssueResult(couponRedisRequest, code)) {
+            return null;
+        }
+        if (code != RESULT_SUCCESS || result.size() < 2) {
+            // applyIssueResult가 실패 코드는 모두 예외로 처리하므로 여기에는 도달하지 않음
+            throw new CommonCustomException(CommonErrorCode.COUPON_ISSUE_SAVE_FAIL);
+        }
+        return (String) result.get(1);
+    }
+
+    /**
+     * 토큰 풀 초기화 (한 서버만 수행)
+     * - lease를 획득한 서버가 남은 재고 수만큼 토큰을 별도 키에 적재한 뒤 RENAMENX로 공개
+     * - lease를 얻지 못한 서버는 대기하지 않고 재시도 가능한 오류로 응답 (요청 스레드를 점유하지 않음)
+     * - 토큰 풀은 쿠폰 TTL과 함께 만료
+     *
+     * @param couponRedisRequest 쿠폰 발급 요청 (쿠폰, TTL)
+     * @param remainingStockLoader DB 기준 남은 재고 계산
+     * @throws CommonCustomException 다른 서버가 토큰 풀을 생성 중인 경우 (COUPON_ISSUE_NOT_READY)
+     */
+    public void initializeIfAbsent(CouponRedisRequest couponRedisRequest, LongSupplier remainingStockLoader) {
+        Coupon coupon = couponRedisRequest.getCoupon();
+        String poolKey = couponRedisKeyManager.getCouponTokenPoolKey(coupon.getPublicId(), coupon.getCode());
+
+        if (Boolean.TRUE.equals(stringRedisTemplate.hasKey(poolKey))) {
+            return;
+        }
+
+        String leaseName = INIT_LEASE_PREFIX + coupon.getPublicId();
+        if (!redisLeaseManager.tryAcquire(leaseName, initLockTimeout)) {
+            log.info("다른 서버에서 쿠폰 토큰 풀 생성 중. couponCode: {}", coupon.getCode());
+            throw new CommonCustomException(CommonErrorCode.COUPON_ISSUE_NOT_READY);
+        }
+
+        try {
+            if (Boolean.TRUE.equals(stringRedisTemplate.hasKey(poolKey))) {
+                return;
+            }
+            fillTokenPool(coupon, poolKey, remainingStockLoader.getAsLong(), couponRedisRequest.getTtlSeconds());
+        } finally {
+            redisLeaseManager.release(leaseName);
+        }
+    }
+
+    /**
+     * DB 저장 최종 실패 시 토큰을 풀에 되돌림
+     */
+    public void rollbackToken(String couponPublicId, String couponCode, String userId, String couponIssueId) {
+        List<String> keys = Arrays.asList(
+                couponRedisKeyManager.getCouponTokenPoolKey(couponPublicId, couponCode),
+                couponRedisKeyManager.getCouponIssuedUserSetKey(couponPublicId, couponCode),
+                couponRedisKeyManager.getCouponIssueIdKey(couponPublicId, couponCode)
+        );
+        stringRedisTemplate.execute(rollbackTokenScript, keys, userId, couponIssueId);
+        log.info("Redis 토큰 반환 완료. couponPublicId: {}, userId: {}, couponIssueId: {}", couponPublicId, userId, couponIssueId);
+    }
+
+    /**
+     * 토큰 풀 사용 여부 (토큰 풀 키 존재 여부)
+     */
+    public boolean isTokenPoolReady(String couponPublicId, String couponCode) {
+        return Boolean.TRUE.equals(stringRedisTemplate.hasKey(
+                couponRedisKeyManager.getCouponTokenPoolKey(couponPublicId, couponCode)));
+    }
+
+    // 별도 키에 토큰 + 종료 표시를 적재한 뒤 토큰 풀 키로 RENAMENX (적재 도중의 풀은 발급 경로에 보이지 않음)
+    private void fillTokenPool(Coupon coupon, String poolKey, long remainingStock, long ttlSeconds) {
+        String buildingKey = couponRedisKeyManager.getCouponTokenPoolBuildingKey(
+                coupon.getPublicId(), coupon.getCode(), UuidUtil.generate());
+
+        try {
+            List<String> chunk = new ArrayList<>(PUSH_CHUNK_SIZE);
+            for (long i = 0; i < remainingStock; i++) {
+                chunk.add(UuidUtil.generate());
+                if (chunk.size() == PUSH_CHUNK_SIZE) {
+                    stringRedisTemplate.opsForList().rightPushAll(buildingKey, chunk);
+                    chunk.clear();
+                }
+            }
+            chunk.add(END_OF_POOL);
+            stringRedisTemplate.opsForList().rightPushAll(buildingKey, chunk);
+            stringRedisTemplate.expire(buildingKey, Duration.ofSeconds(Math.max(1, ttlSeconds)));
+
+            if (!Boolean.TRUE.equals(stringRedisTemplate.renameIfAbsent(buildingKey, poolKey))) {
+                // 같은 서버의 다른 요청이 먼저 공개한 경우
+                stringRedisTemplate.delete(buildingKey);
+                return;
+            }
+        } catch (RuntimeException e) {
+            stringRedisTemplate.delete(buildingKey);
+            throw e;
+        }
+
+        log.info("Redis 쿠폰 토큰 풀 초기화 완료. couponCode: {}, tokenCount: {}", coupon.getCode(), remainingStock);
+    }
+}
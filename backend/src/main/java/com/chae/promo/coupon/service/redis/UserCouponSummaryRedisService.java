@@ -0,0 +1,224 @@
+package com.chae.promo.coupon.service.redis;
+
+import com.chae.promo.common.util.UuidUtil;
+import com.chae.promo.coupon.dto.CouponResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * 내 쿠폰 조회 read model
+ * - 사용자별 Hash(couponPublicId -> 쿠폰 요약 JSON)에 보유 쿠폰을 보관하여 HGETALL 1회로 응답
+ * - Hash가 있을 때만 발급 경로/Consumer가 필드를 추가 (Hash가 없는 상태에서 일부만 쓰면 전체 목록으로 오인하므로)
+ * - Hash가 없으면 DB 조회 결과로 전체를 한 번에 채움, 보유 쿠폰이 없는 사용자는 빈 표시 필드로 캐시
+ * - 재구성은 DB 조회 전에 재구성 표시 필드(토큰)로 Hash를 먼저 만들어 두어, DB 조회와 저장 사이의 발급도 필드로 추가되게 함
+ *   (재구성 중인 Hash는 조회 시 miss로 처리, 저장은 표시 토큰이 그대로일 때만 기존 필드를 지우지 않고 병합)
+ */
+@Slf4j
+@Service
+public class UserCouponSummaryRedisService {
+
+    // 보유 쿠폰이 없는 사용자 표시 필드 (Hash는 빈 상태로 존재할 수 없음)
+    private static final String EMPTY_MARKER_FIELD = "__empty__";
+    // 재구성 중 표시 필드 (값: 재구성 토큰)
+    private static final String REBUILDING_MARKER_FIELD = "__rebuilding__";
+
+    // [재구성 시작] 완성된 Hash가 없을 때만 재구성 표시 필드 저장 (이후 재구성 시작이 토큰을 덮어쓰면 이전 재구성은 저장하지 않음)
+    // KEYS[1]: userCouponSummaryKey
+    // ARGV[1]: 재구성 표시 필드, ARGV[2]: 재구성 토큰, ARGV[3]: 재구성 표시 ttlSeconds
+    // 반환 값: 1 (시작), 0 (이미 완성된 Hash 존재)
+    private static final String BEGIN_REBUILD_SCRIPT = """
+            if redis.call('EXISTS', KEYS[1]) == 1 and redis.call('HEXISTS', KEYS[1], ARGV[1]) == 0 then
+                return 0
+            end
+            redis.call('HSET', KEYS[1], ARGV[1], ARGV[2])
+            redis.call('EXPIRE', KEYS[1], ARGV[3])
+            return 1
+            """;
+
+    // [재구성 완료] 재구성 토큰이 그대로일 때만 DB 조회 결과를 병합 (재구성 중 추가된 필드는 유지)
+    // KEYS[1]: userCouponSummaryKey
+    // ARGV[1]: ttlSeconds, ARGV[2]: 재구성 표시 필드, ARGV[3]: 재구성 토큰, ARGV[4]: 빈 표시 필드
+    // ARGV[5..n]: field, value 쌍
+    // 반환 값: 1 (저장), 0 (다른 재구성이 진행 중이거나 표시가 만료됨)
+    private static final String REPLACE_SCRIPT = """
+            if redis.call('HGET', KEYS[1], ARGV[2]) ~= ARGV[3] then
+                return 0
+            end
+            redis.call('HDEL', KEYS[1], ARGV[2])
+            for i = 5, #ARGV, 2 do
+                redis.call('HSET', KEYS[1], ARGV[i], ARGV[i + 1])
+            end
+            if redis.call('HLEN', KEYS[1]) == 0 then
+                redis.call('HSET', KEYS[1], ARGV[4], '')
+            end
+            redis.call('EXPIRE', KEYS[1], ARGV[1])
+            return 1
+            """;
+
+    // [필드 추가] Hash가 있을 때만 추가 (없으면 다음 조회 시 DB에서 전체를 채움)
+    // KEYS[1]: userCouponSummaryKey
+    // ARGV[1]: couponPublicId, ARGV[2]: 쿠폰 요약 JSON, ARGV[3]: 빈 표시 필드
+    // 반환 값: 1 (추가), 0 (Hash 없음)
+    private static final String PUT_IF_PRESENT_SCRIPT = """
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                return 0
+            end
+            redis.call('HDEL', KEYS[1], ARGV[3])
+            redis.call('HSET', KEYS[1], ARGV[1], ARGV[2])
+            return 1
+            """;
+
+    private final DefaultRedisScript<Long> beginRebuildScript = new DefaultRedisScript<>(BEGIN_REBUILD_SCRIPT, Long.class);
+    private final DefaultRedisScript<Long> replaceScript = new DefaultRedisScript<>(REPLACE_SCRIPT, Long.class);
+    private final byte[] putIfPresentScript = PUT_IF_PRESENT_SCRIPT.getBytes(StandardCharsets.UTF_8);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final CouponRedisKeyManager couponRedisKeyManager;
+    private final ObjectMapper objectMapper;
+    private final long ttlSeconds;
+    private final long rebuildTtlSeconds;
+
+    public UserCouponSummaryRedisService(StringRedisTemplate stringRedisTemplate,
+                                         CouponRedisKeyManager couponRedisKeyManager,
+                                         ObjectMapper objectMapper,
+                                         @Value("${app.coupon.user-summary.ttl:PT1H}") Duration ttl,
+                                         @Value("${app.coupon.user-summary.rebuild-ttl:PT10S}") Duration rebuildTtl) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.couponRedisKeyManager = couponRedisKeyManager;
+        this.objectMapper = objectMapper;
+        this.ttlSeconds = ttl.toSeconds();
+        this.rebuildTtlSeconds = rebuildTtl.toSeconds();
+    }
+
+    /**
+     * 사용자 보유 쿠폰 요약 조회 (HGETALL 1회)
+     * @param userId 사용자 ID
+     * @return 보유 쿠폰 목록, Hash가 없거나 재구성 중이면 Optional.empty() (DB 조회 필요)
+     */
+    public Optional<List<CouponResponse.Info>> find(String userId) {
+        Map<Object, Object> entries = stringRedisTemplate.opsForHash()
+                .entries(couponRedisKeyManager.getUserCouponSummaryKey(userId));
+        if (entries.isEmpty() || entries.containsKey(REBUILDING_MARKER_FIELD)) {
+            return Optional.empty();
+        }
+
+        List<CouponResponse.Info> infos = new ArrayList<>(entries.size());
+        for (Map.Entry<Object, Object> entry : entries.entrySet()) {
+            if (EMPTY_MARKER_FIELD.equals(entry.getKey())) {
+                continue;
+            }
+            try {
+                infos.add(objectMapper.readValue(entry.getValue().toString(), CouponResponse.Info.class));
+            } catch (JsonProcessingException e) {
+                // 형식이 바뀐 요약은 신뢰할 수 없으므로 DB에서 다시 채움
+                log.warn("사용자 쿠폰 요약 역직렬화 실패 - DB 조회로 전환. userId: {}, couponPublicId: {}", userId, entry.getKey());
+                return Optional.empty();
+            }
+        }
+        return Optional.of(infos);
+    }
+
+    /**
+     * 재구성 시작 (DB 조회 전에 호출)
+     * - 이후 발급 경로의 필드 추가가 재구성 중인 Hash에 반영되므로, DB 조회 이후 발급된 쿠폰도 누락되지 않음
+     * @param userId 사용자 ID
+     * @return 재구성 토큰, 다른 서버가 이미 Hash를 채웠으면 Optional.empty() (저장 불필요)
+     */
+    public Optional<String> beginRebuild(String userId) {
+        String rebuildToken = UuidUtil.generate();
+        Long started = stringRedisTemplate.execute(beginRebuildScript,
+                List.of(couponRedisKeyManager.getUserCouponSummaryKey(userId)),
+                REBUILDING_MARKER_FIELD, rebuildToken, String.valueOf(rebuildTtlSeconds));
+        return Long.valueOf(1L).equals(started) ? Optional.of(rebuildToken) : Optional.empty();
+    }
+
+    /**
+     * DB 조회 결과로 사용자 보유 쿠폰 요약 재구성 완료
+     * @param userId 사용자 ID
+     * @param rebuildToken {@link #beginRebuild(String)}에서 받은 토큰
+     * @param infos 보유 쿠폰 목록 (재구성 중 추가된 필드도 없으면 빈 표시 필드 저장)
+     * @return 저장 여부 (다른 재구성이 토큰을 덮어썼거나 표시가 만료되면 false)
+     */
+    public boolean replaceAll(String userId, String rebuildToken, List<CouponResponse.Info> infos) {
+        List<String> args = new ArrayList<>(infos.size() * 2 + 4);
+        args.add(String.valueOf(ttlSeconds));
+        args.add(REBUILDING_MARKER_FIELD);
+        args.add(rebuildToken);
+        args.add(EMPTY_MARKER_FIELD);
+        for (CouponResponse.Info info : infos) {
+            args.add(info.getCouponId());
+            args.add(toJson(info));
+        }
+
+        Long replaced = stringRedisTemplate.execute(replaceScript,
+                List.of(couponRedisKeyManager.getUserCouponSummaryKey(userId)), args.toArray());
+        return Long.valueOf(1L).equals(replaced);
+    }
+
+    /**
+     * 발급된 쿠폰 요약 추가 (Hash가 있을 때만)
+     * @param userId 사용자 ID
+     * @param info 발급된 쿠폰 요약
+     */
+    public void putIfPresent(String userId, CouponResponse.Info info) {
+        putAllIfPresent(Map.of(userId, List.of(info)));
+    }
+
+    /**
+     * 발급된 쿠폰 요약 일괄 추가 (Hash가 있는 사용자만, pipeline 1회 왕복)
+     * @param infosByUserId 사용자 ID별 발급된 쿠폰 요약 목록
+     */
+    public void putAllIfPresent(Map<String, List<CouponResponse.Info>> infosByUserId) {
+        if (infosByUserId.isEmpty()) {
+            return;
+        }
+        byte[] emptyMarker = bytes(EMPTY_MARKER_FIELD);
+
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            infosByUserId.forEach((userId, infos) -> {
+                byte[] key = bytes(couponRedisKeyManager.getUserCouponSummaryKey(userId));
+                for (CouponResponse.Info info : infos) {
+                    eval(connection, key, bytes(info.getCouponId()), bytes(toJson(info)), emptyMarker);
+                }
+            });
+            return null;
+        });
+    }
+
+    /**
+     * 발급 실패(보상)된 쿠폰 요약 제거
+     * @param userId 사용자 ID
+     * @param couponPublicId 쿠폰 publicId
+     */
+    public void remove(String userId, String couponPublicId) {
+        stringRedisTemplate.opsForHash().delete(couponRedisKeyManager.getUserCouponSummaryKey(userId), couponPublicId);
+    }
+
+    private void eval(RedisConnection connection, byte[]... keyAndArgs) {
+        connection.scriptingCommands().eval(putIfPresentScript, ReturnType.INTEGER, 1, keyAndArgs);
+    }
+
+    private String toJson(CouponResponse.Info info) {
+        try {
+            return objectMapper.writeValueAsString(info);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("쿠폰 요약 직렬화 실패. couponPublicId: " + info.getCouponId(), e);
+        }
+    }
+
+    private byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
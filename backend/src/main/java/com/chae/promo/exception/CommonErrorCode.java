@@ -12,12 +12,14 @@ public enum CommonErrorCode {
     INVALID_REFRESH_TOKEN(HttpStatus.UNAUTHORIZED,"INVALID_REFRESH_TOKEN", "유효하지 않은 리프레시 토큰입니다."),
     REFRESH_TOKEN_EXPIRED(HttpStatus.UNAUTHORIZED,"REFRESH_TOKEN_EXPIRED", "리프레시 토큰이 만료되었습니다."),
     VALIDATION_FAILED(HttpStatus.BAD_REQUEST, "VALIDATION_FAILED", "입력 값 유효성 검증에 실패했습니다."),
+    INVALID_CURSOR(HttpStatus.BAD_REQUEST, "INVALID_CURSOR", "유효하지 않은 페이지 커서입니다."),
     COUPON_ALREADY_ISSUED(HttpStatus.CONFLICT, "COUPON_ALREADY_ISSUED", "이미 발급된 쿠폰입니다."),
     COUPON_EXPIRED(HttpStatus.BAD_REQUEST, "COUPON_EXPIRED", "쿠폰이 만료되었습니다."),
     COUPON_SOLD_OUT(HttpStatus.GONE, "COUPON_SOLD_OUT", "쿠폰이 소진되었습니다."),
     COUPON_OUT_OF_STOCK(HttpStatus.CONFLICT, "COUPON_OUT_OF_STOCK", "쿠폰이 소진되었습니다."),
     COUPON_NOT_FOUND(HttpStatus.NOT_FOUND, "COUPON_NOT_FOUND", "존재하지 않는 쿠폰입니다."),
     COUPON_ISSUE_SAVE_FAIL(HttpStatus.INTERNAL_SERVER_ERROR, "COUPON_ISSUE_SAVE_FAIL", "쿠폰 발급 처리 중 오류가 발생했습니다."),
+    COUPON_ISSUE_NOT_READY(HttpStatus.SERVICE_UNAVAILABLE, "COUPON_ISSUE_NOT_READY", "쿠폰 발급을 준비 중입니다. 잠시 후 다시 시도해주세요."),
     COUPON_ISSUE_DATA_ACCESS_FAIL(HttpStatus.INTERNAL_SERVER_ERROR, "COUPON_ISSUE_DATA_ACCESS_FAIL", "쿠폰 발급 처리 중 오류가 발생했습니다."),
 
     //주문
@@ -0,0 +1,20 @@
+package com.chae.promo.order.controller;
+
+import com.chae.promo.order.service.redis.StockWarmUpService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/admin/stocks")
+@RequiredArgsConstructor
+public class StockAdminController {
+
+    private final StockWarmUpService stockWarmUpService;
+
+    //TODO: 추후 관리자 인증/권한 검증 로직 추가 예정
+    @PostMapping("/warm-up")
+    public ResponseEntity<StockWarmUpService.WarmUpResult> warmUp() {
+        return ResponseEntity.ok(stockWarmUpService.warmUpAll());
+    }
+}
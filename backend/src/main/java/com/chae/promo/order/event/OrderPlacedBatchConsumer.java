@@ -0,0 +1,76 @@
+package com.chae.promo.order.event;
+
+import com.chae.promo.common.kafka.TopicNames;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+// 역할: 주문 완료 이벤트를 poll 단위로 수신하여 상품별 합산 재고 차감 (app.order.consumer.batch-enabled=true 일 때만 동작)
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OrderPlacedBatchConsumer {
+
+    private final OrderPlacedBatchHandlerService batchHandlerService;
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+
+    /**
+     * 주문 완료 이벤트 배치 처리
+     * - 단건 리스너(OrderPlacedEventConsumer)와 같은 그룹을 사용하므로 둘 중 하나만 기동
+     * - fetch.min.bytes/fetch.max.wait.ms로 짧은 시간 동안 레코드를 모아 한 번에 처리
+     * - 실패한 레코드만 예외 정보 헤더와 함께 DLT로 전송
+     *
+     * @param events 한 번의 poll로 수신한 주문 완료 이벤트 목록
+     */
+    @KafkaListener(
+            id = "orderPlacedBatchListener",
+            topics = TopicNames.ORDER_PLACED,
+            groupId = "order.group",
+            containerFactory = "batchKafkaListenerContainerFactory",
+            autoStartup = "${app.order.consumer.batch-enabled:false}",
+            properties = {
+                    "max.poll.records=${app.order.consumer.batch-max-poll-records:500}",
+                    "fetch.min.bytes=${app.order.consumer.batch-min-bytes:65536}",
+                    "fetch.max.wait.ms=${app.order.consumer.batch-window-ms:50}"
+            }
+    )
+    public void handleOrderPlacedBatch(List<OrderPlacedEvent> events) {
+        log.info("주문 완료 이벤트 배치 수신: size={}", events.size());
+
+        List<OrderPlacedBatchHandlerService.Failure> failures = batchHandlerService.processProductStockChanges(events);
+        if (failures.isEmpty()) {
+            return;
+        }
+
+        // DLT 전송이 끝나야 offset 커밋 (전송 실패 시 예외 -> 배치 재처리, audit eventId로 멱등)
+        CompletableFuture.allOf(failures.stream()
+                .map(failure -> kafkaTemplate.send(toDltRecord(failure)))
+                .toArray(CompletableFuture[]::new)
+        ).join();
+
+        log.warn("주문 재고 처리 실패 레코드 DLT 전송: size={}", failures.size());
+    }
+
+    // DltHandler가 읽는 예외 헤더를 함께 기록
+    private ProducerRecord<String, Object> toDltRecord(OrderPlacedBatchHandlerService.Failure failure) {
+        OrderPlacedEvent event = failure.event();
+        ProducerRecord<String, Object> record =
+                new ProducerRecord<>(TopicNames.ORDER_PLACED_DLT, event.getOrderPublicId(), event);
+
+        byte[] exceptionClassName = failure.cause().getClass().getName().getBytes(StandardCharsets.UTF_8);
+        byte[] exceptionMessage = String.valueOf(failure.cause().getMessage()).getBytes(StandardCharsets.UTF_8);
+        record.headers().add(KafkaHeaders.EXCEPTION_FQCN, exceptionClassName);
+        record.headers().add(KafkaHeaders.EXCEPTION_MESSAGE, exceptionMessage);
+        record.headers().add(KafkaHeaders.DLT_EXCEPTION_FQCN, exceptionClassName);
+        record.headers().add(KafkaHeaders.DLT_EXCEPTION_MESSAGE, exceptionMessage);
+        return record;
+    }
+}
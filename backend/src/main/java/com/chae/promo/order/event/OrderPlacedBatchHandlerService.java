@@ -0,0 +1,79 @@
+package com.chae.promo.order.event;
+
+import com.chae.promo.order.service.redis.StockRedisService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// 역할: 주문 완료 이벤트 배치 재고 처리 (배치 리스너 전용)
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class OrderPlacedBatchHandlerService {
+
+    private final OrderStockProcessor orderStockProcessor;
+    private final StockRedisService stockRedisService;
+
+    /**
+     * 처리에 실패한 이벤트와 원인 예외
+     */
+    public record Failure(OrderPlacedEvent event, Exception cause) {
+    }
+
+    /**
+     * 주문 완료 이벤트 목록의 재고를 한 번에 차감
+     * - 상품별 수량을 합산해 DB 반영 후 커밋되면 이벤트별로 Redis 재고 확정
+     * - 배치가 실패하거나 배치에서 제외된 이벤트는 기존 단건 처리(상품 검증 + 차감 + Redis 확정)로 재시도
+     *
+     * @param events 주문 완료 이벤트 목록
+     * @return 처리에 실패한 이벤트 목록 (DLT 대상)
+     */
+    public List<Failure> processProductStockChanges(List<OrderPlacedEvent> events) {
+        if (events.isEmpty()) {
+            return List.of();
+        }
+
+        OrderStockProcessor.BatchResult result;
+        try {
+            result = orderStockProcessor.processStockDecreaseBatch(events);
+        } catch (Exception e) {
+            log.warn("주문 재고 배치 처리 실패 - 이벤트 단위로 재시도. size: {}, cause: {}", events.size(), e.getMessage());
+            return processOneByOne(events);
+        }
+
+        // DB 커밋 후 Redis 확정 (DB가 기준이므로 확정 실패는 DLT로 보내지 않고 기록만)
+        for (OrderPlacedEvent event : result.applied()) {
+            confirmStockInRedisQuietly(event);
+        }
+
+        return processOneByOne(result.rejected());
+    }
+
+    private List<Failure> processOneByOne(List<OrderPlacedEvent> events) {
+        List<Failure> failures = new ArrayList<>();
+        for (OrderPlacedEvent event : events) {
+            try {
+                orderStockProcessor.processStockDecrease(event);
+            } catch (Exception e) {
+                log.warn("주문 재고 처리 실패. eventId: {}, orderPublicId: {}, error: {}",
+                        event.getEventId(), event.getOrderPublicId(), e.getMessage());
+                failures.add(new Failure(event, e));
+            }
+        }
+        return failures;
+    }
+
+    private void confirmStockInRedisQuietly(OrderPlacedEvent event) {
+        for (OrderPlacedEvent.Item item : event.getItems()) {
+            try {
+                stockRedisService.confirm(item.getProductCode(), event.getOrderPublicId());
+            } catch (Exception e) {
+                log.error("Redis 재고 확정 실패 (DB 차감 완료). productCode: {}, orderPublicId: {}, eventId: {}, error: {}",
+                        item.getProductCode(), event.getOrderPublicId(), event.getEventId(), e.getMessage());
+            }
+        }
+    }
+}
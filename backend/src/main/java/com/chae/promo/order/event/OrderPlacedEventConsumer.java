@@ -2,6 +2,8 @@ package com.chae.promo.order.event;
 
 import com.chae.promo.common.kafka.TopicNames;
 import com.chae.promo.exception.CommonCustomException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataIntegrityViolationException;
@@ -15,27 +17,43 @@ import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.retry.annotation.Backoff;
 import org.springframework.stereotype.Component;
 
+import java.time.Clock;
+import java.time.Duration;
+
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class OrderPlacedEventConsumer {
 
+    private static final String RETRY_METRIC = "order.placed.retry";
+    private static final String DELAY_METRIC = "order.placed.consume.delay";
+    private static final String DLT_METRIC = "order.placed.dlt";
+
     private final OrderPlacedHandlerService handlerService;
+    private final MeterRegistry meterRegistry;
+    private final Clock clock;
 
     @RetryableTopic(
             attempts = "4", // 총 4번 시도 (최초 1번 + 재시도 3번)
             backoff = @Backoff(delay = 1000, multiplier = 2), // 1초, 2초, 4초 간격으로 재시도
             dltStrategy = DltStrategy.FAIL_ON_ERROR, // DLQ로 보내는 것조차 실패하면 에러를 남기고 중지
             autoCreateTopics = "false", // 자동으로 토픽을 생성하지 않음
-            exclude = { // 재시도 제외 exception
+            exclude = { // 재시도 제외 exception (낙관적 락 충돌은 재시도 토픽에서 지연 후 재시도)
                     CommonCustomException.class,
-                    OptimisticLockingFailureException.class,
                     DataIntegrityViolationException.class
             }
     )
-    @KafkaListener(topics = TopicNames.ORDER_PLACED, groupId = "order.group")
-    public void handleOrderPlaced(OrderPlacedEvent event) {
-        log.info("구매 요청 이벤트 수신: {}", event);
+    @KafkaListener(
+            topics = TopicNames.ORDER_PLACED,
+            groupId = "order.group",
+            autoStartup = "#{!${app.order.consumer.batch-enabled:false}}" // 배치 리스너 사용 시 단건 리스너는 기동하지 않음
+    )
+    public void handleOrderPlaced(OrderPlacedEvent event,
+                                  @Header(KafkaHeaders.RECEIVED_TOPIC) String topic,
+                                  @Header(KafkaHeaders.RECEIVED_TIMESTAMP) long timestamp) {
+        log.info("구매 요청 이벤트 수신: topic={}, {}", topic, event);
+
+        recordReceived(topic, timestamp);
 
         // 처리 로직
         handlerService.processProductStockChange(event);
@@ -51,6 +69,8 @@ public class OrderPlacedEventConsumer {
                 exceptionClassName.equals(CommonCustomException.class.getName()) ||
                 exceptionClassName.equals(DataIntegrityViolationException.class.getName());
 
+        meterRegistry.counter(DLT_METRIC, "type", isBusinessException ? "business" : "system").increment();
+
         if (isBusinessException) {
             //  비즈니스 예외: 에러 로그만 기록
             log.warn("""
@@ -74,4 +94,19 @@ public class OrderPlacedEventConsumer {
             // TODO: 외부 알림 서비스 호출
         }
     }
-}
\ No newline at end of file
+
+    // 재시도 횟수(재시도 토픽 수신 수)와 레코드 생성 후 처리까지의 지연 기록
+    // - stage=main : 원본 토픽 지연 (재시도가 파티션을 막지 않으므로 재시도 중에도 늘지 않아야 함)
+    // - stage=retry : 재시도 토픽 지연 (backoff 대기 포함)
+    private void recordReceived(String topic, long timestamp) {
+        boolean retry = !TopicNames.ORDER_PLACED.equals(topic);
+        if (retry) {
+            meterRegistry.counter(RETRY_METRIC, "topic", topic).increment();
+        }
+        Timer.builder(DELAY_METRIC)
+                .description("ORDER_PLACED 레코드 생성부터 처리 시작까지의 지연")
+                .tag("stage", retry ? "retry" : "main")
+                .register(meterRegistry)
+                .record(Duration.ofMillis(Math.max(0, clock.millis() - timestamp)));
+    }
+}
@@ -4,8 +4,11 @@ import com.chae.promo.common.kafka.TopicNames;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Component;
 
+import java.util.concurrent.CompletableFuture;
+
 @Component
 @RequiredArgsConstructor
 @Slf4j
@@ -38,6 +41,15 @@ public class OrderPlacedEventPublisher {
         }
     }
 
+    /**
+     * 비동기 : 멱등키(eventId)를 key로 전송하고 전송 결과 future 반환 (호출 측에서 ack 대기)
+     * @param event 주문 완료 이벤트
+     * @return 전송 결과
+     */
+    public CompletableFuture<SendResult<String, Object>> publishOrderPlacedAsync(OrderPlacedEvent event) {
+        return kafkaTemplate.send(TopicNames.ORDER_PLACED, event.getEventId(), event);
+    }
+
     /**
      * 동기 : 멱등키(eventId)를 기본 key로 쓰는 동기 전송
      * @param event 주문 완료 이벤트
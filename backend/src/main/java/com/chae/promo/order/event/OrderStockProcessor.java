@@ -1,6 +1,17 @@
 package com.chae.promo.order.event;
 
+import java.util.List;
+
 public interface OrderStockProcessor {
     void processStockDecrease(OrderPlacedEvent event);
 
+    BatchResult processStockDecreaseBatch(List<OrderPlacedEvent> events);
+
+    /**
+     * 배치 재고 차감 결과
+     * @param applied DB 재고 차감/audit 저장이 완료된 이벤트 (Redis 확정 대상)
+     * @param rejected 배치에서 제외되어 단건 처리가 필요한 이벤트
+     */
+    record BatchResult(List<OrderPlacedEvent> applied, List<OrderPlacedEvent> rejected) {
+    }
 }
@@ -3,18 +3,23 @@ package com.chae.promo.order.event;
 import com.chae.promo.order.service.redis.StockRedisService;
 import com.chae.promo.product.dto.ProductRequest;
 import com.chae.promo.product.entity.Product;
+import com.chae.promo.product.entity.ProductStatus;
 import com.chae.promo.product.entity.ProductStockAudit;
 import com.chae.promo.product.repository.ProductBulkRepository;
+import com.chae.promo.product.repository.ProductRepository;
+import com.chae.promo.product.repository.ProductStockAuditBulkRepository;
+import com.chae.promo.product.repository.ProductStockLedgerRepository;
 import com.chae.promo.product.repository.ProductStockAuditRepository;
 import com.chae.promo.product.util.ProductValidator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
-import java.util.Map;
+import java.util.*;
+import java.util.stream.Collectors;
 
 
 @Slf4j
@@ -23,10 +28,21 @@ import java.util.Map;
 public class OrderStockProcessorImpl implements OrderStockProcessor{
 
     private final ProductStockAuditRepository productStockAuditRepository;
+    private final ProductStockAuditBulkRepository productStockAuditBulkRepository;
+    private final ProductStockLedgerRepository productStockLedgerRepository;
     private final ProductBulkRepository productBulkRepository;
+    private final ProductRepository productRepository;
     private final ProductValidator productValidator;
     private final StockRedisService stockRedisService;
 
+    // true: 재고 변경을 원장(product_stock_ledger)에 append, false: products.stock_quantity 직접 차감
+    @Value("${app.stock.ledger.enabled:false}")
+    private boolean ledgerEnabled;
+
+    // audit을 기록할 주문 항목 (차감 전 재고가 확정된 뒤 audit 재고를 계산)
+    private record AuditLine(OrderPlacedEvent event, OrderPlacedEvent.Item item, Product product) {
+    }
+
     /**
      * 주문으로 인한 상품 재고 감소 처리
      * - 신규 트랜잭션으로 처리
@@ -53,6 +69,86 @@ public class OrderStockProcessorImpl implements OrderStockProcessor{
 
     }
 
+    /**
+     * 여러 주문 이벤트의 재고 감소를 한 트랜잭션으로 처리
+     * - 이미 처리된 이벤트(audit 존재)는 건너뜀
+     * - 상품이 없거나 판매중이 아닌 이벤트는 제외(rejected)하여 단건 처리로 넘김
+     * - 상품별 차감 수량을 합산해 UPDATE 1건으로 반영 (재고 부족이면 배치 전체 롤백, ledger 모드는 원장 append)
+     * - audit 재고는 상품 row lock을 잡은 상태에서 읽은 재고로 계산 (동시에 실행되는 배치와 섞이지 않도록 함)
+     * - Redis 확정은 커밋 후 호출자가 수행
+     *
+     * @param events 주문 완료 이벤트 목록
+     * @return 반영/제외 이벤트
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public BatchResult processStockDecreaseBatch(List<OrderPlacedEvent> events) {
+        Set<String> processedEventIds = new HashSet<>(productStockAuditRepository.findEventIdsByEventIdIn(
+                events.stream().map(OrderPlacedEvent::getEventId).toList()));
+
+        List<String> productCodes = events.stream()
+                .flatMap(event -> event.getItems().stream())
+                .map(OrderPlacedEvent.Item::getProductCode)
+                .distinct()
+                .toList();
+        Map<String, Product> productMap = productRepository.findByCodeIn(productCodes)
+                .stream()
+                .collect(Collectors.toMap(Product::getCode, product -> product));
+
+        List<OrderPlacedEvent> applied = new ArrayList<>();
+        List<OrderPlacedEvent> rejected = new ArrayList<>();
+        Set<String> batchEventIds = new HashSet<>();
+        List<ProductStockLedgerRepository.LedgerEntry> ledgerEntries = new ArrayList<>();
+        Map<Long, Long> decreasedStockByProductId = new HashMap<>();
+        List<AuditLine> auditLines = new ArrayList<>();
+
+        for (OrderPlacedEvent event : events) {
+            // 재전달(이미 처리되었거나 같은 배치에 중복)된 이벤트
+            if (processedEventIds.contains(event.getEventId()) || !batchEventIds.add(event.getEventId())) {
+                log.info("이미 처리된 주문 이벤트 - 건너뜀. eventId: {}, orderPublicId: {}",
+                        event.getEventId(), event.getOrderPublicId());
+                continue;
+            }
+
+            boolean valid = event.getItems().stream().allMatch(item -> {
+                Product product = productMap.get(item.getProductCode());
+                return product != null && product.getStatus() == ProductStatus.FOR_SALE;
+            });
+            if (!valid) {
+                rejected.add(event);
+                continue;
+            }
+
+            for (OrderPlacedEvent.Item item : event.getItems()) {
+                Product product = productMap.get(item.getProductCode());
+                decreasedStockByProductId.merge(product.getId(), item.getDecreasedStock(), Long::sum);
+                auditLines.add(new AuditLine(event, item, product));
+                ledgerEntries.add(prepareLedgerEntry(item, product, event));
+            }
+            applied.add(event);
+        }
+
+        if (!decreasedStockByProductId.isEmpty()) {
+            Map<Long, Long> stockBefore;
+            if (ledgerEnabled) {
+                // 상품 row lock 후 products 재고 + 원장 합계를 읽고 원장 append (products row UPDATE 없음)
+                stockBefore = productStockLedgerRepository.findCurrentStockForUpdate(decreasedStockByProductId.keySet());
+                productStockLedgerRepository.append(ledgerEntries);
+            } else {
+                // DB 재고 차감 (JDBC, 상품별 1건)
+                productBulkRepository.bulkDecreaseStockBySum(decreasedStockByProductId);
+                stockBefore = findStockBeforeDecrease(decreasedStockByProductId);
+            }
+
+            //Audit 저장 (JDBC multi-row INSERT)
+            productStockAuditBulkRepository.bulkInsert(prepareAudits(auditLines, stockBefore));
+        }
+
+        log.info("DB 재고 배치 차감 및 audit 기록 성공. events: {}, applied: {}, rejected: {}, products: {}",
+                events.size(), applied.size(), rejected.size(), decreasedStockByProductId.size());
+
+        return new BatchResult(applied, rejected);
+    }
+
     private Map<String, Product> getAndValidateProduct(List<OrderPlacedEvent.Item> itemList) {
         return productValidator.getAndValidateProductMap(
                 itemList,
@@ -60,13 +156,26 @@ public class OrderStockProcessorImpl implements OrderStockProcessor{
                 OrderPlacedEvent.Item::getDecreasedStock);
     }
 
-    private ProductStockAudit prepareAudit(OrderPlacedEvent.Item item,
-                                           Product product,
-                                           OrderPlacedEvent event) {
+    // 차감 UPDATE가 잡은 row lock 안에서 다시 읽은 재고 + 이번 차감량 = 차감 전 재고
+    private Map<Long, Long> findStockBeforeDecrease(Map<Long, Long> decreasedStockByProductId) {
+        Map<Long, Long> stock = productBulkRepository.findStockForUpdate(decreasedStockByProductId.keySet());
+        decreasedStockByProductId.forEach((productId, decreased) -> stock.merge(productId, decreased, Long::sum));
+        return stock;
+    }
 
+    // 차감 전 재고에서 항목 순서대로 차감하며 audit 재고 계산
+    private List<ProductStockAudit> prepareAudits(List<AuditLine> auditLines, Map<Long, Long> stockBefore) {
+        Map<Long, Long> stock = new HashMap<>(stockBefore);
+        return auditLines.stream()
+                .map(line -> prepareAudit(line.item(), line.product(), line.event(),
+                        stock.merge(line.product().getId(), -line.item().getDecreasedStock(), Long::sum)))
+                .toList();
+    }
 
-        long changedQuantity = item.getDecreasedStock();
-        long newStock = product.getStockQuantity() - changedQuantity;
+    private ProductStockAudit prepareAudit(OrderPlacedEvent.Item item,
+                                           Product product,
+                                           OrderPlacedEvent event,
+                                           long newStock) {
 
         return ProductStockAudit.builder()
                 .productId(product.getId())
@@ -91,10 +200,18 @@ public class OrderStockProcessorImpl implements OrderStockProcessor{
     }
 
     private void applyStockChangeAndSaveAudit(OrderPlacedEvent event, List<OrderPlacedEvent.Item> itemList, Map<String, Product> productMap) {
-        // audit 객체 및 재고 업데이트 DTO 생성
-        List<ProductStockAudit> audits = itemList.stream()
-                .map(item -> prepareAudit(item, productMap.get(item.getProductCode()), event))
+        if (ledgerEnabled) {
+            appendLedgerAndSaveAudit(event, itemList, productMap);
+            return;
+        }
+
+        // audit 대상 및 재고 업데이트 DTO 생성
+        List<AuditLine> auditLines = itemList.stream()
+                .map(item -> new AuditLine(event, item, productMap.get(item.getProductCode())))
                 .toList();
+        Map<Long, Long> decreasedStockByProductId = itemList.stream()
+                .collect(Collectors.toMap(item -> productMap.get(item.getProductCode()).getId(),
+                        OrderPlacedEvent.Item::getDecreasedStock, Long::sum));
 
         List<ProductRequest.StockBulkUpdate> bulkUpdates = itemList.stream()
                 .map(item -> prepareStockUpdate(item, productMap.get(item.getProductCode())))
@@ -104,9 +221,8 @@ public class OrderStockProcessorImpl implements OrderStockProcessor{
         // DB 재고 차감 (JDBC)
         productBulkRepository.bulkUpdateStock(bulkUpdates);
 
-        //Audit 저장 (JPA) + 조기 검증을 위한 flush
-        productStockAuditRepository.saveAll(audits);
-        productStockAuditRepository.flush();
+        //Audit 저장 (JDBC multi-row INSERT, 상품 N개여도 statement 1회)
+        productStockAuditBulkRepository.bulkInsert(prepareAudits(auditLines, findStockBeforeDecrease(decreasedStockByProductId)));
 
         log.info("DB 재고 차감 및 audit 기록 성공. eventId: {}, orderPublicId: {}, userId: {}, 처리된 상품 수: {}",
                 event.getEventId(), event.getOrderPublicId(), event.getUserId(), itemList.size());
@@ -114,6 +230,38 @@ public class OrderStockProcessorImpl implements OrderStockProcessor{
     }
 
 
+    // ledger 모드: 재고 변경을 원장에 append하고 audit 기록 (products row UPDATE/version 비교 없음)
+    private void appendLedgerAndSaveAudit(OrderPlacedEvent event, List<OrderPlacedEvent.Item> itemList, Map<String, Product> productMap) {
+        // 상품 row lock 후 products 재고 + 원장 합계 조회 (같은 상품의 다른 append/정리와 직렬화)
+        Map<Long, Long> currentStock = productStockLedgerRepository.findCurrentStockForUpdate(
+                productMap.values().stream().map(Product::getId).toList());
+
+        List<AuditLine> auditLines = new ArrayList<>(itemList.size());
+        List<ProductStockLedgerRepository.LedgerEntry> entries = new ArrayList<>(itemList.size());
+        for (OrderPlacedEvent.Item item : itemList) {
+            Product product = productMap.get(item.getProductCode());
+            auditLines.add(new AuditLine(event, item, product));
+            entries.add(prepareLedgerEntry(item, product, event));
+        }
+
+        productStockLedgerRepository.append(entries);
+        productStockAuditBulkRepository.bulkInsert(prepareAudits(auditLines, currentStock));
+
+        log.info("재고 원장 기록 및 audit 기록 성공. eventId: {}, orderPublicId: {}, userId: {}, 처리된 상품 수: {}",
+                event.getEventId(), event.getOrderPublicId(), event.getUserId(), itemList.size());
+    }
+
+    private ProductStockLedgerRepository.LedgerEntry prepareLedgerEntry(OrderPlacedEvent.Item item,
+                                                                        Product product,
+                                                                        OrderPlacedEvent event) {
+        return ProductStockLedgerRepository.LedgerEntry.builder()
+                .productId(product.getId())
+                .delta(-item.getDecreasedStock())
+                .eventId(event.getEventId())
+                .orderPublicId(event.getOrderPublicId())
+                .build();
+    }
+
     private void confirmStockInRedis(List<OrderPlacedEvent.Item> itemList, String orderPublicId) {
         itemList.forEach(item ->
                 stockRedisService.confirm(item.getProductCode(), orderPublicId)
@@ -0,0 +1,124 @@
+package com.chae.promo.order.repository;
+
+import com.chae.promo.order.entity.Order;
+import com.chae.promo.order.entity.OrderItem;
+import com.chae.promo.order.entity.ShippingInfo;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 주문 생성 JDBC 저장 (orders + order_items + shipping_info)
+ * - JPA는 IDENTITY 전략이라 엔티티마다 INSERT가 실행되고 영속성 컨텍스트에 등록되므로,
+ *   주문 헤더 1건 + 주문 상품 multi-row 1건 + 배송 정보 1건, 총 3개 statement로 저장
+ * - 호출한 트랜잭션의 커넥션을 그대로 사용 (JPA 저장과 같은 트랜잭션)
+ * - 저장한 엔티티는 영속성 컨텍스트에 등록되지 않으므로, 같은 트랜잭션 안에서 JPA로 다시 조회/수정하지 않는 경로에서만 사용
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class OrderJdbcRepository {
+    private static final String INSERT_ORDER_SQL = """
+            INSERT INTO orders (public_id, customer_id, orderer_name, total_price, status, product_name,
+                                created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final String INSERT_ITEMS_PREFIX = """
+            INSERT INTO order_items (order_id, product_id, quantity, unit_price)
+            VALUES
+            """;
+    private static final String ITEM_ROW_PLACEHOLDER = "(?, ?, ?, ?)";
+
+    private static final String INSERT_SHIPPING_INFO_SQL = """
+            INSERT INTO shipping_info (order_id, recipient_name, address, zipcode, phone_number, memo,
+                                       created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Clock clock; // JPA auditing(auditingDateTimeProvider)과 같은 Asia/Seoul 기준 시각
+
+    /**
+     * 주문, 주문 상품, 배송 정보 저장
+     *
+     * @param order        저장할 주문 (orderItems 포함, 아직 저장되지 않은 엔티티)
+     * @param shippingInfo 배송 정보 (없으면 null)
+     * @return 생성된 주문 ID
+     */
+    public long insert(Order order, ShippingInfo shippingInfo) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now(clock));
+
+        long orderId = insertOrder(order, now);
+        insertItems(orderId, order.getOrderItems());
+        if (shippingInfo != null) {
+            insertShippingInfo(orderId, shippingInfo, now);
+        }
+        return orderId;
+    }
+
+    private long insertOrder(Order order, Timestamp now) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(INSERT_ORDER_SQL, Statement.RETURN_GENERATED_KEYS);
+            ps.setString(1, order.getPublicId());
+            ps.setObject(2, order.getCustomerId());
+            ps.setString(3, order.getOrdererName());
+            ps.setBigDecimal(4, order.getTotalPrice());
+            ps.setString(5, order.getStatus().name());
+            ps.setString(6, order.getProductName());
+            ps.setTimestamp(7, now);
+            ps.setTimestamp(8, now);
+            return ps;
+        }, keyHolder);
+
+        return Objects.requireNonNull(keyHolder.getKey(), "주문 ID 생성 실패").longValue();
+    }
+
+    private void insertItems(long orderId, List<OrderItem> items) {
+        if (items.isEmpty()) {
+            return;
+        }
+
+        StringBuilder sql = new StringBuilder(INSERT_ITEMS_PREFIX);
+        List<Object> args = new ArrayList<>(items.size() * 4);
+        for (int i = 0; i < items.size(); i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append(ITEM_ROW_PLACEHOLDER);
+
+            OrderItem item = items.get(i);
+            args.add(orderId);
+            args.add(item.getProduct().getId());
+            args.add(item.getQuantity());
+            args.add(item.getUnitPrice());
+        }
+
+        jdbcTemplate.update(sql.toString(), args.toArray());
+    }
+
+    private void insertShippingInfo(long orderId, ShippingInfo shippingInfo, Timestamp now) {
+        jdbcTemplate.update(INSERT_SHIPPING_INFO_SQL,
+                orderId,
+                shippingInfo.getRecipientName(),
+                shippingInfo.getAddress(),
+                shippingInfo.getZipcode(),
+                shippingInfo.getPhoneNumber(),
+                shippingInfo.getMemo(),
+                now,
+                now);
+    }
+}
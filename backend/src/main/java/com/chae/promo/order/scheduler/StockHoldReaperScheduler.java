@@ -0,0 +1,142 @@
+package com.chae.promo.order.scheduler;
+
+import com.chae.promo.common.lease.RedisLeaseManager;
+import com.chae.promo.common.lease.ShardLeaseAssigner;
+import com.chae.promo.order.service.redis.StockHoldReaperService;
+import com.chae.promo.order.service.redis.StockRedisKeyManager;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 만료 hold 정리 스케줄러
+ * - SKU를 shard로 나누고, shard별 Redis lease를 가진 서버만 해당 SKU를 정리 (서버가 죽으면 lease 만료 후 다른 서버가 인계)
+ * - 살아 있는 서버 수로 나눈 몫만큼만 lease를 보유 ({@link ShardLeaseAssigner}, 한 서버가 모든 shard를 독점하지 않음)
+ * - hold_index 키를 SCAN으로 찾아 SKU별로 정리
+ */
+@Slf4j
+@Component
+public class StockHoldReaperScheduler {
+
+    private static final String LEASE_NAME_PREFIX = "stock:hold-reaper"; // lease 이름 = stock:hold-reaper:{shard}
+    private static final String WORKERS_KEY = "stock:hold-reaper:workers";
+
+    private final StockHoldReaperService stockHoldReaperService;
+    private final StockRedisKeyManager stockRedisKeyManager;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ShardLeaseAssigner shardLeaseAssigner;
+    private final Clock clock;
+
+    private final boolean enabled;
+    private final int shardCount;
+    private final long graceMillis;
+    private final int batchSize;
+    private final int maxBatchesPerSku;
+
+    private final Counter releasedCounter;
+    private final Counter reapedCounter;
+    // 가장 오래 정리되지 않은 만료 hold의 지연 시간 (ms, 내가 맡은 shard 기준)
+    private final AtomicLong lagMillis = new AtomicLong();
+
+    public StockHoldReaperScheduler(StockHoldReaperService stockHoldReaperService,
+                                    StockRedisKeyManager stockRedisKeyManager,
+                                    RedisLeaseManager redisLeaseManager,
+                                    StringRedisTemplate stringRedisTemplate,
+                                    Clock clock,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${app.stock.hold-reaper.enabled:true}") boolean enabled,
+                                    @Value("${app.stock.hold-reaper.shard-count:16}") int shardCount,
+                                    @Value("${app.stock.hold-reaper.lease-ttl:PT30S}") Duration leaseTtl,
+                                    @Value("${app.stock.hold-reaper.grace:PT5S}") Duration grace,
+                                    @Value("${app.stock.hold-reaper.batch-size:200}") int batchSize,
+                                    @Value("${app.stock.hold-reaper.max-batches-per-sku:10}") int maxBatchesPerSku,
+                                    @Value("${app.redis.prefix:}") String prefix) {
+        this.stockHoldReaperService = stockHoldReaperService;
+        this.stockRedisKeyManager = stockRedisKeyManager;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.shardLeaseAssigner = new ShardLeaseAssigner(redisLeaseManager, stringRedisTemplate, clock,
+                LEASE_NAME_PREFIX, WORKERS_KEY, shardCount, leaseTtl, prefix);
+        this.clock = clock;
+        this.enabled = enabled;
+        this.shardCount = shardCount;
+        this.graceMillis = grace.toMillis();
+        this.batchSize = batchSize;
+        this.maxBatchesPerSku = maxBatchesPerSku;
+
+        this.releasedCounter = Counter.builder("stock.hold.reaper.released")
+                .description("만료 hold 정리로 복구한 reserved 수량")
+                .register(meterRegistry);
+        this.reapedCounter = Counter.builder("stock.hold.reaper.reaped")
+                .description("정리한 만료 hold 수")
+                .register(meterRegistry);
+        Gauge.builder("stock.hold.reaper.lag", lagMillis, AtomicLong::get)
+                .description("정리되지 않은 가장 오래된 만료 hold의 지연 시간(ms)")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${app.stock.hold-reaper.interval:PT10S}") // 10초마다 만료 hold 정리
+    public void reapExpiredHolds() {
+        if (!enabled) return;
+
+        Set<Integer> ownedShards = shardLeaseAssigner.rebalance();
+        if (ownedShards.isEmpty()) {
+            lagMillis.set(0);
+            return;
+        }
+
+        long now = clock.millis();
+        long dueMillis = now - graceMillis; // hold TTL 만료와 점수 사이의 시계 차이 보정
+        long maxLag = 0;
+
+        ScanOptions options = ScanOptions.scanOptions().match(stockRedisKeyManager.holdIndexPattern()).count(500).build();
+        try (Cursor<String> cursor = stringRedisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                String sku = stockRedisKeyManager.skuFromHoldIndex(cursor.next());
+                if (sku == null || !ownedShards.contains(shardOf(sku))) {
+                    continue;
+                }
+
+                try {
+                    StockHoldReaperService.ReapResult result =
+                            stockHoldReaperService.reap(sku, dueMillis, batchSize, maxBatchesPerSku);
+                    reapedCounter.increment(result.reaped());
+                    releasedCounter.increment(result.released());
+                    if (result.oldestScore() >= 0 && result.oldestScore() < now) {
+                        maxLag = Math.max(maxLag, now - result.oldestScore());
+                    }
+                } catch (Exception e) {
+                    log.error("만료 hold 정리 중 오류 발생: sku={}", sku, e);
+                }
+            }
+        } catch (Exception e) {
+            log.error("hold_index SCAN 중 오류 발생", e);
+        }
+
+        lagMillis.set(maxLag);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (!enabled) return;
+
+        shardLeaseAssigner.releaseAll();
+    }
+
+    private int shardOf(String sku) {
+        return Math.floorMod(sku.hashCode(), shardCount);
+    }
+}
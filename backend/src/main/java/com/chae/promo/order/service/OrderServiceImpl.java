@@ -1,13 +1,17 @@
 package com.chae.promo.order.service;
 
 import com.chae.promo.common.kafka.TopicNames;
+import com.chae.promo.common.soldout.SoldOutRegistry;
+import com.chae.promo.common.soldout.SoldOutType;
 import com.chae.promo.common.util.UuidUtil;
 import com.chae.promo.exception.CommonCustomException;
+import com.chae.promo.exception.CommonErrorCode;
 import com.chae.promo.order.dto.OrderRequest;
 import com.chae.promo.order.dto.OrderResponse;
 import com.chae.promo.order.dto.PurchaseItemDTO;
 import com.chae.promo.order.entity.*;
 import com.chae.promo.order.mapper.OrderMapper;
+import com.chae.promo.order.repository.OrderJdbcRepository;
 import com.chae.promo.order.repository.OrderRepository;
 import com.chae.promo.order.repository.ShippingInfoRepository;
 import com.chae.promo.order.service.redis.StockRedisService;
@@ -17,11 +21,13 @@ import com.chae.promo.product.util.ProductValidator;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.support.TransactionSynchronization;
 import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.math.BigDecimal;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -35,7 +41,16 @@ public class OrderServiceImpl implements OrderService {
     private final OrderMapper orderMapper;
     private static final long redisHoldTtlSec = 60 * 10; // 10분 TTL
     private final ShippingInfoRepository shippingInfoRepository;
+    private final SoldOutRegistry soldOutRegistry;
+    private final OrderJdbcRepository orderJdbcRepository;
 
+    // true: 장바구니 전체를 스크립트 1회로 예약 (all-or-nothing), false: 상품별 예약
+    @Value("${app.stock.cart-reservation.enabled:false}")
+    private boolean cartReservationEnabled;
+
+    // true: 주문 생성(createOrder) 시 주문/주문 상품/배송 정보를 JDBC로 저장 (statement 3개), false: JPA 저장
+    @Value("${app.order.jdbc-persist.enabled:false}")
+    private boolean jdbcPersistEnabled;
 
     @Transactional
     @Override
@@ -44,6 +59,9 @@ public class OrderServiceImpl implements OrderService {
         //현재 비회원명 임시 사용
         String ordererName = "비회원 " + userId;
 
+        //품절 상품이 포함된 주문은 즉시 거절
+        rejectIfAnySoldOut(request.getItems());
+
         //상품 유효성 검증
         Map<String, Product> productMap = validateAndGetProductMap(request);
 
@@ -68,10 +86,20 @@ public class OrderServiceImpl implements OrderService {
         return orderMapper.toPurchaseResponse(order);
     }
 
+    // 로컬 품절 플래그 확인 (DB/Redis 호출 없음)
+    private void rejectIfAnySoldOut(List<PurchaseItemDTO> items) {
+        for (PurchaseItemDTO item : items) {
+            if (soldOutRegistry.isSoldOut(SoldOutType.PRODUCT, item.getProductCode())) {
+                log.debug("품절 상품 주문 요청 거절. productCode: {}", item.getProductCode());
+                throw new CommonCustomException(CommonErrorCode.PRODUCT_SOLD_OUT);
+            }
+        }
+    }
+
     private Map<String, Product> validateAndGetProductMap(OrderRequest.Purchase request){
-        // 요청된 상품 코드로 Product 엔티티를 한번에 조회하고, Map으로 변환
+        // 상품 카탈로그 스냅샷으로 존재/판매 상태 검증 후 Map으로 변환 (재고는 Redis 예약에서 검증)
         try {
-            return productValidator.getAndValidateProductMap(
+            return productValidator.getAndValidateCatalogProductMap(
                     request.getItems(),
                     PurchaseItemDTO::getProductCode,
                     PurchaseItemDTO::getQuantity
@@ -116,6 +144,11 @@ public class OrderServiceImpl implements OrderService {
     }
 
     private void reserveStockInRedis(List<PurchaseItemDTO> items, String orderId){
+        if (cartReservationEnabled) {
+            reserveCartStockInRedis(items, orderId);
+            return;
+        }
+
         for (PurchaseItemDTO item : items) {
             long requestedQuantity = item.getQuantity();
 
@@ -136,7 +169,38 @@ public class OrderServiceImpl implements OrderService {
         }
     }
 
+    // 장바구니 전체를 한 번에 예약 (slot당 Redis 1회 왕복, 일부만 예약된 상태가 남지 않음)
+    // 같은 상품 코드가 여러 줄로 들어오면 수량을 합산해 주문 상품 저장 수량과 예약 수량을 맞춤
+    private void reserveCartStockInRedis(List<PurchaseItemDTO> items, String orderId) {
+        Map<String, Long> quantities = new LinkedHashMap<>();
+        for (PurchaseItemDTO item : items) {
+            quantities.merge(item.getProductCode(), item.getQuantity(), Long::sum);
+        }
+
+        try {
+            stockRedisService.reserveAll(quantities, orderId, redisHoldTtlSec);
+        } catch (CommonCustomException e) {
+            log.warn("Redis 장바구니 재고 예약 실패 (비즈니스 예외). orderId: {}, items: {}, e:{}",
+                    orderId, quantities, e.getMessage());
+            throw e;
+        } catch (Exception e) {
+            log.error("Redis 장바구니 재고 예약 중 예상치 못한 오류 발생. orderId:{}, e: {}",
+                    orderId, e);
+            throw new RuntimeException("Redis 재고 예약 중 알 수 없는 오류가 발생했습니다.");
+        }
+    }
+
     private void cancelStockInRedisQuietly(List<PurchaseItemDTO> items, String orderId) {
+        if (cartReservationEnabled) {
+            try {
+                stockRedisService.cancelAll(items.stream().map(PurchaseItemDTO::getProductCode).distinct().toList(), orderId);
+            } catch (Exception ex) {
+                // 멱등/보상 성격이므로 조용히 로그만
+                log.warn("Redis 장바구니 예약 취소 중 오류(무시) orderId: {}, err: {}", orderId, ex.toString());
+            }
+            return;
+        }
+
         for (var item : items) {
             try {
                 stockRedisService.cancel(item.getProductCode(), orderId);
@@ -155,14 +219,20 @@ public class OrderServiceImpl implements OrderService {
         //현재 비회원명 임시 사용
         String ordererName = "비회원 " + userId;
 
+        //품절 상품이 포함된 주문은 즉시 거절
+        rejectIfAnySoldOut(request.getItems());
+
         //상품 유효성 검증
         Map<String, Product> productMap = validateAndGetProductMap(request);
 
-        //주문 생성 및 저장
-        Order order = createAndSaveOrder(request, ordererName, productMap);
+        //주문 생성
+        Order order = buildOrder(request, ordererName, productMap);
 
-        //배송 정보 저장
-        createAndSaveShippingInfo(order, request.getShippingInfo());
+        //배송 정보 생성
+        ShippingInfo shippingInfo = buildShippingInfo(order, request.getShippingInfo());
+
+        //주문 및 배송 정보 저장
+        saveOrderWithShippingInfo(order, shippingInfo);
 
         // 재고 예약
         String orderId = order.getPublicId();
@@ -187,9 +257,9 @@ public class OrderServiceImpl implements OrderService {
     }
 
     private Map<String, Product> validateAndGetProductMap(OrderRequest.Create request){
-        // 요청된 상품 코드로 Product 엔티티를 한번에 조회하고, Map으로 변환
+        // 상품 카탈로그 스냅샷으로 존재/판매 상태 검증 후 Map으로 변환 (재고는 Redis 예약에서 검증)
         try {
-            return productValidator.getAndValidateProductMap(
+            return productValidator.getAndValidateCatalogProductMap(
                     request.getItems(),
                     PurchaseItemDTO::getProductCode,
                     PurchaseItemDTO::getQuantity
@@ -201,7 +271,7 @@ public class OrderServiceImpl implements OrderService {
         }
     }
 
-    private Order createAndSaveOrder(OrderRequest.Create request, String ordererName, Map<String, Product> productMap){
+    private Order buildOrder(OrderRequest.Create request, String ordererName, Map<String, Product> productMap){
         String productName = extractProductName(request.getItems(), productMap);
 
         Order order = Order.builder()
@@ -233,10 +303,22 @@ public class OrderServiceImpl implements OrderService {
 
         order.updateTotalPrice(totalPrice);
 
-        return orderRepository.save(order);
+        return order;
+    }
+
+    private void saveOrderWithShippingInfo(Order order, ShippingInfo shippingInfo) {
+        if (jdbcPersistEnabled) {
+            long id = orderJdbcRepository.insert(order, shippingInfo);
+            log.debug("주문 JDBC 저장 완료. orderId: {}, publicId: {}, items: {}",
+                    id, order.getPublicId(), order.getOrderItems().size());
+            return;
+        }
+
+        orderRepository.save(order);
+        shippingInfoRepository.save(shippingInfo);
     }
 
-    private ShippingInfo createAndSaveShippingInfo(Order order, OrderRequest.ShippingInfo shippingInfoRequest) {
+    private ShippingInfo buildShippingInfo(Order order, OrderRequest.ShippingInfo shippingInfoRequest) {
         ShippingInfo shippingInfo = ShippingInfo.builder()
                 .order(order)
                 .recipientName(shippingInfoRequest.getRecipientName())
@@ -246,7 +328,7 @@ public class OrderServiceImpl implements OrderService {
                 .memo(shippingInfoRequest.getMemo())
                 .build();
 
-        return shippingInfoRepository.save(shippingInfo);
+        return shippingInfo;
     }
 
     // 주문 상품명 추출 및 가공
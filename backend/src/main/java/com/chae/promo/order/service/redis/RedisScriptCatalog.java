@@ -4,27 +4,42 @@ import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.data.redis.core.script.DefaultRedisScript;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 @Component
 public class RedisScriptCatalog {
 
     private final DefaultRedisScript<Long> reserveStockScript;
+    @SuppressWarnings("rawtypes")
+    private final DefaultRedisScript<List> reserveAllStockScript;
     private final DefaultRedisScript<Long> confirmStockScript;
     private final DefaultRedisScript<Long> cancelStockScript;
+    @SuppressWarnings("rawtypes")
+    private final DefaultRedisScript<List> reapExpiredHoldsScript;
 
     public RedisScriptCatalog(
             @Qualifier("reserveStockScript") DefaultRedisScript<Long> reserveStockScript,
+            @SuppressWarnings("rawtypes") @Qualifier("reserveAllStockScript") DefaultRedisScript<List> reserveAllStockScript,
             @Qualifier("confirmStockScript") DefaultRedisScript<Long> confirmStockScript,
-            @Qualifier("cancelStockScript") DefaultRedisScript<Long> cancelStockScript
+            @Qualifier("cancelStockScript") DefaultRedisScript<Long> cancelStockScript,
+            @SuppressWarnings("rawtypes") @Qualifier("reapExpiredHoldsScript") DefaultRedisScript<List> reapExpiredHoldsScript
     ) {
         this.reserveStockScript = reserveStockScript;
+        this.reserveAllStockScript = reserveAllStockScript;
         this.confirmStockScript = confirmStockScript;
         this.cancelStockScript = cancelStockScript;
+        this.reapExpiredHoldsScript = reapExpiredHoldsScript;
     }
 
     public DefaultRedisScript<Long> reserveStock() {
         return reserveStockScript;
     }
 
+    @SuppressWarnings("rawtypes")
+    public DefaultRedisScript<List> reserveAllStock() {
+        return reserveAllStockScript;
+    }
+
     public DefaultRedisScript<Long> confirmStock() {
         return confirmStockScript;
     }
@@ -32,6 +47,11 @@ public class RedisScriptCatalog {
     public DefaultRedisScript<Long> cancelStock() {
         return cancelStockScript;
     }
+
+    @SuppressWarnings("rawtypes")
+    public DefaultRedisScript<List> reapExpiredHolds() {
+        return reapExpiredHoldsScript;
+    }
 }
 
 
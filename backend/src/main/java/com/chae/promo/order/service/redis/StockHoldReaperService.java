@@ -0,0 +1,90 @@
+package com.chae.promo.order.service.redis;
+
+import com.chae.promo.common.soldout.SoldOutRegistry;
+import com.chae.promo.common.soldout.SoldOutType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 만료된 재고 hold 정리
+ * - hold 키가 TTL로 사라져도 reserved는 줄어들지 않으므로, hold_index에서 만료 시각이 지난 hold를 찾아 reserved를 복구
+ * - SKU별로 batch 단위 처리: 만료 후보를 ZRANGEBYSCORE로 조회한 뒤, 후보 hold 키를 KEYS로 넘겨 Lua에서 원자적으로 정리/복구
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StockHoldReaperService {
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisScriptCatalog scripts;
+    private final StockRedisKeyManager key;
+    private final SoldOutRegistry soldOutRegistry;
+    private final StockShardingPolicy sharding;
+
+    /**
+     * SKU 1개의 만료 hold를 최대 maxBatches * batchSize 건까지 정리
+     * @param sku SKU
+     * @param dueMillis 이 시각 이전에 만료된 hold가 대상
+     * @param batchSize Lua 1회당 최대 정리 건수
+     * @param maxBatches 최대 Lua 실행 횟수
+     * @return 정리 결과
+     */
+    public ReapResult reap(String sku, long dueMillis, int batchSize, int maxBatches) {
+        long reaped = 0;
+        long released = 0;
+        long oldestScore = -1;
+
+        for (int batch = 0; batch < maxBatches; batch++) {
+            Set<String> dueHolds = stringRedisTemplate.opsForZSet()
+                    .rangeByScore(key.holdIndex(sku), Double.NEGATIVE_INFINITY, dueMillis, 0, batchSize);
+            int dueCount = dueHolds == null ? 0 : dueHolds.size();
+
+            // 스크립트가 접근하는 hold 키를 모두 KEYS로 전달 (후보가 없어도 남은 가장 오래된 만료 시각 조회를 위해 실행)
+            List<String> keys = new ArrayList<>(3 + dueCount);
+            keys.add(key.reserved(sku));
+            keys.add(key.holdIndex(sku));
+            keys.add(key.holdQty(sku));
+            if (dueHolds != null) {
+                keys.addAll(dueHolds);
+            }
+
+            @SuppressWarnings("unchecked")
+            List<Long> result = stringRedisTemplate.execute(scripts.reapExpiredHolds(), keys, String.valueOf(dueMillis));
+            if (result == null || result.size() < 3) {
+                log.error("Redis : hold 정리 결과 없음. sku: {}", sku);
+                break;
+            }
+
+            long batchReaped = result.get(0);
+            reaped += batchReaped;
+            released += result.get(1);
+            oldestScore = result.get(2);
+
+            // 후보가 batch보다 적거나, 아직 hold가 남아 있는 후보가 있으면(다음 조회에서 다시 나옴) 종료
+            if (dueCount < batchSize || batchReaped < dueCount) {
+                break;
+            }
+        }
+
+        if (released > 0) {
+            log.info("Redis: 만료 hold 정리. sku: {}, holds: {}, releasedQty: {}", sku, reaped, released);
+            // 예약이 풀려 재고가 복구되었으므로 품절 플래그 해제
+            soldOutRegistry.publishReplenished(SoldOutType.PRODUCT, sharding.baseSku(sku)); // 분할 재고면 bucket이 아닌 원래 SKU 기준
+        }
+        return new ReapResult(reaped, released, oldestScore);
+    }
+
+    /**
+     * @param reaped 정리한 hold 수
+     * @param released 복구한 reserved 수량
+     * @param oldestScore 남은 hold 중 가장 이른 만료 시각 (없으면 -1)
+     */
+    public record ReapResult(long reaped, long released, long oldestScore) {
+    }
+}
@@ -15,6 +15,9 @@ public class StockRedisKeyManager {
     // 특정 상품의 재고 키 (자료구조: String)
     private static final String PRODUCT_STOCK_KEY = "product:stock:%s"; //  %s = productCode
 
+    // 분할 재고 bucket 구분자 (SKU#bucket)
+    static final char BUCKET_DELIMITER = '#';
+
     /**
      * 상품 재고 Key 생성
      * @param productCode 상품 코드
@@ -52,5 +55,47 @@ public class StockRedisKeyManager {
     public String holdIndex(String sku) {
         return pfx() + "hold_index:" + tag(sku);
     }
+
+    /** hold별 예약 수량(Hash, field=hold 키) - hold TTL 만료 후 reserved 복구용 */
+    public String holdQty(String sku) {
+        return pfx() + "hold_qty:" + tag(sku);
+    }
+
+    /** 분할 재고의 bucket 소유 기록 (steal로 다른 bucket에서 예약한 경우, 값=bucket 번호) */
+    public String holdOwner(String sku, String orderId) {
+        return pfx() + "hold_owner:" + tag(sku) + ":" + orderId;
+    }
+
+    /**
+     * 분할 재고의 bucket SKU (키 생성 시 SKU 자리에 사용 → {SKU#i}로 bucket마다 slot이 달라짐)
+     * @param sku SKU
+     * @param bucket bucket 번호
+     * @return bucket SKU
+     */
+    public String bucket(String sku, int bucket) {
+        return sku + BUCKET_DELIMITER + bucket;
+    }
+
+    /** 만료 인덱스 SCAN 패턴 */
+    public String holdIndexPattern() {
+        return pfx() + "hold_index:*";
+    }
+
+    /**
+     * 만료 인덱스 키에서 SKU 추출
+     * @param holdIndexKey 만료 인덱스 키
+     * @return SKU, 형식이 다르면 null
+     */
+    public String skuFromHoldIndex(String holdIndexKey) {
+        String head = pfx() + "hold_index:";
+        if (holdIndexKey == null || !holdIndexKey.startsWith(head)) {
+            return null;
+        }
+        String tagged = holdIndexKey.substring(head.length());
+        if (useHashtag && tagged.length() > 2 && tagged.startsWith("{") && tagged.endsWith("}")) {
+            return tagged.substring(1, tagged.length() - 1);
+        }
+        return useHashtag ? null : tagged;
+    }
 }
 
@@ -1,16 +1,28 @@
 package com.chae.promo.order.service.redis;
 
+import com.chae.promo.common.soldout.SoldOutRegistry;
+import com.chae.promo.common.soldout.SoldOutType;
 import com.chae.promo.exception.CommonCustomException;
 import com.chae.promo.exception.CommonErrorCode;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.connection.ClusterSlotHashUtil;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 import org.springframework.validation.annotation.Validated;
 
-import java.util.List;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 @Slf4j
 @Service
@@ -20,54 +32,418 @@ public class StockRedisService {
 
     private final StockRedisKeyManager key;
     private final RedisScriptCatalog scripts;
+    private final SoldOutRegistry soldOutRegistry;
+    private final StockShardingPolicy sharding;
+    private final StockWarmUpService stockWarmUpService;
 
+    // Redis Cluster 여부 (slot이 다른 키는 같은 스크립트에서 다룰 수 없음)
+    private final boolean clusterMode;
 
     public StockRedisService(StringRedisTemplate stringRedisTemplate,
                              RedisScriptCatalog scripts,
-                             StockRedisKeyManager key) {
+                             StockRedisKeyManager key,
+                             SoldOutRegistry soldOutRegistry,
+                             StockShardingPolicy sharding,
+                             StockWarmUpService stockWarmUpService) {
         this.stringRedisTemplate = stringRedisTemplate;
         this.scripts = scripts;
         this.key = key;
+        this.soldOutRegistry = soldOutRegistry;
+        this.sharding = sharding;
+        this.stockWarmUpService = stockWarmUpService;
+        this.clusterMode = stringRedisTemplate.getConnectionFactory() instanceof LettuceConnectionFactory factory
+                && factory.isClusterAware();
     }
 
 
     public void reserve(String sku, String orderId, long quantity, long ttlSec) {
-        String kAvail = key.available(sku);
-        String kResv  = key.reserved(sku);
-        String kHold  = key.hold(sku, orderId);
-        String kIndex = key.holdIndex(sku);
+        if (sharding.isSharded(sku)) {
+            reserveSharded(sku, orderId, quantity, ttlSec);
+            return;
+        }
 
-        Long result = stringRedisTemplate.execute(
+        Long result = executeReserve(sku, sku, orderId, quantity, ttlSec);
+        if (result == null) {
+            log.error("Redis : null 반환. sku: {}", sku);
+            throw new RuntimeException("Redis 장애");
+        }
+        if (result != 1L) {
+            throw toReserveFailure(result.intValue(), sku, orderId, quantity);
+        }
+        // hold가 이미 존재 - 멱등. 성공처리
+        log.info("Redis: 예약 성공 (또는 멱등). sku: {}, orderId: {}", sku, orderId);
+    }
+
+    /**
+     * 분할 재고 예약
+     * - orderId 해시로 고른 bucket에서 먼저 예약하고, 소진(-1/-6)되면 나머지 bucket에서 가져옴(steal)
+     * - 다른 bucket에서 예약하면 소유 bucket을 기록해 확정/취소가 해당 bucket으로 가도록 함
+     * - 한 주문의 수량은 한 bucket에서만 예약 (bucket을 걸쳐 나누지 않음)
+     */
+    private void reserveSharded(String sku, String orderId, long quantity, long ttlSec) {
+        int preferred = sharding.preferredBucket(orderId);
+        Long result = executeReserve(sku, key.bucket(sku, preferred), orderId, quantity, ttlSec);
+
+        boolean allSoldOut = result != null && result == -6L;
+        if (isDrained(result)) {
+            for (int bucket : fallbackBuckets(sku, orderId, preferred)) {
+                result = executeReserve(sku, key.bucket(sku, bucket), orderId, quantity, ttlSec);
+                if (result != null && result == 1L) {
+                    recordOwnerBucket(sku, orderId, bucket, ttlSec);
+                    log.info("Redis: 다른 bucket에서 예약. sku: {}, orderId: {}, bucket: {} -> {}", sku, orderId, preferred, bucket);
+                    return;
+                }
+                if (!isDrained(result)) {
+                    break;
+                }
+                allSoldOut &= result == -6L;
+            }
+        }
+
+        if (result == null) {
+            log.error("Redis : null 반환. sku: {}", sku);
+            throw new RuntimeException("Redis 장애");
+        }
+        if (result == 1L) {
+            log.info("Redis: 예약 성공 (또는 멱등). sku: {}, orderId: {}, bucket: {}", sku, orderId, preferred);
+            return;
+        }
+        // 모든 bucket이 비어 있을 때만 품절 처리 (일부 bucket만 부족하면 재고 부족)
+        int code = isDrained(result) && !allSoldOut ? -1 : result.intValue();
+        throw toReserveFailure(code, sku, orderId, quantity);
+    }
+
+    // 재고 키가 없으면(-2) DB에서 해당 SKU를 적재한 뒤 1회 재시도 (sku: 원래 SKU, stockSku: SKU 또는 bucket SKU)
+    private Long executeReserve(String sku, String stockSku, String orderId, long quantity, long ttlSec) {
+        Long result = evalReserve(stockSku, orderId, quantity, ttlSec);
+        if (result != null && result == -2L && stockWarmUpService.loadIfAbsent(sku)) {
+            result = evalReserve(stockSku, orderId, quantity, ttlSec);
+        }
+        return result;
+    }
+
+    private Long evalReserve(String stockSku, String orderId, long quantity, long ttlSec) {
+        return stringRedisTemplate.execute(
                 scripts.reserveStock(),
-                List.of(kAvail, kResv, kHold, kIndex),
+                List.of(key.available(stockSku), key.reserved(stockSku), key.hold(stockSku, orderId),
+                        key.holdIndex(stockSku), key.holdQty(stockSku)),
                 String.valueOf(quantity),
                 String.valueOf(ttlSec),
                 String.valueOf(System.currentTimeMillis())
         );
+    }
 
-        if (result == null) {
-            log.error("Redis : null 반환. sku: {}", sku);
-            throw new RuntimeException("Redis 장애");
+    // bucket 재고 부족(-1) 또는 소진(-6)
+    private static boolean isDrained(Long result) {
+        return result != null && (result == -1L || result == -6L);
+    }
+
+    // 우선 bucket 다음으로 시도할 bucket 순서 (소유 기록이 있으면 그 bucket을 먼저 - 재시도 시 중복 예약 방지)
+    private List<Integer> fallbackBuckets(String sku, String orderId, int preferred) {
+        int count = sharding.getBucketCount();
+        List<Integer> buckets = new ArrayList<>(count - 1);
+        Integer owner = findOwnerBucket(sku, orderId);
+        if (owner != null && owner != preferred) {
+            buckets.add(owner);
+        }
+        for (int i = 1; i < count; i++) {
+            int bucket = (preferred + i) % count;
+            if (!buckets.contains(bucket)) {
+                buckets.add(bucket);
+            }
+        }
+        return buckets;
+    }
+
+    private Integer findOwnerBucket(String sku, String orderId) {
+        try {
+            String value = stringRedisTemplate.opsForValue().get(key.holdOwner(sku, orderId));
+            if (value == null) {
+                return null;
+            }
+            int bucket = Integer.parseInt(value);
+            return bucket >= 0 && bucket < sharding.getBucketCount() ? bucket : null;
+        } catch (Exception e) {
+            // 기록을 못 읽어도 전체 bucket을 순서대로 확인하므로 진행
+            log.warn("Redis: bucket 소유 기록 조회 실패. sku: {}, orderId: {}, cause: {}", sku, orderId, e.getMessage());
+            return null;
+        }
+    }
+
+    private void recordOwnerBucket(String sku, String orderId, int bucket, long ttlSec) {
+        try {
+            stringRedisTemplate.opsForValue().set(key.holdOwner(sku, orderId), String.valueOf(bucket), Duration.ofSeconds(ttlSec));
+        } catch (Exception e) {
+            log.warn("Redis: bucket 소유 기록 실패. sku: {}, orderId: {}, bucket: {}, cause: {}", sku, orderId, bucket, e.getMessage());
+        }
+    }
+
+    /**
+     * 분할 재고에서 hold를 가진 bucket으로 라우팅
+     * - 우선 bucket → 소유 기록 bucket → 나머지 bucket 순으로, hold 없음(missingCode)이 아닐 때까지 실행
+     */
+    private Long routeToOwnerBucket(String sku, String orderId, Function<String, Long> operation, long missingCode) {
+        int preferred = sharding.preferredBucket(orderId);
+        Long result = operation.apply(key.bucket(sku, preferred));
+        if (result == null || result != missingCode) {
+            return result;
+        }
+        for (int bucket : fallbackBuckets(sku, orderId, preferred)) {
+            result = operation.apply(key.bucket(sku, bucket));
+            if (result == null || result != missingCode) {
+                return result;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 장바구니 단위 재고 예약 (all-or-nothing)
+     * - 같은 slot의 SKU는 스크립트 1회로 모두 예약하거나 모두 거절
+     * - 클러스터에서 slot이 나뉘면 slot별 스크립트를 pipeline으로 한 번에 보내고,
+     *   일부 slot만 성공하면 성공한 slot의 예약을 취소
+     * @param quantities SKU별 예약 수량 (요청 순서 유지)
+     * @param orderId 주문 publicId
+     * @param ttlSec hold TTL(초)
+     */
+    public void reserveAll(Map<String, Long> quantities, String orderId, long ttlSec) {
+        Map<String, Long> plain = new LinkedHashMap<>();
+        List<String> shardedSkus = new ArrayList<>();
+        quantities.forEach((sku, quantity) -> {
+            if (sharding.isSharded(sku)) {
+                shardedSkus.add(sku);
+            } else {
+                plain.put(sku, quantity);
+            }
+        });
+
+        if (!plain.isEmpty()) {
+            reserveAllInSlots(plain, orderId, ttlSec, true);
+        }
+
+        // 분할 재고 SKU는 bucket이 여러 slot에 걸쳐 있으므로 SKU별로 예약하고, 실패하면 전체 취소
+        List<String> reservedSkus = new ArrayList<>(plain.keySet());
+        for (String sku : shardedSkus) {
+            try {
+                reserve(sku, orderId, quantities.get(sku), ttlSec);
+                reservedSkus.add(sku);
+            } catch (RuntimeException e) {
+                cancelForCompensation(reservedSkus, orderId, e);
+                throw e;
+            }
+        }
+    }
+
+    private void reserveAllInSlots(Map<String, Long> quantities, String orderId, long ttlSec, boolean loadMissing) {
+        List<List<String>> groups = groupBySlot(quantities.keySet());
+        String now = String.valueOf(System.currentTimeMillis());
+
+        List<Object> results;
+        try {
+            results = executePipelinedScript(scripts.reserveAllStock(), connection -> {
+                for (List<String> skus : groups) {
+                    evalReserveAll(connection, skus, quantities, orderId, ttlSec, now);
+                }
+            });
+        } catch (Exception e) {
+            // 어느 slot까지 반영되었는지 알 수 없으므로 전체 취소 (hold가 없는 SKU는 취소되지 않음)
+            log.error("Redis: 장바구니 재고 예약 pipeline 실패. orderId: {}", orderId, e);
+            RuntimeException failure = new RuntimeException("Redis 장애", e);
+            cancelForCompensation(quantities.keySet(), orderId, failure);
+            throw failure;
+        }
+
+        List<String> reservedSkus = new ArrayList<>();
+        List<String> missingSkus = new ArrayList<>();
+        RuntimeException failure = null;
+
+        for (int g = 0; g < groups.size(); g++) {
+            List<String> skus = groups.get(g);
+            List<?> result = (List<?>) results.get(g);
+            int code = result == null || result.isEmpty() ? 0 : ((Number) result.get(0)).intValue();
+
+            if (code == 1) {
+                reservedSkus.addAll(skus);
+                continue;
+            }
+            if (code == -2) {
+                missingSkus.addAll(skus);
+            }
+            if (failure == null) {
+                String sku = result != null && result.size() > 1 ? skus.get(((Number) result.get(1)).intValue() - 1) : null;
+                failure = toReserveFailure(code, sku, orderId, sku != null ? quantities.get(sku) : 0L);
+            }
+        }
+
+        if (failure != null) {
+            // 보상: 성공한 slot의 예약 취소
+            cancelForCompensation(reservedSkus, orderId, failure);
+
+            // 재고 키가 없는 slot이 있으면 해당 slot의 SKU를 적재한 뒤 1회 재시도
+            if (loadMissing && !missingSkus.isEmpty()
+                    && missingSkus.stream().map(stockWarmUpService::loadIfAbsent).reduce(false, Boolean::logicalOr)) {
+                reserveAllInSlots(quantities, orderId, ttlSec, false);
+                return;
+            }
+            throw failure;
+        }
+        log.info("Redis: 장바구니 예약 성공. orderId: {}, skus: {}, slots: {}", orderId, quantities.size(), groups.size());
+    }
+
+    /**
+     * 여러 SKU의 예약 취소 (pipeline 1회 왕복)
+     * @param skus 취소할 SKU 목록
+     * @param orderId 주문 publicId
+     */
+    public void cancelAll(Collection<String> skus, String orderId) {
+        List<String> skuList = new ArrayList<>();
+        for (String sku : skus) {
+            if (sharding.isSharded(sku)) {
+                cancel(sku, orderId); // 소유 bucket으로 라우팅
+            } else {
+                skuList.add(sku);
+            }
+        }
+        if (skuList.isEmpty()) {
+            return;
         }
+        String sha = scripts.cancelStock().getSha1();
 
-        switch (result.intValue()) {
-            case 1 -> { // hold가 이미 존재 - 멱등. 성공처리
-                log.info("Redis: 예약 성공 (또는 멱등). sku: {}, orderId: {}", sku, orderId);
+        List<Object> results = executePipelinedScript(scripts.cancelStock(), connection -> {
+            for (String sku : skuList) {
+                connection.scriptingCommands().evalSha(sha, ReturnType.INTEGER, 4,
+                        bytes(key.reserved(sku)), bytes(key.hold(sku, orderId)), bytes(key.holdIndex(sku)),
+                        bytes(key.holdQty(sku)));
             }
-            case -2 -> {// 재고키 없음
+        });
+
+        for (int i = 0; i < skuList.size(); i++) {
+            if (Long.valueOf(1L).equals(results.get(i))) {
+                log.info("Redis: 예약 취소 완료. sku:{}, orderId:{}", skuList.get(i), orderId);
+                soldOutRegistry.publishReplenished(SoldOutType.PRODUCT, skuList.get(i));
+            }
+        }
+    }
+
+    /**
+     * 보상 취소 (원래 예외를 유지하고, 취소 실패는 suppressed로 덧붙임)
+     * - 취소가 실패해도 hold는 TTL 만료 후 reaper가 회수
+     */
+    private void cancelForCompensation(Collection<String> skus, String orderId, RuntimeException cause) {
+        try {
+            cancelAll(skus, orderId);
+        } catch (RuntimeException cancelFailure) {
+            log.error("Redis: 보상 예약 취소 실패. orderId: {}, skus: {}", orderId, skus, cancelFailure);
+            cause.addSuppressed(cancelFailure);
+        }
+    }
+
+    /**
+     * 같은 스크립트를 pipeline으로 여러 번 실행 (스크립트 본문 대신 EVALSHA로 SHA만 전송)
+     * - 서버에 스크립트가 없으면(NOSCRIPT, 재시작/SCRIPT FLUSH) SCRIPT LOAD 후 pipeline 1회 재실행
+     *   (예약/취소 스크립트는 같은 hold에 대해 멱등이므로 일부가 이미 실행되었어도 안전)
+     */
+    private List<Object> executePipelinedScript(RedisScript<?> script, Consumer<RedisConnection> evalShaCommands) {
+        RedisCallback<Object> pipeline = connection -> {
+            evalShaCommands.accept(connection);
+            return null;
+        };
+        try {
+            return stringRedisTemplate.executePipelined(pipeline);
+        } catch (RuntimeException e) {
+            if (!isNoScriptError(e)) {
+                throw e;
+            }
+            log.info("Redis: 스크립트 미적재(NOSCRIPT) - 적재 후 재실행. sha: {}", script.getSha1());
+            byte[] body = bytes(script.getScriptAsString());
+            stringRedisTemplate.execute((RedisCallback<String>) connection -> connection.scriptingCommands().scriptLoad(body));
+            return stringRedisTemplate.executePipelined(pipeline);
+        }
+    }
+
+    private static boolean isNoScriptError(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause.getMessage() != null && cause.getMessage().contains("NOSCRIPT")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void evalReserveAll(RedisConnection connection, List<String> skus, Map<String, Long> quantities,
+                                String orderId, long ttlSec, String now) {
+        byte[][] keysAndArgs = new byte[skus.size() * 6 + 2][];
+        int k = 0;
+        for (String sku : skus) {
+            keysAndArgs[k++] = bytes(key.available(sku));
+            keysAndArgs[k++] = bytes(key.reserved(sku));
+            keysAndArgs[k++] = bytes(key.hold(sku, orderId));
+            keysAndArgs[k++] = bytes(key.holdIndex(sku));
+            keysAndArgs[k++] = bytes(key.holdQty(sku));
+        }
+        keysAndArgs[k++] = bytes(String.valueOf(ttlSec));
+        keysAndArgs[k++] = bytes(now);
+        for (String sku : skus) {
+            keysAndArgs[k++] = bytes(String.valueOf(quantities.get(sku)));
+        }
+
+        connection.scriptingCommands().evalSha(scripts.reserveAllStock().getSha1(),
+                ReturnType.MULTI, skus.size() * 5, keysAndArgs);
+    }
+
+    // SKU를 Redis Cluster slot 기준으로 묶음 (단일 노드면 전체가 한 그룹)
+    private List<List<String>> groupBySlot(Collection<String> skus) {
+        if (!clusterMode) {
+            return List.of(new ArrayList<>(skus));
+        }
+        Map<Integer, List<String>> groups = new LinkedHashMap<>();
+        for (String sku : skus) {
+            groups.computeIfAbsent(ClusterSlotHashUtil.calculateSlot(key.available(sku)), slot -> new ArrayList<>())
+                    .add(sku);
+        }
+        return new ArrayList<>(groups.values());
+    }
+
+    private RuntimeException toReserveFailure(int code, String sku, String orderId, long quantity) {
+        return switch (code) {
+            case -2 -> {
                 log.info("Redis: 재고 키 없음. sku: {}", sku);
-                throw new CommonCustomException(CommonErrorCode.PRODUCT_STOCK_NOT_FOUND);
+                yield new CommonCustomException(CommonErrorCode.PRODUCT_STOCK_NOT_FOUND);
             }
-            case -1 -> { // 재고 부족
+            case -1 -> {
                 log.info("Redis: 상품 재고 부족. sku: {}, requestedCount: {}", sku, quantity);
-                throw new CommonCustomException(CommonErrorCode.PRODUCT_SOLD_OUT);
+                yield new CommonCustomException(CommonErrorCode.PRODUCT_SOLD_OUT);
             }
-            default ->  {
-                log.error("Redis: 예상치 못한 오류 code: {}, sku: {}, orderId: {}", result, sku, orderId);
-                throw new IllegalStateException("Reserve unexpected: " + result);
+            case -6 -> {
+                log.info("Redis: 상품 품절. sku: {}", sku);
+                soldOutRegistry.markSoldOut(SoldOutType.PRODUCT, sku);
+                yield new CommonCustomException(CommonErrorCode.PRODUCT_SOLD_OUT);
             }
-        }
+            default -> {
+                log.error("Redis: 예상치 못한 오류 code: {}, sku: {}, orderId: {}", code, sku, orderId);
+                yield new IllegalStateException("Reserve unexpected: " + code);
+            }
+        };
+    }
+
+    private Long executeConfirm(String stockSku, String orderId) {
+        return stringRedisTemplate.execute(
+                scripts.confirmStock(),
+                List.of(key.available(stockSku), key.reserved(stockSku), key.hold(stockSku, orderId),
+                        key.holdIndex(stockSku), key.holdQty(stockSku))
+        );
+    }
+
+    private Long executeCancel(String stockSku, String orderId) {
+        return stringRedisTemplate.execute(
+                scripts.cancelStock(),
+                List.of(key.reserved(stockSku), key.hold(stockSku, orderId), key.holdIndex(stockSku),
+                        key.holdQty(stockSku))
+        );
+    }
 
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
     }
 
     /** 확정 (DB 커밋 후 afterCommit에서 호출 권장) */
@@ -78,15 +454,9 @@ public class StockRedisService {
      */
     public void confirm(String sku, String orderId) {
 
-        String kAvail = key.available(sku);
-        String kResv  = key.reserved(sku);
-        String kHold  = key.hold(sku, orderId);
-        String kIndex = key.holdIndex(sku);
-
-        Long result = stringRedisTemplate.execute(
-                scripts.confirmStock(),
-                List.of(kAvail, kResv, kHold, kIndex)
-        );
+        Long result = sharding.isSharded(sku)
+                ? routeToOwnerBucket(sku, orderId, stockSku -> executeConfirm(stockSku, orderId), -4L)
+                : executeConfirm(sku, orderId);
         if (result == null) {
             log.error("Redis : null 반환. sku: {}", sku);
             throw new RuntimeException("Redis 장애");
@@ -115,14 +485,9 @@ public class StockRedisService {
     /** 취소 (DB 실패/롤백/만료 정리 등) */
     public void cancel(String sku, String orderId) {
 
-        String kResv  = key.reserved(sku);
-        String kHold  = key.hold(sku, orderId);
-        String kIndex = key.holdIndex(sku);
-
-        Long result = stringRedisTemplate.execute(
-                scripts.cancelStock(),
-                List.of(kResv, kHold, kIndex)
-        );
+        Long result = sharding.isSharded(sku)
+                ? routeToOwnerBucket(sku, orderId, stockSku -> executeCancel(stockSku, orderId), -2L)
+                : executeCancel(sku, orderId);
 
         if (result == null) {
             log.error("Redis null on cancel, sku: {}, orderId: {}", sku, orderId);
@@ -133,6 +498,8 @@ public class StockRedisService {
             log.warn("Redis: 예상치 못한 취소 오류. code: {}, sku: {}, orderId: {}", result, sku, orderId);
         } else {
             log.info("Redis: 예약 취소 완료. sku:{}, orderId:{}", sku, orderId);
+            // 예약 해제로 재고가 복구되었으므로 품절 플래그 해제
+            soldOutRegistry.publishReplenished(SoldOutType.PRODUCT, sku);
         }
     }
 }
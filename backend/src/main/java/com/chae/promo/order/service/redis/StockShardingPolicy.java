@@ -0,0 +1,73 @@
+package com.chae.promo.order.service.redis;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 인기 SKU 재고 분할(sharding) 정책
+ * - 지정된 SKU의 재고를 N개 bucket(stock:{SKU#i}:*)으로 나눠 서로 다른 slot에 분산
+ * - 주문은 orderId 해시로 bucket을 고르고, 해당 bucket이 소진되면 다른 bucket에서 가져옴(steal)
+ */
+@Component
+public class StockShardingPolicy {
+
+    private final boolean enabled;
+    private final int bucketCount;
+    private final Set<String> hotSkus;
+
+    public StockShardingPolicy(@Value("${app.stock.sharding.enabled:false}") boolean enabled,
+                               @Value("${app.stock.sharding.bucket-count:4}") int bucketCount,
+                               @Value("${app.stock.sharding.hot-skus:}") String[] hotSkus) {
+        this.enabled = enabled;
+        this.bucketCount = bucketCount;
+        this.hotSkus = Arrays.stream(hotSkus)
+                .map(String::trim)
+                .filter(sku -> !sku.isEmpty())
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    /**
+     * 분할 대상 SKU 여부
+     * @param sku SKU
+     * @return 분할 모드가 켜져 있고 인기 SKU로 지정되어 있으면 true
+     */
+    public boolean isSharded(String sku) {
+        return enabled && bucketCount > 1 && hotSkus.contains(sku);
+    }
+
+    public int getBucketCount() {
+        return bucketCount;
+    }
+
+    /**
+     * 주문이 우선 사용할 bucket (같은 주문은 항상 같은 bucket)
+     * @param orderId 주문 publicId
+     * @return bucket 번호 (0 ~ bucketCount-1)
+     */
+    public int preferredBucket(String orderId) {
+        return Math.floorMod(orderId.hashCode(), bucketCount);
+    }
+
+    /**
+     * bucket SKU에서 원래 SKU 추출
+     * - 끝이 '#bucket번호'(0 ~ bucketCount-1)이고 앞부분이 분할 대상 SKU일 때만 제거 (SKU 코드 자체에 '#'이 있어도 그대로 유지)
+     * @param stockSku SKU 또는 bucket SKU
+     * @return 원래 SKU
+     */
+    public String baseSku(String stockSku) {
+        int idx = stockSku.lastIndexOf(StockRedisKeyManager.BUCKET_DELIMITER);
+        if (idx < 0 || idx == stockSku.length() - 1) {
+            return stockSku;
+        }
+        String suffix = stockSku.substring(idx + 1);
+        if (suffix.length() > String.valueOf(bucketCount - 1).length() || !suffix.chars().allMatch(Character::isDigit)) {
+            return stockSku;
+        }
+        String base = stockSku.substring(0, idx);
+        return Integer.parseInt(suffix) < bucketCount && isSharded(base) ? base : stockSku;
+    }
+}
@@ -0,0 +1,186 @@
+package com.chae.promo.order.service.redis;
+
+import com.chae.promo.product.dto.ProductStockDTO;
+import com.chae.promo.product.repository.ProductBulkRepository;
+import com.chae.promo.product.repository.ProductStockLedgerRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Redis 재고 적재 (products → stock:{SKU}:available)
+ * - 기동 시/관리자 요청 시 products를 keyset 페이지로 읽어 pipeline SET NX로 적재
+ * - SET NX이므로 이미 있는 재고 키(예약/확정이 반영된 값)는 덮어쓰지 않음
+ * - 예약 시 재고 키가 없으면(-2) 해당 SKU만 DB에서 읽어 적재 (SKU별 single-flight)
+ * - ledger 모드에서는 products.stock_quantity가 compactor 주기만큼 늦으므로 남은 원장 합계를 더해 적재
+ */
+@Slf4j
+@Service
+public class StockWarmUpService {
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ProductBulkRepository productBulkRepository;
+    private final ProductStockLedgerRepository productStockLedgerRepository;
+    private final StockRedisKeyManager key;
+    private final StockShardingPolicy sharding;
+
+    private final boolean ledgerEnabled;
+    private final boolean onStartup;
+    private final int pageSize;
+
+    // SKU별 진행 중인 적재 (같은 SKU의 동시 miss는 DB 조회 1회로 합침)
+    private final Map<String, CompletableFuture<Boolean>> inFlight = new ConcurrentHashMap<>();
+
+    public StockWarmUpService(StringRedisTemplate stringRedisTemplate,
+                              ProductBulkRepository productBulkRepository,
+                              ProductStockLedgerRepository productStockLedgerRepository,
+                              StockRedisKeyManager key,
+                              StockShardingPolicy sharding,
+                              @Value("${app.stock.ledger.enabled:false}") boolean ledgerEnabled,
+                              @Value("${app.stock.warm-up.on-startup:true}") boolean onStartup,
+                              @Value("${app.stock.warm-up.page-size:1000}") int pageSize) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.productBulkRepository = productBulkRepository;
+        this.productStockLedgerRepository = productStockLedgerRepository;
+        this.key = key;
+        this.sharding = sharding;
+        this.ledgerEnabled = ledgerEnabled;
+        this.onStartup = onStartup;
+        this.pageSize = pageSize;
+    }
+
+    public record WarmUpResult(long scanned, long written) {
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUpOnStartup() {
+        if (!onStartup) return;
+
+        try {
+            warmUpAll();
+        } catch (Exception e) {
+            // 적재 실패해도 예약 시 SKU별 지연 적재로 보완
+            log.error("Redis 재고 적재 실패 (기동 시)", e);
+        }
+    }
+
+    /**
+     * 전체 상품 재고 적재
+     * @return 조회한 상품 수, 새로 적재한 재고 키 수
+     */
+    public WarmUpResult warmUpAll() {
+        long lastId = 0;
+        long scanned = 0;
+        long written = 0;
+
+        while (true) {
+            List<ProductStockDTO> page = productBulkRepository.findStockPageAfter(lastId, pageSize);
+            if (page.isEmpty()) {
+                break;
+            }
+
+            written += writeIfAbsent(withCurrentStock(page));
+            scanned += page.size();
+            lastId = page.get(page.size() - 1).getId();
+
+            if (page.size() < pageSize) {
+                break;
+            }
+        }
+
+        log.info("Redis 재고 적재 완료. scanned: {}, written: {}", scanned, written);
+        return new WarmUpResult(scanned, written);
+    }
+
+    /**
+     * 단일 SKU 재고 적재 (재고 키가 없을 때 예약 경로에서 호출)
+     * - 같은 SKU에 대한 동시 호출은 먼저 들어온 요청의 결과를 함께 사용
+     * @param sku SKU
+     * @return 상품이 존재해 재고 키가 준비되었으면 true
+     */
+    public boolean loadIfAbsent(String sku) {
+        CompletableFuture<Boolean> created = new CompletableFuture<>();
+        CompletableFuture<Boolean> existing = inFlight.putIfAbsent(sku, created);
+        if (existing != null) {
+            return existing.join();
+        }
+
+        try {
+            Optional<ProductStockDTO> stock = productBulkRepository.findStockByCode(sku)
+                    .map(found -> withCurrentStock(List.of(found)).get(0));
+            stock.ifPresent(s -> writeIfAbsent(List.of(s)));
+            if (stock.isEmpty()) {
+                log.info("Redis 재고 적재 대상 상품 없음. sku: {}", sku);
+            }
+            created.complete(stock.isPresent());
+            return stock.isPresent();
+        } catch (RuntimeException e) {
+            created.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(sku, created);
+        }
+    }
+
+    // ledger 모드면 재고를 products 재고 + 원장 합계로 교체 (초과 판매로 음수면 판매 가능 수량 0으로 적재)
+    private List<ProductStockDTO> withCurrentStock(List<ProductStockDTO> stocks) {
+        if (!ledgerEnabled) {
+            return stocks;
+        }
+        Map<Long, Long> currentStock = productStockLedgerRepository.findCurrentStock(
+                stocks.stream().map(ProductStockDTO::getId).toList());
+
+        return stocks.stream()
+                .map(stock -> new ProductStockDTO(stock.getId(), stock.getCode(),
+                        Math.max(0, currentStock.getOrDefault(stock.getId(), stock.getStockQuantity()))))
+                .toList();
+    }
+
+    // pipeline SET NX (분할 재고 SKU는 bucket별로 나눠 적재)
+    private long writeIfAbsent(List<ProductStockDTO> stocks) {
+        List<String> keys = new ArrayList<>();
+        List<Long> values = new ArrayList<>();
+        for (ProductStockDTO stock : stocks) {
+            if (sharding.isSharded(stock.getCode())) {
+                int count = sharding.getBucketCount();
+                for (int bucket = 0; bucket < count; bucket++) {
+                    // 나머지는 앞쪽 bucket에 1개씩 분배
+                    long share = stock.getStockQuantity() / count + (bucket < stock.getStockQuantity() % count ? 1 : 0);
+                    keys.add(key.available(key.bucket(stock.getCode(), bucket)));
+                    values.add(share);
+                }
+            } else {
+                keys.add(key.available(stock.getCode()));
+                values.add(stock.getStockQuantity());
+            }
+        }
+
+        List<Object> results = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (int i = 0; i < keys.size(); i++) {
+                connection.stringCommands().set(bytes(keys.get(i)), bytes(String.valueOf(values.get(i))),
+                        Expiration.persistent(), RedisStringCommands.SetOption.SET_IF_ABSENT);
+            }
+            return null;
+        });
+
+        return results.stream().filter(Boolean.TRUE::equals).count();
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
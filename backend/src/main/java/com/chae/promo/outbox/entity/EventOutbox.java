@@ -24,8 +24,8 @@ public class EventOutbox extends BaseTime {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @Column(nullable = false, unique = true, length = 36)
-    private String eventId;
+    @Column(nullable = false, length = 36)
+    private String eventId;             // created_at 파티션으로 DB unique 제약 없음 (UUID)
 
     @Setter
     @Column(nullable = false, length = 20)
@@ -34,6 +34,9 @@ public class EventOutbox extends BaseTime {
     @Column(nullable = false, length = 36)
     private String aggregateId;         // orderPublicId
 
+    @Column(nullable = false)
+    private int shardNo;                // aggregateId 해시 기준 shard
+
     @Lob
     @Column(nullable = false)
     private String payloadJson;
@@ -0,0 +1,74 @@
+package com.chae.promo.outbox.repository;
+
+import com.chae.promo.outbox.entity.EventOutbox;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * outbox 발행 결과 일괄 반영
+ * - SENT는 id IN 목록으로 UPDATE 1건
+ * - FAILED는 row마다 retry_count/next_retry_at/last_error가 다르므로 JDBC batch 1회로 전송
+ */
+@Repository
+@RequiredArgsConstructor
+public class EventOutboxBulkRepository {
+    private static final String MARK_FAILED_SQL = """
+            UPDATE event_outbox
+            SET status = ?, retry_count = ?, last_error = ?, next_retry_at = ?, updated_at = ?
+            WHERE id = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * outbox 상태를 SENT로 일괄 변경
+     * @param ids  발행 성공한 outbox ID 목록
+     * @param now  발행 완료 시각
+     * @return 변경된 row 수
+     */
+    public int markSent(List<Long> ids, LocalDateTime now) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        String placeholders = String.join(",", Collections.nCopies(ids.size(), "?"));
+        String sql = "UPDATE event_outbox SET status = 'SENT', retry_count = 0, last_error = NULL, "
+                + "next_retry_at = ?, updated_at = ? WHERE id IN (" + placeholders + ")";
+
+        Timestamp timestamp = Timestamp.valueOf(now);
+        Object[] args = new Object[ids.size() + 2];
+        args[0] = timestamp;
+        args[1] = timestamp;
+        for (int i = 0; i < ids.size(); i++) {
+            args[i + 2] = ids.get(i);
+        }
+        return jdbcTemplate.update(sql, args);
+    }
+
+    /**
+     * outbox 실패 상태 일괄 반영 (markFailed로 변경한 엔티티 값 기준)
+     * @param failed 발행 실패한 outbox 목록
+     * @param now    처리 시각
+     */
+    public void markFailed(List<EventOutbox> failed, LocalDateTime now) {
+        if (failed.isEmpty()) {
+            return;
+        }
+
+        Timestamp timestamp = Timestamp.valueOf(now);
+        jdbcTemplate.batchUpdate(MARK_FAILED_SQL, failed, failed.size(), (ps, outbox) -> {
+            ps.setString(1, outbox.getStatus().name());
+            ps.setInt(2, outbox.getRetryCount());
+            ps.setString(3, outbox.getLastError());
+            ps.setTimestamp(4, Timestamp.valueOf(outbox.getNextRetryAt()));
+            ps.setTimestamp(5, timestamp);
+            ps.setLong(6, outbox.getId());
+        });
+    }
+}
@@ -0,0 +1,138 @@
+package com.chae.promo.outbox.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * event_outbox 파티션 관리 (created_at 기준 일 단위 RANGE 파티션, V20)
+ * - p_future(MAXVALUE)를 일 단위 파티션으로 미리 분할하고, 보관 기간이 지난 파티션은 DROP
+ * - 파티션 이름은 이 클래스가 만든 이름(pYYYYMMDD, p_legacy, p_future)만 DDL에 사용
+ */
+@Repository
+@RequiredArgsConstructor
+public class EventOutboxPartitionRepository {
+    public static final String FUTURE_PARTITION = "p_future";
+
+    private static final DateTimeFormatter PARTITION_NAME_FORMAT = DateTimeFormatter.ofPattern("'p'yyyyMMdd");
+    private static final Pattern PARTITION_NAME_PATTERN = Pattern.compile("p_[a-z]+|p\\d{8}");
+
+    private static final String FIND_PARTITIONS_SQL = """
+            SELECT PARTITION_NAME, PARTITION_DESCRIPTION, TABLE_ROWS
+            FROM information_schema.PARTITIONS
+            WHERE TABLE_SCHEMA = DATABASE()
+              AND TABLE_NAME = 'event_outbox'
+              AND PARTITION_NAME IS NOT NULL
+            ORDER BY PARTITION_ORDINAL_POSITION
+            """;
+
+    private static final String ARCHIVE_COLUMNS = """
+            id, event_id, type, aggregate_id, shard_no, payload_json, status, retry_count,
+            next_retry_at, created_at, updated_at, last_error""";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * @param name       파티션 이름
+     * @param upperBound 파티션 상한(미포함) 날짜, MAXVALUE면 null
+     * @param rows       예상 row 수 (통계 기준 근사치)
+     */
+    public record OutboxPartition(String name, LocalDate upperBound, long rows) {
+    }
+
+    public List<OutboxPartition> findPartitions() {
+        return jdbcTemplate.query(FIND_PARTITIONS_SQL, (rs, rowNum) -> new OutboxPartition(
+                rs.getString("PARTITION_NAME"),
+                parseUpperBound(rs.getString("PARTITION_DESCRIPTION")),
+                rs.getLong("TABLE_ROWS")));
+    }
+
+    /**
+     * p_future를 일 단위 파티션으로 분할 (p_future가 비어 있으면 메타데이터 변경만 발생, row가 있으면 전체 복사)
+     * @param days 추가할 날짜 목록 (오름차순, 각 파티션은 해당 날짜 하루를 보관)
+     */
+    public void addDailyPartitions(List<LocalDate> days) {
+        if (days.isEmpty()) {
+            return;
+        }
+
+        StringBuilder ddl = new StringBuilder("ALTER TABLE event_outbox REORGANIZE PARTITION ")
+                .append(FUTURE_PARTITION).append(" INTO (");
+        for (LocalDate day : days) {
+            ddl.append("PARTITION ").append(partitionName(day))
+                    .append(" VALUES LESS THAN ('").append(day.plusDays(1)).append("'), ");
+        }
+        ddl.append("PARTITION ").append(FUTURE_PARTITION).append(" VALUES LESS THAN (MAXVALUE))");
+
+        jdbcTemplate.execute(ddl.toString());
+    }
+
+    /**
+     * 파티션에 row가 있는지 (통계가 아닌 실제 조회)
+     */
+    public boolean hasRows(String partition) {
+        List<Integer> found = jdbcTemplate.queryForList(
+                "SELECT 1 FROM event_outbox PARTITION (" + checked(partition) + ") LIMIT 1", Integer.class);
+        return !found.isEmpty();
+    }
+
+    /**
+     * 파티션에 남아 있는 미발행(PENDING/FAILED) row 수
+     */
+    public long countUnsent(String partition) {
+        Long count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM event_outbox PARTITION (" + checked(partition) + ") WHERE status <> 'SENT'",
+                Long.class);
+        return count == null ? 0 : count;
+    }
+
+    /**
+     * 파티션 row를 event_outbox_archive로 복사 (이전 실행에서 복사만 되고 DROP이 실패한 경우 중복 무시)
+     * @return 복사한 row 수
+     */
+    public int archive(String partition) {
+        return jdbcTemplate.update("INSERT IGNORE INTO event_outbox_archive (" + ARCHIVE_COLUMNS + ") "
+                + "SELECT " + ARCHIVE_COLUMNS + " FROM event_outbox PARTITION (" + checked(partition) + ")");
+    }
+
+    public void dropPartition(String partition) {
+        jdbcTemplate.execute("ALTER TABLE event_outbox DROP PARTITION " + checked(partition));
+    }
+
+    /**
+     * 가장 오래된 미발행 outbox 생성 시각
+     */
+    public Optional<LocalDateTime> findOldestUnsentCreatedAt() {
+        Timestamp oldest = jdbcTemplate.queryForObject(
+                "SELECT MIN(created_at) FROM event_outbox WHERE status IN ('PENDING','FAILED')",
+                Timestamp.class);
+        return Optional.ofNullable(oldest).map(Timestamp::toLocalDateTime);
+    }
+
+    public static String partitionName(LocalDate day) {
+        return day.format(PARTITION_NAME_FORMAT);
+    }
+
+    // RANGE COLUMNS 상한 값 ('2026-10-20 00:00:00' 또는 MAXVALUE)
+    private static LocalDate parseUpperBound(String description) {
+        if (description == null || description.equalsIgnoreCase("MAXVALUE")) {
+            return null;
+        }
+        return LocalDate.parse(description.replace("'", "").substring(0, 10));
+    }
+
+    private static String checked(String partition) {
+        if (!PARTITION_NAME_PATTERN.matcher(partition).matches()) {
+            throw new IllegalArgumentException("허용되지 않은 파티션 이름: " + partition);
+        }
+        return partition;
+    }
+}
@@ -2,13 +2,18 @@ package com.chae.promo.outbox.repository;
 
 import com.chae.promo.outbox.entity.EventOutbox;
 import io.lettuce.core.dynamic.annotation.Param;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import java.time.LocalDateTime;
 import java.util.List;
 
 public interface EventOutboxRepository extends JpaRepository<EventOutbox, Long>  {
+    // 조회한 row는 dirty checking 대상에서 제외 (발행 결과는 EventOutboxBulkRepository로 일괄 반영)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
     @Query(value = """
         SELECT * FROM event_outbox
         WHERE status IN ('PENDING','FAILED')
@@ -20,5 +25,29 @@ public interface EventOutboxRepository extends JpaRepository<EventOutbox, Long>
     List<EventOutbox> lockAndFetch(@Param("now") LocalDateTime now,
                                    @Param("limit") int limit);
 
+    /**
+     * shard 단위 발행 대상 잠금 조회
+     * - 같은 aggregate에 앞선 미발행 row가 있으면 제외 (aggregate별 발행 순서 보장, 앞선 row가 SENT가 된 뒤 조회됨)
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query(value = """
+        SELECT o.* FROM event_outbox o
+        WHERE o.shard_no = :shardNo
+          AND o.status IN ('PENDING','FAILED')
+          AND o.next_retry_at <= :now
+          AND NOT EXISTS (
+              SELECT 1 FROM event_outbox p
+              WHERE p.aggregate_id = o.aggregate_id
+                AND p.status IN ('PENDING','FAILED')
+                AND p.id < o.id
+          )
+        ORDER BY o.next_retry_at, o.id
+        LIMIT :limit
+        FOR UPDATE OF o SKIP LOCKED
+        """, nativeQuery = true)
+    List<EventOutbox> lockAndFetchByShard(@Param("shardNo") int shardNo,
+                                          @Param("now") LocalDateTime now,
+                                          @Param("limit") int limit);
+
     boolean existsByTypeAndAggregateId(String type, String aggregateId);
 }
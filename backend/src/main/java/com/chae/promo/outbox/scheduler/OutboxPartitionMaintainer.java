@@ -0,0 +1,169 @@
+package com.chae.promo.outbox.scheduler;
+
+import com.chae.promo.common.lease.RedisLeaseManager;
+import com.chae.promo.outbox.repository.EventOutboxPartitionRepository;
+import com.chae.promo.outbox.repository.EventOutboxPartitionRepository.OutboxPartition;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * outbox 보관 기간 관리 스케줄러
+ * - 앞으로 partitions-ahead일치 일 단위 파티션을 미리 생성 (retention 설정과 관계없이 항상 실행, V20이 항상 파티션을 만들기 때문)
+ * - p_future에 row가 있으면 분할(REORGANIZE)이 전체 복사가 되므로 분할하지 않고 error 로그 + outbox.partition.future.rows 지표 (수동 처리 대상)
+ * - 보관 기간이 지난 파티션에 미발행 row가 없으면 DROP PARTITION으로 한 번에 제거 (retention.enabled일 때만, archive 설정 시 복사 후 제거)
+ * - 날짜 경계는 Clock 빈 시간대(Asia/Seoul) 기준 : V20 p_legacy 경계, created_at(JPA auditing)도 같은 시간대
+ * - lease를 가진 서버 한 곳에서만 실행, 지표는 서버마다 갱신
+ */
+@Slf4j
+@Component
+public class OutboxPartitionMaintainer {
+
+    private static final String LEASE_NAME = "outbox:partition-maintainer";
+
+    private final EventOutboxPartitionRepository partitionRepository;
+    private final RedisLeaseManager redisLeaseManager;
+    private final Clock clock;
+
+    private final boolean enabled;
+    private final Duration leaseTtl;
+    private final int retentionDays;
+    private final int partitionsAhead;
+    private final boolean archive;
+
+    private final AtomicLong tableRows = new AtomicLong();
+    private final AtomicLong oldestUnsentAgeSeconds = new AtomicLong();
+    private final AtomicLong futurePartitionRows = new AtomicLong();
+
+    public OutboxPartitionMaintainer(EventOutboxPartitionRepository partitionRepository,
+                                     RedisLeaseManager redisLeaseManager,
+                                     Clock clock,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${app.outbox.retention.enabled:false}") boolean enabled,
+                                     @Value("${app.outbox.retention.lease-ttl:PT5M}") Duration leaseTtl,
+                                     @Value("${app.outbox.retention.retention-days:7}") int retentionDays,
+                                     @Value("${app.outbox.retention.partitions-ahead:7}") int partitionsAhead,
+                                     @Value("${app.outbox.retention.archive:false}") boolean archive) {
+        this.partitionRepository = partitionRepository;
+        this.redisLeaseManager = redisLeaseManager;
+        this.clock = clock;
+        this.enabled = enabled;
+        this.leaseTtl = leaseTtl;
+        this.retentionDays = retentionDays;
+        this.partitionsAhead = partitionsAhead;
+        this.archive = archive;
+
+        Gauge.builder("outbox.table.rows", tableRows, AtomicLong::get)
+                .description("event_outbox 예상 row 수 (파티션 통계 합계)")
+                .register(meterRegistry);
+        Gauge.builder("outbox.pending.oldest.age", oldestUnsentAgeSeconds, AtomicLong::get)
+                .description("가장 오래된 미발행 outbox의 생성 후 경과 시간(s)")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        Gauge.builder("outbox.partition.future.rows", futurePartitionRows, AtomicLong::get)
+                .description("p_future 파티션 예상 row 수 (0이 아니면 일 단위 파티션 생성이 밀린 상태)")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${app.outbox.retention.interval:PT1H}") // 1시간마다 파티션 생성/정리
+    public void maintain() {
+        if (!redisLeaseManager.tryAcquire(LEASE_NAME, leaseTtl)) {
+            return;
+        }
+
+        try {
+            List<OutboxPartition> partitions = partitionRepository.findPartitions();
+            if (partitions.isEmpty()) {
+                log.warn("[Outbox] event_outbox가 파티션 테이블이 아님 (V20 적용 여부 확인)");
+                return;
+            }
+
+            LocalDate today = LocalDate.now(clock);
+            createFuturePartitions(partitions, today);
+            if (enabled) {
+                dropExpiredPartitions(partitions, today);
+            }
+        } catch (Exception e) {
+            log.error("[Outbox] 파티션 관리 중 오류 발생", e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.outbox.retention.metrics-interval:PT1M}") // 1분마다 지표 갱신
+    public void refreshMetrics() {
+        try {
+            List<OutboxPartition> partitions = partitionRepository.findPartitions();
+            tableRows.set(partitions.stream().mapToLong(OutboxPartition::rows).sum());
+            futurePartitionRows.set(partitions.stream()
+                    .filter(partition -> EventOutboxPartitionRepository.FUTURE_PARTITION.equals(partition.name()))
+                    .mapToLong(OutboxPartition::rows)
+                    .sum());
+
+            LocalDateTime now = LocalDateTime.now(clock);
+            oldestUnsentAgeSeconds.set(partitionRepository.findOldestUnsentCreatedAt()
+                    .map(oldest -> Math.max(0, Duration.between(oldest, now).toSeconds()))
+                    .orElse(0L));
+        } catch (Exception e) {
+            log.warn("[Outbox] 지표 갱신 실패. cause: {}", e.getMessage());
+        }
+    }
+
+    // 마지막 일 단위 파티션 다음 날부터 today + partitionsAhead일까지 생성
+    private void createFuturePartitions(List<OutboxPartition> partitions, LocalDate today) {
+        LocalDate nextDay = partitions.stream()
+                .map(OutboxPartition::upperBound)
+                .filter(bound -> bound != null)
+                .max(LocalDate::compareTo)
+                .orElse(today);
+
+        List<LocalDate> days = new ArrayList<>();
+        for (LocalDate day = nextDay; !day.isAfter(today.plusDays(partitionsAhead)); day = day.plusDays(1)) {
+            days.add(day);
+        }
+
+        if (days.isEmpty()) {
+            return;
+        }
+        if (partitionRepository.hasRows(EventOutboxPartitionRepository.FUTURE_PARTITION)) {
+            // 분할하면 p_future의 row 전체가 복사되며 그동안 테이블 메타데이터 lock이 잡힘
+            log.error("[Outbox] p_future에 row가 있어 파티션을 생성하지 않음 (수동 분할 필요). from: {}, to: {}",
+                    days.get(0), days.get(days.size() - 1));
+            return;
+        }
+
+        partitionRepository.addDailyPartitions(days);
+        log.info("[Outbox] 파티션 생성. from: {}, to: {}", days.get(0), days.get(days.size() - 1));
+    }
+
+    // 상한이 보관 기준일 이하인 파티션 정리 (미발행 row가 남아 있으면 유지)
+    private void dropExpiredPartitions(List<OutboxPartition> partitions, LocalDate today) {
+        LocalDate cutoff = today.minusDays(retentionDays);
+
+        for (OutboxPartition partition : partitions) {
+            if (partition.upperBound() == null || partition.upperBound().isAfter(cutoff)) {
+                continue;
+            }
+
+            long unsent = partitionRepository.countUnsent(partition.name());
+            if (unsent > 0) {
+                log.warn("[Outbox] 보관 기간이 지났지만 미발행 row가 남아 파티션 유지. partition: {}, unsent: {}",
+                        partition.name(), unsent);
+                continue;
+            }
+
+            int archived = archive ? partitionRepository.archive(partition.name()) : 0;
+            partitionRepository.dropPartition(partition.name());
+            log.info("[Outbox] 파티션 정리. partition: {}, rows: {}, archived: {}", partition.name(), partition.rows(), archived);
+        }
+    }
+}
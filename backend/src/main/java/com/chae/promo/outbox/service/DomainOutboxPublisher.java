@@ -1,6 +1,29 @@
 package com.chae.promo.outbox.service;
 
+import java.util.concurrent.CompletableFuture;
+
 public interface DomainOutboxPublisher {
-    boolean supports(String eventType);
-    void publish(String payloadJson) throws Exception;
+
+    /**
+     * 처리하는 outbox type (OutboxWorker가 기동 시 type → publisher 맵으로 등록)
+     */
+    String eventType();
+
+    /**
+     * 비동기 발행 (broker ack를 기다리지 않고 전송 결과 future 반환)
+     * - payload 파싱 실패 등 전송 전 오류는 즉시 예외로 던짐
+     * @param eventId     outbox eventId (멱등키)
+     * @param payloadJson outbox payload
+     * @return 전송 결과 (ack 수신 시 완료, 전송 실패 시 예외로 완료)
+     */
+    CompletableFuture<?> publishAsync(String eventId, String payloadJson) throws Exception;
+
+    /**
+     * 동기 발행 (broker ack까지 대기)
+     * @param eventId     outbox eventId (멱등키)
+     * @param payloadJson outbox payload
+     */
+    default void publish(String eventId, String payloadJson) throws Exception {
+        publishAsync(eventId, payloadJson).get();
+    }
 }
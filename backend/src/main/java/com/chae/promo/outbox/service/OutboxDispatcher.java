@@ -0,0 +1,157 @@
+package com.chae.promo.outbox.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * outbox 발행 실행기
+ * - outbox 저장 트랜잭션이 커밋되면 wakeUp()으로 즉시 발행 (같은 서버의 dispatcher 스레드에서 실행)
+ * - 적응형 polling : 배치가 가득 차면 바로 이어서 발행, 일부만 차면 min-interval, 비어 있으면 max-interval까지 대기 시간을 2배씩 늘림
+ * - 다른 서버에서 저장된 row, 재시도 대기 row, dispatcher 스레드 장애는 @Scheduled safety net이 보완
+ *   (dispatcher를 끄면 safety net이 poll-interval 주기의 고정 polling을 대신함)
+ * - 여러 스레드/서버가 동시에 발행해도 lockAndFetch가 FOR UPDATE SKIP LOCKED라 같은 row를 중복 처리하지 않음
+ * - shard 모드면 lease를 보유한 shard만 shard별 트랜잭션으로 발행
+ */
+@Slf4j
+@Component
+public class OutboxDispatcher {
+
+    private final OutboxWorker outboxWorker;
+    private final OutboxShardCoordinator outboxShardCoordinator;
+
+    private final boolean enabled;
+    private final long minIntervalMillis;
+    private final long maxIntervalMillis;
+
+    // wakeUp 신호 (여러 번 호출되어도 permit 1개로 합침)
+    private final Semaphore signal = new Semaphore(0);
+
+    private volatile boolean running;
+    private Thread dispatcherThread;
+
+    // 빈 배치가 이어질 때 다음 polling까지 대기 시간 (dispatcher 스레드에서만 변경)
+    private long idleDelayMillis;
+
+    public OutboxDispatcher(OutboxWorker outboxWorker,
+                            OutboxShardCoordinator outboxShardCoordinator,
+                            @Value("${app.outbox.dispatcher.enabled:true}") boolean enabled,
+                            @Value("${app.outbox.dispatcher.min-interval:PT0.2S}") Duration minInterval,
+                            @Value("${app.outbox.dispatcher.max-interval:PT5S}") Duration maxInterval) {
+        this.outboxWorker = outboxWorker;
+        this.outboxShardCoordinator = outboxShardCoordinator;
+        this.enabled = enabled;
+        this.minIntervalMillis = Math.max(1, minInterval.toMillis());
+        this.maxIntervalMillis = maxInterval.toMillis();
+        this.idleDelayMillis = minIntervalMillis;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (!enabled || running) return;
+
+        running = true;
+        dispatcherThread = new Thread(this::dispatchLoop, "outbox-dispatcher");
+        dispatcherThread.setDaemon(true);
+        dispatcherThread.start();
+        log.info("[Outbox] dispatcher started. minInterval={}ms, maxInterval={}ms", minIntervalMillis, maxIntervalMillis);
+    }
+
+    @PreDestroy
+    public synchronized void stop() {
+        running = false;
+        if (dispatcherThread != null) {
+            dispatcherThread.interrupt();
+        }
+    }
+
+    /**
+     * 즉시 발행 요청 (outbox 저장 트랜잭션 커밋 후 호출)
+     * - 호출 스레드는 대기하지 않음
+     */
+    public void wakeUp() {
+        if (!running) return;
+
+        if (signal.availablePermits() == 0) {
+            signal.release();
+        }
+    }
+
+    // dispatcher 스레드 장애 대비 고정 주기 발행 (dispatcher를 끄면 기존 poller처럼 poll-interval(5초) 주기로 발행)
+    @Scheduled(fixedDelayString = "#{${app.outbox.dispatcher.enabled:true} ? '${app.outbox.safety-net-interval:PT30S}' : '${app.outbox.poll-interval:PT5S}'}")
+    public void safetyNet() {
+        drainOnce();
+    }
+
+    // 1회 발행 (shard 모드면 보유 shard별로 발행하고, 가장 많이 조회된 shard의 row 수 반환)
+    private int drainOnce() {
+        if (!outboxShardCoordinator.isEnabled()) {
+            return outboxWorker.publishBatch();
+        }
+
+        int maxFetched = 0;
+        for (int shard : outboxShardCoordinator.getOwnedShards()) {
+            try {
+                maxFetched = Math.max(maxFetched, outboxWorker.publishBatch(shard));
+            } catch (Exception e) {
+                log.error("[Outbox] shard 발행 중 오류 발생. shard: {}", shard, e);
+            }
+        }
+        return maxFetched;
+    }
+
+    private void dispatchLoop() {
+        while (running) {
+            long delay;
+            try {
+                int fetched = drainOnce();
+                delay = nextDelay(fetched);
+            } catch (Exception e) {
+                log.error("[Outbox] dispatcher 발행 중 오류 발생", e);
+                delay = maxIntervalMillis;
+            }
+
+            if (delay > 0 && !awaitWakeUp(delay)) {
+                return;
+            }
+        }
+    }
+
+    long nextDelay(int fetched) {
+        if (fetched >= OutboxWorker.BATCH) {
+            // 밀린 row가 남아 있을 수 있으므로 바로 이어서 발행
+            idleDelayMillis = minIntervalMillis;
+            return 0;
+        }
+        if (fetched > 0) {
+            idleDelayMillis = minIntervalMillis;
+            return minIntervalMillis;
+        }
+
+        long delay = idleDelayMillis;
+        idleDelayMillis = Math.min(idleDelayMillis * 2, maxIntervalMillis);
+        return delay;
+    }
+
+    // delay 동안 대기, wakeUp 신호가 오면 즉시 반환 (인터럽트되면 false)
+    private boolean awaitWakeUp(long delayMillis) {
+        try {
+            if (signal.tryAcquire(delayMillis, TimeUnit.MILLISECONDS)) {
+                signal.drainPermits();
+                idleDelayMillis = minIntervalMillis;
+            }
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
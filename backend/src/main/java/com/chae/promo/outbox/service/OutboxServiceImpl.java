@@ -6,6 +6,8 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.Clock;
 import java.time.LocalDateTime;
@@ -20,6 +22,10 @@ public class OutboxServiceImpl implements OutboxService {
 
     private final Clock clock;
 
+    private final OutboxDispatcher outboxDispatcher;
+
+    private final OutboxShardPolicy outboxShardPolicy;
+
     @Transactional
     @Override
     public void saveEvent(String eventId, String type, String aggregateId, Object payload) {
@@ -29,6 +35,7 @@ public class OutboxServiceImpl implements OutboxService {
                     .eventId(eventId)
                     .type(type)
                     .aggregateId(aggregateId)
+                    .shardNo(outboxShardPolicy.shardOf(aggregateId))
                     .payloadJson(json)
                     .status(EventOutbox.Status.PENDING)
                     .retryCount(0)
@@ -39,6 +46,23 @@ public class OutboxServiceImpl implements OutboxService {
         } catch (Exception e) {
             throw new RuntimeException("Outbox 저장 실패", e);
         }
+
+        wakeUpDispatcherAfterCommit();
+    }
+
+    // 커밋되어 row가 보이는 시점에 발행 요청 (롤백되면 요청하지 않음)
+    private void wakeUpDispatcherAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            outboxDispatcher.wakeUp();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                outboxDispatcher.wakeUp();
+            }
+        });
     }
 
     @Override
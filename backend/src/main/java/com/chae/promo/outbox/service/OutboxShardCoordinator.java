@@ -0,0 +1,62 @@
+package com.chae.promo.outbox.service;
+
+import com.chae.promo.common.lease.RedisLeaseManager;
+import com.chae.promo.common.lease.ShardLeaseAssigner;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * outbox shard 분배
+ * - heartbeat ZSET(outbox:workers) 기준으로 살아 있는 서버 수로 나눈 몫만큼 shard lease를 보유 ({@link ShardLeaseAssigner})
+ * - lease를 가진 shard만 발행하므로 서버 간 같은 인덱스 구간 경합이 없음
+ */
+@Component
+public class OutboxShardCoordinator {
+
+    private static final String LEASE_NAME_PREFIX = "outbox:shard"; // lease 이름 = outbox:shard:{shard}
+    private static final String WORKERS_KEY = "outbox:workers";
+
+    private final ShardLeaseAssigner shardLeaseAssigner;
+    private final boolean enabled;
+
+    public OutboxShardCoordinator(RedisLeaseManager redisLeaseManager,
+                                  StringRedisTemplate stringRedisTemplate,
+                                  OutboxShardPolicy outboxShardPolicy,
+                                  Clock clock,
+                                  @Value("${app.outbox.sharding.enabled:false}") boolean enabled,
+                                  @Value("${app.outbox.sharding.lease-ttl:PT15S}") Duration leaseTtl,
+                                  @Value("${app.redis.prefix:}") String prefix) {
+        this.shardLeaseAssigner = new ShardLeaseAssigner(redisLeaseManager, stringRedisTemplate, clock,
+                LEASE_NAME_PREFIX, WORKERS_KEY, outboxShardPolicy.getShardCount(), leaseTtl, prefix);
+        this.enabled = enabled;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public Set<Integer> getOwnedShards() {
+        return shardLeaseAssigner.getOwnedShards();
+    }
+
+    @Scheduled(fixedDelayString = "${app.outbox.sharding.rebalance-interval:PT5S}") // lease-ttl보다 짧게
+    public void rebalance() {
+        if (!enabled) return;
+
+        shardLeaseAssigner.rebalance();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (!enabled) return;
+
+        shardLeaseAssigner.releaseAll();
+    }
+}
@@ -0,0 +1,37 @@
+package com.chae.promo.outbox.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.zip.CRC32;
+
+/**
+ * outbox shard 정책
+ * - aggregate_id 해시로 shard를 정해 같은 aggregate의 이벤트는 항상 같은 shard에서 순서대로 발행
+ * - MySQL CRC32()와 같은 값을 사용 (마이그레이션 backfill과 일치)
+ */
+@Component
+public class OutboxShardPolicy {
+
+    private final int shardCount;
+
+    public OutboxShardPolicy(@Value("${app.outbox.shard-count:16}") int shardCount) {
+        this.shardCount = shardCount;
+    }
+
+    /**
+     * aggregate가 속한 shard
+     * @param aggregateId aggregate ID (예: orderPublicId)
+     * @return shard 번호 (0 ~ shardCount-1)
+     */
+    public int shardOf(String aggregateId) {
+        CRC32 crc32 = new CRC32();
+        crc32.update(aggregateId.getBytes(StandardCharsets.UTF_8));
+        return (int) (crc32.getValue() % shardCount);
+    }
+
+    public int getShardCount() {
+        return shardCount;
+    }
+}
@@ -1,48 +1,97 @@
 package com.chae.promo.outbox.service;
 
 import com.chae.promo.outbox.entity.EventOutbox;
+import com.chae.promo.outbox.repository.EventOutboxBulkRepository;
 import com.chae.promo.outbox.repository.EventOutboxRepository;
 import com.fasterxml.jackson.core.JsonProcessingException;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.kafka.common.KafkaException;
-import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Clock;
 import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
-
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * outbox 발행 워커 (실행 주기는 OutboxDispatcher가 결정)
+ * - 배치의 모든 row를 비동기로 전송한 뒤, 전송 결과를 deadline까지 한꺼번에 대기
+ *   (배치 지연 = broker 왕복 1회 + producer batching, row 수만큼 왕복하지 않음)
+ * - 결과는 SENT는 UPDATE 1건, FAILED는 JDBC batch 1회로 반영
+ * - deadline까지 ack가 오지 않은 row는 FAILED로 재시도 (늦게 전송이 성공했으면 중복 발행될 수 있으므로 consumer는 eventId로 멱등 처리)
+ */
 @Component
-@RequiredArgsConstructor
 @Slf4j
 public class OutboxWorker {
     private final EventOutboxRepository eventOutboxRepository;
+    private final EventOutboxBulkRepository eventOutboxBulkRepository;
     private final Clock clock;
 
-    private final List<DomainOutboxPublisher> publishers;
+    // type → publisher (기동 시 1회 구성)
+    private final Map<String, DomainOutboxPublisher> publishers;
+
+    private final Duration publishTimeout;
 
+    static final int BATCH = 200;
 
-    private static final int BATCH = 200;
+    public OutboxWorker(EventOutboxRepository eventOutboxRepository,
+                        EventOutboxBulkRepository eventOutboxBulkRepository,
+                        Clock clock,
+                        List<DomainOutboxPublisher> publishers,
+                        @Value("${app.outbox.publish-timeout:PT10S}") Duration publishTimeout) {
+        this.eventOutboxRepository = eventOutboxRepository;
+        this.eventOutboxBulkRepository = eventOutboxBulkRepository;
+        this.clock = clock;
+        this.publishers = toRegistry(publishers);
+        this.publishTimeout = publishTimeout;
+    }
 
     // backoff: 10s * (retryCount+1)
     private Duration backoff(int retryCount) {
         return Duration.ofSeconds(10L * Math.max(1, retryCount + 1));
     }
 
-    @Scheduled(fixedDelayString = "PT5S") // 5초마다 실행
+    private record InFlight(EventOutbox outbox, CompletableFuture<?> future) {
+    }
+
+    /**
+     * 발행 대상 outbox를 최대 BATCH건 잠금 조회 후 발행
+     * @return 조회한 row 수 (BATCH와 같으면 남은 row가 있을 수 있음)
+     */
     @Transactional
-    public void publishBatch() {
-        LocalDateTime now = LocalDateTime.now(clock);
-        List<EventOutbox> rows = eventOutboxRepository.lockAndFetch(now, BATCH);
+    public int publishBatch() {
+        return publish(eventOutboxRepository.lockAndFetch(LocalDateTime.now(clock), BATCH));
+    }
 
+    /**
+     * 한 shard의 발행 대상 outbox를 최대 BATCH건 잠금 조회 후 발행 (shard lease를 가진 서버에서 호출)
+     * @param shardNo shard 번호
+     * @return 조회한 row 수
+     */
+    @Transactional
+    public int publishBatch(int shardNo) {
+        return publish(eventOutboxRepository.lockAndFetchByShard(shardNo, LocalDateTime.now(clock), BATCH));
+    }
+
+    private int publish(List<EventOutbox> rows) {
         if (rows.isEmpty()) {
              log.debug("[Outbox] no events to publish");
-            return;
+            return 0;
         }
 
+        List<EventOutbox> failed = new ArrayList<>();
+        List<InFlight> inFlights = new ArrayList<>(rows.size());
+
+        // 1) 전송 시작 (ack 대기 없음)
         for (EventOutbox outbox : rows) {
 
             DomainOutboxPublisher publisher = findPublisher(outbox.getType());
@@ -52,31 +101,86 @@ public class OutboxWorker {
             }
 
             try {
-                publisher.publish(outbox.getPayloadJson());
-
-                // 성공 처리
-                outbox.markSent(clock);
-
-                log.info("[Outbox] SENT type={}, eventId={}, aggregateId={}",
-                        outbox.getType(), outbox.getEventId(), outbox.getAggregateId());
+                inFlights.add(new InFlight(outbox, publisher.publishAsync(outbox.getEventId(), outbox.getPayloadJson())));
 
             } catch (JsonProcessingException jsonEx) {
-                handleFailure(outbox, jsonEx, "Payload JSON 파싱 실패");
+                handleFailure(outbox, jsonEx, "Payload JSON 파싱 실패", failed);
 
             } catch (KafkaException kafkaEx) {
-                handleFailure(outbox, kafkaEx, "Kafka 전송 실패");
+                handleFailure(outbox, kafkaEx, "Kafka 전송 실패", failed);
 
             } catch (Exception ex) {
-                handleFailure(outbox, ex, "알 수 없는 오류 발생");
+                handleFailure(outbox, ex, "알 수 없는 오류 발생", failed);
+            }
+        }
+
+        // 2) 전송 결과를 deadline까지 한꺼번에 대기
+        awaitAll(inFlights);
+
+        // 3) 결과 분류
+        List<Long> sentIds = new ArrayList<>(inFlights.size());
+        for (InFlight inFlight : inFlights) {
+            EventOutbox outbox = inFlight.outbox();
+            Exception cause = failureOf(inFlight.future());
+            if (cause == null) {
+                outbox.markSent(clock);
+                sentIds.add(outbox.getId());
+                log.info("[Outbox] SENT type={}, eventId={}, aggregateId={}",
+                        outbox.getType(), outbox.getEventId(), outbox.getAggregateId());
+            } else if (cause instanceof TimeoutException) {
+                handleFailure(outbox, cause, "Kafka 전송 응답 시간 초과", failed);
+            } else if (cause instanceof KafkaException) {
+                handleFailure(outbox, cause, "Kafka 전송 실패", failed);
+            } else {
+                handleFailure(outbox, cause, "알 수 없는 오류 발생", failed);
             }
         }
-        eventOutboxRepository.saveAll(rows);
 
+        // 4) 일괄 반영
+        LocalDateTime completedAt = LocalDateTime.now(clock);
+        eventOutboxBulkRepository.markSent(sentIds, completedAt);
+        eventOutboxBulkRepository.markFailed(failed, completedAt);
+
+        log.debug("[Outbox] batch done. fetched={}, sent={}, failed={}", rows.size(), sentIds.size(), failed.size());
+        return rows.size();
     }
 
-    private void handleFailure(EventOutbox outbox, Exception ex, String reason) {
+    private void awaitAll(List<InFlight> inFlights) {
+        if (inFlights.isEmpty()) {
+            return;
+        }
+
+        CompletableFuture<?>[] futures = inFlights.stream()
+                .map(InFlight::future)
+                .toArray(CompletableFuture[]::new);
+        try {
+            CompletableFuture.allOf(futures).get(publishTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException e) {
+            // 개별 결과는 failureOf에서 판단
+            log.debug("[Outbox] 일부 전송 실패 또는 시간 초과: {}", e.toString());
+        }
+    }
+
+    // 완료된 전송의 실패 원인 (성공이면 null, 아직 완료되지 않았으면 TimeoutException)
+    private Exception failureOf(CompletableFuture<?> future) {
+        if (!future.isDone()) {
+            return new TimeoutException("outbox publish deadline exceeded (" + publishTimeout + ")");
+        }
+        try {
+            future.join();
+            return null;
+        } catch (Exception e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            return cause instanceof Exception ex ? ex : e;
+        }
+    }
+
+    private void handleFailure(EventOutbox outbox, Exception ex, String reason, List<EventOutbox> failed) {
         int next = outbox.getRetryCount() + 1;
         outbox.markFailed(next, clock, ex, backoff(next));
+        failed.add(outbox);
 
         log.warn("[Outbox] FAIL type={}, eventId={}, retry={}, nextRetryAt={}, cause={}, reason={}",
                 outbox.getType(), outbox.getEventId(), next, outbox.getNextRetryAt(), ex.toString(), reason);
@@ -84,9 +188,17 @@ public class OutboxWorker {
     }
 
     private DomainOutboxPublisher findPublisher(String type) {
-        return publishers.stream()
-                .filter(p -> p.supports(type))
-                .findFirst()
-                .orElse(null);
+        return publishers.get(type);
+    }
+
+    private static Map<String, DomainOutboxPublisher> toRegistry(List<DomainOutboxPublisher> publishers) {
+        Map<String, DomainOutboxPublisher> registry = new HashMap<>();
+        for (DomainOutboxPublisher publisher : publishers) {
+            DomainOutboxPublisher existing = registry.putIfAbsent(publisher.eventType(), publisher);
+            if (existing != null) {
+                throw new IllegalStateException("outbox publisher 중복 등록. type=" + publisher.eventType());
+            }
+        }
+        return Map.copyOf(registry);
     }
 }
@@ -9,6 +9,8 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Component;
 
+import java.util.concurrent.CompletableFuture;
+
 @Component
 @RequiredArgsConstructor
 @Slf4j
@@ -20,17 +22,18 @@ public class EventOpenPublisher implements DomainOutboxPublisher {
 
 
     @Override
-    public boolean supports(String eventType) {
-        return eventType.equals(TopicNames.EVENT_OPEN);
+    public String eventType() {
+        return TopicNames.EVENT_OPEN;
     }
 
+    // 전송 값은 payload 전체가 아닌 eventDomainId(String)이므로 pass-through 대상이 아님
     @Override
-    public void publish(String payloadJson) throws Exception {
+    public CompletableFuture<?> publishAsync(String eventId, String payloadJson) throws Exception {
         EventOpenPayload event = objectMapper.readValue(payloadJson, EventOpenPayload.class);
 
-        // 이벤트 발행 - 동기로 처리 (outbox의 성공, 실패 처리를 위해)
-        kafkaTemplate.send(TopicNames.EVENT_OPEN, event.getOutboxEventId(), event.getEventDomainId()).get();
-        log.info("[Publisher] Kafka EVENT_OPEN 발행됨 (outboxEventId={}, eventDomainId={})", event.getOutboxEventId(), event.getEventDomainId());
-
+        // 이벤트 발행 - 전송 결과는 OutboxWorker가 배치 단위로 모아서 대기 (outbox의 성공, 실패 처리를 위해)
+        return kafkaTemplate.send(TopicNames.EVENT_OPEN, event.getOutboxEventId(), event.getEventDomainId())
+                .thenAccept(result -> log.info("[Publisher] Kafka EVENT_OPEN 발행됨 (outboxEventId={}, eventDomainId={})",
+                        event.getOutboxEventId(), event.getEventDomainId()));
     }
 }
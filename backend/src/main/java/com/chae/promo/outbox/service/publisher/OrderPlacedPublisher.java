@@ -1,36 +1,57 @@
 package com.chae.promo.outbox.service.publisher;
 
+import com.chae.promo.common.kafka.RawJsonKafkaSender;
 import com.chae.promo.common.kafka.TopicNames;
 import com.chae.promo.order.event.OrderPlacedEvent;
 import com.chae.promo.order.event.OrderPlacedEventPublisher;
 import com.chae.promo.outbox.service.DomainOutboxPublisher;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.util.concurrent.CompletableFuture;
+
 @Component
-@RequiredArgsConstructor
 @Slf4j
 public class OrderPlacedPublisher implements DomainOutboxPublisher {
 
     private final ObjectMapper objectMapper;
     private final OrderPlacedEventPublisher orderPlacedEventPublisher;
-
+    private final RawJsonKafkaSender rawJsonKafkaSender;
+
+    // true: 저장된 payload JSON을 그대로 전송 (역직렬화/재직렬화 없음), false: OrderPlacedEvent로 변환 후 JsonSerializer로 전송
+    private final boolean rawPayloadEnabled;
+
+    public OrderPlacedPublisher(ObjectMapper objectMapper,
+                                OrderPlacedEventPublisher orderPlacedEventPublisher,
+                                RawJsonKafkaSender rawJsonKafkaSender,
+                                @Value("${app.outbox.raw-payload.enabled:true}") boolean rawPayloadEnabled) {
+        this.objectMapper = objectMapper;
+        this.orderPlacedEventPublisher = orderPlacedEventPublisher;
+        this.rawJsonKafkaSender = rawJsonKafkaSender;
+        this.rawPayloadEnabled = rawPayloadEnabled;
+    }
 
     @Override
-    public boolean supports(String eventType) {
-        return eventType.equals(TopicNames.ORDER_PLACED);
+    public String eventType() {
+        return TopicNames.ORDER_PLACED;
     }
 
     @Override
-    public void publish(String payloadJson) throws Exception {
+    public CompletableFuture<?> publishAsync(String eventId, String payloadJson) throws Exception {
+        if (rawPayloadEnabled) {
+            // key는 멱등키(eventId), consumer는 __TypeId__ 헤더로 OrderPlacedEvent 역직렬화
+            return rawJsonKafkaSender.send(TopicNames.ORDER_PLACED, eventId, payloadJson, OrderPlacedEvent.class)
+                    .thenAccept(result -> log.info("[Publisher] ORDER_PLACED published(raw) eventId={}", eventId));
+        }
+
         OrderPlacedEvent event =
                 objectMapper.readValue(payloadJson, OrderPlacedEvent.class);
 
-        // 이벤트 발행
-        orderPlacedEventPublisher.publishOrderPlacedSync(event);
-        log.info("[Publisher] ORDER_PLACED published eventId={}, orderPublicId={}", event.getEventId(), event.getOrderPublicId());
-
+        // 이벤트 발행 (ack 대기는 OutboxWorker에서 배치 단위로)
+        return orderPlacedEventPublisher.publishOrderPlacedAsync(event)
+                .thenAccept(result -> log.info("[Publisher] ORDER_PLACED published eventId={}, orderPublicId={}",
+                        event.getEventId(), event.getOrderPublicId()));
     }
 }
@@ -0,0 +1,134 @@
+package com.chae.promo.product.cache;
+
+import com.chae.promo.product.dto.ProductCatalogDTO;
+import com.chae.promo.product.repository.ProductBulkRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 상품 카탈로그 스냅샷 (code → id, 이름, 가격, 상태)
+ * - 주문 생성 시 DB 조회 없이 가격/상태를 검증하기 위한 메모리 스냅샷 (재고는 Redis 예약에서 검증)
+ * - 주기적으로 카탈로그 버전(상품 수 + 마지막 수정 시각)만 조회하고, 바뀌었을 때만 전체를 다시 읽어 교체
+ * - 스냅샷은 교체만 하고 수정하지 않으므로 조회 시 잠금 없음
+ * - DB에도 없는 코드는 negative-ttl 동안 기억해 잘못된 코드 요청이 매번 DB를 조회하지 않도록 함 (카탈로그 변경 시 초기화)
+ */
+@Slf4j
+@Component
+public class ProductCatalogCache {
+
+    private final ProductBulkRepository productBulkRepository;
+    private final int pageSize;
+
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>(Snapshot.EMPTY);
+    // DB에 없는 상품 코드 (값은 사용하지 않음)
+    private final Cache<String, Boolean> unknownCodes;
+
+    public ProductCatalogCache(ProductBulkRepository productBulkRepository,
+                               @Value("${app.product.catalog-cache.page-size:1000}") int pageSize,
+                               @Value("${app.product.catalog-cache.negative-max-size:10000}") long negativeMaxSize,
+                               @Value("${app.product.catalog-cache.negative-ttl:PT30S}") Duration negativeTtl) {
+        this.productBulkRepository = productBulkRepository;
+        this.pageSize = pageSize;
+        this.unknownCodes = Caffeine.newBuilder()
+                .maximumSize(negativeMaxSize)
+                .expireAfterWrite(negativeTtl)
+                .build();
+    }
+
+    private record Snapshot(long version, String signature, Map<String, ProductCatalogDTO> products) {
+        static final Snapshot EMPTY = new Snapshot(0, null, Map.of());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        refresh();
+    }
+
+    @Scheduled(fixedDelayString = "${app.product.catalog-cache.refresh-interval:PT30S}") // 30초마다 카탈로그 버전 확인
+    public void refresh() {
+        try {
+            String signature = productBulkRepository.findCatalogSignature();
+            Snapshot current = snapshot.get();
+            if (signature.equals(current.signature())) {
+                return;
+            }
+
+            Map<String, ProductCatalogDTO> products = new HashMap<>();
+            long lastId = 0;
+            while (true) {
+                List<ProductCatalogDTO> page = productBulkRepository.findCatalogPageAfter(lastId, pageSize);
+                page.forEach(product -> products.put(product.getCode(), product));
+                if (page.size() < pageSize) {
+                    break;
+                }
+                lastId = page.get(page.size() - 1).getId();
+            }
+
+            Snapshot next = new Snapshot(current.version() + 1, signature, Collections.unmodifiableMap(products));
+            snapshot.set(next);
+            // 새로 추가된 상품이 없는 코드로 남지 않도록 초기화
+            unknownCodes.invalidateAll();
+            log.info("상품 카탈로그 스냅샷 갱신. version: {}, products: {}", next.version(), products.size());
+        } catch (Exception e) {
+            // 갱신 실패 시 기존 스냅샷 유지
+            log.error("상품 카탈로그 스냅샷 갱신 실패", e);
+        }
+    }
+
+    /**
+     * 상품 코드로 카탈로그 조회
+     * - 스냅샷에 없는 코드(갱신 전 신규 상품 등)만 DB에서 조회해 스냅샷에 추가
+     * - DB에도 없던 코드는 negative-ttl 동안 다시 조회하지 않음
+     * @param codes 상품 코드 목록
+     * @return code → 카탈로그 (존재하지 않는 상품은 제외)
+     */
+    public Map<String, ProductCatalogDTO> getAll(Collection<String> codes) {
+        Map<String, ProductCatalogDTO> current = snapshot.get().products();
+        Map<String, ProductCatalogDTO> result = new HashMap<>();
+        Set<String> misses = new HashSet<>();
+
+        for (String code : codes) {
+            ProductCatalogDTO product = current.get(code);
+            if (product != null) {
+                result.put(code, product);
+            } else if (unknownCodes.getIfPresent(code) == null) {
+                misses.add(code);
+            }
+        }
+
+        if (!misses.isEmpty()) {
+            List<ProductCatalogDTO> loaded = productBulkRepository.findCatalogByCodeIn(misses);
+            loaded.forEach(product -> result.put(product.getCode(), product));
+            if (!loaded.isEmpty()) {
+                merge(loaded);
+            }
+            misses.stream()
+                    .filter(code -> !result.containsKey(code))
+                    .forEach(code -> unknownCodes.put(code, Boolean.TRUE));
+        }
+        return result;
+    }
+
+    public long getVersion() {
+        return snapshot.get().version();
+    }
+
+    // 조회한 상품을 새 스냅샷으로 추가 (signature는 유지 → 다음 갱신 주기에 전체 재적재로 정리)
+    private void merge(List<ProductCatalogDTO> loaded) {
+        snapshot.updateAndGet(current -> {
+            Map<String, ProductCatalogDTO> products = new HashMap<>(current.products());
+            loaded.forEach(product -> products.put(product.getCode(), product));
+            return new Snapshot(current.version() + 1, current.signature(), Collections.unmodifiableMap(products));
+        });
+    }
+}
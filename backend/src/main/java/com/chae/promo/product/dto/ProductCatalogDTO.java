@@ -0,0 +1,35 @@
+package com.chae.promo.product.dto;
+
+import com.chae.promo.product.entity.Product;
+import com.chae.promo.product.entity.ProductStatus;
+import lombok.*;
+
+import java.math.BigDecimal;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Builder
+public class ProductCatalogDTO {
+    private long id; // 상품 ID
+    private String code; // 상품 코드
+    private String name; // 상품명
+    private BigDecimal price; // 상품 가격
+    private ProductStatus status; // 상품 상태
+    private long version;
+
+    /**
+     * 주문 항목 연관관계/가격 계산용 Product (DB 조회 없이 id로 참조)
+     * - 재고는 Redis 예약에서 검증하므로 stockQuantity는 채우지 않음
+     */
+    public Product toProductReference() {
+        return Product.builder()
+                .id(id)
+                .code(code)
+                .name(name)
+                .price(price)
+                .status(status)
+                .version(version)
+                .build();
+    }
+}
@@ -0,0 +1,13 @@
+package com.chae.promo.product.dto;
+
+import lombok.*;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Builder
+public class ProductStockDTO {
+    private long id; // 상품 ID
+    private String code; // 상품 코드
+    private long stockQuantity; // 재고 수량
+}
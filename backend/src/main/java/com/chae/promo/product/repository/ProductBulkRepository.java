@@ -1,14 +1,25 @@
 package com.chae.promo.product.repository;
 
+import com.chae.promo.exception.CommonCustomException;
+import com.chae.promo.exception.CommonErrorCode;
+import com.chae.promo.product.dto.ProductCatalogDTO;
 import com.chae.promo.product.dto.ProductRequest;
+import com.chae.promo.product.dto.ProductStockDTO;
+import com.chae.promo.product.entity.ProductStatus;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
 import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Repository;
 
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -21,7 +32,8 @@ public class ProductBulkRepository {
         String sql = """
             UPDATE products 
             SET stock_quantity = stock_quantity - ?,
-                version = version + 1
+                version = version + 1,
+                updated_at = updated_at
             WHERE id = ? AND version = ? AND stock_quantity >= ?
             """;
 
@@ -50,4 +62,166 @@ public class ProductBulkRepository {
         return Arrays.stream(results).sum();
     }
 
+    /**
+     * 상품별 합산 수량만큼 재고 차감 (version 비교 없이 상대 차감, 재고 부족만 검사)
+     * - 여러 주문의 같은 상품 차감을 UPDATE 1건으로 합쳐 낙관적 락 충돌을 없앰
+     * - 상품 id 오름차순으로 갱신해 배치 간 row lock 순서를 고정 (데드락 방지)
+     * @param decreasedStockByProductId 상품 ID → 차감 수량 합계
+     * @return 갱신된 상품 수
+     */
+    public int bulkDecreaseStockBySum(Map<Long, Long> decreasedStockByProductId) {
+        String sql = """
+            UPDATE products
+            SET stock_quantity = stock_quantity - ?,
+                version = version + 1,
+                updated_at = updated_at
+            WHERE id = ? AND stock_quantity >= ?
+            """;
+
+        List<Map.Entry<Long, Long>> entries = decreasedStockByProductId.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .toList();
+
+        List<Object[]> batchArgs = entries.stream()
+                .map(entry -> new Object[]{entry.getValue(), entry.getKey(), entry.getValue()})
+                .collect(Collectors.toList());
+        int[] results = jdbcTemplate.batchUpdate(sql, batchArgs);
+
+        for (int i = 0; i < results.length; i++) {
+            if (results[i] == 0) {
+                log.warn("재고 합산 차감 실패 (재고 부족) - productId:{}, requestedDecreasedStock:{}",
+                        entries.get(i).getKey(), entries.get(i).getValue());
+                throw new CommonCustomException(CommonErrorCode.INSUFFICIENT_STOCK);
+            }
+        }
+
+        return Arrays.stream(results).sum();
+    }
+
+    /**
+     * 상품 재고 잠금 조회 (id 오름차순 FOR UPDATE)
+     * - 재고 차감 UPDATE 후 같은 트랜잭션에서 차감 결과를 다시 읽어 audit 재고 계산에 사용
+     * @param productIds 상품 ID 목록
+     * @return 상품 ID → 재고 수량
+     */
+    public Map<Long, Long> findStockForUpdate(Collection<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return new HashMap<>();
+        }
+        String placeholders = String.join(",", Collections.nCopies(productIds.size(), "?"));
+        String sql = """
+            SELECT id, stock_quantity
+            FROM products
+            WHERE id IN (%s)
+            ORDER BY id
+            FOR UPDATE
+            """.formatted(placeholders);
+
+        Map<Long, Long> result = new HashMap<>();
+        jdbcTemplate.query(sql, rs -> {
+            result.put(rs.getLong("id"), rs.getLong("stock_quantity"));
+        }, productIds.toArray());
+        return result;
+    }
+
+    /**
+     * 상품 재고 keyset 페이지 조회 (id 오름차순)
+     * @param lastId 이전 페이지 마지막 id (처음이면 0)
+     * @param limit 페이지 크기
+     * @return 상품 재고 목록
+     */
+    public List<ProductStockDTO> findStockPageAfter(long lastId, int limit) {
+        String sql = """
+            SELECT id, code, stock_quantity
+            FROM products
+            WHERE id > ?
+            ORDER BY id
+            LIMIT ?
+            """;
+
+        return jdbcTemplate.query(sql, STOCK_ROW_MAPPER, lastId, limit);
+    }
+
+    /**
+     * 상품 코드로 재고 조회
+     * @param code 상품 코드
+     * @return 상품 재고, 없으면 empty
+     */
+    public Optional<ProductStockDTO> findStockByCode(String code) {
+        String sql = """
+            SELECT id, code, stock_quantity
+            FROM products
+            WHERE code = ?
+            """;
+
+        return jdbcTemplate.query(sql, STOCK_ROW_MAPPER, code).stream().findFirst();
+    }
+
+    /**
+     * 상품 카탈로그(재고 제외) keyset 페이지 조회 (id 오름차순)
+     * @param lastId 이전 페이지 마지막 id (처음이면 0)
+     * @param limit 페이지 크기
+     * @return 상품 카탈로그 목록
+     */
+    public List<ProductCatalogDTO> findCatalogPageAfter(long lastId, int limit) {
+        String sql = """
+            SELECT id, code, name, price, status, version
+            FROM products
+            WHERE id > ?
+            ORDER BY id
+            LIMIT ?
+            """;
+
+        return jdbcTemplate.query(sql, CATALOG_ROW_MAPPER, lastId, limit);
+    }
+
+    /**
+     * 상품 코드로 카탈로그 조회
+     * @param codes 상품 코드 목록
+     * @return 상품 카탈로그 목록 (없는 코드는 제외)
+     */
+    public List<ProductCatalogDTO> findCatalogByCodeIn(Collection<String> codes) {
+        if (codes.isEmpty()) {
+            return List.of();
+        }
+        String placeholders = String.join(",", Collections.nCopies(codes.size(), "?"));
+        String sql = """
+            SELECT id, code, name, price, status, version
+            FROM products
+            WHERE code IN (%s)
+            """.formatted(placeholders);
+
+        return jdbcTemplate.query(sql, CATALOG_ROW_MAPPER, codes.toArray());
+    }
+
+    /**
+     * 상품 카탈로그 버전 (상품 수 + 마지막 수정 시각, V21 idx_updated_at)
+     * - 재고 전용 UPDATE는 updated_at을 유지하므로 재고 변경에는 값이 바뀌지 않음
+     * @return 카탈로그 버전 문자열
+     */
+    public String findCatalogSignature() {
+        String sql = """
+            SELECT COUNT(*) AS cnt, MAX(updated_at) AS last_updated_at
+            FROM products
+            """;
+
+        return jdbcTemplate.queryForObject(sql,
+                (rs, rowNum) -> rs.getLong("cnt") + ":" + rs.getTimestamp("last_updated_at"));
+    }
+
+    private static final RowMapper<ProductCatalogDTO> CATALOG_ROW_MAPPER = (rs, rowNum) -> ProductCatalogDTO.builder()
+            .id(rs.getLong("id"))
+            .code(rs.getString("code"))
+            .name(rs.getString("name"))
+            .price(rs.getBigDecimal("price"))
+            .status(ProductStatus.valueOf(rs.getString("status")))
+            .version(rs.getLong("version"))
+            .build();
+
+    private static final RowMapper<ProductStockDTO> STOCK_ROW_MAPPER = (rs, rowNum) -> ProductStockDTO.builder()
+            .id(rs.getLong("id"))
+            .code(rs.getString("code"))
+            .stockQuantity(rs.getLong("stock_quantity"))
+            .build();
+
 }
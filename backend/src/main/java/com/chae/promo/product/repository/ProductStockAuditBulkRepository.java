@@ -0,0 +1,75 @@
+package com.chae.promo.product.repository;
+
+import com.chae.promo.product.entity.ProductStockAudit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 상품 재고 audit multi-row INSERT
+ * - ProductStockAudit은 IDENTITY 전략이라 JPA saveAll이 row마다 INSERT를 실행하므로 JDBC로 한 번에 저장
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class ProductStockAuditBulkRepository {
+    private static final String INSERT_PREFIX = """
+            INSERT INTO product_stock_audit (product_id, change_type, change_quantity, current_stock,
+                                             changed_by_user_id, user_type, order_public_id, event_id,
+                                             description, created_at)
+            VALUES
+            """;
+    private static final String ROW_PLACEHOLDER = "(?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final int MAX_ROWS_PER_STATEMENT = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * audit 목록을 multi-row INSERT로 저장 (500건 단위 statement)
+     *
+     * @param audits 저장할 audit 목록
+     * @return 저장된 row 수
+     */
+    public int bulkInsert(List<ProductStockAudit> audits) {
+        Timestamp createdAt = Timestamp.valueOf(LocalDateTime.now());
+        int affected = 0;
+        for (int from = 0; from < audits.size(); from += MAX_ROWS_PER_STATEMENT) {
+            List<ProductStockAudit> chunk = audits.subList(from, Math.min(from + MAX_ROWS_PER_STATEMENT, audits.size()));
+            affected += insertChunk(chunk, createdAt);
+        }
+        return affected;
+    }
+
+    private int insertChunk(List<ProductStockAudit> chunk, Timestamp createdAt) {
+        StringBuilder sql = new StringBuilder(INSERT_PREFIX);
+        List<Object> args = new ArrayList<>(chunk.size() * 10);
+
+        for (int i = 0; i < chunk.size(); i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append(ROW_PLACEHOLDER);
+
+            ProductStockAudit audit = chunk.get(i);
+            args.add(audit.getProductId());
+            args.add(audit.getChangeType().name());
+            args.add(audit.getChangeQuantity());
+            args.add(audit.getCurrentStock());
+            args.add(audit.getChangedByUserId());
+            args.add(audit.getUserType() != null ? audit.getUserType().name() : null);
+            args.add(audit.getOrderPublicId());
+            args.add(audit.getEventId());
+            args.add(audit.getDescription());
+            args.add(createdAt);
+        }
+
+        return jdbcTemplate.update(sql.toString(), args.toArray());
+    }
+}
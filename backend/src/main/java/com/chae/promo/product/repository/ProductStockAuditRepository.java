@@ -2,9 +2,17 @@ package com.chae.promo.product.repository;
 
 import com.chae.promo.product.entity.ProductStockAudit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+
 @Repository
 public interface ProductStockAuditRepository extends JpaRepository<ProductStockAudit, Long>  {
 
+    // 이미 재고 처리된 이벤트 ID 조회 (재전달 멱등)
+    @Query("SELECT a.eventId FROM ProductStockAudit a WHERE a.eventId IN :eventIds")
+    List<String> findEventIdsByEventIdIn(@Param("eventIds") Collection<String> eventIds);
 }
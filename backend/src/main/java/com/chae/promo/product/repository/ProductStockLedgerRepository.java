@@ -0,0 +1,186 @@
+package com.chae.promo.product.repository;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * 상품 재고 원장 (ledger 모드)
+ * - 재고 변경은 원장에 append만 하고, compactor가 주기적으로 products.stock_quantity에 접어 넣은 뒤 원장에서 제거
+ * - 현재 재고 = products.stock_quantity + 남은 원장 delta 합계
+ * - 모드와 관계없이 products.stock_quantity가 유일한 기준 값 (모드를 꺼도 어긋날 별도 스냅샷이 없음)
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class ProductStockLedgerRepository {
+    private static final String INSERT_PREFIX = """
+            INSERT INTO product_stock_ledger (product_id, delta, event_id, order_public_id, created_at)
+            VALUES
+            """;
+    private static final String ROW_PLACEHOLDER = "(?, ?, ?, ?, ?)";
+
+    private static final int MAX_ROWS_PER_STATEMENT = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 원장 append (multi-row INSERT)
+     * @param entries 원장 항목 목록
+     * @return 저장된 row 수
+     */
+    public int append(List<LedgerEntry> entries) {
+        Timestamp createdAt = Timestamp.valueOf(LocalDateTime.now());
+        int affected = 0;
+        for (int from = 0; from < entries.size(); from += MAX_ROWS_PER_STATEMENT) {
+            List<LedgerEntry> chunk = entries.subList(from, Math.min(from + MAX_ROWS_PER_STATEMENT, entries.size()));
+
+            StringBuilder sql = new StringBuilder(INSERT_PREFIX);
+            List<Object> args = new ArrayList<>(chunk.size() * 5);
+            for (int i = 0; i < chunk.size(); i++) {
+                if (i > 0) {
+                    sql.append(", ");
+                }
+                sql.append(ROW_PLACEHOLDER);
+
+                LedgerEntry entry = chunk.get(i);
+                args.add(entry.getProductId());
+                args.add(entry.getDelta());
+                args.add(entry.getEventId());
+                args.add(entry.getOrderPublicId());
+                args.add(createdAt);
+            }
+            affected += jdbcTemplate.update(sql.toString(), args.toArray());
+        }
+        return affected;
+    }
+
+    /**
+     * 현재 재고 조회 (products 재고 + 원장 합계)
+     * @param productIds 상품 ID 목록
+     * @return 상품 ID → 현재 재고
+     */
+    public Map<Long, Long> findCurrentStock(Collection<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return new HashMap<>();
+        }
+        String placeholders = String.join(",", Collections.nCopies(productIds.size(), "?"));
+        String sql = """
+            SELECT p.id AS product_id,
+                   p.stock_quantity
+                       + COALESCE((SELECT SUM(l.delta) FROM product_stock_ledger l WHERE l.product_id = p.id), 0) AS quantity
+            FROM products p
+            WHERE p.id IN (%s)
+            """.formatted(placeholders);
+
+        Map<Long, Long> result = new HashMap<>();
+        jdbcTemplate.query(sql, rs -> {
+            result.put(rs.getLong("product_id"), rs.getLong("quantity"));
+        }, productIds.toArray());
+        return result;
+    }
+
+    /**
+     * 현재 재고 잠금 조회 (products 재고 + 원장 합계, audit 재고 계산용)
+     * - 상품 row를 id 오름차순으로 잠가 같은 상품의 원장 append/정리를 직렬화
+     * - 잠금 조회(current read)라 트랜잭션 앞부분의 일관된 읽기 시점과 관계없이 커밋된 최신 원장을 합산
+     * @param productIds 상품 ID 목록
+     * @return 상품 ID → 현재 재고
+     */
+    public Map<Long, Long> findCurrentStockForUpdate(Collection<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return new HashMap<>();
+        }
+        String placeholders = String.join(",", Collections.nCopies(productIds.size(), "?"));
+        String sql = """
+            SELECT p.id AS product_id,
+                   p.stock_quantity
+                       + COALESCE((SELECT SUM(l.delta) FROM product_stock_ledger l WHERE l.product_id = p.id FOR SHARE), 0) AS quantity
+            FROM products p
+            WHERE p.id IN (%s)
+            ORDER BY p.id
+            FOR UPDATE
+            """.formatted(placeholders);
+
+        Map<Long, Long> result = new HashMap<>();
+        jdbcTemplate.query(sql, rs -> {
+            result.put(rs.getLong("product_id"), rs.getLong("quantity"));
+        }, productIds.toArray());
+        return result;
+    }
+
+    /**
+     * 정리할 원장이 남은 상품 ID 조회
+     * @param limit 최대 상품 수
+     * @return 상품 ID 목록
+     */
+    public List<Long> findProductIdsToCompact(int limit) {
+        String sql = """
+            SELECT DISTINCT product_id
+            FROM product_stock_ledger
+            LIMIT ?
+            """;
+
+        return jdbcTemplate.queryForList(sql, Long.class, limit);
+    }
+
+    // 상품 row lock 후 현재 products 재고 조회 (findCurrentStockForUpdate와 같은 잠금으로 원장 append와 정리를 직렬화)
+    public long lockProductStock(long productId) {
+        String sql = "SELECT stock_quantity FROM products WHERE id = ? FOR UPDATE";
+
+        return jdbcTemplate.queryForObject(sql, Long.class, productId);
+    }
+
+    // 정리할 원장 조회 (id, delta) - 상품 row lock을 잡은 뒤 읽으므로 그 전에 커밋된 원장은 모두 보임
+    public List<long[]> findLedger(long productId, int limit) {
+        String sql = """
+            SELECT id, delta
+            FROM product_stock_ledger
+            WHERE product_id = ?
+            ORDER BY id
+            LIMIT ?
+            """;
+
+        return jdbcTemplate.query(sql, (rs, rowNum) -> new long[]{rs.getLong("id"), rs.getLong("delta")}, productId, limit);
+    }
+
+    // products 재고에 반영한 원장 삭제 (PK로 삭제하여 row lock만 잡음)
+    public int deleteLedger(long productId, List<Long> ids) {
+        String placeholders = String.join(",", Collections.nCopies(ids.size(), "?"));
+        String sql = "DELETE FROM product_stock_ledger WHERE product_id = ? AND id IN (%s)".formatted(placeholders);
+
+        List<Object> args = new ArrayList<>(ids.size() + 1);
+        args.add(productId);
+        args.addAll(ids);
+        return jdbcTemplate.update(sql, args.toArray());
+    }
+
+    // 원장을 반영한 재고를 products.stock_quantity에 기록 (초과 판매로 음수여도 그대로 기록, V18)
+    public void syncProductStock(long productId, long quantity) {
+        String sql = """
+            UPDATE products
+            SET stock_quantity = ?,
+                version = version + 1,
+                updated_at = updated_at
+            WHERE id = ?
+            """;
+
+        jdbcTemplate.update(sql, quantity, productId);
+    }
+
+    @Getter
+    @Builder
+    public static class LedgerEntry {
+        private final long productId;
+        private final long delta; // 감소는 음수
+        private final String eventId;
+        private final String orderPublicId;
+    }
+}
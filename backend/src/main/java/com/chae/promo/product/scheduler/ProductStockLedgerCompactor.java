@@ -0,0 +1,66 @@
+package com.chae.promo.product.scheduler;
+
+import com.chae.promo.common.lease.RedisLeaseManager;
+import com.chae.promo.product.repository.ProductStockLedgerRepository;
+import com.chae.promo.product.service.ProductStockLedgerCompactionService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 상품 재고 원장 정리 스케줄러
+ * - 원장이 남은 상품을 찾아 상품별로 products 재고에 반영
+ * - ledger 모드 설정과 관계없이 원장이 남아 있으면 정리 (모드를 끈 뒤 남은 원장 drain)
+ * - lease를 가진 서버 한 곳에서만 실행
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ProductStockLedgerCompactor {
+
+    private static final String LEASE_NAME = "product:stock-ledger-compactor";
+
+    private final ProductStockLedgerCompactionService compactionService;
+    private final ProductStockLedgerRepository productStockLedgerRepository;
+    private final RedisLeaseManager redisLeaseManager;
+
+    @Value("${app.stock.ledger.lease-ttl:PT1M}")
+    private Duration leaseTtl;
+
+    @Value("${app.stock.ledger.products-per-run:100}")
+    private int productsPerRun;
+
+    @Value("${app.stock.ledger.batch-size:5000}")
+    private int batchSize;
+
+    @Scheduled(fixedDelayString = "${app.stock.ledger.compact-interval:PT30S}") // 30초마다 원장 정리
+    public void compact() {
+        // 정리할 원장이 없으면 lease도 잡지 않음
+        List<Long> productIds = productStockLedgerRepository.findProductIdsToCompact(productsPerRun);
+        if (productIds.isEmpty()) {
+            return;
+        }
+
+        if (!redisLeaseManager.tryAcquire(LEASE_NAME, leaseTtl)) {
+            return;
+        }
+
+        long compacted = 0;
+        for (Long productId : productIds) {
+            try {
+                compacted += compactionService.compact(productId, batchSize);
+            } catch (Exception e) {
+                log.error("재고 원장 정리 중 오류 발생: productId={}", productId, e);
+            }
+        }
+
+        if (compacted > 0) {
+            log.info("재고 원장 정리 완료. products: {}, rows: {}", productIds.size(), compacted);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.chae.promo.product.service;
+
+import com.chae.promo.product.repository.ProductStockLedgerRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+// 역할: 상품 재고 원장을 products.stock_quantity에 접어 넣음 (ledger 모드, 모드를 끈 뒤 남은 원장 drain)
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProductStockLedgerCompactionService {
+
+    private final ProductStockLedgerRepository productStockLedgerRepository;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 상품 1건의 원장 정리
+     * - 상품 row lock을 먼저 잡아 audit 재고를 계산하는 원장 append(findCurrentStockForUpdate)와 직렬화
+     *   (잠금 순서 : products → ledger, 같은 순서로 잠그므로 데드락 없음)
+     * - 원장 합계를 products 재고에 더하고, 반영한 원장은 삭제 (이후 커밋된 원장은 다음 주기에 반영)
+     * - 결과가 음수(초과 판매)여도 그대로 기록하고 product.stock.oversold 지표를 올림 (알림 대상)
+     *
+     * @param productId 상품 ID
+     * @param batchSize 1회 최대 정리 원장 수
+     * @return 정리한 원장 수
+     */
+    @Transactional
+    public int compact(long productId, int batchSize) {
+        long stock = productStockLedgerRepository.lockProductStock(productId);
+
+        List<long[]> ledger = productStockLedgerRepository.findLedger(productId, batchSize);
+        if (ledger.isEmpty()) {
+            return 0;
+        }
+
+        long sum = ledger.stream().mapToLong(row -> row[1]).sum();
+        List<Long> ids = ledger.stream().map(row -> row[0]).toList();
+
+        int deleted = productStockLedgerRepository.deleteLedger(productId, ids);
+        if (deleted != ids.size()) {
+            // 상품 row lock으로 직렬화되므로 발생하면 안 됨 - 롤백 후 다음 주기에 재시도
+            throw new IllegalStateException("원장 삭제 수 불일치. productId: " + productId);
+        }
+
+        long quantity = stock + sum;
+        if (quantity < 0) {
+            meterRegistry.counter("product.stock.oversold").increment();
+            log.error("원장 정리 후 재고 음수 (초과 판매). productId: {}, quantity: {}", productId, quantity);
+        }
+        productStockLedgerRepository.syncProductStock(productId, quantity);
+
+        log.debug("원장 정리. productId: {}, rows: {}, delta: {}, quantity: {}", productId, ids.size(), sum, quantity);
+        return ids.size();
+    }
+}
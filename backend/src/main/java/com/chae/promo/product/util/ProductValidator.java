@@ -2,13 +2,17 @@ package com.chae.promo.product.util;
 
 import com.chae.promo.exception.CommonCustomException;
 import com.chae.promo.exception.CommonErrorCode;
+import com.chae.promo.product.cache.ProductCatalogCache;
+import com.chae.promo.product.dto.ProductCatalogDTO;
 import com.chae.promo.product.entity.Product;
 import com.chae.promo.product.entity.ProductStatus;
 import com.chae.promo.product.repository.ProductRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
@@ -20,7 +24,50 @@ import java.util.stream.Collectors;
 public class ProductValidator {
 
     private final ProductRepository productRepository;
+    private final ProductCatalogCache productCatalogCache;
 
+    // true: 주문 생성 시 카탈로그 스냅샷으로 검증 (DB 조회 없음), false: DB 조회 + 재고 검증
+    @Value("${app.product.catalog-cache.enabled:true}")
+    private boolean catalogCacheEnabled;
+
+    /**
+     * 주문 생성용 상품 검증 (존재/판매 상태)
+     * - 카탈로그 스냅샷 사용 시 재고는 검증하지 않음 (Redis 재고 예약에서 검증)
+     * - 반환되는 Product는 id로 참조만 하는 객체 (재고 수량 없음)
+     */
+    public <T> Map<String, Product> getAndValidateCatalogProductMap(
+            List<T> items,
+            Function<T, String> codeExtractor,
+            Function<T, Long> quantityExtractor) {
+
+        if (!catalogCacheEnabled) {
+            return getAndValidateProductMap(items, codeExtractor, quantityExtractor);
+        }
+
+        List<String> productCodes = items.stream()
+                .map(codeExtractor)
+                .toList();
+
+        Map<String, ProductCatalogDTO> catalog = productCatalogCache.getAll(productCodes);
+
+        Map<String, Product> productMap = new HashMap<>();
+        for (String code : productCodes) {
+            ProductCatalogDTO product = catalog.get(code);
+
+            if (product == null) {
+                log.warn("존재하지 않는 상품 정보. code:{}", code);
+                throw new CommonCustomException(CommonErrorCode.PRODUCT_NOT_FOUND);
+            }
+
+            if (product.getStatus() != ProductStatus.FOR_SALE) {
+                log.warn("판매중이 아닌 상품. code:{}, status:{}", code, product.getStatus());
+                throw new CommonCustomException(CommonErrorCode.PRODUCT_NOT_FOR_SALE);
+            }
+
+            productMap.put(code, product.toProductReference());
+        }
+        return productMap;
+    }
 
     public <T> Map<String, Product> getAndValidateProductMap(
             List<T> items,
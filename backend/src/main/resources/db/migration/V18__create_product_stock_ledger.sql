@@ -0,0 +1,20 @@
+-- 상품 재고 원장 (ledger 모드: 재고 변경을 UPDATE 대신 append)
+-- 현재 재고 = products.stock_quantity + 남은 원장 delta 합계 (compactor가 원장을 products에 직접 반영)
+-- 상품별로 조회/정리하므로 product_id 기준 HASH 파티션 (파티션 키는 모든 unique key에 포함되어야 함)
+CREATE TABLE product_stock_ledger
+(
+    id              BIGINT UNSIGNED NOT NULL AUTO_INCREMENT COMMENT '원장 ID',
+    product_id      INT UNSIGNED    NOT NULL COMMENT '상품 ID',
+    delta           BIGINT          NOT NULL COMMENT '재고 변화량 (감소는 음수)',
+    event_id        VARCHAR(36)     NOT NULL COMMENT '이벤트 ID',
+    order_public_id VARCHAR(36) COMMENT '주문 공개 ID',
+    created_at      DATETIME(6)     NOT NULL COMMENT '생성일',
+    PRIMARY KEY (product_id, id),
+    KEY idx_id (id)
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4
+    PARTITION BY HASH (product_id) PARTITIONS 16;
+
+-- 초과 판매로 원장 정리 결과가 음수여도 그대로 기록하도록 부호 있는 컬럼으로 변경 (0으로 보정하지 않음)
+ALTER TABLE products
+    MODIFY `stock_quantity` INT NOT NULL COMMENT '재고 수량 (원장 정리 결과 초과 판매면 음수)';
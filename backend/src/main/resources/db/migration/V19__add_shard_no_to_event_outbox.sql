@@ -0,0 +1,15 @@
+-- outbox shard (aggregate_id 해시 기준 논리 shard, shard별 lease를 가진 서버만 발행)
+-- shard_no = CRC32(aggregate_id) % app.outbox.shard-count (기본 16)
+ALTER TABLE event_outbox
+    ADD COLUMN shard_no SMALLINT UNSIGNED NOT NULL DEFAULT 0 COMMENT 'outbox shard 번호' AFTER aggregate_id;
+
+-- 아직 발행되지 않은 row만 shard 재계산 (SENT row는 다시 조회되지 않음)
+UPDATE event_outbox
+SET shard_no = CRC32(aggregate_id) % 16
+WHERE status <> 'SENT';
+
+-- shard별 발행 대상 스캔
+CREATE INDEX idx_shard_status_next ON event_outbox (shard_no, status, next_retry_at, id);
+
+-- 같은 aggregate의 앞선 미발행 row 확인 (aggregate별 순서 보장)
+CREATE INDEX idx_aggregate_status ON event_outbox (aggregate_id, status, id);
@@ -0,0 +1,44 @@
+-- event_outbox 보관 기간 관리 (created_at 기준 일 단위 RANGE 파티션)
+-- 보관 기간이 지난 SENT 파티션은 DELETE 대신 DROP PARTITION으로 한 번에 제거 (OutboxPartitionMaintainer)
+
+-- 파티션 키(created_at)는 모든 unique key에 포함되어야 함
+-- - PK : (id) → (id, created_at)
+-- - event_id : UNIQUE → 일반 인덱스 (eventId는 UUID로 생성, consumer는 eventId로 멱등 처리)
+ALTER TABLE event_outbox
+    DROP PRIMARY KEY,
+    ADD PRIMARY KEY (id, created_at),
+    DROP INDEX event_id,
+    ADD KEY idx_event_id (event_id);
+
+-- 보관 파티션 archive (app.outbox.retention.archive=true일 때 DROP 전에 복사)
+CREATE TABLE event_outbox_archive
+(
+    id           BIGINT       NOT NULL,
+    event_id     VARCHAR(36)  NOT NULL,
+    type         VARCHAR(20)  NOT NULL,
+    aggregate_id VARCHAR(36)  NOT NULL,
+    shard_no     SMALLINT UNSIGNED NOT NULL,
+    payload_json JSON         NOT NULL,
+    status       VARCHAR(16)  NOT NULL,
+    retry_count  INT          NOT NULL,
+    next_retry_at DATETIME(3) NOT NULL,
+    created_at   DATETIME(3)  NOT NULL,
+    updated_at   DATETIME(3)  NOT NULL,
+    last_error   VARCHAR(512),
+    archived_at  DATETIME(3)  NOT NULL DEFAULT CURRENT_TIMESTAMP(3),
+    PRIMARY KEY (id, created_at),
+    KEY idx_created_at (created_at)
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4;
+
+-- 기존 row는 p_legacy(내일 0시 미만), 이후 row는 p_future에 저장
+-- p_future는 비어 있는 상태에서 OutboxPartitionMaintainer가 일 단위 파티션으로 분할
+-- 날짜 경계는 Asia/Seoul(+09:00, 애플리케이션 Clock 빈 및 created_at과 같은 시간대) 기준, DB 세션 시간대와 무관
+SET @partition_ddl = CONCAT(
+        'ALTER TABLE event_outbox PARTITION BY RANGE COLUMNS (created_at) (',
+        'PARTITION p_legacy VALUES LESS THAN (''',
+        DATE_FORMAT(DATE(CONVERT_TZ(UTC_TIMESTAMP(), '+00:00', '+09:00')) + INTERVAL 1 DAY, '%Y-%m-%d'), '''), ',
+        'PARTITION p_future VALUES LESS THAN (MAXVALUE))');
+PREPARE partition_stmt FROM @partition_ddl;
+EXECUTE partition_stmt;
+DEALLOCATE PREPARE partition_stmt;
@@ -0,0 +1,7 @@
+-- 상품 카탈로그 버전 조회 (ProductCatalogCache) : COUNT(*) + MAX(updated_at)
+-- - 같은 초 안의 변경도 구분하도록 updated_at을 마이크로초 단위로 변경
+-- - MAX(updated_at)는 인덱스 끝값만 읽도록 인덱스 추가
+-- - 재고 전용 UPDATE(ProductBulkRepository, ProductStockLedgerRepository)는 updated_at을 유지하므로 재고 변경은 카탈로그 버전을 바꾸지 않음
+ALTER TABLE products
+    MODIFY `updated_at` DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6) ON UPDATE CURRENT_TIMESTAMP(6) COMMENT '수정일',
+    ADD KEY idx_updated_at (updated_at);
@@ -0,0 +1,68 @@
+package com.chae.promo.common;
+
+import com.chae.promo.common.soldout.SoldOutRegistry;
+import com.chae.promo.common.soldout.SoldOutType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@DisplayName("SoldOutRegistry 테스트")
+class SoldOutRegistryTest {
+
+    private static final String COUPON_ID = "TEST_PUBLIC_ID_001";
+    private static final String SKU = "SKU-001";
+
+    private StringRedisTemplate stringRedisTemplate;
+    private Clock clock;
+    private SimpleMeterRegistry meterRegistry;
+    private SoldOutRegistry soldOutRegistry;
+
+    @BeforeEach
+    void setUp() {
+        stringRedisTemplate = mock(StringRedisTemplate.class);
+        clock = mock(Clock.class);
+        when(clock.millis()).thenReturn(1_000L);
+        meterRegistry = new SimpleMeterRegistry();
+
+        soldOutRegistry = new SoldOutRegistry(stringRedisTemplate, clock, meterRegistry, Duration.ofSeconds(10));
+    }
+
+    @Test
+    @DisplayName("품절 플래그는 대상 구분별로 관리되고, 거절 횟수가 지표로 기록된다")
+    void markSoldOut_isScopedByType() {
+        soldOutRegistry.markSoldOut(SoldOutType.COUPON, COUPON_ID);
+
+        assertThat(soldOutRegistry.isSoldOut(SoldOutType.COUPON, COUPON_ID)).isTrue();
+        assertThat(soldOutRegistry.isSoldOut(SoldOutType.PRODUCT, COUPON_ID)).isFalse();
+        assertThat(meterRegistry.get("sold_out.short_circuit").tag("type", "COUPON").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("max-age가 지난 품절 플래그는 만료되어 요청을 통과시킨다")
+    void isSoldOut_expiresAfterMaxAge() {
+        soldOutRegistry.markSoldOut(SoldOutType.PRODUCT, SKU);
+
+        when(clock.millis()).thenReturn(1_000L + 10_001L);
+
+        assertThat(soldOutRegistry.isSoldOut(SoldOutType.PRODUCT, SKU)).isFalse();
+    }
+
+    @Test
+    @DisplayName("재고 복구 알림 발행 시 로컬 플래그를 해제하고 채널로 메시지를 보낸다")
+    void publishReplenished_clearsAndPublishes() {
+        soldOutRegistry.markSoldOut(SoldOutType.PRODUCT, SKU);
+
+        soldOutRegistry.publishReplenished(SoldOutType.PRODUCT, SKU);
+
+        assertThat(soldOutRegistry.isSoldOut(SoldOutType.PRODUCT, SKU)).isFalse();
+        verify(stringRedisTemplate).convertAndSend(SoldOutRegistry.STOCK_REPLENISHED_CHANNEL, "PRODUCT:" + SKU);
+    }
+}
@@ -0,0 +1,55 @@
+package com.chae.promo.common.kafka;
+
+import com.chae.promo.order.event.OrderPlacedEvent;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@DisplayName("RawJsonKafkaSender 테스트")
+class RawJsonKafkaSenderTest {
+
+    private static final String EVENT_ID = "4f1c2a9e-0000-4000-8000-000000000001";
+    // 필드 순서/공백까지 저장된 그대로 전송되어야 함
+    private static final String PAYLOAD_JSON =
+            "{\"eventId\":\"" + EVENT_ID + "\", \"orderPublicId\":\"O-1\",\"items\":[{\"productCode\":\"P-1\",\"decreasedStock\":2}]}";
+
+    private KafkaTemplate<String, byte[]> kafkaTemplate;
+    private RawJsonKafkaSender sender;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        kafkaTemplate = mock(KafkaTemplate.class);
+        when(kafkaTemplate.send(any(ProducerRecord.class)))
+                .thenReturn(CompletableFuture.completedFuture(mock(SendResult.class)));
+        sender = new RawJsonKafkaSender(kafkaTemplate);
+    }
+
+    @Test
+    @DisplayName("payload 바이트를 바꾸지 않고, key는 eventId, __TypeId__ 헤더는 OrderPlacedEvent로 전송한다")
+    @SuppressWarnings("unchecked")
+    void send_passesPayloadThrough() {
+        sender.send(TopicNames.ORDER_PLACED, EVENT_ID, PAYLOAD_JSON, OrderPlacedEvent.class);
+
+        ArgumentCaptor<ProducerRecord<String, byte[]>> record = ArgumentCaptor.forClass(ProducerRecord.class);
+        verify(kafkaTemplate).send(record.capture());
+
+        assertThat(record.getValue().topic()).isEqualTo(TopicNames.ORDER_PLACED);
+        assertThat(record.getValue().key()).isEqualTo(EVENT_ID);
+        assertThat(record.getValue().value()).isEqualTo(PAYLOAD_JSON.getBytes(StandardCharsets.UTF_8));
+        assertThat(record.getValue().headers().lastHeader("__TypeId__").value())
+                .asString(StandardCharsets.UTF_8)
+                .isEqualTo(OrderPlacedEvent.class.getName());
+    }
+}
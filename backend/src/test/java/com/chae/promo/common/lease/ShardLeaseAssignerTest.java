@@ -0,0 +1,77 @@
+package com.chae.promo.common.lease;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("ShardLeaseAssigner 테스트")
+class ShardLeaseAssignerTest {
+
+    private static final int SHARD_COUNT = 8;
+
+    private RedisLeaseManager redisLeaseManager;
+    private ZSetOperations<String, String> zSetOperations;
+    private ShardLeaseAssigner assigner;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        redisLeaseManager = mock(RedisLeaseManager.class);
+        StringRedisTemplate stringRedisTemplate = mock(StringRedisTemplate.class);
+        zSetOperations = mock(ZSetOperations.class);
+        when(stringRedisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        when(redisLeaseManager.getOwnerId()).thenReturn("worker-1");
+        when(redisLeaseManager.tryAcquire(anyString(), any(Duration.class))).thenReturn(true);
+
+        assigner = new ShardLeaseAssigner(redisLeaseManager, stringRedisTemplate,
+                Clock.fixed(Instant.parse("2025-01-01T00:00:00Z"), ZoneOffset.UTC),
+                "test:shard", "test:workers", SHARD_COUNT, Duration.ofSeconds(15), "promo");
+    }
+
+    @Test
+    @DisplayName("살아 있는 서버 수로 나눈 몫(올림)만큼 shard lease를 보유하고 heartbeat는 prefix가 붙은 키에 기록한다")
+    void rebalance_acquiresFairShare() {
+        when(zSetOperations.zCard(anyString())).thenReturn(3L);
+
+        assertThat(assigner.rebalance()).hasSize(3);
+
+        verify(zSetOperations).add("promo:test:workers", "worker-1", Instant.parse("2025-01-01T00:00:00Z").toEpochMilli());
+        verify(redisLeaseManager, times(3)).tryAcquire(startsWith("test:shard:"), any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("다른 서버가 보유한 shard는 건너뛰고 다음 shard를 획득한다")
+    void rebalance_skipsShardsOwnedByOthers() {
+        when(zSetOperations.zCard(anyString())).thenReturn(4L);
+        int start = Math.floorMod("worker-1".hashCode(), SHARD_COUNT);
+        when(redisLeaseManager.tryAcquire(eq("test:shard:" + start), any(Duration.class))).thenReturn(false);
+
+        assertThat(assigner.rebalance())
+                .hasSize(2)
+                .doesNotContain(start);
+    }
+
+    @Test
+    @DisplayName("releaseAll은 보유 lease와 heartbeat를 반납한다")
+    void releaseAll_releasesLeasesAndHeartbeat() {
+        when(zSetOperations.zCard(anyString())).thenReturn(2L);
+        assigner.rebalance();
+
+        assigner.releaseAll();
+
+        assertThat(assigner.getOwnedShards()).isEmpty();
+        verify(redisLeaseManager, times(SHARD_COUNT / 2)).release(startsWith("test:shard:"));
+        verify(zSetOperations).remove("promo:test:workers", "worker-1");
+    }
+}
@@ -0,0 +1,112 @@
+package com.chae.promo.coupon;
+
+import com.chae.promo.coupon.event.spill.CouponEventSpillStore;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("CouponEventSpillStore 테스트")
+class CouponEventSpillStoreTest {
+
+    private static final int CAPACITY = 1024;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("재기동 후에도 재전송되지 않은 레코드만 복원된다")
+    void recover_afterRestart() throws Exception {
+        Path path = tempDir.resolve("spill.log");
+
+        CouponEventSpillStore store = new CouponEventSpillStore(path, CAPACITY);
+        store.append(bytes("event-1"));
+        store.append(bytes("event-2"));
+        store.markDone(store.pendingRecords().get(0));
+        store.close();
+
+        CouponEventSpillStore reopened = new CouponEventSpillStore(path, CAPACITY);
+        List<CouponEventSpillStore.SpillRecord> pending = reopened.pendingRecords();
+
+        assertThat(reopened.getPendingCount()).isEqualTo(1);
+        assertThat(new String(pending.get(0).payload(), StandardCharsets.UTF_8)).isEqualTo("event-2");
+        reopened.close();
+    }
+
+    @Test
+    @DisplayName("모두 재전송되면 파일을 비우고, 이전 레코드가 다시 읽히지 않는다")
+    void compact_whenDrained() throws Exception {
+        Path path = tempDir.resolve("spill.log");
+        CouponEventSpillStore store = new CouponEventSpillStore(path, CAPACITY);
+
+        store.append(bytes("a-long-event-payload"));
+        store.append(bytes("another-event-payload"));
+        store.pendingRecords().forEach(store::markDone);
+        store.compact();
+
+        store.append(bytes("new"));
+        store.close();
+
+        CouponEventSpillStore reopened = new CouponEventSpillStore(path, CAPACITY);
+        assertThat(reopened.pendingRecords())
+                .extracting(record -> new String(record.payload(), StandardCharsets.UTF_8))
+                .containsExactly("new");
+        reopened.close();
+    }
+
+    @Test
+    @DisplayName("재전송되지 않은 레코드가 남아 있어도 공간이 부족하면 완료 레코드를 회수하고 기록한다")
+    void append_compactsAroundPendingRecords() throws Exception {
+        Path path = tempDir.resolve("spill.log");
+        CouponEventSpillStore store = new CouponEventSpillStore(path, 64);
+
+        store.append(bytes("stuck"));
+        store.append(bytes("done-1-payload"));
+        store.append(bytes("done-2-payload"));
+        List<CouponEventSpillStore.SpillRecord> records = store.pendingRecords();
+        store.markDone(records.get(1));
+        store.markDone(records.get(2));
+
+        assertThat(store.append(bytes("new-event-payload"))).isTrue();
+        // compact 이전에 조회한 레코드는 더 이상 표시되지 않음
+        store.markDone(records.get(0));
+        store.close();
+
+        CouponEventSpillStore reopened = new CouponEventSpillStore(path, 64);
+        assertThat(reopened.pendingRecords())
+                .extracting(record -> new String(record.payload(), StandardCharsets.UTF_8))
+                .containsExactly("stuck", "new-event-payload");
+        reopened.close();
+    }
+
+    @Test
+    @DisplayName("여러 레코드를 한 번에 기록하면 용량 안에서 앞에서부터 기록한다")
+    void appendAll_writesInOrderUntilFull() throws Exception {
+        CouponEventSpillStore store = new CouponEventSpillStore(tempDir.resolve("spill.log"), 40);
+
+        int written = store.appendAll(List.of(bytes("first-event"), bytes("second-event"), bytes("third-event")));
+
+        assertThat(written).isEqualTo(2);
+        assertThat(store.getPendingCount()).isEqualTo(2);
+        store.close();
+    }
+
+    @Test
+    @DisplayName("용량을 넘는 레코드는 기록하지 않는다")
+    void append_overCapacity() throws Exception {
+        CouponEventSpillStore store = new CouponEventSpillStore(tempDir.resolve("spill.log"), 32);
+
+        assertThat(store.append(new byte[64])).isFalse();
+        assertThat(store.getPendingCount()).isZero();
+        store.close();
+    }
+
+    private byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,160 @@
+package com.chae.promo.coupon;
+
+import com.chae.promo.coupon.dto.CouponRedisRequest;
+import com.chae.promo.coupon.entity.Coupon;
+import com.chae.promo.coupon.service.batch.CouponIssueBatchEngine;
+import com.chae.promo.coupon.service.redis.CouponRedisKeyManager;
+import com.chae.promo.coupon.service.redis.CouponRedisService;
+import com.chae.promo.exception.CommonCustomException;
+import com.chae.promo.exception.CommonErrorCode;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+/**
+ * 단건(SINGLE) 발급과 배치(BATCH) 발급의 Redis 왕복 횟수 비교
+ * Redis는 mock으로 대체하여 스크립트 실행(EVAL) 횟수와 배치 크기 지표를 검증 (성능 측정 아님)
+ */
+@DisplayName("CouponIssueBatchEngine 테스트")
+class CouponIssueBatchEngineTest {
+
+    private static final String TEST_COUPON_PUBLIC_ID = "TEST_PUBLIC_ID_001";
+    private static final String TEST_COUPON_CODE = "TEST_CODE_A";
+    private static final int STOCK = 50;
+    private static final int REQUEST_COUNT = 200;
+    private static final int MAX_BATCH_SIZE = 64;
+
+    private StringRedisTemplate stringRedisTemplate;
+    private CouponRedisService couponRedisService;
+    private CouponIssueBatchEngine couponIssueBatchEngine;
+    private SimpleMeterRegistry meterRegistry;
+    private final CouponRedisKeyManager keyManager = new CouponRedisKeyManager();
+    private final Coupon coupon = Coupon.builder().publicId(TEST_COUPON_PUBLIC_ID).code(TEST_COUPON_CODE).build();
+
+    private final AtomicInteger remainingStock = new AtomicInteger(STOCK);
+    private final AtomicInteger evalCount = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        stringRedisTemplate = mock(StringRedisTemplate.class);
+        couponRedisService = new CouponRedisService(stringRedisTemplate);
+        meterRegistry = new SimpleMeterRegistry();
+        couponIssueBatchEngine = new CouponIssueBatchEngine(couponRedisService, meterRegistry,
+                Duration.ofMillis(5), MAX_BATCH_SIZE, 2, Duration.ofSeconds(5));
+
+        // 재고만 검사하는 가짜 Redis (단건: Long, 배치: List<Long> 반환)
+        when(stringRedisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class))).thenAnswer(invocation -> {
+            evalCount.incrementAndGet();
+            RedisScript<?> script = invocation.getArgument(0);
+
+            if (script.getResultType() == List.class) {
+                // ARGV(script, keys 다음 인자): ttlSeconds, initialStock, userId * n, couponIssueId * n
+                int argvCount = invocation.getArguments().length - 2;
+                int requestCount = (argvCount - 2) / 2;
+                List<Long> results = new ArrayList<>();
+                for (int i = 0; i < requestCount; i++) {
+                    results.add(remainingStock.getAndUpdate(s -> s > 0 ? s - 1 : s) > 0 ? 1L : 2L);
+                }
+                return results;
+            }
+            return remainingStock.getAndUpdate(s -> s > 0 ? s - 1 : s) > 0 ? 1L : 2L;
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        couponIssueBatchEngine.shutdown();
+    }
+
+    @Test
+    @DisplayName("동시 요청 시 배치 발급은 단건 발급보다 Redis 왕복이 적고, 발급 수는 재고와 같다")
+    void batchIssue_reducesRoundTrips() throws Exception {
+        int singleSuccess = runConcurrently(couponRedisService::issueCouponWithWarmUp);
+        int singleEvalCount = evalCount.getAndSet(0);
+        remainingStock.set(STOCK);
+
+        int batchSuccess = runConcurrently(couponIssueBatchEngine::issue);
+        int batchEvalCount = evalCount.get();
+
+        DistributionSummary batchSize = meterRegistry.get("coupon.issue.batch.size").summary();
+
+        assertThat(singleSuccess).isEqualTo(STOCK);
+        assertThat(batchSuccess).isEqualTo(STOCK);
+        // 단건은 요청마다 EVAL 1회
+        assertThat(singleEvalCount).isEqualTo(REQUEST_COUNT);
+        // 배치는 배치마다 EVAL 1회, 모든 요청이 어느 한 배치에 포함되고 배치 크기는 max-size 이하
+        assertThat(batchEvalCount)
+                .isEqualTo((int) batchSize.count())
+                .isBetween((REQUEST_COUNT + MAX_BATCH_SIZE - 1) / MAX_BATCH_SIZE, REQUEST_COUNT - 1);
+        assertThat(batchSize.totalAmount()).isEqualTo(REQUEST_COUNT);
+        assertThat(batchSize.max()).isLessThanOrEqualTo(MAX_BATCH_SIZE);
+    }
+
+    @Test
+    @DisplayName("배치 안의 요청별 결과 코드가 각 호출자에게 전달된다")
+    void batchIssue_propagatesPerRequestResult() {
+        remainingStock.set(0);
+
+        assertThatThrownBy(() -> couponIssueBatchEngine.issue(request("user_1")))
+                .isInstanceOf(CommonCustomException.class)
+                .hasFieldOrPropertyWithValue("errorCode", CommonErrorCode.COUPON_SOLD_OUT);
+    }
+
+    private int runConcurrently(Consumer<CouponRedisRequest> issuer) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(32);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(REQUEST_COUNT);
+        AtomicInteger success = new AtomicInteger();
+
+        for (int i = 0; i < REQUEST_COUNT; i++) {
+            String userId = "user_" + i;
+            executor.submit(() -> {
+                try {
+                    start.await();
+                    issuer.accept(request(userId));
+                    success.incrementAndGet();
+                } catch (CommonCustomException ignored) {
+                    // 재고 소진
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        start.countDown();
+        assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+        executor.shutdown();
+        return success.get();
+    }
+
+    private CouponRedisRequest request(String userId) {
+        return CouponRedisRequest.builder()
+                .coupon(coupon)
+                .userId(userId)
+                .ttlSeconds(600)
+                .couponStockKey(keyManager.getCouponStockKey(TEST_COUPON_PUBLIC_ID, TEST_COUPON_CODE))
+                .couponTtlKey(keyManager.getCouponTtlKey(TEST_COUPON_PUBLIC_ID, TEST_COUPON_CODE))
+                .couponIssuedUserSetKey(keyManager.getCouponIssuedUserSetKey(TEST_COUPON_PUBLIC_ID, TEST_COUPON_CODE))
+                .build();
+    }
+}
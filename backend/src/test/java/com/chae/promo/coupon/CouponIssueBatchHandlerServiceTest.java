@@ -0,0 +1,88 @@
+package com.chae.promo.coupon;
+
+import com.chae.promo.coupon.entity.Coupon;
+import com.chae.promo.coupon.event.CouponIssuedEvent;
+import com.chae.promo.coupon.mapper.CouponMapper;
+import com.chae.promo.coupon.repository.CouponIssueBulkRepository;
+import com.chae.promo.coupon.repository.CouponRepository;
+import com.chae.promo.coupon.service.CouponIssueBatchHandlerService;
+import com.chae.promo.coupon.service.redis.UserCouponSummaryRedisService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("CouponIssueBatchHandlerService 테스트")
+class CouponIssueBatchHandlerServiceTest {
+
+    private static final String TEST_COUPON_PUBLIC_ID = "TEST_PUBLIC_ID_001";
+
+    private CouponRepository couponRepository;
+    private CouponIssueBulkRepository couponIssueBulkRepository;
+    private CouponIssueBatchHandlerService batchHandlerService;
+
+    @BeforeEach
+    void setUp() {
+        couponRepository = mock(CouponRepository.class);
+        couponIssueBulkRepository = mock(CouponIssueBulkRepository.class);
+        batchHandlerService = new CouponIssueBatchHandlerService(couponRepository, couponIssueBulkRepository,
+                mock(UserCouponSummaryRedisService.class), new CouponMapper());
+
+        Coupon coupon = Coupon.builder().id(1L).publicId(TEST_COUPON_PUBLIC_ID).code("TEST_CODE_A").build();
+        when(couponRepository.findByPublicIdIn(anySet())).thenReturn(List.of(coupon));
+    }
+
+    @Test
+    @DisplayName("배치 저장은 쿠폰 조회 1회, INSERT 1회로 처리된다")
+    void saveBatch_singleInsert() {
+        List<CouponIssuedEvent> events = List.of(event("user_1"), event("user_2"), event("user_3"));
+        when(couponIssueBulkRepository.bulkInsertIgnoreDuplicates(anyList())).thenReturn(3);
+
+        List<CouponIssuedEvent> failed = batchHandlerService.saveCouponIssuesFromEvents(events);
+
+        assertThat(failed).isEmpty();
+        verify(couponRepository, times(1)).findByPublicIdIn(anySet());
+        verify(couponIssueBulkRepository, times(1)).bulkInsertIgnoreDuplicates(argThat(rows -> rows.size() == 3));
+    }
+
+    @Test
+    @DisplayName("배치 저장이 실패하면 레코드 단위로 재시도하고 실패한 레코드만 반환한다")
+    void saveBatch_fallbackPerRecord() {
+        CouponIssuedEvent ok = event("user_1");
+        CouponIssuedEvent broken = event("user_2");
+        CouponIssuedEvent unknownCoupon = event("user_3");
+        unknownCoupon.setCouponPublicId("UNKNOWN");
+
+        when(couponIssueBulkRepository.bulkInsertIgnoreDuplicates(anyList())).thenAnswer(invocation -> {
+            List<CouponIssueBulkRepository.CouponIssueRow> rows = invocation.getArgument(0);
+            if (rows.size() > 1 || rows.get(0).getUserId().equals("user_2")) {
+                throw new DataIntegrityViolationException("broken row");
+            }
+            return 1;
+        });
+
+        List<CouponIssuedEvent> failed = batchHandlerService.saveCouponIssuesFromEvents(List.of(ok, broken, unknownCoupon));
+
+        assertThat(failed).containsExactlyInAnyOrder(broken, unknownCoupon);
+        verify(couponIssueBulkRepository, times(3)).bulkInsertIgnoreDuplicates(anyList());
+    }
+
+    private CouponIssuedEvent event(String userId) {
+        return CouponIssuedEvent.builder()
+                .eventId("event-" + userId)
+                .userId(userId)
+                .couponPublicId(TEST_COUPON_PUBLIC_ID)
+                .couponIssueId("issue-" + userId)
+                .couponCode("TEST_CODE_A")
+                .issuedAt(LocalDateTime.now())
+                .expiredAt(LocalDateTime.now().plusDays(7))
+                .build();
+    }
+}
@@ -0,0 +1,100 @@
+package com.chae.promo.coupon;
+
+import com.chae.promo.coupon.entity.Coupon;
+import com.chae.promo.coupon.repository.CouponRepository;
+import com.chae.promo.coupon.service.cache.CouponMetadataCache;
+import com.chae.promo.coupon.service.redis.CouponRedisKeyManager;
+import com.chae.promo.exception.CommonCustomException;
+import com.chae.promo.exception.CommonErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@DisplayName("CouponMetadataCache 테스트")
+class CouponMetadataCacheTest {
+
+    private static final String TEST_COUPON_PUBLIC_ID = "TEST_PUBLIC_ID_001";
+
+    private CouponRepository couponRepository;
+    private StringRedisTemplate stringRedisTemplate;
+    private SimpleMeterRegistry meterRegistry;
+    private CouponMetadataCache couponMetadataCache;
+
+    @BeforeEach
+    void setUp() {
+        couponRepository = mock(CouponRepository.class);
+        stringRedisTemplate = mock(StringRedisTemplate.class);
+        meterRegistry = new SimpleMeterRegistry();
+
+        couponMetadataCache = new CouponMetadataCache(
+                couponRepository, stringRedisTemplate, new CouponRedisKeyManager(),
+                meterRegistry, 100, Duration.ofMinutes(1));
+    }
+
+    @Test
+    @DisplayName("같은 쿠폰을 반복 조회하면 DB는 한 번만 조회된다")
+    void getCoupon_cachesAfterFirstLoad() {
+        Coupon coupon = Coupon.builder().publicId(TEST_COUPON_PUBLIC_ID).code("TEST_CODE_A").build();
+        when(couponRepository.getCouponByPublicIdOrThrow(TEST_COUPON_PUBLIC_ID)).thenReturn(coupon);
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(couponMetadataCache.getCouponByPublicIdOrThrow(TEST_COUPON_PUBLIC_ID))
+                    .usingRecursiveComparison().isEqualTo(coupon);
+        }
+
+        verify(couponRepository, times(1)).getCouponByPublicIdOrThrow(TEST_COUPON_PUBLIC_ID);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "coupon.metadata").tag("result", "hit")
+                .functionCounter().count()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("조회할 때마다 새 Coupon 인스턴스를 반환해 요청 간에 엔티티를 공유하지 않는다")
+    void getCoupon_returnsCopyPerCall() {
+        Coupon coupon = Coupon.builder().id(1L).publicId(TEST_COUPON_PUBLIC_ID).code("TEST_CODE_A").validDays(7).build();
+        when(couponRepository.getCouponByPublicIdOrThrow(TEST_COUPON_PUBLIC_ID)).thenReturn(coupon);
+
+        Coupon first = couponMetadataCache.getCouponByPublicIdOrThrow(TEST_COUPON_PUBLIC_ID);
+        Coupon second = couponMetadataCache.getCouponByPublicIdOrThrow(TEST_COUPON_PUBLIC_ID);
+
+        assertThat(first).isNotSameAs(coupon).isNotSameAs(second);
+        assertThat(second.getId()).isEqualTo(1L);
+        assertThat(second.getValidDays()).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("무효화 후에는 DB에서 다시 조회하고, 다른 서버에 무효화 메시지를 발행한다")
+    void publishInvalidation_evictsAndPublishes() {
+        Coupon coupon = Coupon.builder().publicId(TEST_COUPON_PUBLIC_ID).code("TEST_CODE_A").build();
+        when(couponRepository.getCouponByPublicIdOrThrow(TEST_COUPON_PUBLIC_ID)).thenReturn(coupon);
+
+        couponMetadataCache.getCouponByPublicIdOrThrow(TEST_COUPON_PUBLIC_ID);
+        couponMetadataCache.publishInvalidation(TEST_COUPON_PUBLIC_ID);
+        couponMetadataCache.getCouponByPublicIdOrThrow(TEST_COUPON_PUBLIC_ID);
+
+        verify(couponRepository, times(2)).getCouponByPublicIdOrThrow(TEST_COUPON_PUBLIC_ID);
+        verify(stringRedisTemplate).convertAndSend("coupon:cache:invalidate", TEST_COUPON_PUBLIC_ID);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 쿠폰은 캐시하지 않고 예외를 그대로 전달한다")
+    void getCoupon_notFound_isNotCached() {
+        when(couponRepository.getCouponByPublicIdOrThrow(TEST_COUPON_PUBLIC_ID))
+                .thenThrow(new CommonCustomException(CommonErrorCode.COUPON_NOT_FOUND));
+
+        for (int i = 0; i < 2; i++) {
+            assertThatThrownBy(() -> couponMetadataCache.getCouponByPublicIdOrThrow(TEST_COUPON_PUBLIC_ID))
+                    .isInstanceOf(CommonCustomException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", CommonErrorCode.COUPON_NOT_FOUND);
+        }
+
+        verify(couponRepository, times(2)).getCouponByPublicIdOrThrow(TEST_COUPON_PUBLIC_ID);
+    }
+}
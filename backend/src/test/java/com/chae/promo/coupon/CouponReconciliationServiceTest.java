@@ -0,0 +1,140 @@
+package com.chae.promo.coupon;
+
+import com.chae.promo.coupon.entity.Coupon;
+import com.chae.promo.coupon.event.CouponEventPublisher;
+import com.chae.promo.coupon.event.CouponIssuedEvent;
+import com.chae.promo.coupon.repository.CouponIssueRepository;
+import com.chae.promo.coupon.service.reconcile.CouponReconciliationService;
+import com.chae.promo.coupon.service.redis.CouponRedisKeyManager;
+import com.chae.promo.coupon.util.CouponExpirationCalculator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("CouponReconciliationService 테스트")
+class CouponReconciliationServiceTest {
+
+    private static final String TEST_COUPON_PUBLIC_ID = "TEST_PUBLIC_ID_001";
+    private static final String TEST_COUPON_CODE = "TEST_CODE_A";
+    private static final Instant NOW = Instant.parse("2026-10-18T03:00:00Z");
+
+    private final CouponRedisKeyManager keyManager = new CouponRedisKeyManager();
+    private final Coupon coupon = Coupon.builder()
+            .id(1L).publicId(TEST_COUPON_PUBLIC_ID).code(TEST_COUPON_CODE).totalQuantity(100).validDays(7).build();
+
+    private StringRedisTemplate stringRedisTemplate;
+    private HashOperations<String, Object, Object> hashOps;
+    private CouponIssueRepository couponIssueRepository;
+    private CouponEventPublisher couponEventPublisher;
+    private CouponReconciliationService couponReconciliationService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        stringRedisTemplate = mock(StringRedisTemplate.class);
+        hashOps = mock(HashOperations.class);
+        couponIssueRepository = mock(CouponIssueRepository.class);
+        couponEventPublisher = mock(CouponEventPublisher.class);
+
+        when(stringRedisTemplate.opsForValue()).thenReturn(mock(ValueOperations.class));
+        when(stringRedisTemplate.<Object, Object>opsForHash()).thenReturn(hashOps);
+
+        couponReconciliationService = new CouponReconciliationService(stringRedisTemplate, keyManager,
+                couponIssueRepository, couponEventPublisher, new CouponExpirationCalculator(),
+                new SimpleMeterRegistry(), Clock.fixed(NOW, ZoneId.of("Asia/Seoul")),
+                500, 20, Duration.ofMinutes(2));
+    }
+
+    @Test
+    @DisplayName("grace 이후에도 DB에 없는 사용자는 발급 시 기록한 원래 발급 ID/발급 시각으로 이벤트를 다시 발행한다")
+    @SuppressWarnings("unchecked")
+    void reconcile_republishesWithOriginalIssueId() {
+        String suspectKey = keyManager.getCouponReconcileSuspectKey(TEST_COUPON_PUBLIC_ID, TEST_COUPON_CODE);
+        String issueIdKey = keyManager.getCouponIssueIdKey(TEST_COUPON_PUBLIC_ID, TEST_COUPON_CODE);
+
+        when(stringRedisTemplate.hasKey(suspectKey)).thenReturn(true);
+        when(couponIssueRepository.findUserIdsByCouponIdAndUserIdIn(eq(1L), anyCollection())).thenReturn(List.of());
+
+        String firstSeen = String.valueOf(NOW.minus(Duration.ofMinutes(5)).toEpochMilli());
+        when(hashOps.multiGet(eq(suspectKey), anyCollection())).thenReturn(Arrays.asList(firstSeen, firstSeen));
+        // user_1은 발급 1시간 뒤 누락 확인, user_2는 발급 ID 기록 이전에 발급된 사용자
+        Instant issuedAt = NOW.minus(Duration.ofHours(1));
+        when(hashOps.multiGet(eq(issueIdKey), anyCollection()))
+                .thenReturn(Arrays.asList("original-issue-id|" + issuedAt.toEpochMilli(), null));
+        mockScripts(finishedScan("user_1", "user_2"));
+
+        couponReconciliationService.reconcile(coupon);
+
+        ArgumentCaptor<CouponIssuedEvent> events = ArgumentCaptor.forClass(CouponIssuedEvent.class);
+        verify(couponEventPublisher, times(2)).publishCouponIssued(events.capture());
+
+        assertThat(events.getAllValues().get(0).getUserId()).isEqualTo("user_1");
+        assertThat(events.getAllValues().get(0).getCouponIssueId()).isEqualTo("original-issue-id");
+        // 재발행 시점이 아닌 원래 발급 시각 기준으로 만료일 계산 (validDays 7)
+        LocalDateTime originalIssuedAt = LocalDateTime.ofInstant(issuedAt, ZoneId.of("Asia/Seoul"));
+        assertThat(events.getAllValues().get(0).getIssuedAt()).isEqualTo(originalIssuedAt);
+        assertThat(events.getAllValues().get(0).getExpiredAt()).isEqualTo(originalIssuedAt.plusDays(7));
+        assertThat(events.getAllValues().get(1).getUserId()).isEqualTo("user_2");
+        assertThat(events.getAllValues().get(1).getCouponIssueId()).isNotBlank().isNotEqualTo("original-issue-id");
+        assertThat(events.getAllValues().get(1).getIssuedAt()).isEqualTo(LocalDateTime.ofInstant(NOW, ZoneId.of("Asia/Seoul")));
+    }
+
+    @Test
+    @DisplayName("SSCAN은 저장된 cursor와 page-size로 Lua 스크립트를 실행하고, 점검이 끝나지 않으면 다음 cursor를 저장한다")
+    @SuppressWarnings("unchecked")
+    void reconcile_scansFromStoredCursor() {
+        String issuedUserSetKey = keyManager.getCouponIssuedUserSetKey(TEST_COUPON_PUBLIC_ID, TEST_COUPON_CODE);
+        String cursorKey = keyManager.getCouponReconcileCursorKey(TEST_COUPON_PUBLIC_ID, TEST_COUPON_CODE);
+
+        ValueOperations<String, String> valueOps = mock(ValueOperations.class);
+        when(stringRedisTemplate.opsForValue()).thenReturn(valueOps);
+        when(valueOps.get(cursorKey)).thenReturn("17");
+        mockScripts(List.of("35", List.of()));
+
+        couponReconciliationService.reconcile(coupon);
+
+        ArgumentCaptor<RedisScript<?>> script = ArgumentCaptor.forClass(RedisScript.class);
+        ArgumentCaptor<List<String>> keys = ArgumentCaptor.forClass(List.class);
+        ArgumentCaptor<Object[]> args = ArgumentCaptor.forClass(Object[].class);
+        verify(stringRedisTemplate, atLeastOnce()).execute(script.capture(), keys.capture(), args.capture());
+
+        assertThat(script.getAllValues().get(0).getScriptAsString()).contains("SSCAN");
+        assertThat(keys.getAllValues().get(0)).containsExactly(issuedUserSetKey);
+        assertThat(args.getAllValues().get(0)).containsExactly("17", "500");
+        verify(valueOps).set(cursorKey, "35");
+        verify(couponEventPublisher, never()).publishCouponIssued(any());
+    }
+
+    // SSCAN 스크립트(List 반환)는 scanResult, 재고 보정 스크립트(Long 반환)는 drift 0
+    @SuppressWarnings("unchecked")
+    private void mockScripts(List<Object> scanResult) {
+        when(stringRedisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .thenAnswer(invocation -> {
+                    RedisScript<?> script = invocation.getArgument(0);
+                    return script.getResultType() == List.class ? scanResult : 0L;
+                });
+    }
+
+    // SSCAN 결과 {다음 cursor, 멤버 목록} - cursor "0"은 Set 전체 점검 완료
+    private List<Object> finishedScan(String... userIds) {
+        return List.of("0", List.of(userIds));
+    }
+}
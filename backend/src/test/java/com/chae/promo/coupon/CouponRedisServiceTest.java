@@ -39,6 +39,7 @@ public class CouponRedisServiceTest {
     private static final String TEST_USER_ID_PREFIX = "user_";
     private static final int INITIAL_STOCK = 10;
     private static final int TTL_SECONDS = 600; // 10분
+    private static final long ISSUED_AT_MILLIS = 1_760_000_000_000L;
 
     private String stockKey;
     private String couponIssuedUserSetKey;
@@ -72,9 +73,11 @@ public class CouponRedisServiceTest {
         // CouponRedisRequest 객체 생성
         return CouponRedisRequest.builder()
                 .couponStockKey(stockKey)
-                .userCouponSetKey(couponRedisKeyManager.getUserCouponSetKey(userId)) // 사용자별 키는 동적으로 생성
                 .couponTtlKey(couponTtlKey)
                 .couponIssuedUserSetKey(couponIssuedUserSetKey)
+                .couponIssueIdKey(couponRedisKeyManager.getCouponIssueIdKey(TEST_COUPON_PUBLIC_ID, TEST_COUPON_CODE))
+                .couponIssueId("issue-" + userId)
+                .issuedAtMillis(ISSUED_AT_MILLIS)
                 .userId(userId)
                 .coupon(testCoupon)
                 .ttlSeconds(TTL_SECONDS)
@@ -83,98 +86,172 @@ public class CouponRedisServiceTest {
 
     @Test
     @DisplayName("쿠폰 발급 성공 테스트")
-    void issueCouponAtomically_success() {
+    void issueCouponWithWarmUp_success() {
         String userId = TEST_USER_ID_PREFIX + "1";
         CouponRedisRequest request = createCouponRedisRequest(userId);
 
         // 쿠폰 발급 시도
-        when(stringRedisTemplate.execute(any(DefaultRedisScript.class), anyList(), any(String.class), any(String.class), any(String.class)))
+        when(stringRedisTemplate.execute(any(DefaultRedisScript.class), anyList(), any(String.class), any(String.class), any(String.class), any(String.class)))
                 .thenReturn(1L);
 
-        couponRedisService.issueCouponAtomically(request);
+        boolean issued = couponRedisService.issueCouponWithWarmUp(request);
 
         //then
-        // Redis 스크립트 실행이 성공적으로 호출되었는지 검증
-        verify(stringRedisTemplate, times(1)).execute(any(DefaultRedisScript.class), anyList(), any(String.class), any(String.class), any(String.class));
+        assertThat(issued).isTrue();
 
         // execute 메서드에 전달된 인자들을 캡처하여 상세 검증
         ArgumentCaptor<List<String>> keysCaptor = ArgumentCaptor.forClass(List.class);
         ArgumentCaptor<String[]> argsCaptor = ArgumentCaptor.forClass(String[].class);
 
-        verify(stringRedisTemplate).execute(any(), keysCaptor.capture(), (Object[]) argsCaptor.capture());
-
+        verify(stringRedisTemplate, times(1)).execute(any(), keysCaptor.capture(), (Object[]) argsCaptor.capture());
 
         assertThat(keysCaptor.getValue()).containsExactly(
                 request.getCouponStockKey(),
-                request.getUserCouponSetKey(),
                 request.getCouponTtlKey(),
-                request.getCouponIssuedUserSetKey()
+                request.getCouponIssuedUserSetKey(),
+                request.getCouponIssueIdKey()
         );
         assertThat(argsCaptor.getValue()).containsExactly(
                 request.getUserId(),
-                request.getCoupon().getPublicId(),
-                String.valueOf(request.getTtlSeconds())
+                String.valueOf(request.getTtlSeconds()),
+                "",
+                request.getCouponIssueId() + "|" + ISSUED_AT_MILLIS
         );
 
     }
 
     @Test
-    @DisplayName("쿠폰 발급 실패: 재고 소진 시 CommonCustomException 발생")
-    void issueCouponAtomically_fail_stockOut() {
+    @DisplayName("쿠폰 발급 실패: 중복 발급 시 CommonCustomException 발생")
+    void issueCouponWithWarmUp_fail_duplicate() {
         // Given
         String userId = TEST_USER_ID_PREFIX + "1";
         CouponRedisRequest request = createCouponRedisRequest(userId);
 
-        // Mock 객체의 execute 메서드가 2L을 반환하도록 설정 (재고 소진)
-        when(stringRedisTemplate.execute(any(DefaultRedisScript.class), anyList(), any(String.class), any(String.class), any(String.class)))
-                .thenReturn(2L);
+        // Mock 객체의 execute 메서드가 3L을 반환하도록 설정 (중복 발급)
+        when(stringRedisTemplate.execute(any(DefaultRedisScript.class), anyList(), any(String.class), any(String.class), any(String.class), any(String.class)))
+                .thenReturn(3L);
 
         // When & Then
-        assertThatThrownBy(() -> couponRedisService.issueCouponAtomically(request))
+        assertThatThrownBy(() -> couponRedisService.issueCouponWithWarmUp(request))
                 .isInstanceOf(CommonCustomException.class)
-                .hasMessageContaining(CommonErrorCode.COUPON_SOLD_OUT.getMessage());
+                .hasMessageContaining(CommonErrorCode.COUPON_ALREADY_ISSUED.getMessage());
 
     }
 
     @Test
-    @DisplayName("쿠폰 발급 실패: 중복 발급 시 CommonCustomException 발생")
-    void issueCouponAtomically_fail_duplicate() {
+    @DisplayName("쿠폰 발급 실패: 쿠폰 기간 만료 시 CommonCustomException 발생")
+    void issueCouponWithWarmUp_fail_ttlExpired() {
         // Given
         String userId = TEST_USER_ID_PREFIX + "1";
         CouponRedisRequest request = createCouponRedisRequest(userId);
 
-        // Mock 객체의 execute 메서드가 3L을 반환하도록 설정 (중복 발급)
-        when(stringRedisTemplate.execute(any(DefaultRedisScript.class), anyList(), any(String.class), any(String.class), any(String.class)))
-                .thenReturn(3L);
+        // Mock 객체의 execute 메서드가 4L을 반환하도록 설정 (쿠폰 만료)
+        when(stringRedisTemplate.execute(any(DefaultRedisScript.class), anyList(), any(String.class), any(String.class), any(String.class), any(String.class)))
+                .thenReturn(4L);
 
         // When & Then
-        assertThatThrownBy(() -> couponRedisService.issueCouponAtomically(request))
+        assertThatThrownBy(() -> couponRedisService.issueCouponWithWarmUp(request))
                 .isInstanceOf(CommonCustomException.class)
-                .hasMessageContaining(CommonErrorCode.COUPON_ALREADY_ISSUED.getMessage());
+                .hasMessageContaining(CommonErrorCode.COUPON_EXPIRED.getMessage());
 
     }
 
     @Test
-    @DisplayName("쿠폰 발급 실패: 쿠폰 기간 만료 시 CommonCustomException 발생")
-    void issueCouponAtomically_fail_ttlExpired() {
+    @DisplayName("캐시 초기화 포함 발급: 재고 미초기화(5) 시 false 반환")
+    void issueCouponWithWarmUp_stockNotInitialized() {
         // Given
         String userId = TEST_USER_ID_PREFIX + "1";
         CouponRedisRequest request = createCouponRedisRequest(userId);
 
-        // Mock 객체의 execute 메서드가 4L을 반환하도록 설정 (쿠폰 만료)
-        when(stringRedisTemplate.execute(any(DefaultRedisScript.class), anyList(), any(String.class), any(String.class), any(String.class)))
-                .thenReturn(4L);
+        when(stringRedisTemplate.execute(any(DefaultRedisScript.class), anyList(), any(String.class), any(String.class), any(String.class), any(String.class)))
+                .thenReturn(5L);
+
+        // When
+        boolean issued = couponRedisService.issueCouponWithWarmUp(request);
+
+        // Then
+        assertThat(issued).isFalse();
+
+        ArgumentCaptor<String[]> argsCaptor = ArgumentCaptor.forClass(String[].class);
+        verify(stringRedisTemplate).execute(any(), anyList(), (Object[]) argsCaptor.capture());
+
+        // 초기 재고가 없으면 빈 문자열로 전달
+        assertThat(argsCaptor.getValue()).containsExactly(
+                userId,
+                String.valueOf(TTL_SECONDS),
+                "",
+                "issue-" + userId + "|" + ISSUED_AT_MILLIS
+        );
+    }
+
+    @Test
+    @DisplayName("캐시 초기화 포함 발급: 초기 재고를 ARGV로 전달하고 성공 시 true 반환")
+    void issueCouponWithWarmUp_successWithInitialStock() {
+        // Given
+        String userId = TEST_USER_ID_PREFIX + "1";
+        CouponRedisRequest request = createCouponRedisRequest(userId);
+        request.setInitialStock((long) INITIAL_STOCK);
+
+        when(stringRedisTemplate.execute(any(DefaultRedisScript.class), anyList(), any(String.class), any(String.class), any(String.class), any(String.class)))
+                .thenReturn(1L);
+
+        // When
+        boolean issued = couponRedisService.issueCouponWithWarmUp(request);
+
+        // Then
+        assertThat(issued).isTrue();
+
+        ArgumentCaptor<String[]> argsCaptor = ArgumentCaptor.forClass(String[].class);
+        verify(stringRedisTemplate).execute(any(), anyList(), (Object[]) argsCaptor.capture());
+        assertThat(argsCaptor.getValue()[2]).isEqualTo(String.valueOf(INITIAL_STOCK));
+    }
+
+    @Test
+    @DisplayName("캐시 초기화 포함 발급: 재고 소진 시 CommonCustomException 발생")
+    void issueCouponWithWarmUp_fail_stockOut() {
+        // Given
+        String userId = TEST_USER_ID_PREFIX + "1";
+        CouponRedisRequest request = createCouponRedisRequest(userId);
+
+        when(stringRedisTemplate.execute(any(DefaultRedisScript.class), anyList(), any(String.class), any(String.class), any(String.class), any(String.class)))
+                .thenReturn(2L);
 
         // When & Then
-        assertThatThrownBy(() -> couponRedisService.issueCouponAtomically(request))
+        assertThatThrownBy(() -> couponRedisService.issueCouponWithWarmUp(request))
                 .isInstanceOf(CommonCustomException.class)
-                .hasMessageContaining(CommonErrorCode.COUPON_EXPIRED.getMessage());
+                .hasFieldOrPropertyWithValue("errorCode", CommonErrorCode.COUPON_SOLD_OUT);
+    }
+
+    @Test
+    @DisplayName("롤백: 재고 복구, 발급 명단/발급 ID 삭제 스크립트를 실행하고 스크립트에 Lua 주석이 아닌 // 가 없다")
+    @SuppressWarnings("unchecked")
+    void rollbackRedisCouponStock_script() {
+        // Given
+        String userId = TEST_USER_ID_PREFIX + "1";
+        String couponIssueIdKey = couponRedisKeyManager.getCouponIssueIdKey(TEST_COUPON_PUBLIC_ID, TEST_COUPON_CODE);
+
+        // When
+        couponRedisService.rollbackRedisCouponStock(stockKey, couponIssuedUserSetKey, couponIssueIdKey, userId);
+
+        // Then
+        ArgumentCaptor<DefaultRedisScript<Long>> scriptCaptor = ArgumentCaptor.forClass(DefaultRedisScript.class);
+        ArgumentCaptor<List<String>> keysCaptor = ArgumentCaptor.forClass(List.class);
+        verify(stringRedisTemplate).execute(scriptCaptor.capture(), keysCaptor.capture(), (Object[]) any());
+
+        assertThat(keysCaptor.getValue()).containsExactly(stockKey, couponIssuedUserSetKey, couponIssueIdKey);
 
+        // Redis는 Lua 5.1로 스크립트를 실행하므로 // 는 주석이 아니라 문법 오류
+        String script = scriptCaptor.getValue().getScriptAsString();
+        assertThat(script)
+                .contains("redis.call('INCR', KEYS[1])")
+                .contains("redis.call('SREM', KEYS[2], ARGV[1])")
+                .contains("redis.call('HDEL', KEYS[3], ARGV[1])")
+                .doesNotContain("//");
     }
 
     @Test
     @DisplayName("다중 스레드 환경에서 쿠폰 동시 발급 테스트 - Mock 버전")
-    void issueCouponAtomically_concurrentIssue() throws InterruptedException {
+    void issueCouponWithWarmUp_concurrentIssue() throws InterruptedException {
         // Given
         int numberOfThreads = 100; // 동시 요청 수
         int successCount = 10;
@@ -201,7 +278,7 @@ public class CouponRedisServiceTest {
 
             executorService.submit(() -> {
                 try {
-                    couponRedisService.issueCouponAtomically(request);
+                    couponRedisService.issueCouponWithWarmUp(request);
                     successfulIssues.incrementAndGet();
                 } catch (CommonCustomException e) {
                     if (e.getErrorCode() == CommonErrorCode.COUPON_SOLD_OUT) {
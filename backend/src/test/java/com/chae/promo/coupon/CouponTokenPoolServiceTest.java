@@ -0,0 +1,145 @@
+package com.chae.promo.coupon;
+
+import com.chae.promo.common.lease.RedisLeaseManager;
+import com.chae.promo.coupon.dto.CouponRedisRequest;
+import com.chae.promo.coupon.entity.Coupon;
+import com.chae.promo.coupon.service.redis.CouponRedisKeyManager;
+import com.chae.promo.coupon.service.redis.CouponRedisService;
+import com.chae.promo.coupon.service.redis.CouponTokenPoolService;
+import com.chae.promo.exception.CommonCustomException;
+import com.chae.promo.exception.CommonErrorCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.core.ListOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("CouponTokenPoolService 테스트")
+class CouponTokenPoolServiceTest {
+
+    private static final String TEST_COUPON_PUBLIC_ID = "TEST_PUBLIC_ID_001";
+    private static final String TEST_COUPON_CODE = "TEST_CODE_A";
+
+    private StringRedisTemplate stringRedisTemplate;
+    private RedisLeaseManager redisLeaseManager;
+    private CouponTokenPoolService couponTokenPoolService;
+    private final CouponRedisKeyManager keyManager = new CouponRedisKeyManager();
+    private final Coupon coupon = Coupon.builder().publicId(TEST_COUPON_PUBLIC_ID).code(TEST_COUPON_CODE).build();
+
+    @BeforeEach
+    void setUp() {
+        stringRedisTemplate = mock(StringRedisTemplate.class);
+        redisLeaseManager = mock(RedisLeaseManager.class);
+        couponTokenPoolService = new CouponTokenPoolService(stringRedisTemplate, keyManager,
+                new CouponRedisService(stringRedisTemplate), redisLeaseManager, Duration.ofSeconds(30));
+    }
+
+    @Test
+    @DisplayName("토큰을 꺼내면 해당 토큰을 couponIssueId로 반환한다")
+    void issue_returnsToken() {
+        stubScriptResult(List.of(1L, "issue-token-1"));
+
+        assertThat(couponTokenPoolService.issue(request("user_1"))).isEqualTo("issue-token-1");
+
+        // 발급 ID Hash에 토큰과 함께 기록할 발급 시각 전달
+        verify(stringRedisTemplate).execute(any(RedisScript.class), anyList(),
+                eq("user_1"), eq("600"), eq("#END#"), eq("1760000000000"));
+    }
+
+    @Test
+    @DisplayName("토큰 풀이 초기화되지 않았으면 null을 반환한다")
+    void issue_notInitialized_returnsNull() {
+        stubScriptResult(List.of(5L));
+
+        assertThat(couponTokenPoolService.issue(request("user_1"))).isNull();
+    }
+
+    @Test
+    @DisplayName("토큰이 없으면 재고 소진 예외가 발생한다")
+    void issue_emptyPool_throwsSoldOut() {
+        stubScriptResult(List.of(2L));
+
+        assertThatThrownBy(() -> couponTokenPoolService.issue(request("user_1")))
+                .isInstanceOf(CommonCustomException.class)
+                .hasFieldOrPropertyWithValue("errorCode", CommonErrorCode.COUPON_SOLD_OUT);
+    }
+
+    @Test
+    @DisplayName("lease를 획득한 서버는 별도 키에 토큰과 종료 표시를 적재한 뒤 토큰 풀 키로 공개한다")
+    @SuppressWarnings("unchecked")
+    void initializeIfAbsent_fillsPool() {
+        ListOperations<String, String> listOps = mock(ListOperations.class);
+        when(stringRedisTemplate.opsForList()).thenReturn(listOps);
+        when(stringRedisTemplate.hasKey(anyString())).thenReturn(false);
+        when(stringRedisTemplate.renameIfAbsent(anyString(), anyString())).thenReturn(true);
+        when(redisLeaseManager.tryAcquire(anyString(), any(Duration.class))).thenReturn(true);
+
+        couponTokenPoolService.initializeIfAbsent(request("user_1"), () -> 1500L);
+
+        String poolKey = keyManager.getCouponTokenPoolKey(TEST_COUPON_PUBLIC_ID, TEST_COUPON_CODE);
+        String buildingKeyPrefix = keyManager.getCouponTokenPoolBuildingKey(TEST_COUPON_PUBLIC_ID, TEST_COUPON_CODE, "");
+
+        ArgumentCaptor<Collection<String>> chunks = ArgumentCaptor.forClass(Collection.class);
+        verify(listOps, times(2)).rightPushAll(startsWith(buildingKeyPrefix), chunks.capture());
+        assertThat(chunks.getAllValues().get(0)).hasSize(1000);
+        assertThat(List.copyOf(chunks.getAllValues().get(1))).hasSize(501).endsWith("#END#");
+        verify(stringRedisTemplate).expire(startsWith(buildingKeyPrefix), eq(Duration.ofSeconds(600)));
+        verify(stringRedisTemplate).renameIfAbsent(startsWith(buildingKeyPrefix), eq(poolKey));
+        verify(redisLeaseManager).release("coupon:token-pool:init:" + TEST_COUPON_PUBLIC_ID);
+    }
+
+    @Test
+    @DisplayName("다른 서버가 토큰 풀을 생성 중이면 대기하지 않고 재시도 가능한 오류로 응답한다")
+    void initializeIfAbsent_leaseHeldElsewhere_failsFast() {
+        when(stringRedisTemplate.hasKey(anyString())).thenReturn(false);
+        when(redisLeaseManager.tryAcquire(anyString(), any(Duration.class))).thenReturn(false);
+
+        assertThatThrownBy(() -> couponTokenPoolService.initializeIfAbsent(request("user_1"), () -> 1500L))
+                .isInstanceOf(CommonCustomException.class)
+                .hasFieldOrPropertyWithValue("errorCode", CommonErrorCode.COUPON_ISSUE_NOT_READY);
+
+        verify(stringRedisTemplate, never()).opsForList();
+        verify(redisLeaseManager, never()).release(anyString());
+    }
+
+    @Test
+    @DisplayName("다른 요청이 먼저 토큰 풀을 공개했으면 적재한 키를 지운다")
+    @SuppressWarnings("unchecked")
+    void initializeIfAbsent_alreadyPublished_discardsBuildingKey() {
+        when(stringRedisTemplate.opsForList()).thenReturn(mock(ListOperations.class));
+        when(stringRedisTemplate.hasKey(anyString())).thenReturn(false);
+        when(stringRedisTemplate.renameIfAbsent(anyString(), anyString())).thenReturn(false);
+        when(redisLeaseManager.tryAcquire(anyString(), any(Duration.class))).thenReturn(true);
+
+        couponTokenPoolService.initializeIfAbsent(request("user_1"), () -> 10L);
+
+        verify(stringRedisTemplate).delete(startsWith(
+                keyManager.getCouponTokenPoolBuildingKey(TEST_COUPON_PUBLIC_ID, TEST_COUPON_CODE, "")));
+    }
+
+    private void stubScriptResult(List<Object> result) {
+        when(stringRedisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class))).thenReturn(result);
+    }
+
+    private CouponRedisRequest request(String userId) {
+        return CouponRedisRequest.builder()
+                .coupon(coupon)
+                .userId(userId)
+                .ttlSeconds(600)
+                .issuedAtMillis(1_760_000_000_000L)
+                .couponTtlKey(keyManager.getCouponTtlKey(TEST_COUPON_PUBLIC_ID, TEST_COUPON_CODE))
+                .couponIssuedUserSetKey(keyManager.getCouponIssuedUserSetKey(TEST_COUPON_PUBLIC_ID, TEST_COUPON_CODE))
+                .build();
+    }
+}
@@ -0,0 +1,118 @@
+package com.chae.promo.coupon;
+
+import com.chae.promo.coupon.dto.CouponResponse;
+import com.chae.promo.coupon.service.redis.CouponRedisKeyManager;
+import com.chae.promo.coupon.service.redis.UserCouponSummaryRedisService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("UserCouponSummaryRedisService 테스트")
+class UserCouponSummaryRedisServiceTest {
+
+    private static final String TEST_USER_ID = "test-user";
+    private static final String SUMMARY_KEY = "user:test-user:coupon:summary";
+
+    private StringRedisTemplate stringRedisTemplate;
+    private HashOperations<String, Object, Object> hashOperations;
+    private ObjectMapper objectMapper;
+    private UserCouponSummaryRedisService summaryService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        stringRedisTemplate = mock(StringRedisTemplate.class);
+        hashOperations = mock(HashOperations.class);
+        when(stringRedisTemplate.opsForHash()).thenReturn(hashOperations);
+
+        objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+        summaryService = new UserCouponSummaryRedisService(
+                stringRedisTemplate, new CouponRedisKeyManager(), objectMapper, Duration.ofHours(1), Duration.ofSeconds(10));
+    }
+
+    @Test
+    @DisplayName("Hash가 없으면 DB 조회가 필요하다고 응답한다")
+    void find_miss() {
+        when(hashOperations.entries(SUMMARY_KEY)).thenReturn(Map.of());
+
+        assertThat(summaryService.find(TEST_USER_ID)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("HGETALL 한 번으로 보유 쿠폰 요약을 복원한다")
+    void find_hit() throws Exception {
+        CouponResponse.Info info = CouponResponse.Info.builder()
+                .couponId("TEST_PUBLIC_ID_001")
+                .code("TEST_CODE_A")
+                .name("테스트 쿠폰")
+                .expireAt(LocalDateTime.of(2030, 1, 1, 0, 0))
+                .status("ISSUED")
+                .build();
+        when(hashOperations.entries(SUMMARY_KEY))
+                .thenReturn(Map.of("TEST_PUBLIC_ID_001", objectMapper.writeValueAsString(info)));
+
+        List<CouponResponse.Info> result = summaryService.find(TEST_USER_ID).orElseThrow();
+
+        assertThat(result).singleElement().satisfies(found -> {
+            assertThat(found.getCode()).isEqualTo("TEST_CODE_A");
+            assertThat(found.getExpireAt()).isEqualTo(info.getExpireAt());
+            assertThat(found.getStatus()).isEqualTo("ISSUED");
+        });
+    }
+
+    @Test
+    @DisplayName("재구성 중인 Hash는 DB 조회가 필요하다고 응답한다")
+    void find_rebuilding_miss() {
+        when(hashOperations.entries(SUMMARY_KEY))
+                .thenReturn(Map.of("__rebuilding__", "token", "TEST_PUBLIC_ID_001", "{}"));
+
+        assertThat(summaryService.find(TEST_USER_ID)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("다른 서버가 이미 Hash를 채웠으면 재구성을 시작하지 않는다")
+    void beginRebuild_alreadyBuilt() {
+        when(stringRedisTemplate.execute(any(RedisScript.class), eq(List.of(SUMMARY_KEY)), any(Object[].class)))
+                .thenReturn(0L);
+
+        assertThat(summaryService.beginRebuild(TEST_USER_ID)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("재구성 토큰과 함께 저장하고, 보유 쿠폰이 없는 사용자도 빈 목록으로 캐시된다")
+    void replaceAll_empty_thenFindEmptyList() {
+        when(stringRedisTemplate.execute(any(RedisScript.class), eq(List.of(SUMMARY_KEY)), any(Object[].class)))
+                .thenReturn(1L);
+
+        String rebuildToken = summaryService.beginRebuild(TEST_USER_ID).orElseThrow();
+        boolean replaced = summaryService.replaceAll(TEST_USER_ID, rebuildToken, List.of());
+
+        assertThat(replaced).isTrue();
+        ArgumentCaptor<Object[]> argsCaptor = ArgumentCaptor.forClass(Object[].class);
+        verify(stringRedisTemplate, times(2)).execute(any(RedisScript.class), eq(List.of(SUMMARY_KEY)), argsCaptor.capture());
+        // ttlSeconds, 재구성 표시 필드, 재구성 토큰, 빈 표시 필드 (쿠폰 필드 없음)
+        assertThat(argsCaptor.getAllValues().get(1)).containsExactly("3600", "__rebuilding__", rebuildToken, "__empty__");
+
+        when(hashOperations.entries(SUMMARY_KEY)).thenReturn(Map.of("__empty__", ""));
+        assertThat(summaryService.find(TEST_USER_ID)).hasValueSatisfying(list -> assertThat(list).isEmpty());
+    }
+}
@@ -0,0 +1,79 @@
+package com.chae.promo.order.event;
+
+import com.chae.promo.exception.CommonCustomException;
+import com.chae.promo.exception.CommonErrorCode;
+import com.chae.promo.order.service.redis.StockRedisService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@DisplayName("OrderPlacedBatchHandlerService 테스트")
+class OrderPlacedBatchHandlerServiceTest {
+
+    private OrderStockProcessor orderStockProcessor;
+    private StockRedisService stockRedisService;
+    private OrderPlacedBatchHandlerService handler;
+
+    @BeforeEach
+    void setUp() {
+        orderStockProcessor = mock(OrderStockProcessor.class);
+        stockRedisService = mock(StockRedisService.class);
+        handler = new OrderPlacedBatchHandlerService(orderStockProcessor, stockRedisService);
+    }
+
+    private OrderPlacedEvent event(String eventId, String productCode) {
+        return OrderPlacedEvent.builder()
+                .eventId(eventId)
+                .orderPublicId("O-" + eventId)
+                .userId("U1")
+                .items(List.of(OrderPlacedEvent.Item.builder()
+                        .productCode(productCode)
+                        .decreasedStock(1)
+                        .build()))
+                .build();
+    }
+
+    @Test
+    @DisplayName("배치 반영 후 이벤트별로 Redis 재고를 확정하고, 제외된 이벤트만 단건 처리한다")
+    void batchApplied_confirmsAndFallsBackRejected() {
+        OrderPlacedEvent e1 = event("E1", "P1");
+        OrderPlacedEvent e2 = event("E2", "P1");
+        OrderPlacedEvent e3 = event("E3", "HIDDEN");
+        when(orderStockProcessor.processStockDecreaseBatch(List.of(e1, e2, e3)))
+                .thenReturn(new OrderStockProcessor.BatchResult(List.of(e1, e2), List.of(e3)));
+        doThrow(new CommonCustomException(CommonErrorCode.PRODUCT_NOT_FOR_SALE))
+                .when(orderStockProcessor).processStockDecrease(e3);
+
+        List<OrderPlacedBatchHandlerService.Failure> failures = handler.processProductStockChanges(List.of(e1, e2, e3));
+
+        assertThat(failures).singleElement().satisfies(failure -> assertThat(failure.event()).isEqualTo(e3));
+        verify(stockRedisService).confirm("P1", "O-E1");
+        verify(stockRedisService).confirm("P1", "O-E2");
+        verify(orderStockProcessor, never()).processStockDecrease(e1);
+    }
+
+    @Test
+    @DisplayName("배치 처리가 실패하면 이벤트 단위로 다시 처리한다")
+    void batchFailed_processesOneByOne() {
+        OrderPlacedEvent e1 = event("E1", "P1");
+        OrderPlacedEvent e2 = event("E2", "P1");
+        when(orderStockProcessor.processStockDecreaseBatch(any()))
+                .thenThrow(new CommonCustomException(CommonErrorCode.INSUFFICIENT_STOCK));
+        doThrow(new CommonCustomException(CommonErrorCode.INSUFFICIENT_STOCK))
+                .when(orderStockProcessor).processStockDecrease(e2);
+
+        List<OrderPlacedBatchHandlerService.Failure> failures = handler.processProductStockChanges(List.of(e1, e2));
+
+        assertThat(failures).extracting(OrderPlacedBatchHandlerService.Failure::event).containsExactly(e2);
+        verify(orderStockProcessor).processStockDecrease(e1);
+        // 단건 처리는 Redis 확정까지 포함하므로 배치 경로의 확정은 호출되지 않음
+        verify(stockRedisService, never()).confirm(anyString(), anyString());
+    }
+}
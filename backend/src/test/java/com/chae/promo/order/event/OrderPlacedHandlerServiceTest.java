@@ -69,27 +69,27 @@ class OrderPlacedHandlerServiceTest {
     }
 
     @Test
-    @DisplayName("낙관적 락 예외 - 최대 3회 재시도 후 실패")
-    void optimisticLocking_retry3Times() {
+    @DisplayName("낙관적 락 예외 - 대기 없이 1회만 시도하고 그대로 던져 재시도 토픽으로 위임")
+    void optimisticLocking_delegatesToRetryTopic() {
         FailStubProcessor processor = new FailStubProcessor(new OptimisticLockingFailureException("fail"));
         OrderPlacedHandlerService handler = new OrderPlacedHandlerService(processor);
 
         assertThrows(OptimisticLockingFailureException.class,
                 () -> handler.processProductStockChange(event));
 
-        assertEquals(3, processor.callCount); // 최대 3회 재시도
+        assertEquals(1, processor.callCount); // 리스너 스레드 내 재시도 없음
     }
 
     @Test
-    @DisplayName("런타임 예외 - 최대 3회 재시도 후 실패")
-    void runtimeException_retry3Times() {
+    @DisplayName("런타임 예외 - 대기 없이 1회만 시도하고 그대로 던져 재시도 토픽으로 위임")
+    void runtimeException_delegatesToRetryTopic() {
         FailStubProcessor processor = new FailStubProcessor(new RuntimeException("system fail"));
         OrderPlacedHandlerService handler = new OrderPlacedHandlerService(processor);
 
         assertThrows(RuntimeException.class,
                 () -> handler.processProductStockChange(event));
 
-        assertEquals(3, processor.callCount); // 최대 3회 재시도
+        assertEquals(1, processor.callCount); // 리스너 스레드 내 재시도 없음
     }
 
 
@@ -101,6 +101,11 @@ class OrderPlacedHandlerServiceTest {
         public void processStockDecrease(OrderPlacedEvent event) {
             callCount++; // 그냥 정상 동작했다고 가정
         }
+
+        @Override
+        public BatchResult processStockDecreaseBatch(List<OrderPlacedEvent> events) {
+            throw new UnsupportedOperationException();
+        }
     }
 
     static class FailStubProcessor implements OrderStockProcessor {
@@ -116,5 +121,10 @@ class OrderPlacedHandlerServiceTest {
             callCount++;
             throw toThrow;
         }
+
+        @Override
+        public BatchResult processStockDecreaseBatch(List<OrderPlacedEvent> events) {
+            throw new UnsupportedOperationException();
+        }
     }
 }
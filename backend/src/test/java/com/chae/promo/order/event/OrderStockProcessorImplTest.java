@@ -0,0 +1,83 @@
+package com.chae.promo.order.event;
+
+import com.chae.promo.order.service.redis.StockRedisService;
+import com.chae.promo.product.entity.Product;
+import com.chae.promo.product.entity.ProductStatus;
+import com.chae.promo.product.entity.ProductStockAudit;
+import com.chae.promo.product.repository.ProductBulkRepository;
+import com.chae.promo.product.repository.ProductRepository;
+import com.chae.promo.product.repository.ProductStockAuditBulkRepository;
+import com.chae.promo.product.repository.ProductStockAuditRepository;
+import com.chae.promo.product.repository.ProductStockLedgerRepository;
+import com.chae.promo.product.util.ProductValidator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@DisplayName("OrderStockProcessorImpl 테스트")
+class OrderStockProcessorImplTest {
+
+    private ProductStockAuditRepository productStockAuditRepository;
+    private ProductStockAuditBulkRepository productStockAuditBulkRepository;
+    private ProductBulkRepository productBulkRepository;
+    private ProductRepository productRepository;
+    private OrderStockProcessorImpl processor;
+
+    @BeforeEach
+    void setUp() {
+        productStockAuditRepository = mock(ProductStockAuditRepository.class);
+        productStockAuditBulkRepository = mock(ProductStockAuditBulkRepository.class);
+        productBulkRepository = mock(ProductBulkRepository.class);
+        productRepository = mock(ProductRepository.class);
+
+        processor = new OrderStockProcessorImpl(productStockAuditRepository, productStockAuditBulkRepository,
+                mock(ProductStockLedgerRepository.class), productBulkRepository, productRepository,
+                mock(ProductValidator.class), mock(StockRedisService.class));
+    }
+
+    private OrderPlacedEvent event(String eventId, long decreasedStock) {
+        return OrderPlacedEvent.builder()
+                .eventId(eventId)
+                .orderPublicId("O-" + eventId)
+                .userId("U1")
+                .items(List.of(OrderPlacedEvent.Item.builder()
+                        .productCode("P1")
+                        .decreasedStock(decreasedStock)
+                        .build()))
+                .build();
+    }
+
+    @Test
+    @DisplayName("audit 재고는 처음 읽은 상품 재고가 아니라 차감 UPDATE 후 잠금 조회한 재고로 계산한다")
+    @SuppressWarnings("unchecked")
+    void batch_auditStockFromLockedReadAfterUpdate() {
+        // 엔티티 조회 시점 재고는 100이지만, 그 사이 다른 배치가 30개를 차감
+        Product product = Product.builder()
+                .id(1L).code("P1").name("상품 1").price(BigDecimal.valueOf(1000))
+                .stockQuantity(100).status(ProductStatus.FOR_SALE).version(0L).build();
+        when(productStockAuditRepository.findEventIdsByEventIdIn(anyCollection())).thenReturn(List.of());
+        when(productRepository.findByCodeIn(List.of("P1"))).thenReturn(List.of(product));
+        when(productBulkRepository.findStockForUpdate(anyCollection())).thenReturn(new HashMap<>(Map.of(1L, 65L)));
+
+        processor.processStockDecreaseBatch(List.of(event("E1", 2), event("E2", 3)));
+
+        InOrder inOrder = inOrder(productBulkRepository);
+        inOrder.verify(productBulkRepository).bulkDecreaseStockBySum(Map.of(1L, 5L));
+        inOrder.verify(productBulkRepository).findStockForUpdate(anyCollection());
+
+        ArgumentCaptor<List<ProductStockAudit>> audits = ArgumentCaptor.forClass(List.class);
+        verify(productStockAuditBulkRepository).bulkInsert(audits.capture());
+        assertThat(audits.getValue()).extracting(ProductStockAudit::getCurrentStock).containsExactly(68L, 65L);
+    }
+}
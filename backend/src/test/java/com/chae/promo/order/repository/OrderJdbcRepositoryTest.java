@@ -0,0 +1,176 @@
+package com.chae.promo.order.repository;
+
+import com.chae.promo.common.util.UuidUtil;
+import com.chae.promo.order.entity.Order;
+import com.chae.promo.order.entity.OrderItem;
+import com.chae.promo.order.entity.OrderStatus;
+import com.chae.promo.order.entity.ShippingInfo;
+import com.chae.promo.product.entity.Product;
+import com.chae.promo.product.entity.ProductStatus;
+import com.chae.promo.product.repository.ProductRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 주문 JDBC 저장 경로 검증
+ * - 같은 주문을 JPA와 JDBC로 각각 저장한 뒤 orders / order_items / shipping_info row를 다시 읽어 비교
+ * - 실제 DB(dev 프로필)를 사용하고, 테스트 트랜잭션은 롤백되므로 데이터가 남지 않음
+ */
+@SpringBootTest
+@ActiveProfiles("dev")
+@Transactional
+@DisplayName("OrderJdbcRepository 테스트")
+class OrderJdbcRepositoryTest {
+
+    private static final BigDecimal UNIT_PRICE = BigDecimal.valueOf(1_000);
+
+    // 생성 시 달라지는 컬럼 (id, public_id, 시각)은 비교에서 제외
+    private static final List<String> ORDER_COLUMNS =
+            List.of("customer_id", "orderer_name", "total_price", "status", "product_name");
+    private static final List<String> SHIPPING_INFO_COLUMNS =
+            List.of("recipient_name", "address", "zipcode", "phone_number", "memo");
+
+    @Autowired private OrderJdbcRepository orderJdbcRepository;
+    @Autowired private OrderRepository orderRepository;
+    @Autowired private ShippingInfoRepository shippingInfoRepository;
+    @Autowired private ProductRepository productRepository;
+    @Autowired private EntityManager entityManager;
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    private Product product1;
+    private Product product2;
+
+    @BeforeEach
+    void setUp() {
+        product1 = productRepository.save(product("JDBC-TEST-1-"));
+        product2 = productRepository.save(product("JDBC-TEST-2-"));
+        entityManager.flush();
+    }
+
+    @Test
+    @DisplayName("JDBC로 저장한 주문/주문 상품/배송 정보 row는 JPA로 저장한 row와 같다")
+    void insert_writesSameRowsAsJpa() {
+        // given
+        Order jpaOrder = order();
+        orderRepository.save(jpaOrder);
+        shippingInfoRepository.save(shippingInfo(jpaOrder));
+        entityManager.flush();
+
+        Order jdbcOrder = order();
+
+        // when
+        long jdbcOrderId = orderJdbcRepository.insert(jdbcOrder, shippingInfo(jdbcOrder));
+
+        // then
+        Map<String, Object> jpaRow = findOrder(jpaOrder.getPublicId());
+        Map<String, Object> jdbcRow = findOrder(jdbcOrder.getPublicId());
+
+        // orders : 생성된 ID 반환, status는 enum 이름 문자열, 비회원은 customer_id NULL
+        assertThat(((Number) jdbcRow.get("id")).longValue()).isEqualTo(jdbcOrderId);
+        assertThat(jdbcRow.get("status")).isEqualTo(OrderStatus.CREATED.name());
+        assertThat(jdbcRow.get("customer_id")).isNull();
+        assertThat(columns(jdbcRow, ORDER_COLUMNS)).isEqualTo(columns(jpaRow, ORDER_COLUMNS));
+
+        // 시각은 JPA auditing과 같은 Clock 기준 (시간대가 다르면 몇 시간 차이가 남)
+        assertCloseTo(jdbcRow.get("created_at"), jpaRow.get("created_at"));
+        assertCloseTo(jdbcRow.get("updated_at"), jpaRow.get("updated_at"));
+
+        // order_items : 모든 row가 생성된 주문 ID를 참조하고, 상품/수량/단가가 JPA와 같은 순서로 저장
+        List<Map<String, Object>> jpaItems = findItems(((Number) jpaRow.get("id")).longValue());
+        List<Map<String, Object>> jdbcItems = findItems(jdbcOrderId);
+
+        assertThat(jdbcItems).hasSize(2);
+        assertThat(jdbcItems).extracting(row -> ((Number) row.get("order_id")).longValue()).containsOnly(jdbcOrderId);
+        assertThat(jdbcItems).extracting(row -> ((Number) row.get("product_id")).longValue())
+                .containsExactly(product1.getId(), product2.getId());
+        assertThat(jdbcItems).extracting(row -> columns(row, List.of("product_id", "quantity", "unit_price")))
+                .isEqualTo(jpaItems.stream().map(row -> columns(row, List.of("product_id", "quantity", "unit_price"))).toList());
+
+        // shipping_info : 생성된 주문 ID 참조, 나머지 컬럼은 JPA와 같음 (memo NULL 포함)
+        Map<String, Object> jpaShipping = findShippingInfo(((Number) jpaRow.get("id")).longValue());
+        Map<String, Object> jdbcShipping = findShippingInfo(jdbcOrderId);
+
+        assertThat(columns(jdbcShipping, SHIPPING_INFO_COLUMNS)).isEqualTo(columns(jpaShipping, SHIPPING_INFO_COLUMNS));
+        assertCloseTo(jdbcShipping.get("created_at"), jpaShipping.get("created_at"));
+    }
+
+    private Product product(String codePrefix) {
+        return Product.builder()
+                .code(codePrefix + UuidUtil.generate())
+                .name("JDBC 저장 테스트 상품")
+                .price(UNIT_PRICE)
+                .stockQuantity(100L)
+                .status(ProductStatus.FOR_SALE)
+                .build();
+    }
+
+    private Order order() {
+        Order order = Order.builder()
+                .customerId(null)
+                .ordererName("비회원 guest-1")
+                .publicId(UuidUtil.generate())
+                .status(OrderStatus.CREATED)
+                .productName("JDBC 저장 테스트 상품 외 1건")
+                .build();
+
+        order.addOrderItem(OrderItem.builder().product(product1).quantity(2).unitPrice(UNIT_PRICE).build());
+        order.addOrderItem(OrderItem.builder().product(product2).quantity(3).unitPrice(UNIT_PRICE).build());
+        order.updateTotalPrice(UNIT_PRICE.multiply(BigDecimal.valueOf(5)));
+        return order;
+    }
+
+    private ShippingInfo shippingInfo(Order order) {
+        return ShippingInfo.builder()
+                .order(order)
+                .recipientName("홍길동")
+                .address("서울시 강남구")
+                .zipcode("12345")
+                .phoneNumber("010-0000-0000")
+                .build();
+    }
+
+    private Map<String, Object> findOrder(String publicId) {
+        return jdbcTemplate.queryForMap("SELECT * FROM orders WHERE public_id = ?", publicId);
+    }
+
+    private List<Map<String, Object>> findItems(long orderId) {
+        return jdbcTemplate.queryForList("SELECT * FROM order_items WHERE order_id = ? ORDER BY id", orderId);
+    }
+
+    private Map<String, Object> findShippingInfo(long orderId) {
+        return jdbcTemplate.queryForMap("SELECT * FROM shipping_info WHERE order_id = ?", orderId);
+    }
+
+    private static Map<String, Object> columns(Map<String, Object> row, List<String> names) {
+        Map<String, Object> selected = new LinkedHashMap<>();
+        names.forEach(name -> selected.put(name, row.get(name)));
+        return selected;
+    }
+
+    private static void assertCloseTo(Object actual, Object expected) {
+        Duration gap = Duration.between(toLocalDateTime(expected), toLocalDateTime(actual)).abs();
+        assertThat(gap).isLessThan(Duration.ofMinutes(1));
+    }
+
+    // 드라이버 버전에 따라 DATETIME이 Timestamp 또는 LocalDateTime으로 조회됨
+    private static LocalDateTime toLocalDateTime(Object value) {
+        return value instanceof Timestamp timestamp ? timestamp.toLocalDateTime() : (LocalDateTime) value;
+    }
+}
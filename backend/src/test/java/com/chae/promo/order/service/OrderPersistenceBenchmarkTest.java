@@ -0,0 +1,171 @@
+package com.chae.promo.order.service;
+
+import com.chae.promo.common.util.UuidUtil;
+import com.chae.promo.order.entity.Order;
+import com.chae.promo.order.entity.OrderItem;
+import com.chae.promo.order.entity.OrderStatus;
+import com.chae.promo.order.entity.ShippingInfo;
+import com.chae.promo.order.repository.OrderJdbcRepository;
+import com.chae.promo.order.repository.OrderRepository;
+import com.chae.promo.order.repository.ShippingInfoRepository;
+import com.chae.promo.product.entity.Product;
+import com.chae.promo.product.repository.ProductRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 주문 저장 경로 비교 (JPA vs JDBC)
+ * - 실제 DB(dev 프로필)에 주문을 저장하므로 기본 테스트에서는 제외
+ * - 커밋까지 측정한 뒤, 테스트가 만든 주문/주문 상품/배송 정보는 public_id 기준으로 삭제
+ * - 실행: ./gradlew test --tests '*OrderPersistenceBenchmarkTest' -Dbenchmark=true
+ */
+@Slf4j
+@SpringBootTest
+@ActiveProfiles("dev")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@DisplayName("주문 저장 경로 벤치마크 (JPA vs JDBC)")
+class OrderPersistenceBenchmarkTest {
+
+    private static final int WARM_UP = 200;
+    private static final int ITERATIONS = 1_000;
+    private static final long PRODUCT_ID = 1L;
+    private static final BigDecimal UNIT_PRICE = BigDecimal.valueOf(1_000);
+    private static final int DELETE_CHUNK_SIZE = 500;
+
+    @Autowired private OrderRepository orderRepository;
+    @Autowired private ShippingInfoRepository shippingInfoRepository;
+    @Autowired private OrderJdbcRepository orderJdbcRepository;
+    @Autowired private ProductRepository productRepository;
+    @Autowired private TransactionTemplate transactionTemplate;
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    // 테스트가 저장한 주문 public_id (종료 후 삭제)
+    private final List<String> createdPublicIds = new ArrayList<>();
+
+    @AfterEach
+    void deleteCreatedOrders() {
+        for (int from = 0; from < createdPublicIds.size(); from += DELETE_CHUNK_SIZE) {
+            List<String> chunk = createdPublicIds.subList(from, Math.min(from + DELETE_CHUNK_SIZE, createdPublicIds.size()));
+            String placeholders = String.join(",", Collections.nCopies(chunk.size(), "?"));
+            Object[] args = chunk.toArray();
+
+            jdbcTemplate.update("DELETE oi FROM order_items oi JOIN orders o ON o.id = oi.order_id WHERE o.public_id IN ("
+                    + placeholders + ")", args);
+            jdbcTemplate.update("DELETE s FROM shipping_info s JOIN orders o ON o.id = s.order_id WHERE o.public_id IN ("
+                    + placeholders + ")", args);
+            jdbcTemplate.update("DELETE FROM orders WHERE public_id IN (" + placeholders + ")", args);
+        }
+        log.info("[주문 저장 벤치마크] 생성한 주문 삭제. orders: {}", createdPublicIds.size());
+        createdPublicIds.clear();
+    }
+
+    @ParameterizedTest(name = "주문 상품 {0}개")
+    @ValueSource(ints = {1, 10, 50})
+    void compare(int itemCount) {
+        long[] jpa = measure(itemCount, this::saveWithJpa);
+        long[] jdbc = measure(itemCount, this::saveWithJdbc);
+
+        log.info("[주문 저장 벤치마크] items: {}, JPA avg/p50/p99(us): {}/{}/{}, JDBC avg/p50/p99(us): {}/{}/{}",
+                itemCount,
+                average(jpa), percentile(jpa, 50), percentile(jpa, 99),
+                average(jdbc), percentile(jdbc, 50), percentile(jdbc, 99));
+
+        assertThat(jdbc).hasSize(ITERATIONS);
+    }
+
+    private interface OrderWriter {
+        void save(Order order, ShippingInfo shippingInfo);
+    }
+
+    private void saveWithJpa(Order order, ShippingInfo shippingInfo) {
+        orderRepository.save(order);
+        shippingInfoRepository.save(shippingInfo);
+    }
+
+    private void saveWithJdbc(Order order, ShippingInfo shippingInfo) {
+        orderJdbcRepository.insert(order, shippingInfo);
+    }
+
+    // 주문 1건 = 트랜잭션 1건 (커밋까지 포함한 시간, us)
+    private long[] measure(int itemCount, OrderWriter writer) {
+        for (int i = 0; i < WARM_UP; i++) {
+            saveInTransaction(itemCount, writer);
+        }
+
+        long[] elapsed = new long[ITERATIONS];
+        for (int i = 0; i < ITERATIONS; i++) {
+            long start = System.nanoTime();
+            saveInTransaction(itemCount, writer);
+            elapsed[i] = (System.nanoTime() - start) / 1_000;
+        }
+        return elapsed;
+    }
+
+    private void saveInTransaction(int itemCount, OrderWriter writer) {
+        transactionTemplate.executeWithoutResult(status -> {
+            Order order = order(itemCount);
+            writer.save(order, shippingInfo(order));
+            createdPublicIds.add(order.getPublicId());
+        });
+    }
+
+    private Order order(int itemCount) {
+        // 트랜잭션 안에서 얻은 프록시 (조회 없이 product_id만 사용)
+        Product product = productRepository.getReferenceById(PRODUCT_ID);
+
+        Order order = Order.builder()
+                .ordererName("벤치마크")
+                .publicId(UuidUtil.generate())
+                .status(OrderStatus.CREATED)
+                .productName("벤치마크 상품")
+                .build();
+
+        for (int i = 0; i < itemCount; i++) {
+            order.addOrderItem(OrderItem.builder()
+                    .product(product)
+                    .quantity(1)
+                    .unitPrice(UNIT_PRICE)
+                    .build());
+        }
+        order.updateTotalPrice(UNIT_PRICE.multiply(BigDecimal.valueOf(itemCount)));
+        return order;
+    }
+
+    private ShippingInfo shippingInfo(Order order) {
+        return ShippingInfo.builder()
+                .order(order)
+                .recipientName("벤치마크")
+                .zipcode("12345")
+                .address("서울시")
+                .phoneNumber("010-0000-0000")
+                .build();
+    }
+
+    private static long average(long[] values) {
+        return (long) Arrays.stream(values).average().orElse(0);
+    }
+
+    private static long percentile(long[] values, int percentile) {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(0, index)];
+    }
+}
@@ -0,0 +1,104 @@
+package com.chae.promo.order.service;
+
+import com.chae.promo.common.soldout.SoldOutRegistry;
+import com.chae.promo.order.dto.OrderRequest;
+import com.chae.promo.order.dto.OrderResponse;
+import com.chae.promo.order.dto.PurchaseItemDTO;
+import com.chae.promo.order.entity.Order;
+import com.chae.promo.order.entity.OrderItem;
+import com.chae.promo.order.mapper.OrderMapper;
+import com.chae.promo.order.repository.OrderJdbcRepository;
+import com.chae.promo.order.repository.OrderRepository;
+import com.chae.promo.order.repository.ShippingInfoRepository;
+import com.chae.promo.order.service.redis.StockRedisService;
+import com.chae.promo.product.entity.Product;
+import com.chae.promo.product.util.ProductValidator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("OrderServiceImpl 테스트")
+class OrderServiceImplTest {
+
+    private static final long TTL = 600L;
+
+    private OrderRepository orderRepository;
+    private StockRedisService stockRedisService;
+    private ProductValidator productValidator;
+    private OrderMapper orderMapper;
+    private OrderServiceImpl orderService;
+
+    @BeforeEach
+    void setUp() {
+        orderRepository = mock(OrderRepository.class);
+        stockRedisService = mock(StockRedisService.class);
+        productValidator = mock(ProductValidator.class);
+        orderMapper = mock(OrderMapper.class);
+
+        orderService = new OrderServiceImpl(orderRepository, stockRedisService, productValidator, orderMapper,
+                mock(ShippingInfoRepository.class), mock(SoldOutRegistry.class), mock(OrderJdbcRepository.class));
+        ReflectionTestUtils.setField(orderService, "cartReservationEnabled", true);
+
+        when(orderRepository.save(any(Order.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(orderMapper.toPurchaseResponse(any(Order.class))).thenReturn(mock(OrderResponse.Purchase.class));
+
+        // placeOrder는 트랜잭션 동기화(afterCompletion)를 등록하므로 동기화를 활성화
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    private Product product(String code, long price) {
+        return Product.builder()
+                .code(code)
+                .price(BigDecimal.valueOf(price))
+                .stockQuantity(100L)
+                .build();
+    }
+
+    @Test
+    @DisplayName("장바구니 예약: 같은 상품 코드가 여러 줄이면 수량을 합산해 저장된 주문 상품 수량만큼 예약한다")
+    @SuppressWarnings("unchecked")
+    void placeOrder_cartReservation_mergesDuplicateProductCodes() {
+        // given
+        OrderRequest.Purchase request = OrderRequest.Purchase.builder()
+                .items(List.of(
+                        new PurchaseItemDTO("P-100", 2L),
+                        new PurchaseItemDTO("P-200", 1L),
+                        new PurchaseItemDTO("P-100", 3L)))
+                .build();
+        when(productValidator.getAndValidateCatalogProductMap(eq(request.getItems()), any(), any()))
+                .thenReturn(Map.of("P-100", product("P-100", 1000L), "P-200", product("P-200", 2000L)));
+
+        // when
+        orderService.placeOrder(request, "guest-1");
+
+        // then
+        ArgumentCaptor<Map<String, Long>> quantities = ArgumentCaptor.forClass(Map.class);
+        verify(stockRedisService).reserveAll(quantities.capture(), anyString(), eq(TTL));
+        assertThat(quantities.getValue()).containsExactly(Map.entry("P-100", 5L), Map.entry("P-200", 1L));
+
+        ArgumentCaptor<Order> order = ArgumentCaptor.forClass(Order.class);
+        verify(orderRepository).save(order.capture());
+        long persistedP100 = order.getValue().getOrderItems().stream()
+                .filter(item -> item.getProduct().getCode().equals("P-100"))
+                .mapToLong(OrderItem::getQuantity)
+                .sum();
+        assertThat(quantities.getValue().get("P-100")).isEqualTo(persistedP100);
+    }
+}
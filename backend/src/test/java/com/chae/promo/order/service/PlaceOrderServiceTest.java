@@ -90,7 +90,7 @@ public class PlaceOrderServiceTest {
         Map<String, Product> productMap = Map.of("P-100", p1, "P-200", p2);
 
         // 상품 검증
-        given(productValidator.getAndValidateProductMap(
+        given(productValidator.getAndValidateCatalogProductMap(
                 eq(request.getItems()),
                 any(), any())
         ).willReturn(productMap);
@@ -141,7 +141,7 @@ public class PlaceOrderServiceTest {
         Product p4 = product("P-400", 1000L, 200L);
         Map<String, Product> productMap = Map.of("P-300", p3, "P-400", p4);
 
-        given(productValidator.getAndValidateProductMap(eq(request.getItems()), any(), any()))
+        given(productValidator.getAndValidateCatalogProductMap(eq(request.getItems()), any(), any()))
                 .willReturn(productMap);
 
         // save는 정상
@@ -192,7 +192,7 @@ public class PlaceOrderServiceTest {
         Product p2 = product("P-200", 2000L, 0L);
         Map<String, Product> productMap = Map.of("P-100", p1, "P-200", p2);
 
-        given(productValidator.getAndValidateProductMap(eq(request.getItems()), any(), any()))
+        given(productValidator.getAndValidateCatalogProductMap(eq(request.getItems()), any(), any()))
                 .willReturn(productMap);
 
         // save는 받은 객체 그대로 반환
@@ -0,0 +1,68 @@
+package com.chae.promo.order.service;
+
+import com.chae.promo.common.lease.RedisLeaseManager;
+import com.chae.promo.order.scheduler.StockHoldReaperScheduler;
+import com.chae.promo.order.service.redis.StockHoldReaperService;
+import com.chae.promo.order.service.redis.StockRedisKeyManager;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("StockHoldReaperScheduler 테스트")
+class StockHoldReaperSchedulerTest {
+
+    private static final int SHARD_COUNT = 16;
+
+    private RedisLeaseManager redisLeaseManager;
+    private ZSetOperations<String, String> zSetOperations;
+    private StockHoldReaperScheduler scheduler;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        redisLeaseManager = mock(RedisLeaseManager.class);
+        StringRedisTemplate stringRedisTemplate = mock(StringRedisTemplate.class);
+        zSetOperations = mock(ZSetOperations.class);
+        when(stringRedisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        when(redisLeaseManager.getOwnerId()).thenReturn("worker-1");
+        when(redisLeaseManager.tryAcquire(anyString(), any(Duration.class))).thenReturn(true);
+
+        scheduler = new StockHoldReaperScheduler(mock(StockHoldReaperService.class), new StockRedisKeyManager(),
+                redisLeaseManager, stringRedisTemplate,
+                Clock.fixed(Instant.parse("2025-01-01T00:00:00Z"), ZoneOffset.UTC), new SimpleMeterRegistry(),
+                true, SHARD_COUNT, Duration.ofSeconds(30), Duration.ofSeconds(5), 200, 10, "");
+    }
+
+    @Test
+    @DisplayName("살아 있는 서버 수로 나눈 몫만큼만 shard lease를 획득한다")
+    void reapExpiredHolds_acquiresFairShare() {
+        when(zSetOperations.zCard(anyString())).thenReturn(4L);
+
+        scheduler.reapExpiredHolds();
+
+        verify(redisLeaseManager, times(SHARD_COUNT / 4)).tryAcquire(startsWith("stock:hold-reaper:"), any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("서버가 늘어나면 목표를 초과한 shard lease를 반납한다")
+    void reapExpiredHolds_releasesExtraShardsWhenWorkersJoin() {
+        when(zSetOperations.zCard(anyString())).thenReturn(1L);
+        scheduler.reapExpiredHolds();
+
+        when(zSetOperations.zCard(anyString())).thenReturn(2L);
+        scheduler.reapExpiredHolds();
+
+        verify(redisLeaseManager, times(SHARD_COUNT / 2)).release(startsWith("stock:hold-reaper:"));
+    }
+}
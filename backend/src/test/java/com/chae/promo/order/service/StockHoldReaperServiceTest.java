@@ -0,0 +1,134 @@
+package com.chae.promo.order.service;
+
+import com.chae.promo.common.soldout.SoldOutRegistry;
+import com.chae.promo.common.soldout.SoldOutType;
+import com.chae.promo.config.RedisScriptConfig;
+import com.chae.promo.order.service.redis.RedisScriptCatalog;
+import com.chae.promo.order.service.redis.StockHoldReaperService;
+import com.chae.promo.order.service.redis.StockRedisKeyManager;
+import com.chae.promo.order.service.redis.StockShardingPolicy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("StockHoldReaperService 테스트")
+class StockHoldReaperServiceTest {
+
+    private static final String SKU = "SKU-001";
+    private static final String HOT_SKU = "SKU-HOT";
+    private static final int BATCH_SIZE = 2;
+    private static final int BUCKET_COUNT = 4;
+
+    private final StockRedisKeyManager keyManager = new StockRedisKeyManager();
+
+    private StringRedisTemplate stringRedisTemplate;
+    private ZSetOperations<String, String> zSetOperations;
+    private SoldOutRegistry soldOutRegistry;
+    private StockHoldReaperService reaperService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        stringRedisTemplate = mock(StringRedisTemplate.class);
+        zSetOperations = mock(ZSetOperations.class);
+        when(stringRedisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        soldOutRegistry = mock(SoldOutRegistry.class);
+
+        RedisScriptCatalog scripts = new RedisScriptCatalog(
+                new DefaultRedisScript<>(RedisScriptConfig.STOCK_RESERVE_SCRIPT, Long.class),
+                new DefaultRedisScript<>(RedisScriptConfig.STOCK_RESERVE_ALL_SCRIPT, List.class),
+                new DefaultRedisScript<>(RedisScriptConfig.STOCK_CONFIRM_SCRIPT, Long.class),
+                new DefaultRedisScript<>(RedisScriptConfig.STOCK_CANCEL_SCRIPT, Long.class),
+                new DefaultRedisScript<>(RedisScriptConfig.STOCK_REAP_EXPIRED_HOLDS_SCRIPT, List.class));
+
+        reaperService = new StockHoldReaperService(stringRedisTemplate, scripts, keyManager, soldOutRegistry,
+                new StockShardingPolicy(true, BUCKET_COUNT, new String[]{HOT_SKU}));
+    }
+
+    @Test
+    @DisplayName("batch가 가득 차면 이어서 정리하고, 복구 수량을 합산해 품절 플래그를 해제한다")
+    void reap_continuesWhileBatchFull() {
+        when(zSetOperations.rangeByScore(eq(keyManager.holdIndex(SKU)), anyDouble(), eq(10_000.0), eq(0L), eq((long) BATCH_SIZE)))
+                .thenReturn(orderedSet(hold("o-1"), hold("o-2")))
+                .thenReturn(orderedSet(hold("o-3")));
+        when(stringRedisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .thenReturn(List.of(2L, 5L, 1_000L))
+                .thenReturn(List.of(1L, 3L, -1L));
+
+        StockHoldReaperService.ReapResult result = reaperService.reap(SKU, 10_000L, BATCH_SIZE, 10);
+
+        assertThat(result.reaped()).isEqualTo(3);
+        assertThat(result.released()).isEqualTo(8);
+        assertThat(result.oldestScore()).isEqualTo(-1);
+        verify(stringRedisTemplate, times(2)).execute(any(RedisScript.class), anyList(), any(Object[].class));
+        verify(soldOutRegistry).publishReplenished(SoldOutType.PRODUCT, SKU);
+    }
+
+    @Test
+    @DisplayName("조회한 만료 후보 hold 키를 스크립트 KEYS로 전달한다")
+    @SuppressWarnings("unchecked")
+    void reap_passesDueHoldsAsKeys() {
+        when(zSetOperations.rangeByScore(anyString(), anyDouble(), anyDouble(), anyLong(), anyLong()))
+                .thenReturn(orderedSet(hold("o-1")));
+        when(stringRedisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .thenReturn(List.of(1L, 2L, -1L));
+
+        reaperService.reap(SKU, 10_000L, BATCH_SIZE, 10);
+
+        ArgumentCaptor<List<String>> keysCaptor = ArgumentCaptor.forClass(List.class);
+        verify(stringRedisTemplate).execute(any(RedisScript.class), keysCaptor.capture(), any(Object[].class));
+        assertThat(keysCaptor.getValue()).containsExactly(
+                keyManager.reserved(SKU), keyManager.holdIndex(SKU), keyManager.holdQty(SKU), hold("o-1"));
+    }
+
+    @Test
+    @DisplayName("bucket SKU는 원래 SKU로 품절 플래그를 해제하고, SKU 코드에 있는 '#'은 유지한다")
+    void reap_replenishesBaseSku() {
+        when(zSetOperations.rangeByScore(anyString(), anyDouble(), anyDouble(), anyLong(), anyLong())).thenReturn(Set.of());
+        when(stringRedisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .thenReturn(List.of(1L, 1L, -1L));
+
+        reaperService.reap(HOT_SKU + "#3", 10_000L, BATCH_SIZE, 1);
+        reaperService.reap("BOX#2", 10_000L, BATCH_SIZE, 1);
+        reaperService.reap(HOT_SKU + "#9", 10_000L, BATCH_SIZE, 1);
+
+        verify(soldOutRegistry).publishReplenished(SoldOutType.PRODUCT, HOT_SKU);
+        verify(soldOutRegistry).publishReplenished(SoldOutType.PRODUCT, "BOX#2");
+        verify(soldOutRegistry).publishReplenished(SoldOutType.PRODUCT, HOT_SKU + "#9");
+    }
+
+    private String hold(String orderId) {
+        return keyManager.hold(SKU, orderId);
+    }
+
+    private Set<String> orderedSet(String... members) {
+        return new LinkedHashSet<>(List.of(members));
+    }
+
+    @Test
+    @DisplayName("정리할 hold가 없으면 품절 플래그를 건드리지 않는다")
+    void reap_nothingDue() {
+        when(zSetOperations.rangeByScore(anyString(), anyDouble(), anyDouble(), anyLong(), anyLong())).thenReturn(Set.of());
+        when(stringRedisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .thenReturn(List.of(0L, 0L, 50_000L));
+
+        StockHoldReaperService.ReapResult result = reaperService.reap(SKU, 10_000L, BATCH_SIZE, 10);
+
+        assertThat(result.reaped()).isZero();
+        assertThat(result.oldestScore()).isEqualTo(50_000L);
+        verify(soldOutRegistry, never()).publishReplenished(any(), any());
+    }
+}
@@ -0,0 +1,218 @@
+package com.chae.promo.order.service;
+
+import com.chae.promo.common.soldout.SoldOutRegistry;
+import com.chae.promo.common.soldout.SoldOutType;
+import com.chae.promo.config.RedisScriptConfig;
+import com.chae.promo.exception.CommonCustomException;
+import com.chae.promo.exception.CommonErrorCode;
+import com.chae.promo.order.service.redis.RedisScriptCatalog;
+import com.chae.promo.order.service.redis.StockRedisKeyManager;
+import com.chae.promo.order.service.redis.StockRedisService;
+import com.chae.promo.order.service.redis.StockShardingPolicy;
+import com.chae.promo.order.service.redis.StockWarmUpService;
+import io.lettuce.core.RedisCommandExecutionException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.RedisSystemException;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("StockRedisService 재고 예약 테스트")
+class StockRedisServiceTest {
+
+    private static final String ORDER_ID = "order-1";
+    private static final String HOT_SKU = "SKU-HOT";
+    private static final int BUCKET_COUNT = 4;
+
+    private StringRedisTemplate stringRedisTemplate;
+    private ValueOperations<String, String> valueOperations;
+    private SoldOutRegistry soldOutRegistry;
+    private StockWarmUpService stockWarmUpService;
+    private StockRedisService stockRedisService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        stringRedisTemplate = mock(StringRedisTemplate.class);
+        valueOperations = mock(ValueOperations.class);
+        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        soldOutRegistry = mock(SoldOutRegistry.class);
+        stockWarmUpService = mock(StockWarmUpService.class);
+
+        RedisScriptCatalog scripts = new RedisScriptCatalog(
+                new DefaultRedisScript<>(RedisScriptConfig.STOCK_RESERVE_SCRIPT, Long.class),
+                new DefaultRedisScript<>(RedisScriptConfig.STOCK_RESERVE_ALL_SCRIPT, List.class),
+                new DefaultRedisScript<>(RedisScriptConfig.STOCK_CONFIRM_SCRIPT, Long.class),
+                new DefaultRedisScript<>(RedisScriptConfig.STOCK_CANCEL_SCRIPT, Long.class),
+                new DefaultRedisScript<>(RedisScriptConfig.STOCK_REAP_EXPIRED_HOLDS_SCRIPT, List.class));
+
+        stockRedisService = new StockRedisService(stringRedisTemplate, scripts, new StockRedisKeyManager(), soldOutRegistry,
+                new StockShardingPolicy(true, BUCKET_COUNT, new String[]{HOT_SKU}), stockWarmUpService);
+    }
+
+    private Map<String, Long> cart() {
+        Map<String, Long> quantities = new LinkedHashMap<>();
+        quantities.put("SKU-1", 2L);
+        quantities.put("SKU-2", 1L);
+        quantities.put("SKU-3", 5L);
+        return quantities;
+    }
+
+    @Test
+    @DisplayName("단일 노드에서는 장바구니 전체가 스크립트 1회(Redis 1회 왕복)로 예약된다")
+    void reserveAll_singleRoundTrip() {
+        when(stringRedisTemplate.executePipelined(any(RedisCallback.class))).thenReturn(List.of(List.of(1L)));
+
+        assertThatCode(() -> stockRedisService.reserveAll(cart(), ORDER_ID, 600L)).doesNotThrowAnyException();
+
+        verify(stringRedisTemplate, times(1)).executePipelined(any(RedisCallback.class));
+    }
+
+    @Test
+    @DisplayName("한 SKU라도 품절이면 예외가 발생하고, 해당 SKU만 품절 플래그가 설정된다")
+    void reserveAll_soldOut_marksFailedSku() {
+        when(stringRedisTemplate.executePipelined(any(RedisCallback.class))).thenReturn(List.of(List.of(-6L, 2L)));
+
+        assertThatThrownBy(() -> stockRedisService.reserveAll(cart(), ORDER_ID, 600L))
+                .isInstanceOf(CommonCustomException.class)
+                .hasFieldOrPropertyWithValue("errorCode", CommonErrorCode.PRODUCT_SOLD_OUT);
+
+        verify(soldOutRegistry).markSoldOut(SoldOutType.PRODUCT, "SKU-2");
+        // 스크립트가 아무것도 반영하지 않았으므로 보상 취소 없음
+        verify(stringRedisTemplate, times(1)).executePipelined(any(RedisCallback.class));
+    }
+
+    @Test
+    @DisplayName("pipeline 실패 시 반영 여부를 알 수 없으므로 전체 SKU 예약을 취소한다")
+    void reserveAll_pipelineFailure_cancelsAll() {
+        when(stringRedisTemplate.executePipelined(any(RedisCallback.class)))
+                .thenThrow(new RedisConnectionFailureException("down"))
+                .thenReturn(List.of(-2L, -2L, -2L));
+
+        assertThatThrownBy(() -> stockRedisService.reserveAll(cart(), ORDER_ID, 600L))
+                .isInstanceOf(RuntimeException.class);
+
+        verify(stringRedisTemplate, times(2)).executePipelined(any(RedisCallback.class));
+        verify(soldOutRegistry, never()).publishReplenished(any(), any());
+    }
+
+    @Test
+    @DisplayName("보상 취소가 실패해도 원래 예외를 던지고, 취소 실패는 suppressed로 남긴다")
+    void reserveAll_cancelFailure_keepsOriginalException() {
+        RedisConnectionFailureException cancelFailure = new RedisConnectionFailureException("cancel down");
+        when(stringRedisTemplate.executePipelined(any(RedisCallback.class)))
+                .thenThrow(new RedisConnectionFailureException("down"))
+                .thenThrow(cancelFailure);
+
+        assertThatThrownBy(() -> stockRedisService.reserveAll(cart(), ORDER_ID, 600L))
+                .hasMessage("Redis 장애")
+                .satisfies(e -> assertThat(e.getSuppressed()).containsExactly(cancelFailure));
+    }
+
+    @Test
+    @DisplayName("서버에 스크립트가 없으면(NOSCRIPT) 적재한 뒤 pipeline을 1회 재실행한다")
+    void reserveAll_noScript_loadsAndRetries() {
+        when(stringRedisTemplate.executePipelined(any(RedisCallback.class)))
+                .thenThrow(new RedisSystemException("Error in execution",
+                        new RedisCommandExecutionException("NOSCRIPT No matching script. Please use EVAL.")))
+                .thenReturn(List.of(List.of(1L)));
+
+        assertThatCode(() -> stockRedisService.reserveAll(cart(), ORDER_ID, 600L)).doesNotThrowAnyException();
+
+        verify(stringRedisTemplate, times(1)).execute(any(RedisCallback.class));
+        verify(stringRedisTemplate, times(2)).executePipelined(any(RedisCallback.class));
+    }
+
+    private int preferredBucket() {
+        return Math.floorMod(ORDER_ID.hashCode(), BUCKET_COUNT);
+    }
+
+    @Test
+    @DisplayName("분할 재고: 우선 bucket이 소진되면 다음 bucket에서 예약하고 소유 bucket을 기록한다")
+    void reserve_sharded_stealsFromNextBucket() {
+        int stolen = (preferredBucket() + 1) % BUCKET_COUNT;
+        when(stringRedisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .thenReturn(-6L)
+                .thenReturn(1L);
+
+        assertThatCode(() -> stockRedisService.reserve(HOT_SKU, ORDER_ID, 1L, 600L)).doesNotThrowAnyException();
+
+        verify(stringRedisTemplate).execute(any(RedisScript.class),
+                argThat(keys -> keys.contains("stock:" + HOT_SKU + "#" + stolen + ":available")), any(Object[].class));
+        verify(valueOperations).set("hold_owner:" + HOT_SKU + ":" + ORDER_ID, String.valueOf(stolen), Duration.ofSeconds(600L));
+        verify(soldOutRegistry, never()).markSoldOut(any(), any());
+    }
+
+    @Test
+    @DisplayName("분할 재고: 모든 bucket이 소진되어야 품절 플래그가 설정된다")
+    void reserve_sharded_allBucketsSoldOut() {
+        when(stringRedisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class))).thenReturn(-6L);
+
+        assertThatThrownBy(() -> stockRedisService.reserve(HOT_SKU, ORDER_ID, 1L, 600L))
+                .isInstanceOf(CommonCustomException.class)
+                .hasFieldOrPropertyWithValue("errorCode", CommonErrorCode.PRODUCT_SOLD_OUT);
+
+        verify(stringRedisTemplate, times(BUCKET_COUNT)).execute(any(RedisScript.class), anyList(), any(Object[].class));
+        verify(soldOutRegistry).markSoldOut(SoldOutType.PRODUCT, HOT_SKU);
+    }
+
+    @Test
+    @DisplayName("분할 재고: 우선 bucket에 hold가 없으면 기록된 소유 bucket에서 확정한다")
+    void confirm_sharded_routesToOwnerBucket() {
+        int owner = (preferredBucket() + 2) % BUCKET_COUNT;
+        when(valueOperations.get("hold_owner:" + HOT_SKU + ":" + ORDER_ID)).thenReturn(String.valueOf(owner));
+        when(stringRedisTemplate.execute(any(RedisScript.class), anyList()))
+                .thenReturn(-4L)
+                .thenReturn(1L);
+
+        assertThatCode(() -> stockRedisService.confirm(HOT_SKU, ORDER_ID)).doesNotThrowAnyException();
+
+        verify(stringRedisTemplate, times(2)).execute(any(RedisScript.class), anyList());
+        verify(stringRedisTemplate).execute(any(RedisScript.class),
+                argThat(keys -> keys.contains("hold:" + HOT_SKU + "#" + owner + ":" + ORDER_ID)));
+    }
+
+    @Test
+    @DisplayName("재고 키가 없으면 DB에서 적재한 뒤 1회 재시도한다")
+    void reserve_missingStockKey_loadsAndRetries() {
+        when(stringRedisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .thenReturn(-2L)
+                .thenReturn(1L);
+        when(stockWarmUpService.loadIfAbsent("SKU-1")).thenReturn(true);
+
+        assertThatCode(() -> stockRedisService.reserve("SKU-1", ORDER_ID, 1L, 600L)).doesNotThrowAnyException();
+
+        verify(stockWarmUpService).loadIfAbsent("SKU-1");
+        verify(stringRedisTemplate, times(2)).execute(any(RedisScript.class), anyList(), any(Object[].class));
+    }
+
+    @Test
+    @DisplayName("DB에도 없는 상품이면 재시도 없이 재고 없음 예외가 발생한다")
+    void reserve_unknownProduct_throwsNotFound() {
+        when(stringRedisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class))).thenReturn(-2L);
+        when(stockWarmUpService.loadIfAbsent("SKU-404")).thenReturn(false);
+
+        assertThatThrownBy(() -> stockRedisService.reserve("SKU-404", ORDER_ID, 1L, 600L))
+                .isInstanceOf(CommonCustomException.class)
+                .hasFieldOrPropertyWithValue("errorCode", CommonErrorCode.PRODUCT_STOCK_NOT_FOUND);
+
+        verify(stringRedisTemplate, times(1)).execute(any(RedisScript.class), anyList(), any(Object[].class));
+    }
+}
@@ -0,0 +1,104 @@
+package com.chae.promo.order.service;
+
+import com.chae.promo.order.service.redis.StockRedisKeyManager;
+import com.chae.promo.order.service.redis.StockShardingPolicy;
+import com.chae.promo.order.service.redis.StockWarmUpService;
+import com.chae.promo.product.dto.ProductStockDTO;
+import com.chae.promo.product.repository.ProductBulkRepository;
+import com.chae.promo.product.repository.ProductStockLedgerRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("StockWarmUpService 테스트")
+class StockWarmUpServiceTest {
+
+    private static final int PAGE_SIZE = 2;
+
+    private StringRedisTemplate stringRedisTemplate;
+    private ProductBulkRepository productBulkRepository;
+    private ProductStockLedgerRepository productStockLedgerRepository;
+    private StockWarmUpService warmUpService;
+
+    @BeforeEach
+    void setUp() {
+        stringRedisTemplate = mock(StringRedisTemplate.class);
+        productBulkRepository = mock(ProductBulkRepository.class);
+        productStockLedgerRepository = mock(ProductStockLedgerRepository.class);
+
+        warmUpService = warmUpService(false);
+    }
+
+    private StockWarmUpService warmUpService(boolean ledgerEnabled) {
+        return new StockWarmUpService(stringRedisTemplate, productBulkRepository, productStockLedgerRepository,
+                new StockRedisKeyManager(), new StockShardingPolicy(false, 4, new String[0]), ledgerEnabled, false, PAGE_SIZE);
+    }
+
+    private ProductStockDTO stock(long id) {
+        return new ProductStockDTO(id, "SKU-" + id, 10L);
+    }
+
+    @Test
+    @DisplayName("마지막 id 기준으로 다음 페이지를 조회하고, 새로 적재한 키 수를 집계한다")
+    void warmUpAll_keysetPaging() {
+        when(productBulkRepository.findStockPageAfter(0L, PAGE_SIZE)).thenReturn(List.of(stock(1), stock(3)));
+        when(productBulkRepository.findStockPageAfter(3L, PAGE_SIZE)).thenReturn(List.of(stock(7)));
+        when(stringRedisTemplate.executePipelined(any(RedisCallback.class)))
+                .thenReturn(List.of(true, false)) // SKU-3은 이미 존재
+                .thenReturn(List.of(true));
+
+        StockWarmUpService.WarmUpResult result = warmUpService.warmUpAll();
+
+        assertThat(result.scanned()).isEqualTo(3);
+        assertThat(result.written()).isEqualTo(2);
+        verify(productBulkRepository, times(2)).findStockPageAfter(anyLong(), anyInt());
+        verify(stringRedisTemplate, times(2)).executePipelined(any(RedisCallback.class));
+    }
+
+    @Test
+    @DisplayName("ledger 모드에서는 products 재고에 남은 원장 합계를 더해 적재한다")
+    void loadIfAbsent_ledgerMode_usesCurrentStock() {
+        StockWarmUpService ledgerWarmUpService = warmUpService(true);
+        when(productBulkRepository.findStockByCode("SKU-1")).thenReturn(Optional.of(stock(1)));
+        when(productStockLedgerRepository.findCurrentStock(List.of(1L))).thenReturn(Map.of(1L, 4L));
+        when(stringRedisTemplate.executePipelined(any(RedisCallback.class))).thenReturn(List.of(true));
+
+        assertThat(ledgerWarmUpService.loadIfAbsent("SKU-1")).isTrue();
+
+        ArgumentCaptor<RedisCallback<Object>> callbackCaptor = ArgumentCaptor.forClass(RedisCallback.class);
+        verify(stringRedisTemplate).executePipelined(callbackCaptor.capture());
+
+        RedisConnection connection = mock(RedisConnection.class);
+        RedisStringCommands stringCommands = mock(RedisStringCommands.class);
+        when(connection.stringCommands()).thenReturn(stringCommands);
+        callbackCaptor.getValue().doInRedis(connection);
+
+        verify(stringCommands).set(aryEq("stock:SKU-1:available".getBytes(StandardCharsets.UTF_8)),
+                aryEq("4".getBytes(StandardCharsets.UTF_8)), any(Expiration.class), eq(RedisStringCommands.SetOption.SET_IF_ABSENT));
+    }
+
+    @Test
+    @DisplayName("DB에 없는 상품은 적재하지 않는다")
+    void loadIfAbsent_unknownProduct() {
+        when(productBulkRepository.findStockByCode("SKU-404")).thenReturn(Optional.empty());
+
+        assertThat(warmUpService.loadIfAbsent("SKU-404")).isFalse();
+
+        verify(stringRedisTemplate, never()).executePipelined(any(RedisCallback.class));
+    }
+}
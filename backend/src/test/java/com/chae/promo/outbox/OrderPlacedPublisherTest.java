@@ -0,0 +1,57 @@
+package com.chae.promo.outbox;
+
+import com.chae.promo.common.kafka.RawJsonKafkaSender;
+import com.chae.promo.common.kafka.TopicNames;
+import com.chae.promo.order.event.OrderPlacedEvent;
+import com.chae.promo.order.event.OrderPlacedEventPublisher;
+import com.chae.promo.outbox.service.publisher.OrderPlacedPublisher;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.support.SendResult;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.*;
+
+@DisplayName("OrderPlacedPublisher 테스트")
+class OrderPlacedPublisherTest {
+
+    private static final String EVENT_ID = "4f1c2a9e-0000-4000-8000-000000000001";
+    private static final String PAYLOAD_JSON =
+            "{\"eventId\":\"" + EVENT_ID + "\",\"orderPublicId\":\"O-1\",\"items\":[]}";
+
+    private ObjectMapper objectMapper;
+    private OrderPlacedEventPublisher orderPlacedEventPublisher;
+    private RawJsonKafkaSender rawJsonKafkaSender;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = mock(ObjectMapper.class);
+        orderPlacedEventPublisher = mock(OrderPlacedEventPublisher.class);
+        rawJsonKafkaSender = mock(RawJsonKafkaSender.class);
+    }
+
+    @Test
+    @DisplayName("raw 모드(기본)에서는 저장된 payload를 역직렬화하지 않고 eventId를 key로 그대로 전송한다")
+    @SuppressWarnings("unchecked")
+    void publishAsync_raw_passesStoredPayload() throws Exception {
+        OrderPlacedPublisher publisher =
+                new OrderPlacedPublisher(objectMapper, orderPlacedEventPublisher, rawJsonKafkaSender, true);
+        when(rawJsonKafkaSender.send(anyString(), anyString(), anyString(), any()))
+                .thenReturn(CompletableFuture.completedFuture(mock(SendResult.class)));
+
+        CompletableFuture<?> result = publisher.publishAsync(EVENT_ID, PAYLOAD_JSON);
+
+        assertThat(result).isCompleted();
+        verify(rawJsonKafkaSender).send(eq(TopicNames.ORDER_PLACED), eq(EVENT_ID), same(PAYLOAD_JSON),
+                eq(OrderPlacedEvent.class));
+        verifyNoInteractions(objectMapper, orderPlacedEventPublisher);
+    }
+}
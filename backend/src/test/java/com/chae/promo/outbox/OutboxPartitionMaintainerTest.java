@@ -0,0 +1,128 @@
+package com.chae.promo.outbox;
+
+import com.chae.promo.common.lease.RedisLeaseManager;
+import com.chae.promo.outbox.repository.EventOutboxPartitionRepository;
+import com.chae.promo.outbox.repository.EventOutboxPartitionRepository.OutboxPartition;
+import com.chae.promo.outbox.scheduler.OutboxPartitionMaintainer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("OutboxPartitionMaintainer 테스트")
+class OutboxPartitionMaintainerTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2026, 10, 18);
+
+    private EventOutboxPartitionRepository partitionRepository;
+    private RedisLeaseManager redisLeaseManager;
+    private SimpleMeterRegistry meterRegistry;
+    private OutboxPartitionMaintainer maintainer;
+
+    @BeforeEach
+    void setUp() {
+        partitionRepository = mock(EventOutboxPartitionRepository.class);
+        redisLeaseManager = mock(RedisLeaseManager.class);
+        when(redisLeaseManager.tryAcquire(anyString(), any(Duration.class))).thenReturn(true);
+
+        maintainer = maintainer(true);
+    }
+
+    // 지표는 마지막으로 만든 maintainer의 registry에서 확인
+    private OutboxPartitionMaintainer maintainer(boolean retentionEnabled) {
+        meterRegistry = new SimpleMeterRegistry();
+        Clock clock = Clock.fixed(Instant.parse("2026-10-18T03:00:00Z"), ZoneOffset.UTC);
+        return new OutboxPartitionMaintainer(partitionRepository, redisLeaseManager, clock,
+                meterRegistry, retentionEnabled, Duration.ofMinutes(5), 7, 2, false);
+    }
+
+    @Test
+    @DisplayName("마지막 파티션 다음 날부터 partitions-ahead일까지 파티션을 생성한다")
+    void maintain_createsFuturePartitions() {
+        when(partitionRepository.findPartitions()).thenReturn(List.of(
+                new OutboxPartition("p20261018", TODAY.plusDays(1), 100),
+                new OutboxPartition("p_future", null, 0)));
+
+        maintainer.maintain();
+
+        verify(partitionRepository).addDailyPartitions(List.of(TODAY.plusDays(1), TODAY.plusDays(2)));
+        verify(partitionRepository, never()).dropPartition(anyString());
+    }
+
+    @Test
+    @DisplayName("보관 기간이 지난 파티션은 미발행 row가 없을 때만 제거한다")
+    void maintain_dropsExpiredPartitionsWithoutUnsentRows() {
+        when(partitionRepository.findPartitions()).thenReturn(List.of(
+                new OutboxPartition("p20261009", LocalDate.of(2026, 10, 10), 50),
+                new OutboxPartition("p20261010", LocalDate.of(2026, 10, 11), 60),
+                new OutboxPartition("p20261011", LocalDate.of(2026, 10, 12), 70),
+                new OutboxPartition("p20261020", TODAY.plusDays(3), 0),
+                new OutboxPartition("p_future", null, 0)));
+        when(partitionRepository.countUnsent("p20261009")).thenReturn(0L);
+        when(partitionRepository.countUnsent("p20261010")).thenReturn(3L);
+
+        maintainer.maintain();
+
+        verify(partitionRepository).dropPartition("p20261009");
+        verify(partitionRepository, never()).dropPartition("p20261010");
+        verify(partitionRepository, never()).dropPartition("p20261011"); // 보관 기간 이내
+        verify(partitionRepository, never()).addDailyPartitions(anyList());
+        verify(partitionRepository, never()).archive(anyString());
+    }
+
+    @Test
+    @DisplayName("retention이 꺼져 있어도 파티션은 생성하고, 보관 기간이 지난 파티션은 제거하지 않는다")
+    void maintain_retentionDisabled_createsButNeverDrops() {
+        OutboxPartitionMaintainer disabled = maintainer(false);
+        when(partitionRepository.findPartitions()).thenReturn(List.of(
+                new OutboxPartition("p20261009", LocalDate.of(2026, 10, 10), 50),
+                new OutboxPartition("p20261018", TODAY.plusDays(1), 100),
+                new OutboxPartition("p_future", null, 0)));
+
+        disabled.maintain();
+
+        verify(partitionRepository).addDailyPartitions(List.of(TODAY.plusDays(1), TODAY.plusDays(2)));
+        verify(partitionRepository, never()).countUnsent(anyString());
+        verify(partitionRepository, never()).dropPartition(anyString());
+    }
+
+    @Test
+    @DisplayName("p_future에 row가 있으면 전체 복사가 되므로 분할하지 않는다")
+    void maintain_nonEmptyFuturePartition_refusesReorganize() {
+        when(partitionRepository.findPartitions()).thenReturn(List.of(
+                new OutboxPartition("p20261018", TODAY.plusDays(1), 100),
+                new OutboxPartition("p_future", null, 5_000)));
+        when(partitionRepository.hasRows("p_future")).thenReturn(true);
+
+        maintainer.maintain();
+
+        verify(partitionRepository, never()).addDailyPartitions(anyList());
+    }
+
+    @Test
+    @DisplayName("retention이 꺼져 있어도 지표를 갱신하고, p_future row 수를 노출한다")
+    void refreshMetrics_retentionDisabled_updatesGauges() {
+        OutboxPartitionMaintainer disabled = maintainer(false);
+        when(partitionRepository.findPartitions()).thenReturn(List.of(
+                new OutboxPartition("p20261018", TODAY.plusDays(1), 100),
+                new OutboxPartition("p_future", null, 7)));
+        when(partitionRepository.findOldestUnsentCreatedAt()).thenReturn(Optional.empty());
+
+        disabled.refreshMetrics();
+
+        assertThat(meterRegistry.get("outbox.table.rows").gauge().value()).isEqualTo(107.0);
+        assertThat(meterRegistry.get("outbox.partition.future.rows").gauge().value()).isEqualTo(7.0);
+    }
+}
@@ -0,0 +1,81 @@
+package com.chae.promo.outbox;
+
+import com.chae.promo.common.lease.RedisLeaseManager;
+import com.chae.promo.outbox.service.OutboxShardCoordinator;
+import com.chae.promo.outbox.service.OutboxShardPolicy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("OutboxShardCoordinator 테스트")
+class OutboxShardCoordinatorTest {
+
+    private static final int SHARD_COUNT = 4;
+
+    private RedisLeaseManager redisLeaseManager;
+    private ZSetOperations<String, String> zSetOperations;
+    private OutboxShardCoordinator coordinator;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        redisLeaseManager = mock(RedisLeaseManager.class);
+        StringRedisTemplate stringRedisTemplate = mock(StringRedisTemplate.class);
+        zSetOperations = mock(ZSetOperations.class);
+        when(stringRedisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        when(redisLeaseManager.getOwnerId()).thenReturn("worker-1");
+
+        coordinator = new OutboxShardCoordinator(redisLeaseManager, stringRedisTemplate,
+                new OutboxShardPolicy(SHARD_COUNT),
+                Clock.fixed(Instant.parse("2025-01-01T00:00:00Z"), ZoneOffset.UTC),
+                true, Duration.ofSeconds(15), "");
+    }
+
+    @Test
+    @DisplayName("살아 있는 서버 수로 나눈 몫만큼만 shard lease를 보유한다")
+    void rebalance_acquiresFairShare() {
+        when(zSetOperations.zCard(anyString())).thenReturn(2L);
+        when(redisLeaseManager.tryAcquire(anyString(), any(Duration.class))).thenReturn(true);
+
+        coordinator.rebalance();
+
+        assertThat(coordinator.getOwnedShards()).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("서버가 늘어나면 목표를 초과한 shard lease를 반납한다")
+    void rebalance_releasesExtraShardsWhenWorkersJoin() {
+        when(redisLeaseManager.tryAcquire(anyString(), any(Duration.class))).thenReturn(true);
+        when(zSetOperations.zCard(anyString())).thenReturn(1L);
+        coordinator.rebalance();
+        assertThat(coordinator.getOwnedShards()).hasSize(SHARD_COUNT);
+
+        when(zSetOperations.zCard(anyString())).thenReturn(4L);
+        coordinator.rebalance();
+
+        assertThat(coordinator.getOwnedShards()).hasSize(1);
+        verify(redisLeaseManager, times(3)).release(startsWith("outbox:shard:"));
+    }
+
+    @Test
+    @DisplayName("같은 aggregate는 항상 같은 shard에 배정된다")
+    void shardOf_isStablePerAggregate() {
+        OutboxShardPolicy policy = new OutboxShardPolicy(16);
+
+        int shard = policy.shardOf("order-1");
+
+        assertThat(policy.shardOf("order-1")).isEqualTo(shard);
+        assertThat(shard).isBetween(0, 15);
+    }
+}
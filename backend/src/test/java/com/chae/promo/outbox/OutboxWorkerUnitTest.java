@@ -1,6 +1,7 @@
 package com.chae.promo.outbox;
 
 import com.chae.promo.outbox.entity.EventOutbox;
+import com.chae.promo.outbox.repository.EventOutboxBulkRepository;
 import com.chae.promo.outbox.repository.EventOutboxRepository;
 import com.chae.promo.outbox.service.DomainOutboxPublisher;
 import com.chae.promo.outbox.service.OutboxWorker;
@@ -12,12 +13,17 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.Clock;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.Mockito.never;
@@ -28,6 +34,9 @@ public class OutboxWorkerUnitTest {
     @Mock
     private EventOutboxRepository eventOutboxRepository;
 
+    @Mock
+    private EventOutboxBulkRepository eventOutboxBulkRepository;
+
     @Mock
     private DomainOutboxPublisher orderPlacedPublisher;
 
@@ -42,13 +51,16 @@ public class OutboxWorkerUnitTest {
     @BeforeEach
     void setUp() {
         clock = Clock.systemUTC();
+        given(orderPlacedPublisher.eventType()).willReturn("order.placed");
+        given(eventOpenPublisher.eventType()).willReturn("event.open");
         List<DomainOutboxPublisher> publishers = List.of(orderPlacedPublisher, eventOpenPublisher);
-        outboxWorker = new OutboxWorker(eventOutboxRepository, clock, publishers);
+        outboxWorker = new OutboxWorker(eventOutboxRepository, eventOutboxBulkRepository, clock, publishers,
+                Duration.ofMillis(200));
     }
 
 
     @Test
-    @DisplayName("supports() 결과에 따라 올바른 퍼블리셔만 호출된다")
+    @DisplayName("eventType()으로 등록된 퍼블리셔만 호출된다")
     void publishBatch_routesToCorrectPublisherBasedOnType() throws Exception {
         // given
         EventOutbox orderPlacedOutbox = EventOutbox.builder()
@@ -70,24 +82,78 @@ public class OutboxWorkerUnitTest {
         given(eventOutboxRepository.lockAndFetch(any(LocalDateTime.class), anyInt()))
                 .willReturn(List.of(orderPlacedOutbox, eventOpenOutbox));
 
-        // supports 매칭
-        given(orderPlacedPublisher.supports("order.placed")).willReturn(true);
-        given(orderPlacedPublisher.supports("event.open")).willReturn(false);
-
-        given(eventOpenPublisher.supports("event.open")).willReturn(true);
+        given(orderPlacedPublisher.publishAsync("order-placed-event-id", "{}"))
+                .willAnswer(inv -> CompletableFuture.completedFuture(null));
+        given(eventOpenPublisher.publishAsync("event-open-event-id", "{}"))
+                .willAnswer(inv -> CompletableFuture.completedFuture(null));
 
         // when
         outboxWorker.publishBatch();
 
         // then
-        then(orderPlacedPublisher).should(times(1)).publish("{}");
-        then(eventOpenPublisher).should(times(1)).publish("{}");
+        then(orderPlacedPublisher).should(times(1)).publishAsync("order-placed-event-id", "{}");
+        then(eventOpenPublisher).should(times(1)).publishAsync("event-open-event-id", "{}");
 
         // 반대로 호출되지 않았는지도 확인
-        then(orderPlacedPublisher).should(never()).publish("{\"wrong\":\"eventOpen\"}");
-        then(eventOpenPublisher).should(never()).publish("{\"wrong\":\"orderPlaced\"}");
+        then(orderPlacedPublisher).should(never()).publishAsync(eq("event-open-event-id"), any());
+        then(eventOpenPublisher).should(never()).publishAsync(eq("order-placed-event-id"), any());
 
         assertThat(orderPlacedOutbox.getStatus()).isEqualTo(EventOutbox.Status.SENT);
         assertThat(eventOpenOutbox.getStatus()).isEqualTo(EventOutbox.Status.SENT);
+
+        // SENT는 한 번에 반영
+        then(eventOutboxBulkRepository).should(times(1)).markSent(anyList(), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("전송은 한꺼번에 시작하고, 실패/시간 초과 row만 FAILED로 일괄 반영한다")
+    void publishBatch_sendsConcurrently_andMarksFailuresInBulk() throws Exception {
+        // given
+        EventOutbox sent = outbox("sent-event-id");
+        EventOutbox rejected = outbox("rejected-event-id");
+        EventOutbox pending = outbox("pending-event-id");
+
+        given(eventOutboxRepository.lockAndFetch(any(LocalDateTime.class), anyInt()))
+                .willReturn(List.of(sent, rejected, pending));
+
+        CompletableFuture<Object> neverAcked = new CompletableFuture<>();
+        given(orderPlacedPublisher.publishAsync(any(), any()))
+                .willAnswer(inv -> CompletableFuture.completedFuture(null))
+                .willAnswer(inv -> CompletableFuture.failedFuture(new IllegalStateException("broker down")))
+                .willAnswer(inv -> neverAcked);
+
+        // when
+        outboxWorker.publishBatch();
+
+        // then
+        assertThat(sent.getStatus()).isEqualTo(EventOutbox.Status.SENT);
+        assertThat(rejected.getStatus()).isEqualTo(EventOutbox.Status.FAILED);
+        assertThat(rejected.getLastError()).contains("broker down");
+        assertThat(pending.getStatus()).isEqualTo(EventOutbox.Status.FAILED);
+        assertThat(pending.getLastError()).contains("TimeoutException");
+
+        then(eventOutboxBulkRepository).should(times(1)).markSent(anyList(), any(LocalDateTime.class));
+        then(eventOutboxBulkRepository).should(times(1))
+                .markFailed(eq(List.of(rejected, pending)), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("같은 type의 퍼블리셔가 둘 이상이면 기동 시 실패한다")
+    void registry_rejectsDuplicateType() {
+        given(eventOpenPublisher.eventType()).willReturn("order.placed");
+
+        assertThatThrownBy(() -> new OutboxWorker(eventOutboxRepository, eventOutboxBulkRepository, clock,
+                List.of(orderPlacedPublisher, eventOpenPublisher), Duration.ofMillis(200)))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private EventOutbox outbox(String eventId) {
+        return EventOutbox.builder()
+                .eventId(eventId)
+                .aggregateId("agg-" + eventId)
+                .type("order.placed")
+                .status(EventOutbox.Status.PENDING)
+                .payloadJson("{\"eventId\":\"" + eventId + "\"}")
+                .build();
     }
 }
@@ -0,0 +1,110 @@
+package com.chae.promo.outbox.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@DisplayName("OutboxDispatcher 테스트")
+class OutboxDispatcherTest {
+
+    private static final Duration MIN_INTERVAL = Duration.ofMillis(200);
+    private static final Duration MAX_INTERVAL = Duration.ofSeconds(1);
+
+    private OutboxWorker outboxWorker;
+    private OutboxShardCoordinator outboxShardCoordinator;
+    private OutboxDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        outboxWorker = mock(OutboxWorker.class);
+        outboxShardCoordinator = mock(OutboxShardCoordinator.class);
+        when(outboxShardCoordinator.isEnabled()).thenReturn(false);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (dispatcher != null) {
+            dispatcher.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("배치가 가득 차면 대기 없이 바로 이어서 발행한다")
+    void nextDelay_fullBatch_noDelay() {
+        dispatcher = new OutboxDispatcher(outboxWorker, outboxShardCoordinator, false, MIN_INTERVAL, MAX_INTERVAL);
+
+        assertThat(dispatcher.nextDelay(OutboxWorker.BATCH)).isZero();
+    }
+
+    @Test
+    @DisplayName("배치가 일부만 차면 min-interval 뒤에 발행한다")
+    void nextDelay_partialBatch_minInterval() {
+        dispatcher = new OutboxDispatcher(outboxWorker, outboxShardCoordinator, false, MIN_INTERVAL, MAX_INTERVAL);
+
+        assertThat(dispatcher.nextDelay(1)).isEqualTo(200);
+    }
+
+    @Test
+    @DisplayName("빈 배치가 이어지면 대기 시간을 2배씩 늘려 max-interval에서 멈추고, row가 조회되면 다시 min-interval로 돌아간다")
+    void nextDelay_emptyBatch_backsOffToMax() {
+        dispatcher = new OutboxDispatcher(outboxWorker, outboxShardCoordinator, false, MIN_INTERVAL, MAX_INTERVAL);
+
+        assertThat(dispatcher.nextDelay(0)).isEqualTo(200);
+        assertThat(dispatcher.nextDelay(0)).isEqualTo(400);
+        assertThat(dispatcher.nextDelay(0)).isEqualTo(800);
+        assertThat(dispatcher.nextDelay(0)).isEqualTo(1000);
+        assertThat(dispatcher.nextDelay(0)).isEqualTo(1000);
+
+        dispatcher.nextDelay(1);
+        assertThat(dispatcher.nextDelay(0)).isEqualTo(200);
+    }
+
+    @Test
+    @DisplayName("발행 중에 여러 번 wakeUp을 호출해도 permit 1개로 합쳐져 한 번만 다시 발행한다")
+    void wakeUp_coalescesIntoOnePermit() throws InterruptedException {
+        // 대기 시간을 길게 두어 wakeUp 신호가 아니면 다시 발행하지 않도록 함
+        dispatcher = new OutboxDispatcher(outboxWorker, outboxShardCoordinator, true,
+                Duration.ofSeconds(30), Duration.ofSeconds(30));
+
+        CountDownLatch publishing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(outboxWorker.publishBatch())
+                .thenAnswer(invocation -> {
+                    publishing.countDown();
+                    release.await(5, TimeUnit.SECONDS);
+                    return 0;
+                })
+                .thenReturn(0);
+
+        dispatcher.start();
+        assertThat(publishing.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // 첫 발행이 끝나기 전에 들어온 wakeUp 100회
+        for (int i = 0; i < 100; i++) {
+            dispatcher.wakeUp();
+        }
+        release.countDown();
+
+        verify(outboxWorker, timeout(2_000).times(2)).publishBatch();
+        verify(outboxWorker, after(500).times(2)).publishBatch();
+    }
+
+    @Test
+    @DisplayName("dispatcher를 끄면 스레드를 시작하지 않고 wakeUp도 무시한다")
+    void disabled_doesNotStart() {
+        dispatcher = new OutboxDispatcher(outboxWorker, outboxShardCoordinator, false, MIN_INTERVAL, MAX_INTERVAL);
+
+        dispatcher.start();
+        dispatcher.wakeUp();
+
+        verify(outboxWorker, after(300).never()).publishBatch();
+    }
+}
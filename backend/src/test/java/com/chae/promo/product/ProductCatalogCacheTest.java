@@ -0,0 +1,87 @@
+package com.chae.promo.product;
+
+import com.chae.promo.product.cache.ProductCatalogCache;
+import com.chae.promo.product.dto.ProductCatalogDTO;
+import com.chae.promo.product.entity.ProductStatus;
+import com.chae.promo.product.repository.ProductBulkRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@DisplayName("ProductCatalogCache 테스트")
+class ProductCatalogCacheTest {
+
+    private ProductBulkRepository productBulkRepository;
+    private ProductCatalogCache catalogCache;
+
+    @BeforeEach
+    void setUp() {
+        productBulkRepository = mock(ProductBulkRepository.class);
+        catalogCache = new ProductCatalogCache(productBulkRepository, 100, 1000, Duration.ofMinutes(1));
+    }
+
+    private ProductCatalogDTO product(long id, String code) {
+        return new ProductCatalogDTO(id, code, "상품 " + id, BigDecimal.valueOf(1000), ProductStatus.FOR_SALE, 0L);
+    }
+
+    @Test
+    @DisplayName("카탈로그 버전이 같으면 전체를 다시 읽지 않는다")
+    void refresh_sameSignature_skipsReload() {
+        when(productBulkRepository.findCatalogSignature()).thenReturn("1:123");
+        when(productBulkRepository.findCatalogPageAfter(0L, 100)).thenReturn(List.of(product(1, "P-1")));
+
+        catalogCache.refresh();
+        catalogCache.refresh();
+
+        verify(productBulkRepository, times(1)).findCatalogPageAfter(anyLong(), anyInt());
+        assertThat(catalogCache.getVersion()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("스냅샷에 있는 상품은 DB 조회 없이, 없는 상품만 DB에서 조회한다")
+    void getAll_loadsOnlyMisses() {
+        when(productBulkRepository.findCatalogSignature()).thenReturn("1:123");
+        when(productBulkRepository.findCatalogPageAfter(0L, 100)).thenReturn(List.of(product(1, "P-1")));
+        when(productBulkRepository.findCatalogByCodeIn(Set.of("P-2"))).thenReturn(List.of(product(2, "P-2")));
+        catalogCache.refresh();
+
+        Map<String, ProductCatalogDTO> result = catalogCache.getAll(List.of("P-1", "P-2"));
+
+        assertThat(result).containsOnlyKeys("P-1", "P-2");
+
+        // 조회한 상품은 스냅샷에 추가되어 다음 요청에서는 DB 조회 없음
+        catalogCache.getAll(List.of("P-2"));
+        verify(productBulkRepository, times(1)).findCatalogByCodeIn(anyCollection());
+    }
+
+    @Test
+    @DisplayName("DB에도 없는 코드는 기억해 두고 카탈로그가 바뀌기 전까지 다시 조회하지 않는다")
+    void getAll_unknownCode_negativelyCached() {
+        when(productBulkRepository.findCatalogSignature()).thenReturn("1:123");
+        when(productBulkRepository.findCatalogPageAfter(0L, 100)).thenReturn(List.of(product(1, "P-1")));
+        when(productBulkRepository.findCatalogByCodeIn(anyCollection())).thenReturn(List.of());
+        catalogCache.refresh();
+
+        assertThat(catalogCache.getAll(List.of("NO-SUCH"))).isEmpty();
+        assertThat(catalogCache.getAll(List.of("NO-SUCH"))).isEmpty();
+        verify(productBulkRepository, times(1)).findCatalogByCodeIn(anyCollection());
+
+        // 카탈로그 버전이 바뀌면 없는 코드 목록 초기화
+        when(productBulkRepository.findCatalogSignature()).thenReturn("2:456");
+        catalogCache.refresh();
+        catalogCache.getAll(List.of("NO-SUCH"));
+        verify(productBulkRepository, times(2)).findCatalogByCodeIn(anyCollection());
+    }
+}
@@ -0,0 +1,97 @@
+package com.chae.promo.product;
+
+import com.chae.promo.order.entity.UserType;
+import com.chae.promo.product.entity.ProductStockAudit;
+import com.chae.promo.product.repository.ProductStockAuditBulkRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("ProductStockAuditBulkRepository 테스트")
+class ProductStockAuditBulkRepositoryTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private ProductStockAuditBulkRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        repository = new ProductStockAuditBulkRepository(jdbcTemplate);
+        when(jdbcTemplate.update(anyString(), any(Object[].class)))
+                .thenAnswer(invocation -> (invocation.getArguments().length - 1) / 10);
+    }
+
+    private ProductStockAudit audit(long productId) {
+        return ProductStockAudit.builder()
+                .productId(productId)
+                .changeType(ProductStockAudit.ChangeType.DECREASE)
+                .changeQuantity(2)
+                .currentStock(98)
+                .changedByUserId("U1")
+                .userType(UserType.MEMBER)
+                .orderPublicId("O-" + productId)
+                .eventId("E-" + productId)
+                .description("주문으로 인한 재고 감소")
+                .build();
+    }
+
+    private List<ProductStockAudit> audits(int count) {
+        return IntStream.rangeClosed(1, count).mapToObj(this::audit).toList();
+    }
+
+    @Test
+    @DisplayName("audit 목록을 한 statement의 multi-row INSERT로 저장하고, 컬럼 순서대로 파라미터를 바인딩한다")
+    void bulkInsert_singleStatement() {
+        int affected = repository.bulkInsert(audits(2));
+
+        assertThat(affected).isEqualTo(2);
+
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<Object[]> args = ArgumentCaptor.forClass(Object[].class);
+        verify(jdbcTemplate, times(1)).update(sql.capture(), args.capture());
+
+        assertThat(sql.getValue())
+                .startsWith("INSERT INTO product_stock_audit (product_id, change_type, change_quantity, current_stock,")
+                .endsWith("(?, ?, ?, ?, ?, ?, ?, ?, ?, ?), (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)");
+
+        Object[] params = args.getValue();
+        assertThat(params).hasSize(20);
+        assertThat(List.of(params).subList(0, 9)).containsExactly(
+                1L, "DECREASE", 2L, 98L, "U1", "MEMBER", "O-1", "E-1", "주문으로 인한 재고 감소");
+        assertThat(params[9]).isInstanceOf(Timestamp.class);
+        assertThat(params[10]).isEqualTo(2L);
+        // 같은 호출의 row는 created_at이 같음
+        assertThat(params[19]).isEqualTo(params[9]);
+    }
+
+    @Test
+    @DisplayName("500건을 넘으면 500건 단위 statement로 나눠 저장한다")
+    void bulkInsert_chunksBy500() {
+        int affected = repository.bulkInsert(audits(1001));
+
+        assertThat(affected).isEqualTo(1001);
+
+        ArgumentCaptor<Object[]> args = ArgumentCaptor.forClass(Object[].class);
+        verify(jdbcTemplate, times(3)).update(anyString(), args.capture());
+        assertThat(args.getAllValues()).extracting(params -> params.length).containsExactly(5000, 5000, 10);
+        assertThat(args.getAllValues().get(2)[0]).isEqualTo(1001L);
+    }
+
+    @Test
+    @DisplayName("빈 목록은 INSERT를 실행하지 않는다")
+    void bulkInsert_empty() {
+        assertThat(repository.bulkInsert(List.of())).isZero();
+
+        verifyNoInteractions(jdbcTemplate);
+    }
+}
@@ -0,0 +1,77 @@
+package com.chae.promo.product;
+
+import com.chae.promo.product.repository.ProductStockLedgerRepository;
+import com.chae.promo.product.service.ProductStockLedgerCompactionService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@DisplayName("ProductStockLedgerCompactionService 테스트")
+class ProductStockLedgerCompactionServiceTest {
+
+    private static final long PRODUCT_ID = 1L;
+
+    private ProductStockLedgerRepository ledgerRepository;
+    private SimpleMeterRegistry meterRegistry;
+    private ProductStockLedgerCompactionService compactionService;
+
+    @BeforeEach
+    void setUp() {
+        ledgerRepository = mock(ProductStockLedgerRepository.class);
+        meterRegistry = new SimpleMeterRegistry();
+        compactionService = new ProductStockLedgerCompactionService(ledgerRepository, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("상품 row lock을 잡고 원장 합계를 products 재고에 더한 뒤, 반영한 원장을 삭제한다")
+    void compact_foldsLedgerIntoProductStock() {
+        when(ledgerRepository.lockProductStock(PRODUCT_ID)).thenReturn(100L);
+        when(ledgerRepository.findLedger(PRODUCT_ID, 1000))
+                .thenReturn(List.of(new long[]{10L, -3L}, new long[]{11L, -2L}));
+        when(ledgerRepository.deleteLedger(PRODUCT_ID, List.of(10L, 11L))).thenReturn(2);
+
+        int compacted = compactionService.compact(PRODUCT_ID, 1000);
+
+        assertThat(compacted).isEqualTo(2);
+        // 상품 row lock을 원장 조회보다 먼저 잡음 (원장 append와 같은 잠금 순서)
+        InOrder inOrder = inOrder(ledgerRepository);
+        inOrder.verify(ledgerRepository).lockProductStock(PRODUCT_ID);
+        inOrder.verify(ledgerRepository).findLedger(PRODUCT_ID, 1000);
+        verify(ledgerRepository).syncProductStock(PRODUCT_ID, 95L);
+    }
+
+    @Test
+    @DisplayName("초과 판매로 음수가 되면 0으로 보정하지 않고 그대로 기록하며 지표를 올린다")
+    void compact_oversold_writesRealValue() {
+        when(ledgerRepository.lockProductStock(PRODUCT_ID)).thenReturn(1L);
+        when(ledgerRepository.findLedger(PRODUCT_ID, 1000)).thenReturn(List.<long[]>of(new long[]{10L, -3L}));
+        when(ledgerRepository.deleteLedger(PRODUCT_ID, List.of(10L))).thenReturn(1);
+
+        compactionService.compact(PRODUCT_ID, 1000);
+
+        verify(ledgerRepository).syncProductStock(PRODUCT_ID, -2L);
+        assertThat(meterRegistry.counter("product.stock.oversold").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("삭제 수가 맞지 않으면 예외로 롤백하고 products 재고를 갱신하지 않는다")
+    void compact_deleteMismatch_throws() {
+        when(ledgerRepository.lockProductStock(PRODUCT_ID)).thenReturn(100L);
+        when(ledgerRepository.findLedger(PRODUCT_ID, 1000)).thenReturn(List.<long[]>of(new long[]{10L, -3L}));
+        when(ledgerRepository.deleteLedger(PRODUCT_ID, List.of(10L))).thenReturn(0);
+
+        assertThatThrownBy(() -> compactionService.compact(PRODUCT_ID, 1000))
+                .isInstanceOf(IllegalStateException.class);
+
+        verify(ledgerRepository, never()).syncProductStock(anyLong(), anyLong());
+    }
+}